@@ -54,16 +54,32 @@
 import static org.junit.Assert.assertThat;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.junit.Test;
+import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.container.PrimitiveDataRow;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
 
 /**
  * Testcases for {@link DataTableDomainCreator}.
@@ -467,4 +483,205 @@ public void testMergeFailsIfMaxPossibleValuesAreDifferent() {
         domainCreator.merge(new DataTableDomainCreator(tableSpec_2, false));
     }
 
-}
\ No newline at end of file
+    /**
+     * Checks that merging a domain creator that has only seen missing values keeps the bounds of the other one.
+     */
+    @Test
+    public void testMergeWithOnlyMissingValues() {
+        final DataTableSpec tableSpec =
+            new DataTableSpec(new DataColumnSpecCreator("Double col", DoubleCell.TYPE).createSpec());
+        final RowKey rowKey = new RowKey("Row0");
+
+        final DataTableDomainCreator withValues = new DataTableDomainCreator(tableSpec, false);
+        withValues.updateDomain(new DefaultRow(rowKey, new DoubleCell(0.5)));
+        withValues.updateDomain(new DefaultRow(rowKey, new DoubleCell(1.5)));
+        final DataTableDomainCreator onlyMissing = new DataTableDomainCreator(tableSpec, false);
+        onlyMissing.updateDomain(new DefaultRow(rowKey, DataType.getMissingCell()));
+
+        final DataTableDomainCreator merged = new DataTableDomainCreator(withValues);
+        merged.merge(onlyMissing);
+        DataColumnDomain domain = merged.createSpec().getColumnSpec(0).getDomain();
+        assertThat("Unexpected lower bound", domain.getLowerBound(), is((DataCell)new DoubleCell(0.5)));
+        assertThat("Unexpected upper bound", domain.getUpperBound(), is((DataCell)new DoubleCell(1.5)));
+
+        onlyMissing.merge(withValues);
+        domain = onlyMissing.createSpec().getColumnSpec(0).getDomain();
+        assertThat("Unexpected lower bound", domain.getLowerBound(), is((DataCell)new DoubleCell(0.5)));
+        assertThat("Unexpected upper bound", domain.getUpperBound(), is((DataCell)new DoubleCell(1.5)));
+    }
+
+    /**
+     * Checks that scanning a table in parallel results in the same domain as scanning it sequentially, also for a
+     * sparse column where some of the row ranges only contain missing values.
+     *
+     * @throws CanceledExecutionException not thrown
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test
+    public void testUpdateDomainParallel() throws CanceledExecutionException {
+        final NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        final ExecutionContext exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+        final DataTableSpec tableSpec = new DataTableSpec(
+            new DataColumnSpecCreator("String col", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Int col", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Sparse col", DoubleCell.TYPE).createSpec());
+        final BufferedDataContainer container = exec.createDataContainer(tableSpec, false);
+        for (int i = 0; i < 20000; i++) {
+            final DataCell sparse = i == 10 || i == 19990 ? new DoubleCell(i) : DataType.getMissingCell();
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new StringCell("V" + (i % 7)),
+                new IntCell(i - 5000), sparse));
+        }
+        container.close();
+        final BufferedDataTable table = container.getTable();
+
+        final DataTableDomainCreator sequential = new DataTableDomainCreator(tableSpec, false);
+        sequential.updateDomain(table, exec);
+        final DataTableDomainCreator parallel = new DataTableDomainCreator(tableSpec, false);
+        parallel.updateDomainParallel(table, exec);
+
+        final DataTableSpec parallelSpec = parallel.createSpec();
+        assertThat("Unexpected domains", parallelSpec, is(sequential.createSpec()));
+        assertThat("Unexpected lower bound of sparse column",
+            parallelSpec.getColumnSpec(2).getDomain().getLowerBound(), is((DataCell)new DoubleCell(10)));
+        assertThat("Unexpected upper bound of sparse column",
+            parallelSpec.getColumnSpec(2).getDomain().getUpperBound(), is((DataCell)new DoubleCell(19990)));
+    }
+
+
+    /**
+     * Checks that bounds are computed from the primitive accessors of {@link PrimitiveDataRow}s and correctly combined
+     * with bounds from ordinary rows, copies and merges.
+     */
+    @Test
+    public void testBoundsPrimitiveRows() {
+        final DataTableSpec tableSpec = new DataTableSpec(
+            new DataColumnSpecCreator("Double col", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Long col", LongCell.TYPE).createSpec());
+        final RowKey rowKey = new RowKey("Row0");
+
+        final DataTableDomainCreator domainCreator = new DataTableDomainCreator(tableSpec, false);
+        domainCreator.updateDomain(new TestPrimitiveRow(rowKey, 2.5, 10L));
+        domainCreator.updateDomain(new TestPrimitiveRow(rowKey, Double.NaN, null));
+        domainCreator.updateDomain(new TestPrimitiveRow(rowKey, null, -3L));
+        DataTableSpec spec = domainCreator.createSpec();
+        assertThat("Unexpected lower bound (double cell)", spec.getColumnSpec(0).getDomain().getLowerBound(),
+            is((DataCell)new DoubleCell(2.5)));
+        assertThat("Unexpected upper bound (double cell)", spec.getColumnSpec(0).getDomain().getUpperBound(),
+            is((DataCell)new DoubleCell(2.5)));
+        assertThat("Unexpected lower bound (long cell)", spec.getColumnSpec(1).getDomain().getLowerBound(),
+            is((DataCell)new LongCell(-3)));
+        assertThat("Unexpected upper bound (long cell)", spec.getColumnSpec(1).getDomain().getUpperBound(),
+            is((DataCell)new LongCell(10)));
+
+        final DataTableDomainCreator copy = new DataTableDomainCreator(domainCreator);
+        copy.updateDomain(new TestPrimitiveRow(rowKey, -1.0, 20L));
+        domainCreator.updateDomain(new DefaultRow(rowKey, new DoubleCell(7.0), new LongCell(5)));
+        domainCreator.merge(copy);
+        spec = domainCreator.createSpec();
+        assertThat("Unexpected lower bound (double cell)", spec.getColumnSpec(0).getDomain().getLowerBound(),
+            is((DataCell)new DoubleCell(-1.0)));
+        assertThat("Unexpected upper bound (double cell)", spec.getColumnSpec(0).getDomain().getUpperBound(),
+            is((DataCell)new DoubleCell(7.0)));
+        assertThat("Unexpected lower bound (long cell)", spec.getColumnSpec(1).getDomain().getLowerBound(),
+            is((DataCell)new LongCell(-3)));
+        assertThat("Unexpected upper bound (long cell)", spec.getColumnSpec(1).getDomain().getUpperBound(),
+            is((DataCell)new LongCell(20)));
+    }
+
+    /**
+     * Checks that many possible values keep the order of their first occurrence, also across merged batches.
+     */
+    @Test
+    public void testPossibleValuesOrder() {
+        final DataTableSpec tableSpec =
+            new DataTableSpec(new DataColumnSpecCreator("String col", StringCell.TYPE).createSpec());
+        final RowKey rowKey = new RowKey("Row0");
+
+        final DataTableDomainCreator domainCreator_1 = new DataTableDomainCreator(tableSpec, false);
+        domainCreator_1.setMaxPossibleValues(800);
+        final DataTableDomainCreator domainCreator_2 = new DataTableDomainCreator(domainCreator_1);
+        domainCreator_1.setBatchId(0);
+        domainCreator_2.setBatchId(1);
+
+        final LinkedHashSet<DataCell> possibleValues = new LinkedHashSet<>();
+        for (int i = 0; i < 500; i++) {
+            domainCreator_1.updateDomain(new DefaultRow(rowKey, new StringCell("V" + (i % 300))));
+            possibleValues.add(new StringCell("V" + (i % 300)));
+        }
+        for (int i = 0; i < 500; i++) {
+            domainCreator_2.updateDomain(new DefaultRow(rowKey, new StringCell("V" + (1000 - i))));
+            possibleValues.add(new StringCell("V" + (1000 - i)));
+        }
+        // merge in reverse order, the batch IDs restore the original order
+        domainCreator_2.merge(domainCreator_1);
+        assertThat("Unexpected possible values", domainCreator_2.createSpec().getColumnSpec(0).getDomain().getValues(),
+            is(possibleValues));
+
+        domainCreator_2.updateDomain(new DefaultRow(rowKey, new StringCell("New")));
+        assertNull("Too many possible values", domainCreator_2.createSpec().getColumnSpec(0).getDomain().getValues());
+    }
+
+    /** Row that provides numeric values via {@link PrimitiveDataRow} only. */
+    private static final class TestPrimitiveRow implements PrimitiveDataRow {
+        private final RowKey m_key;
+
+        private final Number[] m_values;
+
+        TestPrimitiveRow(final RowKey key, final Number... values) {
+            m_key = key;
+            m_values = values;
+        }
+
+        @Override
+        public RowKey getKey() {
+            return m_key;
+        }
+
+        @Override
+        public int getNumCells() {
+            return m_values.length;
+        }
+
+        @Override
+        public DataCell getCell(final int index) {
+            throw new UnsupportedOperationException("Cells must not be accessed");
+        }
+
+        @Override
+        public Iterator<DataCell> iterator() {
+            throw new UnsupportedOperationException("Cells must not be accessed");
+        }
+
+        @Override
+        public boolean isPrimitive(final int index) {
+            return true;
+        }
+
+        @Override
+        public boolean isMissing(final int index) {
+            return m_values[index] == null;
+        }
+
+        @Override
+        public double getDouble(final int index) {
+            return m_values[index].doubleValue();
+        }
+
+        @Override
+        public long getLong(final int index) {
+            return m_values[index].longValue();
+        }
+
+        @Override
+        public int getInt(final int index) {
+            return m_values[index].intValue();
+        }
+
+        @Override
+        public boolean getBoolean(final int index) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -50,6 +50,7 @@
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -169,6 +170,91 @@ public void testSoftRefCache() throws InterruptedException {
         }
     }
 
+    /**
+     * Tests that tables are evicted from the LRU cache when their estimated size exceeds the cache's budget, even if
+     * the maximum number of tables is not reached, and that hits, misses and evicted bytes are counted.
+     */
+    @Test
+    public void testByteBudget() {
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> tables = generateKTables(3, true);
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> largeTables = generateKTables(3, true);
+        final char[] chars = new char[100_000];
+        Arrays.fill(chars, 'x');
+        final String largeString = new String(chars);
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> largeTextTables = largeTables.stream()
+            .map(p -> new Pair<>(p.getFirst(), Collections.singletonList(new BlobSupportDataRow(RowKey.createRowKey(0L),
+                new DataCell[]{new IntCell(0), new StringCell(largeString), new LongCell(0), new DoubleCell(0),
+                    BooleanCell.TRUE}))))
+            .collect(Collectors.toList());
+
+        final long smallSize = TableSizeEstimator.estimateTableSize(tables.get(0).getSecond());
+        final long largeSize = TableSizeEstimator.estimateTableSize(largeTextTables.get(0).getSecond());
+        Assert.assertTrue("Large strings not reflected in size estimate", largeSize > 2 * largeString.length());
+        Assert.assertTrue("Small table estimated larger than table with large strings", smallSize < largeSize);
+
+        final BufferCache cache = new BufferCache();
+        cache.setLRUCacheBudget(2 * largeSize + 3 * smallSize);
+        addTablesToCache(tables, cache, true);
+        addTablesToCache(largeTextTables, cache, true);
+        Assert.assertTrue("Large table does not exceed its share of the budget",
+            cache.exceedsBudgetShare(largeTextTables.get(0).getFirst()));
+        Assert.assertFalse("Small table exceeds its share of the budget",
+            cache.exceedsBudgetShare(tables.get(0).getFirst()));
+
+        // the least recently used small tables are evicted to make room for the third large table
+        Assert.assertTrue("Budget exceeded", cache.getLRUCacheBytes() <= 2 * largeSize + 3 * smallSize);
+        Assert.assertTrue("No bytes evicted", cache.getEvictedBytes() >= smallSize);
+
+        cache.get(largeTextTables.get(2).getFirst());
+        cache.invalidate(tables.get(0).getFirst());
+        cache.get(tables.get(0).getFirst());
+        Assert.assertEquals("Wrong hit count", 1, cache.getHitCount());
+        cache.invalidate(largeTextTables.get(2).getFirst());
+        Assert.assertTrue("Invalidated table still accounted for", cache.getLRUCacheBytes() < 2 * largeSize);
+    }
+
+    /**
+     * Tests that cells of unknown classes are estimated per class, without computing their string representation.
+     */
+    @Test
+    public void testUnknownCellEstimate() {
+        final DataCell cell = new UnknownCell(42L, "foo");
+        final long size = TableSizeEstimator.estimateCellSize(cell);
+        // header, long and reference, plus an allowance for the referenced object
+        Assert.assertTrue("Unknown cell estimated too small", size >= 24);
+        Assert.assertEquals("Estimate not fixed per class", size,
+            TableSizeEstimator.estimateCellSize(new UnknownCell(0L, null)));
+    }
+
+    /** A cell whose string representation must not be used for estimating its size. */
+    @SuppressWarnings("serial")
+    private static final class UnknownCell extends DataCell {
+
+        private final long m_value;
+
+        private final String m_text;
+
+        UnknownCell(final long value, final String text) {
+            m_value = value;
+            m_text = text;
+        }
+
+        @Override
+        public String toString() {
+            throw new AssertionError("String representation computed for size estimate of " + m_text);
+        }
+
+        @Override
+        protected boolean equalsDataCell(final DataCell dc) {
+            return m_value == ((UnknownCell)dc).m_value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(m_value);
+        }
+    }
+
     private static List<Pair<Buffer, List<BlobSupportDataRow>>> generateKTables(final int k,
         final boolean flushToDisk) {
 
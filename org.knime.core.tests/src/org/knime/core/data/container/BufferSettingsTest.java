@@ -87,15 +87,19 @@ public void testChangedValues() {
         final BufferSettings def = BufferSettings.getDefault();
 
         final int lruCacheSize = def.getLRUCacheSize() * -1;
+        final long lruCacheBudget = def.getLRUCacheBudget() / 2;
         final boolean useLRU = !def.useLRU();
         final TableStoreFormat outputFormat = new DefaultTableStoreFormat();
 
         final BufferSettings settings = BufferSettings.getDefault()//
             .withOutputFormat(outputFormat)//
             .withLRU(useLRU)//
-            .withLRUCacheSize(lruCacheSize);
+            .withLRUCacheSize(lruCacheSize)//
+            .withLRUCacheBudget(lruCacheBudget);
 
         assertEquals("Modified settings created wrong LRU cache size", lruCacheSize, settings.getLRUCacheSize());
+        assertEquals("Modified settings created wrong LRU cache budget", lruCacheBudget,
+            settings.getLRUCacheBudget());
         assertEquals("Modified settings created wrong enable LRU flag", useLRU, settings.useLRU());
         assertTrue("Modified settings created wrong output format",
             outputFormat == settings.getOutputFormat(new DataTableSpecCreator().createSpec()));
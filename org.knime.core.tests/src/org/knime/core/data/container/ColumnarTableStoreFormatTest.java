@@ -0,0 +1,182 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.MissingValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the {@link ColumnarTableStoreFormat}, including reading with a column filter.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ColumnarTableStoreFormatTest extends TestCase {
+
+    /** Number of generated rows, deliberately not a multiple of the chunk size. */
+    private static final int ROW_COUNT = 1234;
+
+    private static final int CHUNK_SIZE = 100;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec());
+
+    /**
+     * Writes and reads a table using all compression formats and compares the content.
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testWriteRead() {
+        final DataRow[] rows = createRows();
+        for (final CompressionFormat cFormat : CompressionFormat.values()) {
+            final Buffer b = write(rows, cFormat);
+            try (final CloseableRowIterator rowIt = b.iteratorBuilder().build()) {
+                for (int i = 0; i < rows.length; i++) {
+                    Assert.assertThat("Iterator has rows", rowIt.hasNext(), is(true));
+                    final DataRow refRow = rows[i];
+                    final DataRow dataRow = rowIt.next();
+                    Assert.assertThat("Row key in row " + i, dataRow.getKey(), equalTo(refRow.getKey()));
+                    for (int j = 0; j < refRow.getNumCells(); j++) {
+                        assertCellEquals(i, j, refRow.getCell(j), dataRow.getCell(j));
+                    }
+                }
+                Assert.assertThat("Iterator with more than " + rows.length + " rows", rowIt.hasNext(), is(false));
+            }
+        }
+    }
+
+    /**
+     * Reads only some columns and checks that all others are not materialized.
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testFilterColumns() {
+        final DataRow[] rows = createRows();
+        final Buffer b = write(rows, CompressionFormat.SNAPPY);
+        try (final CloseableRowIterator rowIt = b.iteratorBuilder().filterColumns(3, 1).build()) {
+            for (int i = 0; i < rows.length; i++) {
+                final DataRow dataRow = rowIt.next();
+                Assert.assertThat("Row key in row " + i, dataRow.getKey(), equalTo(rows[i].getKey()));
+                for (int j = 0; j < SPEC.getNumColumns(); j++) {
+                    if (j == 1 || j == 3) {
+                        assertCellEquals(i, j, rows[i].getCell(j), dataRow.getCell(j));
+                    } else {
+                        Assert.assertThat("Cell " + j + " in Row " + i, dataRow.getCell(j),
+                            instanceOf(UnmaterializedCell.class));
+                    }
+                }
+            }
+            Assert.assertThat("Iterator with more than " + rows.length + " rows", rowIt.hasNext(), is(false));
+        }
+    }
+
+    private static void assertCellEquals(final int row, final int col, final DataCell refCell,
+        final DataCell dataCell) {
+        if (refCell.isMissing()) {
+            Assert.assertThat("Cell " + col + " in Row " + row + " is missing", dataCell.isMissing(), is(true));
+            Assert.assertThat("Error message of missing cell " + col + " in Row " + row,
+                ((MissingValue)dataCell).getError(), equalTo(((MissingValue)refCell).getError()));
+        } else {
+            Assert.assertThat("Cell " + col + " in Row " + row, dataCell, equalTo(refCell));
+        }
+    }
+
+    private static Buffer write(final DataRow[] rows, final CompressionFormat cFormat) {
+        final DataContainerSettings settings =
+            DataContainerSettings.getDefault().withMaxCellsInMemory(0).withInitializedDomain(false);
+        final ColumnarTableStoreFormat format = new ColumnarTableStoreFormat(
+            DefaultTableStoreSettings.getDefault().withCompression(cFormat), CHUNK_SIZE);
+        final DataContainer cont =
+            new DataContainer(SPEC, settings.withBufferSettings(BufferSettings.getDefault().withOutputFormat(format)));
+        for (final DataRow r : rows) {
+            cont.addRowToTable(r);
+        }
+        final Buffer b = cont.getBuffer();
+        cont.close();
+        return b;
+    }
+
+    /** Creates rows with (plain and erroneous) missing cells so that some chunks fall back to the cell encoding. */
+    private static DataRow[] createRows() {
+        return IntStream.range(0, ROW_COUNT).mapToObj(i -> new DefaultRow(RowKey.createRowKey((long)i), //
+            i % 7 == 0 ? DataType.getMissingCell() : new IntCell(i), //
+            i % 5 == 0 ? DataType.getMissingCell() : new StringCell(Integer.toString(i)), //
+            i == 500 ? new MissingCell("error in row 500") : new LongCell(i * 31L), //
+            new DoubleCell(i + .5), //
+            i % 3 == 0 ? BooleanCell.TRUE : BooleanCell.FALSE)).toArray(DataRow[]::new);
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.storage.CompressionCodec;
+import org.knime.core.data.container.storage.CompressionCodecRegistry;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Benchmark measuring compression ratio and throughput of the available {@link CompressionCodec compression codecs}
+ * (including their fastest and densest levels) on a given table. Each configuration writes the table to a temporary
+ * file and reads it back once; throughputs are reported in MB of uncompressed data per second.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class CompressionBenchmark {
+
+    private static final double MB = 1024 * 1024;
+
+    private CompressionBenchmark() {
+    }
+
+    /**
+     * The result of benchmarking a single compression configuration.
+     */
+    public static final class Result {
+
+        private final CompressionCodec m_format;
+
+        private final int m_level;
+
+        private final long m_uncompressedBytes;
+
+        private final long m_compressedBytes;
+
+        private final long m_writeNanos;
+
+        private final long m_readNanos;
+
+        private Result(final CompressionCodec format, final int level, final long uncompressedBytes,
+            final long compressedBytes, final long writeNanos, final long readNanos) {
+            m_format = format;
+            m_level = level;
+            m_uncompressedBytes = uncompressedBytes;
+            m_compressedBytes = compressedBytes;
+            m_writeNanos = writeNanos;
+            m_readNanos = readNanos;
+        }
+
+        /** @return the compression codec */
+        public CompressionCodec getFormat() {
+            return m_format;
+        }
+
+        /** @return the compression level, possibly {@link CompressionCodec#DEFAULT_LEVEL} */
+        public int getLevel() {
+            return m_level;
+        }
+
+        /** @return the file size in bytes */
+        public long getCompressedBytes() {
+            return m_compressedBytes;
+        }
+
+        /** @return the size of the uncompressed file divided by the size of the compressed file */
+        public double getCompressionRatio() {
+            return m_uncompressedBytes / (double)Math.max(1L, m_compressedBytes);
+        }
+
+        /** @return MB of uncompressed data written per second */
+        public double getWriteThroughput() {
+            return throughput(m_writeNanos);
+        }
+
+        /** @return MB of uncompressed data read per second */
+        public double getReadThroughput() {
+            return throughput(m_readNanos);
+        }
+
+        private double throughput(final long nanos) {
+            return m_uncompressedBytes / MB / (Math.max(1L, nanos) / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            final String level = m_level == CompressionCodec.DEFAULT_LEVEL ? "default" : Integer.toString(m_level);
+            return String.format("%-7s (level %-7s): ratio %6.2f, write %8.1f MB/s, read %8.1f MB/s, %,d bytes",
+                m_format.getName(), level, getCompressionRatio(), getWriteThroughput(), getReadThroughput(),
+                m_compressedBytes);
+        }
+    }
+
+    /**
+     * Runs the benchmark on the argument table, using the uncompressed format as reference for the ratio and the
+     * throughputs. Data is always written to disc, independent of the table size.
+     *
+     * @param table the table to write and read
+     * @param exec for progress and cancellation, not null
+     * @return the results, one per compression codec and level
+     * @throws CanceledExecutionException if canceled
+     */
+    public static List<Result> run(final DataTable table, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final List<CompressionCodec> formats = new ArrayList<>();
+        final List<Integer> levels = new ArrayList<>();
+        // the uncompressed format comes first, it's the reference
+        for (final CompressionCodec format : CompressionCodecRegistry.getInstance().getCodecs()) {
+            formats.add(format);
+            levels.add(CompressionCodec.DEFAULT_LEVEL);
+            if (format.getMaxLevel() > 0) {
+                formats.add(format);
+                levels.add(1);
+                formats.add(format);
+                levels.add(format.getMaxLevel());
+            }
+        }
+        final List<Result> results = new ArrayList<>(formats.size());
+        long uncompressedBytes = -1L;
+        for (int i = 0; i < formats.size(); i++) {
+            final CompressionCodec format = formats.get(i);
+            final int level = levels.get(i);
+            exec.setMessage("Benchmarking " + format.getName() + " (level " + level + ")");
+            final Result result = runSingle(table, format, level, uncompressedBytes, exec);
+            if (format == CompressionFormat.NONE) {
+                // the reference, measured first
+                uncompressedBytes = result.getCompressedBytes();
+            }
+            results.add(result);
+            exec.setProgress((i + 1) / (double)formats.size());
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    /** Writes and reads the table, the uncompressed size is the file size itself if negative. */
+    private static Result runSingle(final DataTable table, final CompressionCodec format, final int level,
+        final long uncompressedBytes, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final DataContainerSettings settings = DataContainerSettings.getDefault().withCompression(format, level)
+            .withMaxCellsInMemory(0).withSyncIO(true).withInitializedDomain(false);
+        final long writeStart = System.nanoTime();
+        final DataContainer container = new DataContainer(table.getDataTableSpec(), settings);
+        for (final DataRow row : table) {
+            exec.checkCanceled();
+            container.addRowToTable(row);
+        }
+        container.close();
+        final long writeNanos = System.nanoTime() - writeStart;
+        final ContainerTable result = container.getBufferedTable();
+        try {
+            final long compressedBytes = result.getBuffer().getBinFile().length();
+            final long readStart = System.nanoTime();
+            try (CloseableRowIterator it = result.iterator()) {
+                while (it.hasNext()) {
+                    it.next();
+                }
+            }
+            final long readNanos = System.nanoTime() - readStart;
+            return new Result(format, level, uncompressedBytes < 0 ? compressedBytes : uncompressedBytes,
+                compressedBytes, writeNanos, readNanos);
+        } finally {
+            result.clear();
+        }
+    }
+
+}
@@ -53,8 +53,11 @@
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.IntStream;
 
 import org.junit.Assert;
@@ -65,8 +68,9 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.MissingValue;
 import org.knime.core.data.RowKey;
-import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
 import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.container.storage.CompressionCodec;
+import org.knime.core.data.container.storage.CompressionCodecRegistry;
 import org.knime.core.data.def.BooleanCell;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
@@ -108,7 +112,7 @@ public void testCompressions()
         // create the data
         final Pair<DataTableSpec, DataRow[]> data = createData(ROW_COUNT);
 
-        for (final CompressionFormat cFormat : CompressionFormat.values()) {
+        for (final CompressionCodec cFormat : getCodecs()) {
 
             // store the data to a table that writes its content to a compressed file
             DataContainer cont = new DataContainer(data.getFirst(),
@@ -135,6 +139,65 @@ public void testCompressions()
         }
     }
 
+    /**
+     * Ensures that tables written with the fastest and densest compression levels of each format (set via
+     * {@link DataContainerSettings#withCompression(CompressionCodec, int)}) can be read.
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testCompressionLevels() {
+        final DataContainerSettings settings =
+            DataContainerSettings.getDefault().withMaxCellsInMemory(0).withInitializedDomain(false);
+        final Pair<DataTableSpec, DataRow[]> data = createData(ROW_COUNT);
+
+        for (final CompressionCodec cFormat : getCodecs()) {
+            Assert.assertThat("Default level is valid", cFormat.isValidLevel(CompressionCodec.DEFAULT_LEVEL),
+                is(true));
+            Assert.assertThat("Level above maximum is valid", cFormat.isValidLevel(cFormat.getMaxLevel() + 1),
+                is(false));
+            for (final int level : new int[]{1, cFormat.getMaxLevel()}) {
+                if (!cFormat.isValidLevel(level)) {
+                    continue;
+                }
+                final DataContainer cont = new DataContainer(data.getFirst(), settings.withCompression(cFormat, level));
+                writeData(data.getSecond(), cont);
+                final Buffer b = cont.getBuffer();
+                cont.close();
+                testRead(b, cFormat);
+                read(b, data.getSecond());
+            }
+        }
+    }
+
+    /**
+     * Ensures that the codecs contributed via the extension point can be looked up by their (case insensitive) name
+     * and that unknown names are rejected.
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testCodecLookup() {
+        Assert.assertThat("Built-in codec not found", DefaultTableStoreFormat.getCompressionCodec("snappy"),
+            sameInstance(DefaultTableStoreFormat.CompressionFormat.SNAPPY));
+        Assert.assertThat("Deflate codec not registered",
+            DefaultTableStoreFormat.getCompressionCodec("deflate").getName(), equalTo("Deflate"));
+        Assert.assertThat("Unknown codec is valid", DefaultTableStoreFormat.validateCompressionFormat("foo"),
+            is(false));
+    }
+
+    /**
+     * Returns the registered codecs, including the {@link DeflateCompressionCodec} in case the test doesn't run
+     * within the framework (and hence the extension point isn't read).
+     *
+     * @return the codecs to test
+     */
+    private static List<CompressionCodec> getCodecs() {
+        final List<CompressionCodec> codecs = new ArrayList<>(CompressionCodecRegistry.getInstance().getCodecs());
+        if (!CompressionCodecRegistry.getInstance().getCodec("Deflate").isPresent()) {
+            codecs.add(new DeflateCompressionCodec());
+        }
+        return codecs;
+    }
+
     /**
      * Creates the data.
      *
@@ -174,11 +237,11 @@ private static void writeData(final DataRow[] dataRows, final DataContainer cont
      * Reads the compressed file and ensures that the proper compressor has been used.
      *
      * @param b the Buffer
-     * @param cFormat the compression format
+     * @param cFormat the compression codec
      * @throws Error - If the fail does not exists or has been written using the wrong compressor
      */
-    private static void testRead(final Buffer b, final CompressionFormat cFormat) {
-        try (InputStream inStream = cFormat.getInputStream(b.getBinFile())) {
+    private static void testRead(final Buffer b, final CompressionCodec cFormat) {
+        try (InputStream inStream = cFormat.createInputStream(new FileInputStream(b.getBinFile()))) {
             while (inStream.read() != -1) {
             }
         } catch (IOException e) {
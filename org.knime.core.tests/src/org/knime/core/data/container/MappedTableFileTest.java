@@ -0,0 +1,146 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link MappedTableFile}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class MappedTableFileTest extends TestCase {
+
+    private static final int LENGTH = 100_000;
+
+    /**
+     * Reads a file through multiple independent streams starting at different positions.
+     * @throws IOException if file access fails
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testReadFromPositions() throws IOException {
+        final File file = File.createTempFile("mapped-table", ".bin");
+        try {
+            final byte[] content = new byte[LENGTH];
+            for (int i = 0; i < LENGTH; i++) {
+                content[i] = (byte)(i * 31);
+            }
+            Files.write(file.toPath(), content);
+            final MappedTableFile mapped = new MappedTableFile(file);
+            Assert.assertThat("File length", mapped.length(), is((long)LENGTH));
+            try (InputStream in1 = mapped.newInputStream(0); InputStream in2 = mapped.newInputStream(LENGTH / 2)) {
+                final byte[] buffer = new byte[1000];
+                Assert.assertThat("Bytes read", in1.read(buffer), is(buffer.length));
+                for (int i = 0; i < buffer.length; i++) {
+                    Assert.assertThat("Byte at " + i, buffer[i], is(content[i]));
+                }
+                Assert.assertThat("Single byte read", in2.read(), is(content[LENGTH / 2] & 0xFF));
+                Assert.assertThat("Skipped bytes", in2.skip(99), is(99L));
+                Assert.assertThat("Byte after skip", in2.read(), is(content[LENGTH / 2 + 100] & 0xFF));
+                Assert.assertThat("Skipped bytes at end", in2.skip(LENGTH), is((long)(LENGTH / 2 - 101)));
+                Assert.assertThat("Read at end", in2.read(), is(-1));
+                // first stream not affected by the other
+                Assert.assertThat("Byte in first stream", in1.read(), is(content[buffer.length] & 0xFF));
+            }
+            try (InputStream in = mapped.newInputStream(LENGTH)) {
+                Assert.assertThat("Read from end position", in.read(), is(-1));
+            }
+        } finally {
+            file.delete(); // may fail on windows while mapped
+        }
+    }
+
+    /**
+     * Reads a file copied into multiple direct memory slabs, across slab boundaries.
+     * @throws IOException if file access fails
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testReadFromDirectMemoryCopy() throws IOException {
+        final File file = File.createTempFile("offheap-table", ".bin");
+        try {
+            final byte[] content = new byte[LENGTH];
+            for (int i = 0; i < LENGTH; i++) {
+                content[i] = (byte)(i * 17);
+            }
+            Files.write(file.toPath(), content);
+            final int slabSize = 4096;
+            final MappedTableFile copy = MappedTableFile.copyToDirectMemory(file, slabSize);
+            file.delete();
+            Assert.assertThat("Copy length", copy.length(), is((long)LENGTH));
+            try (InputStream in = copy.newInputStream(slabSize - 10)) {
+                final byte[] buffer = new byte[20];
+                int count = 0;
+                while (count < buffer.length) {
+                    count += in.read(buffer, count, buffer.length - count);
+                }
+                for (int i = 0; i < buffer.length; i++) {
+                    Assert.assertThat("Byte at " + i, buffer[i], is(content[slabSize - 10 + i]));
+                }
+                Assert.assertThat("Skipped bytes", in.skip(3L * slabSize), is(3L * slabSize));
+                Assert.assertThat("Byte after skip", in.read(), is(content[4 * slabSize + 10] & 0xFF));
+                Assert.assertThat("Skipped bytes at end", in.skip(LENGTH), is((long)(LENGTH - 4 * slabSize - 11)));
+                Assert.assertThat("Read at end", in.read(), is(-1));
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+}
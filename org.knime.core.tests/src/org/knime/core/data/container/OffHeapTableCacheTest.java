@@ -0,0 +1,253 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+
+/**
+ * Tests {@link OffHeapTableCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class OffHeapTableCacheTest {
+
+    private static final int SLAB_SIZE = 4096;
+
+    /** The length of the test files, two slabs each. */
+    private static final int LENGTH = 2 * SLAB_SIZE;
+
+    private final List<File> m_files = new ArrayList<>();
+
+    private final List<byte[]> m_contents = new ArrayList<>();
+
+    private final List<Buffer> m_buffers = new ArrayList<>();
+
+    /**
+     * Creates four files with distinct content and a buffer per file.
+     *
+     * @throws IOException if a file can't be written
+     */
+    @Before
+    public void setUp() throws IOException {
+        for (int f = 0; f < 4; f++) {
+            final byte[] content = new byte[LENGTH];
+            for (int i = 0; i < LENGTH; i++) {
+                content[i] = (byte)(i * (f + 3));
+            }
+            final File file = File.createTempFile("offheap-cache", ".bin");
+            Files.write(file.toPath(), content);
+            m_files.add(file);
+            m_contents.add(content);
+            m_buffers.add(new Buffer(new DataTableSpec(), 0, -1, NotInWorkflowDataRepository.newInstance(),
+                new HashMap<>(), null, true));
+        }
+    }
+
+    /** Deletes the files. */
+    @After
+    public void tearDown() {
+        m_files.forEach(File::delete);
+    }
+
+    /**
+     * Tests that tables are cached and least-recently-used tables are evicted once the budget is exceeded.
+     *
+     * @throws IOException if reading fails
+     */
+    @Test
+    public void testPutGetAndEvict() throws IOException {
+        final OffHeapTableCache cache = new OffHeapTableCache(2 * LENGTH, SLAB_SIZE);
+        Assert.assertThat("Table 0 cached", cache.put(m_buffers.get(0), m_files.get(0)), is(true));
+        Assert.assertThat("Table 1 cached", cache.put(m_buffers.get(1), m_files.get(1)), is(true));
+        assertContent(cache, 0);
+        Assert.assertThat("Table 2 cached", cache.put(m_buffers.get(2), m_files.get(2)), is(true));
+        Assert.assertThat("Least-recently-used table evicted", cache.contains(m_buffers.get(1)), is(false));
+        Assert.assertThat("Recently used table evicted", cache.contains(m_buffers.get(0)), is(true));
+        Assert.assertThat("Used bytes", cache.getUsedBytes(), is(2L * LENGTH));
+        assertContent(cache, 2);
+        Assert.assertThat("Evicted table found", cache.get(m_buffers.get(1)), is(nullValue()));
+    }
+
+    /** Tests that tables larger than the budget are rejected. */
+    @Test
+    public void testRejectLargeTable() {
+        final OffHeapTableCache cache = new OffHeapTableCache(LENGTH - 1, SLAB_SIZE);
+        Assert.assertThat("Table too large cached", cache.put(m_buffers.get(0), m_files.get(0)), is(false));
+        Assert.assertThat("Used bytes", cache.getUsedBytes(), is(0L));
+    }
+
+    /**
+     * Tests that the slabs of an invalidated table are reused only after its last stream has been closed.
+     *
+     * @throws IOException if reading fails
+     */
+    @Test
+    public void testSlabsReusedAfterStreamsClosed() throws IOException {
+        final OffHeapTableCache cache = new OffHeapTableCache(3 * LENGTH, SLAB_SIZE);
+        cache.put(m_buffers.get(0), m_files.get(0));
+        cache.put(m_buffers.get(1), m_files.get(1));
+
+        final MappedTableFile copy = cache.get(m_buffers.get(0));
+        Assert.assertThat("Table cached", copy, is(notNullValue()));
+        try (InputStream in = copy.newInputStream(0)) {
+            copy.release();
+            cache.invalidate(m_buffers.get(0));
+            Assert.assertThat("Slabs of table being read reused", cache.getFreeBytes(), is(0L));
+            cache.put(m_buffers.get(2), m_files.get(2));
+            assertContent(in, 0);
+        }
+        Assert.assertThat("Slabs of released table not reused", cache.getFreeBytes(), is((long)LENGTH));
+
+        cache.put(m_buffers.get(3), m_files.get(3));
+        Assert.assertThat("Free slabs not used for new table", cache.getFreeBytes(), is(0L));
+        assertContent(cache, 3);
+        assertContent(cache, 2);
+        assertContent(cache, 1);
+    }
+
+    /** Tests that reducing the budget evicts tables and drops free slabs. */
+    @Test
+    public void testSetBudget() {
+        final OffHeapTableCache cache = new OffHeapTableCache(3 * LENGTH, SLAB_SIZE);
+        cache.put(m_buffers.get(0), m_files.get(0));
+        cache.put(m_buffers.get(1), m_files.get(1));
+        cache.invalidate(m_buffers.get(0));
+        Assert.assertThat("Free bytes", cache.getFreeBytes(), is((long)LENGTH));
+        cache.setBudget(LENGTH);
+        Assert.assertThat("Free slabs exceeding budget kept", cache.getFreeBytes(), is(0L));
+        Assert.assertThat("Table within budget evicted", cache.contains(m_buffers.get(1)), is(true));
+        cache.setBudget(LENGTH - 1);
+        Assert.assertThat("Table exceeding budget kept", cache.contains(m_buffers.get(1)), is(false));
+        Assert.assertThat("Used bytes", cache.getUsedBytes(), is(0L));
+    }
+
+    /**
+     * Concurrently puts, reads, and invalidates tables, which must never expose the content of another table, i.e.,
+     * slabs must not be reused while being read.
+     *
+     * @throws Exception if reading fails
+     */
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final OffHeapTableCache cache = new OffHeapTableCache(2 * LENGTH, SLAB_SIZE);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final Random random = new Random(t);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        final int table = random.nextInt(m_buffers.size());
+                        switch (random.nextInt(3)) {
+                            case 0:
+                                cache.put(m_buffers.get(table), m_files.get(table));
+                                break;
+                            case 1:
+                                cache.invalidate(m_buffers.get(table));
+                                break;
+                            default:
+                                final MappedTableFile copy = cache.get(m_buffers.get(table));
+                                if (copy != null) {
+                                    try (InputStream in = copy.newInputStream(0)) {
+                                        copy.release();
+                                        assertContent(in, table);
+                                    }
+                                }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertThat("Budget exceeded", cache.getUsedBytes() + cache.getFreeBytes() <= 2 * LENGTH, is(true));
+    }
+
+    private void assertContent(final OffHeapTableCache cache, final int table) throws IOException {
+        final MappedTableFile copy = cache.get(m_buffers.get(table));
+        Assert.assertThat("Table " + table + " cached", copy, is(notNullValue()));
+        try (InputStream in = copy.newInputStream(0)) {
+            assertContent(in, table);
+        } finally {
+            copy.release();
+        }
+    }
+
+    private void assertContent(final InputStream in, final int table) throws IOException {
+        final byte[] content = m_contents.get(table);
+        for (int i = 0; i < LENGTH; i++) {
+            Assert.assertThat("Byte " + i + " of table " + table, (byte)in.read(), is(content[i]));
+        }
+        Assert.assertThat("Read at end of table " + table, in.read(), is(-1));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link ParallelCompressionOutputStream}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ParallelCompressionOutputStreamTest extends TestCase {
+
+    /**
+     * Writes data spanning more blocks than can be pending (so that blocks are reused) and no data at all, and reads
+     * it back sequentially with each compression format that supports block compression. Blocks are compressed in
+     * parallel if enabled, otherwise by the writing thread.
+     * @throws IOException if compression fails
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testRoundTrip() throws IOException {
+        final byte[] data = createData(3 * ParallelCompressionOutputStream.MAX_PENDING_BLOCKS
+            * ParallelCompressionOutputStream.BLOCK_SIZE + 1234);
+        for (CompressionFormat format : CompressionFormat.values()) {
+            if (!format.supportsBlockCompression()) {
+                continue;
+            }
+            for (byte[] content : new byte[][]{data, new byte[0]}) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (OutputStream out = new ParallelCompressionOutputStream(bytes, format,
+                    CompressionFormat.DEFAULT_LEVEL)) {
+                    if (content.length > 0) {
+                        out.write(content, 0, 100);
+                        out.write(content[100]);
+                        out.write(content, 101, content.length - 101);
+                    }
+                }
+                final byte[] read = new byte[content.length];
+                try (InputStream in = format.createInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                    int count = 0;
+                    int n;
+                    while (count < read.length && (n = in.read(read, count, read.length - count)) >= 0) {
+                        count += n;
+                    }
+                    Assert.assertThat("Bytes read (" + format + ")", count, is(content.length));
+                    Assert.assertThat("End of stream (" + format + ")", in.read(), is(-1));
+                }
+                Assert.assertArrayEquals("Content read (" + format + ")", content, read);
+            }
+        }
+    }
+
+    /**
+     * Tests that flushing writes the data written so far, ending the current block early.
+     * @throws IOException if compression fails
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testFlush() throws IOException {
+        final byte[] data = createData(ParallelCompressionOutputStream.BLOCK_SIZE + 1234);
+        for (CompressionFormat format : new CompressionFormat[]{CompressionFormat.GZIP, CompressionFormat.SNAPPY}) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (OutputStream out = new ParallelCompressionOutputStream(bytes, format,
+                CompressionFormat.DEFAULT_LEVEL)) {
+                out.write(data);
+                out.flush();
+                final byte[] read = new byte[data.length];
+                try (InputStream in = format.createInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                    int count = 0;
+                    int n;
+                    while (count < read.length && (n = in.read(read, count, read.length - count)) >= 0) {
+                        count += n;
+                    }
+                    Assert.assertThat("Bytes read after flush (" + format + ")", count, is(data.length));
+                }
+                Assert.assertArrayEquals("Content read after flush (" + format + ")", data, read);
+            }
+        }
+    }
+
+    /**
+     * Tests that reading can start at each recorded block, including a block ended early by flushing, and that the
+     * recorded positions in the uncompressed data match the data written.
+     * @throws IOException if compression fails
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testReadFromBlock() throws IOException {
+        final int blockSize = ParallelCompressionOutputStream.BLOCK_SIZE;
+        final byte[] data = createData(3 * blockSize + 1234);
+        for (CompressionFormat format : CompressionFormat.values()) {
+            if (!format.supportsBlockCompression()) {
+                continue;
+            }
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final ParallelCompressionOutputStream out =
+                new ParallelCompressionOutputStream(bytes, format, CompressionFormat.DEFAULT_LEVEL);
+            out.write(data, 0, 1234);
+            out.flush();
+            out.write(data, 1234, data.length - 1234);
+            out.close();
+            Assert.assertThat("Number of blocks (" + format + ")", out.getBlockCount(), is(4));
+            Assert.assertThat("Start of flushed block (" + format + ")", out.getBlockStart(1), is(1234L));
+            final byte[] compressed = bytes.toByteArray();
+            for (int b = 0; b < out.getBlockCount(); b++) {
+                final int start = (int)out.getBlockStart(b);
+                final int offset = (int)out.getBlockOffset(b);
+                final byte[] read = new byte[data.length - start];
+                try (InputStream in = format.createInputStream(
+                    new ByteArrayInputStream(compressed, offset, compressed.length - offset))) {
+                    int count = 0;
+                    int n;
+                    while (count < read.length && (n = in.read(read, count, read.length - count)) >= 0) {
+                        count += n;
+                    }
+                    Assert.assertThat("Bytes read from block " + b + " (" + format + ")", count, is(read.length));
+                }
+                Assert.assertArrayEquals("Content read from block " + b + " (" + format + ")",
+                    Arrays.copyOfRange(data, start, data.length), read);
+            }
+        }
+    }
+
+    private static byte[] createData(final int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte)((i % 251) ^ (i >> 12));
+        }
+        return data;
+    }
+
+}
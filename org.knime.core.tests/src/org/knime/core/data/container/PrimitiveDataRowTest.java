@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.MissingValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the primitive representation of rows of tables with only double, int, long and boolean columns.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class PrimitiveDataRowTest extends TestCase {
+
+    /** Number of generated rows, spanning several chunks. */
+    private static final int ROW_COUNT = 2500;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec());
+
+    /**
+     * Checks that a table held in memory hands out primitive rows whose values and cells match the added rows, also
+     * for a chunk that falls back to cells because of an erroneous missing cell.
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testInMemoryTable() {
+        final DataRow[] rows = createRows();
+        final DataContainer cont = new DataContainer(SPEC,
+            DataContainerSettings.getDefault().withMaxCellsInMemory(Integer.MAX_VALUE).withInitializedDomain(false));
+        for (final DataRow r : rows) {
+            cont.addRowToTable(r);
+        }
+        final Buffer b = cont.getBuffer();
+        cont.close();
+        assertRowsEqual(rows, b);
+    }
+
+    /**
+     * Checks that rows read from the columnar table format are primitive rows and that writing them again preserves
+     * the values.
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testColumnarTable() {
+        final DataRow[] rows = createRows();
+        final BufferSettings bufferSettings = BufferSettings.getDefault()
+            .withOutputFormat(new ColumnarTableStoreFormat(DefaultTableStoreSettings.getDefault(), 100));
+        final DataContainerSettings settings = DataContainerSettings.getDefault().withMaxCellsInMemory(0)
+            .withInitializedDomain(false).withBufferSettings(bufferSettings);
+        final DataContainer cont = new DataContainer(SPEC, settings);
+        for (final DataRow r : rows) {
+            cont.addRowToTable(r);
+        }
+        final Buffer b = cont.getBuffer();
+        cont.close();
+        assertRowsEqual(rows, b);
+
+        final DataContainer copy = new DataContainer(SPEC, settings);
+        try (final CloseableRowIterator rowIt = b.iteratorBuilder().build()) {
+            while (rowIt.hasNext()) {
+                copy.addRowToTable(rowIt.next());
+            }
+        }
+        final Buffer copyBuffer = copy.getBuffer();
+        copy.close();
+        assertRowsEqual(rows, copyBuffer);
+    }
+
+    /**
+     * Checks that cells of primitive columns are created once and cached by the chunk, also across growing the chunk
+     * and switching a column to cells.
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testCellsCached() {
+        final DataRow[] rows = createRows();
+        final PrimitiveRowChunk chunk = new PrimitiveRowChunk(PrimitiveRowChunk.getPrimitiveEncodings(SPEC), 2000);
+        final PrimitiveChunkDataRow first = chunk.add(rows[1]);
+        final DataCell cell = first.getCell(2);
+        Assert.assertThat("Cell of primitive row", cell, equalTo(rows[1].getCell(2)));
+        Assert.assertThat("Cell created again", first.getCell(2), sameInstance(cell));
+        final DataCell longCell = first.getCell(1);
+        // row 1500 holds an erroneous missing cell in column 1, which switches the column to cells
+        for (int i = 2; i < 1600; i++) {
+            chunk.add(rows[i]);
+        }
+        Assert.assertThat("Cell created again after growing the chunk", chunk.getCell(2, 0), sameInstance(cell));
+        Assert.assertThat("Cell created again by another row", new PrimitiveChunkDataRow(chunk, 0).getCell(2),
+            sameInstance(cell));
+        Assert.assertThat("Column switched to cells is primitive", chunk.isPrimitive(1), is(false));
+        Assert.assertThat("Cached cell dropped when switching to cells", chunk.getCell(1, 0),
+            sameInstance(longCell));
+        Assert.assertThat("Primitive column", chunk.isPrimitive(2), is(true));
+    }
+
+    private static void assertRowsEqual(final DataRow[] rows, final Buffer b) {
+        try (final CloseableRowIterator rowIt = b.iteratorBuilder().build()) {
+            for (int i = 0; i < rows.length; i++) {
+                final DataRow refRow = rows[i];
+                final DataRow dataRow = rowIt.next();
+                Assert.assertThat("Row " + i, dataRow, instanceOf(PrimitiveDataRow.class));
+                Assert.assertThat("Row key in row " + i, dataRow.getKey(), equalTo(refRow.getKey()));
+                final PrimitiveDataRow primitiveRow = (PrimitiveDataRow)dataRow;
+                for (int j = 0; j < refRow.getNumCells(); j++) {
+                    final boolean isMissing = refRow.getCell(j).isMissing();
+                    Assert.assertThat("Missing " + j + " in row " + i, primitiveRow.isMissing(j), is(isMissing));
+                    if (isMissing) {
+                        Assert.assertThat("Error message of missing cell " + j + " in row " + i,
+                            ((MissingValue)dataRow.getCell(j)).getError(),
+                            equalTo(((MissingValue)refRow.getCell(j)).getError()));
+                    } else {
+                        Assert.assertThat("Cell " + j + " in row " + i, dataRow.getCell(j),
+                            equalTo(refRow.getCell(j)));
+                    }
+                }
+                if (!refRow.getCell(0).isMissing()) {
+                    Assert.assertThat("Int in row " + i, primitiveRow.getInt(0),
+                        is(((IntCell)refRow.getCell(0)).getIntValue()));
+                    Assert.assertThat("Int as double in row " + i, primitiveRow.getDouble(0),
+                        is((double)((IntCell)refRow.getCell(0)).getIntValue()));
+                }
+                if (!refRow.getCell(1).isMissing()) {
+                    Assert.assertThat("Long in row " + i, primitiveRow.getLong(1),
+                        is(((LongCell)refRow.getCell(1)).getLongValue()));
+                }
+                Assert.assertThat("Double in row " + i, primitiveRow.getDouble(2),
+                    is(((DoubleCell)refRow.getCell(2)).getDoubleValue()));
+                Assert.assertThat("Boolean in row " + i, primitiveRow.getBoolean(3),
+                    is(((BooleanCell)refRow.getCell(3)).getBooleanValue()));
+            }
+            Assert.assertThat("Iterator with more than " + rows.length + " rows", rowIt.hasNext(), is(false));
+        }
+    }
+
+    /** Creates rows with (plain and erroneous) missing cells. */
+    private static DataRow[] createRows() {
+        return IntStream.range(0, ROW_COUNT).mapToObj(i -> new DefaultRow(RowKey.createRowKey((long)i), //
+            i % 7 == 0 ? DataType.getMissingCell() : new IntCell(i), //
+            i == 1500 ? new MissingCell("error in row 1500") : new LongCell(i * 31L), //
+            new DoubleCell(i + .5), //
+            i % 3 == 0 ? BooleanCell.TRUE : BooleanCell.FALSE)).toArray(DataRow[]::new);
+    }
+
+}
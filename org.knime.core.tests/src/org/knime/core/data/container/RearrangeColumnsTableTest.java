@@ -0,0 +1,223 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.RearrangeColumnsTable.ConcurrentNewColCalculator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests the concurrent computation of new columns in {@link RearrangeColumnsTable} (see
+ * {@link AbstractCellFactory#setParallelProcessing(boolean, int, int)}), in particular the processing in chunks (see
+ * {@link AbstractCellFactory#setParallelProcessingChunkSize(int)}).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RearrangeColumnsTableTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+    private ExecutionContext m_exec;
+
+    /** Creates the execution context. */
+    @Before
+    public void setUp() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<>());
+    }
+
+    /**
+     * The new cells are appended in the order of the input rows, even if chunks finish out of order.
+     *
+     * @throws Exception if the computation fails
+     */
+    @Test
+    public void testRowOrderAcrossChunks() throws Exception {
+        final DoublingFactory factory = new DoublingFactory(true);
+        factory.setParallelProcessing(true, 4, 16);
+        factory.setParallelProcessingChunkSize(7);
+        assertRows(compute(1000, factory), 1000);
+    }
+
+    /**
+     * The progress is reported once per chunk, with the number of rows processed so far.
+     *
+     * @throws Exception if the computation fails
+     */
+    @Test
+    public void testProgressPerChunk() throws Exception {
+        final DoublingFactory factory = new DoublingFactory(false);
+        factory.setParallelProcessing(true, 4, 16);
+        factory.setParallelProcessingChunkSize(7);
+        assertRows(compute(1000, factory), 1000);
+        assertThat("Unexpected progress", factory.m_progress, contains(LongStream.rangeClosed(1, 143)
+            .map(c -> Math.min(7 * c, 1000)).boxed().toArray(Long[]::new)));
+    }
+
+    /**
+     * Chunks are sized automatically unless a chunk size is set: single rows until the first chunk is computed, then
+     * as many rows as are computed in about 1ms, bounded so that each worker gets several chunks.
+     *
+     * @throws Exception if the computation fails
+     */
+    @Test
+    public void testAutoChunkSize() throws Exception {
+        final DoublingFactory factory = new DoublingFactory(false);
+        factory.setParallelProcessing(true, 4, 16);
+        factory.setParallelProcessingChunkSize(0);
+        assertThat("Chunk size not determined automatically", factory.getParallelProcessingChunkSize(), is(-1));
+
+        assertThat("Unexpected initial chunk size", ConcurrentNewColCalculator.getAutoChunkSize(0, 0, 100), is(1));
+        assertThat("Unexpected chunk size of cheap rows",
+            ConcurrentNewColCalculator.getAutoChunkSize(10, 10 * 20_000, 100), is(50));
+        assertThat("Chunk size of cheap rows not bounded",
+            ConcurrentNewColCalculator.getAutoChunkSize(10, 10, 100), is(100));
+        assertThat("Unexpected chunk size of expensive rows",
+            ConcurrentNewColCalculator.getAutoChunkSize(10, 10 * 5_000_000L, 100), is(1));
+        assertThat("Unexpected bound for small tables", ConcurrentNewColCalculator.getMaxAutoChunkSize(10, 4), is(1L));
+        assertThat("Unexpected bound", ConcurrentNewColCalculator.getMaxAutoChunkSize(1600, 4), is(100L));
+        assertThat("Unexpected bound for large tables", ConcurrentNewColCalculator.getMaxAutoChunkSize(1L << 40, 4),
+            is((long)ConcurrentNewColCalculator.MAX_AUTO_CHUNK_SIZE));
+
+        // cheap rows are processed in chunks, i.e. the progress is reported much less often than once per row
+        final int rowCount = 20000;
+        assertRows(compute(rowCount, factory), rowCount);
+        assertThat("Rows not processed in chunks", factory.m_progress.size(), is(lessThan(rowCount / 10)));
+        assertThat("Unexpected final progress", factory.m_progress.get(factory.m_progress.size() - 1),
+            is((long)rowCount));
+    }
+
+    private BufferedDataTable compute(final int rowCount, final CellFactory factory) throws Exception {
+        final BufferedDataContainer container = m_exec.createDataContainer(SPEC);
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+        }
+        container.close();
+        final ColumnRearranger rearranger = new ColumnRearranger(SPEC);
+        rearranger.append(factory);
+        return m_exec.createColumnRearrangeTable(container.getTable(), rearranger, m_exec);
+    }
+
+    private static void assertRows(final BufferedDataTable table, final int rowCount) {
+        assertThat("Unexpected row count", table.size(), is((long)rowCount));
+        int i = 0;
+        for (DataRow row : table) {
+            assertThat("Unexpected row key", row.getKey(), is(RowKey.createRowKey((long)i)));
+            assertThat("Unexpected input cell", row.getCell(0), is(new IntCell(i)));
+            assertThat("Unexpected new cell in row " + i, row.getCell(1), is(new IntCell(2 * i)));
+            i++;
+        }
+    }
+
+    /** Doubles the input value and records the reported progress, optionally delaying some rows. */
+    private static final class DoublingFactory extends SingleCellFactory {
+
+        private final List<Long> m_progress = Collections.synchronizedList(new ArrayList<>());
+
+        private final boolean m_delay;
+
+        DoublingFactory(final boolean delay) {
+            super(new DataColumnSpecCreator("doubled", IntCell.TYPE).createSpec());
+            m_delay = delay;
+        }
+
+        @Override
+        public DataCell getCell(final DataRow row) {
+            final int value = ((IntCell)row.getCell(0)).getIntValue();
+            if (m_delay && value % 50 == 0) {
+                // delays the chunk, so that subsequent chunks finish earlier
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new IntCell(2 * value);
+        }
+
+        @Override
+        public void setProgress(final long curRowNr, final long rowCount, final RowKey lastKey,
+            final ExecutionMonitor exec) {
+            m_progress.add(curRowNr);
+            super.setProgress(curRowNr, rowCount, lastKey, exec);
+        }
+    }
+}
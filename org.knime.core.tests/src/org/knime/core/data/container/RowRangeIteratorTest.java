@@ -0,0 +1,270 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.container.storage.CompressionCodec;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests iterating row ranges via {@link org.knime.core.data.RowIteratorBuilder#fromIndex(long)} and
+ * {@link org.knime.core.data.RowIteratorBuilder#toIndex(long)}, for tables in memory and on disc (with and without
+ * row offset index), also with iterators reading ahead on a background thread (see
+ * {@link org.knime.core.data.RowIteratorBuilder#prefetch(int)}).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class RowRangeIteratorTest extends TestCase {
+
+    /** Number of generated rows, not a multiple of the index interval. */
+    private static final int ROW_COUNT = 3 * DefaultTableStoreWriter.ROW_INDEX_INTERVAL + 17;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec());
+
+    /** Reads ranges of tables written to disc, using all compression formats. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testRangesOnDisc() {
+        for (final CompressionFormat cFormat : CompressionFormat.values()) {
+            final Buffer b = write(0, cFormat);
+            assertRanges(b::iteratorBuilder);
+        }
+    }
+
+    /** Reads ranges of a table held in memory. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testRangesInMemory() {
+        final Buffer b = write(Integer.MAX_VALUE, CompressionFormat.NONE);
+        assertRanges(b::iteratorBuilder);
+    }
+
+    /**
+     * Reads ranges of compressed tables spanning several compressed blocks, the range iterators start at the block
+     * containing the first row.
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testRangesAcrossCompressedBlocks() {
+        for (final CompressionFormat cFormat : CompressionFormat.values()) {
+            if (cFormat.supportsBlockCompression()) {
+                // about 3.5 blocks
+                final Buffer b = write(0, cFormat, ParallelCompressionOutputStream.BLOCK_SIZE / 900);
+                assertRanges(b::iteratorBuilder);
+                assertRanges(() -> b.iteratorBuilder().prefetch(64));
+            }
+        }
+    }
+
+    /**
+     * Tables in memory and files with a row offset index (uncompressed or compressed in independent blocks) can seek
+     * to the start of a range (and are hence split by {@link org.knime.core.node.BufferedDataTable#spliterator()}),
+     * files compressed with codecs not writing independent blocks can't.
+     */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testCanSeek() {
+        Assert.assertThat("Table in memory can seek", write(Integer.MAX_VALUE, CompressionFormat.NONE).canSeek(),
+            is(true));
+        Assert.assertThat("Indexed file can seek", write(0, CompressionFormat.NONE).canSeek(), is(true));
+        for (final CompressionFormat cFormat : new CompressionFormat[]{CompressionFormat.GZIP, CompressionFormat.LZ4,
+            CompressionFormat.SNAPPY}) {
+            Assert.assertThat("Compressed file can seek (" + cFormat + ")", write(0, cFormat).canSeek(), is(true));
+        }
+        Assert.assertThat("File compressed without blocks can't seek",
+            write(0, new DeflateCompressionCodec(), 0).canSeek(), is(false));
+    }
+
+    /** Builders that don't implement row ranges themselves skip the rows before the range. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testRangesOfOtherBuilders() {
+        final Buffer b = write(0, CompressionFormat.NONE);
+        assertRanges(() -> new RowIteratorBuilder<CloseableRowIterator>() {
+            private RowIteratorBuilder<? extends CloseableRowIterator> m_delegate = b.iteratorBuilder();
+
+            @Override
+            public RowIteratorBuilder<CloseableRowIterator> filterColumns(final int... indices) {
+                m_delegate = m_delegate.filterColumns(indices);
+                return this;
+            }
+
+            @Override
+            public RowIteratorBuilder<CloseableRowIterator> filterColumns(final String... columns) {
+                m_delegate = m_delegate.filterColumns(columns);
+                return this;
+            }
+
+            @Override
+            public CloseableRowIterator build() {
+                return m_delegate.build();
+            }
+        });
+    }
+
+    /** Reads ranges of tables on disc with iterators reading ahead, using all compression formats. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testRangesPrefetched() {
+        for (final CompressionFormat cFormat : CompressionFormat.values()) {
+            final Buffer b = write(0, cFormat);
+            assertRanges(() -> b.iteratorBuilder().prefetch(64));
+        }
+    }
+
+    /** Closes prefetching iterators before reaching the end, the background thread must stop and release the file. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testPrefetchCloseEarly() {
+        final Buffer b = write(0, CompressionFormat.GZIP);
+        for (int i = 0; i < 10; i++) {
+            final CloseableRowIterator it = b.iteratorBuilder().prefetch(8).build();
+            Assert.assertThat("Iterator has rows", it.hasNext(), is(true));
+            it.next();
+            it.close();
+            Assert.assertThat("Closed iterator has no rows", it.hasNext(), is(false));
+        }
+        // the file can still be read after the early closes
+        assertRange(() -> b.iteratorBuilder().prefetch(8), 0, Long.MAX_VALUE);
+    }
+
+    /** Combines a row range with a column filter. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testRangeWithColumnFilter() {
+        final Buffer b = write(0, CompressionFormat.NONE);
+        final int from = DefaultTableStoreWriter.ROW_INDEX_INTERVAL + 5;
+        try (final CloseableRowIterator it = b.iteratorBuilder().filterColumns(1).fromIndex(from).build()) {
+            for (int i = from; i < ROW_COUNT; i++) {
+                final DataRow row = it.next();
+                Assert.assertThat("Row key", row.getKey(), equalTo(RowKey.createRowKey((long)i)));
+                Assert.assertThat("Filtered cell", row.getCell(0), instanceOf(UnmaterializedCell.class));
+                Assert.assertThat("Selected cell", row.getCell(1), equalTo(new StringCell(Integer.toString(i))));
+            }
+            Assert.assertThat("Iterator at end", it.hasNext(), is(false));
+        }
+    }
+
+    private static void assertRanges(final Supplier<RowIteratorBuilder<? extends CloseableRowIterator>> b) {
+        final int interval = DefaultTableStoreWriter.ROW_INDEX_INTERVAL;
+        assertRange(b, 0, Long.MAX_VALUE);
+        assertRange(b, 1, 10);
+        assertRange(b, interval, interval);
+        assertRange(b, interval - 1, 2 * interval + 1);
+        assertRange(b, 2 * interval + 100, Long.MAX_VALUE);
+        assertRange(b, ROW_COUNT - 1, ROW_COUNT + 100);
+        assertRange(b, ROW_COUNT, Long.MAX_VALUE);
+        assertRange(b, ROW_COUNT + 5, ROW_COUNT + 10);
+        assertRange(b, 10, 5);
+    }
+
+    private static void assertRange(final Supplier<RowIteratorBuilder<? extends CloseableRowIterator>> b,
+        final long from, final long to) {
+        final String range = "[" + from + ", " + to + "]";
+        final long end = Math.min(ROW_COUNT - 1L, to);
+        try (final CloseableRowIterator it = b.get().fromIndex(from).toIndex(to).build()) {
+            for (long i = from; i <= end; i++) {
+                Assert.assertThat("Iterator has row " + i + " in " + range, it.hasNext(), is(true));
+                final DataRow row = it.next();
+                Assert.assertThat("Row key in " + range, row.getKey(), equalTo(RowKey.createRowKey(i)));
+                Assert.assertThat("Cell in " + range, row.getCell(0), equalTo(new IntCell((int)i)));
+            }
+            Assert.assertThat("Iterator at end of " + range, it.hasNext(), is(false));
+        }
+    }
+
+    private static Buffer write(final int maxCellsInMemory, final CompressionCodec cFormat) {
+        return write(maxCellsInMemory, cFormat, 0);
+    }
+
+    /** Writes the test table, the strings are padded to the argument length (if longer than the row index). */
+    private static Buffer write(final int maxCellsInMemory, final CompressionCodec cFormat, final int stringLength) {
+        final DataContainerSettings settings =
+            DataContainerSettings.getDefault().withMaxCellsInMemory(maxCellsInMemory).withInitializedDomain(false);
+        final DefaultTableStoreFormat format =
+            new DefaultTableStoreFormat(DefaultTableStoreSettings.getDefault().withCompression(cFormat));
+        final DataContainer cont =
+            new DataContainer(SPEC, settings.withBufferSettings(BufferSettings.getDefault().withOutputFormat(format)));
+        // random padding, so that the blocks don't compress too well
+        final Random random = new Random(ROW_COUNT);
+        IntStream.range(0, ROW_COUNT).mapToObj(i -> {
+            final StringBuilder string = new StringBuilder(Integer.toString(i));
+            while (string.length() < stringLength) {
+                string.append((char)('a' + random.nextInt(26)));
+            }
+            return new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i), new StringCell(string.toString()));
+        }).forEach(cont::addRowToTable);
+        final Buffer b = cont.getBuffer();
+        cont.close();
+        return b;
+    }
+
+}
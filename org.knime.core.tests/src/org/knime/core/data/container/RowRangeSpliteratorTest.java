@@ -0,0 +1,134 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link RowRangeSpliterator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class RowRangeSpliteratorTest extends TestCase {
+
+    private static final int ROW_COUNT = 10 * (int)RowRangeSpliterator.SPLIT_ALIGNMENT + 123;
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+
+    /** Splits are aligned, disjoint and cover the table. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testSplit() {
+        final Buffer b = write(0);
+        try (final RowRangeSpliterator root = new RowRangeSpliterator(b::iteratorBuilder, ROW_COUNT, true)) {
+            final Spliterator<DataRow> prefix = root.trySplit();
+            Assert.assertThat("Split size", prefix.estimateSize() + root.estimateSize(), is((long)ROW_COUNT));
+            Assert.assertThat("Aligned split", prefix.estimateSize() % RowRangeSpliterator.SPLIT_ALIGNMENT, is(0L));
+            final long[] next = new long[1];
+            prefix.forEachRemaining(r -> assertRow(r, next[0]++));
+            root.forEachRemaining(r -> assertRow(r, next[0]++));
+            Assert.assertThat("Rows read", next[0], is((long)ROW_COUNT));
+        }
+        try (final RowRangeSpliterator root = new RowRangeSpliterator(b::iteratorBuilder, ROW_COUNT, false)) {
+            Assert.assertNull("Split of unsplittable spliterator", root.trySplit());
+        }
+    }
+
+    /** Parallel streams return rows in order, for tables on disc and in memory. */
+    @SuppressWarnings("static-method")
+    @Test
+    public void testParallelStream() {
+        for (final int maxCellsInMemory : new int[]{0, Integer.MAX_VALUE}) {
+            final Buffer b = write(maxCellsInMemory);
+            final RowRangeSpliterator spliterator = new RowRangeSpliterator(b::iteratorBuilder, ROW_COUNT, true);
+            try (Stream<DataRow> rows = StreamSupport.stream(spliterator, true).onClose(spliterator::close)) {
+                final List<RowKey> keys = rows.map(DataRow::getKey).collect(Collectors.toList());
+                Assert.assertThat("Number of rows", keys.size(), is(ROW_COUNT));
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    Assert.assertThat("Row key", keys.get(i), equalTo(RowKey.createRowKey((long)i)));
+                }
+            }
+        }
+    }
+
+    private static void assertRow(final DataRow row, final long index) {
+        Assert.assertThat("Row key", row.getKey(), equalTo(RowKey.createRowKey(index)));
+        Assert.assertThat("Cell", row.getCell(0), equalTo(new IntCell((int)index)));
+    }
+
+    private static Buffer write(final int maxCellsInMemory) {
+        final DataContainer cont = new DataContainer(SPEC, DataContainerSettings.getDefault()
+            .withMaxCellsInMemory(maxCellsInMemory).withInitializedDomain(false));
+        IntStream.range(0, ROW_COUNT).mapToObj(i -> new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)))
+            .forEach(cont::addRowToTable);
+        final Buffer b = cont.getBuffer();
+        cont.close();
+        return b;
+    }
+
+}
@@ -175,6 +175,36 @@ public void consume(final DataRow defaultRow) {
         });
     }
 
+    /**
+     * Tests that a limit returns the first rows of the unrestricted sorting.
+     *
+     * @throws CanceledExecutionException
+     * @throws InvalidSettingsException
+     */
+    @Test
+    public void testSortingWithLimit() throws CanceledExecutionException, InvalidSettingsException {
+        final List<DataRow> allRows = collectSortedRows(-1, FEATURE2, CLASS);
+        assertEquals(testTable.size(), allRows.size());
+        for (int limit : new int[]{0, 3, 100}) {
+            final List<DataRow> rows = collectSortedRows(limit, FEATURE2, CLASS);
+            assertEquals(Math.min(limit, allRows.size()), rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                assertEquals(allRows.get(i).getCell(0), rows.get(i).getCell(0));
+                assertEquals(allRows.get(i).getCell(1), rows.get(i).getCell(1));
+            }
+        }
+    }
+
+    private List<DataRow> collectSortedRows(final long limit, final String... toSort)
+        throws CanceledExecutionException, InvalidSettingsException {
+        ColumnBufferedDataTableSorter dataTableSorter =
+            new ColumnBufferedDataTableSorter(testTable.getDataTableSpec(), testTable.size(), toSort);
+        dataTableSorter.setLimit(limit);
+        final List<DataRow> rows = new ArrayList<>();
+        dataTableSorter.sort(testTable, m_exec, rows::add);
+        return rows;
+    }
+
     private BufferedDataTable createRandomTable(final int cols, final int rows) {
         long currentTimeMillis = System.currentTimeMillis();
         System.out.println("Using seed: " + currentTimeMillis);
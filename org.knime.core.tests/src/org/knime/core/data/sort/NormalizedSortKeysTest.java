@@ -0,0 +1,188 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Tests that sorting with normalized keys gives the same result as sorting with the column comparators.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NormalizedSortKeysTest {
+
+    private static final double[] SPECIAL_DOUBLES = {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY,
+        Double.NEGATIVE_INFINITY, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+
+    private static final String[] SPECIAL_STRINGS = {"", "\u0000", "a\u0000", "a", "a\u0000b", "ab", "\uFFFF",
+        "\uD83D\uDE00", "\u00E4", "A", "b"};
+
+    private static DataTable createTable(final int rowCount, final long seed) {
+        final DataTableSpec spec = new DataTableSpec(new String[]{"D", "I", "L", "S"},
+            new DataType[]{DoubleCell.TYPE, IntCell.TYPE, LongCell.TYPE, StringCell.TYPE});
+        final Random rand = new Random(seed);
+        final DataContainer container = new DataContainer(spec);
+        for (int i = 0; i < rowCount; i++) {
+            final DataCell d = rand.nextInt(8) == 0 ? DataType.getMissingCell()
+                : new DoubleCell(rand.nextBoolean() ? SPECIAL_DOUBLES[rand.nextInt(SPECIAL_DOUBLES.length)]
+                    : rand.nextInt(10) - 5 + rand.nextInt(2) / 2.0);
+            final DataCell in = rand.nextInt(8) == 0 ? DataType.getMissingCell()
+                : new IntCell(rand.nextBoolean() ? rand.nextInt() : rand.nextInt(5) - 2);
+            final DataCell l = rand.nextInt(8) == 0 ? DataType.getMissingCell()
+                : new LongCell(rand.nextBoolean() ? rand.nextLong() : rand.nextInt(5) - 2);
+            final DataCell s = rand.nextInt(8) == 0 ? DataType.getMissingCell()
+                : new StringCell(SPECIAL_STRINGS[rand.nextInt(SPECIAL_STRINGS.length)]);
+            // row keys with common prefixes
+            container.addRowToTable(new DefaultRow("Row" + rand.nextInt(rowCount), d, in, l, s));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static List<DataRow> toList(final DataTable table) {
+        final List<DataRow> rows = new ArrayList<>();
+        for (final DataRow row : table) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static void assertSameOrder(final List<DataRow> expected, final List<DataRow> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals("Row " + i, expected.get(i).toString(), actual.get(i).toString());
+        }
+    }
+
+    /**
+     * Sorts in memory by every single column and some column combinations, for all directions and both missing
+     * value placements.
+     */
+    @Test
+    public void testSortInMemory() {
+        final DataTable table = createTable(2000, 42);
+        final List<DataRow> rows = toList(table);
+        final List<List<String>> columnLists = Arrays.asList(Arrays.asList("D"), Arrays.asList("I"),
+            Arrays.asList("L"), Arrays.asList("S"), Arrays.asList(AbstractTableSorter.ROWKEY_SORT_SPEC.getName()),
+            Arrays.asList("S", "D"), Arrays.asList("I", "S", "L"),
+            Arrays.asList("S", AbstractTableSorter.ROWKEY_SORT_SPEC.getName(), "D"));
+        for (final List<String> columns : columnLists) {
+            for (int directions = 0; directions < (1 << columns.size()); directions++) {
+                final boolean[] ascending = new boolean[columns.size()];
+                for (int c = 0; c < ascending.length; c++) {
+                    ascending[c] = (directions & (1 << c)) != 0;
+                }
+                for (final boolean missingsToEnd : new boolean[]{false, true}) {
+                    final DataTableSorter sorter = new DataTableSorter(table, (long)rows.size(), columns, ascending);
+                    sorter.setSortColumns(columns, ascending, missingsToEnd);
+                    Assert.assertTrue(sorter.isNormalizedKeySupported());
+
+                    final List<DataRow> expected = new ArrayList<>(rows);
+                    sorter.sortRows(expected);
+                    sorter.setUseNormalizedKeys(true);
+                    final List<DataRow> actual = new ArrayList<>(rows);
+                    sorter.sortRows(actual);
+                    assertSameOrder(expected, actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts on disk with a multi-stage merge, sequentially and in parallel.
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test
+    public void testSortOnDisk() throws CanceledExecutionException {
+        final DataTable table = createTable(500, 7);
+        final List<String> columns = Arrays.asList("S", "D", "I");
+        final boolean[] ascending = {true, false, true};
+        final DataTableSorter sorter = new DataTableSorter(table, 500L, columns, ascending);
+        sorter.setSortColumns(columns, ascending, true);
+        final List<DataRow> expected = toList(sorter.sort(new ExecutionMonitor()));
+
+        sorter.setUseNormalizedKeys(true);
+        sorter.setMaxRows(20);
+        sorter.setMaxOpenContainers(4);
+        assertSameOrder(expected, toList(sorter.sort(new ExecutionMonitor())));
+        sorter.setThreadCount(4);
+        assertSameOrder(expected, toList(sorter.sort(new ExecutionMonitor())));
+    }
+
+    /** Custom comparators and unsupported column types don't use normalized keys. */
+    @Test
+    public void testUnsupported() {
+        final DataTable table = createTable(10, 1);
+        final DataTableSorter sorter =
+            new DataTableSorter(table, 10L, Arrays.asList("D"), new boolean[]{true});
+        Assert.assertTrue(sorter.isNormalizedKeySupported());
+        sorter.setRowComparator((r1, r2) -> r1.getKey().getString().compareTo(r2.getKey().getString()));
+        Assert.assertFalse(sorter.isNormalizedKeySupported());
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Benchmark comparing the in-memory sort of a table using the columns' comparators with the sort using normalized
+ * keys (see {@link AbstractTableSorter#setUseNormalizedKeys(boolean)}). The table is read into memory once; each
+ * round sorts a copy of the rows single-threaded, the normalized key time includes the encoding of the keys.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class SortKeyBenchmark {
+
+    private SortKeyBenchmark() {
+    }
+
+    /**
+     * The result of the benchmark.
+     */
+    public static final class Result {
+
+        private final int m_rowCount;
+
+        private final long m_comparatorNanos;
+
+        private final long m_normalizedKeyNanos;
+
+        private Result(final int rowCount, final long comparatorNanos, final long normalizedKeyNanos) {
+            m_rowCount = rowCount;
+            m_comparatorNanos = comparatorNanos;
+            m_normalizedKeyNanos = normalizedKeyNanos;
+        }
+
+        /** @return the number of sorted rows */
+        public int getRowCount() {
+            return m_rowCount;
+        }
+
+        /** @return the best time of sorting using the comparators, in nanoseconds */
+        public long getComparatorNanos() {
+            return m_comparatorNanos;
+        }
+
+        /** @return the best time of sorting using normalized keys (including their encoding), in nanoseconds */
+        public long getNormalizedKeyNanos() {
+            return m_normalizedKeyNanos;
+        }
+
+        /** @return the comparator time divided by the normalized key time */
+        public double getSpeedup() {
+            return m_comparatorNanos / (double)Math.max(1L, m_normalizedKeyNanos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d rows: comparators %,.1f ms, normalized keys %,.1f ms, speedup %.2fx",
+                m_rowCount, m_comparatorNanos / 1e6, m_normalizedKeyNanos / 1e6, getSpeedup());
+        }
+    }
+
+    /**
+     * Runs the benchmark on the argument table. Both variants are run the given number of times (alternately) and
+     * the best time of each is reported. The results of both variants are checked to be identical.
+     *
+     * @param table the table to sort, it must fit into memory
+     * @param inclList the sort columns, see {@link AbstractTableSorter#setSortColumns(Collection, boolean[], boolean)}
+     * @param sortAscending the sort order of the columns
+     * @param sortMissingsToEnd whether to sort missing values to the end
+     * @param rounds the number of rounds, at least 1
+     * @param exec for progress and cancellation, not null
+     * @return the result
+     * @throws CanceledExecutionException if canceled
+     * @throws IllegalArgumentException if the sort columns are not supported by normalized keys
+     * @throws IllegalStateException if the sort results differ
+     */
+    public static Result run(final DataTable table, final Collection<String> inclList, final boolean[] sortAscending,
+        final boolean sortMissingsToEnd, final int rounds, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Number of rounds must be at least 1: " + rounds);
+        }
+        final List<DataRow> rows = new ArrayList<>();
+        for (final DataRow row : table) {
+            exec.checkCanceled();
+            rows.add(row);
+        }
+        final DataTableSorter sorter = new DataTableSorter(table, (long)rows.size(), inclList, sortAscending);
+        sorter.setSortColumns(inclList, sortAscending, sortMissingsToEnd);
+        if (!sorter.isNormalizedKeySupported()) {
+            throw new IllegalArgumentException("Sort columns " + inclList + " not supported by normalized keys");
+        }
+        sorter.setThreadCount(1);
+        long comparatorNanos = Long.MAX_VALUE;
+        long normalizedKeyNanos = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            exec.checkCanceled();
+            exec.setMessage("Round " + (i + 1) + " of " + rounds);
+            final List<DataRow> byComparator = new ArrayList<>(rows);
+            sorter.setUseNormalizedKeys(false);
+            long start = System.nanoTime();
+            sorter.sortRows(byComparator);
+            comparatorNanos = Math.min(comparatorNanos, System.nanoTime() - start);
+
+            final List<DataRow> byKey = new ArrayList<>(rows);
+            sorter.setUseNormalizedKeys(true);
+            start = System.nanoTime();
+            sorter.sortRows(byKey);
+            normalizedKeyNanos = Math.min(normalizedKeyNanos, System.nanoTime() - start);
+
+            for (int r = 0; r < byKey.size(); r++) {
+                if (byKey.get(r) != byComparator.get(r)) {
+                    throw new IllegalStateException("Sort results differ at position " + r + ": "
+                        + byComparator.get(r).getKey() + " vs. " + byKey.get(r).getKey());
+                }
+            }
+            exec.setProgress((i + 1) / (double)rounds);
+        }
+        return new Result(rows.size(), comparatorNanos, normalizedKeyNanos);
+    }
+
+}
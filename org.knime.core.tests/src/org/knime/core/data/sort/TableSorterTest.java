@@ -49,8 +49,10 @@
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Random;
+import java.util.Set;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -140,6 +142,63 @@ public final void testMultiStageMerge() throws CanceledExecutionException {
         runMemoryTest(100, 5, 8);
     }
 
+    /**
+     * Test sorting with multiple threads, including a multi-stage merge that is done in parallel.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testParallelMultiStageMerge() throws CanceledExecutionException {
+        BufferedDataTable bdt = m_exec.createBufferedDataTable(new TestData(100, 2), m_exec);
+        BufferedDataTableSorter sorter = new BufferedDataTableSorter(bdt, Arrays.asList("Index"), new boolean[]{true});
+        BufferedDataTable defaultResult = sorter.sort(m_exec);
+
+        sorter.setThreadCount(4);
+        sorter.setMaxRows(5);
+        sorter.setMaxOpenContainers(3);
+        BufferedDataTable result = sorter.sort(m_exec);
+
+        Assert.assertEquals(defaultResult.size(), result.size());
+        Set<String> defaultKeys = new HashSet<>();
+        Set<String> keys = new HashSet<>();
+        RowIterator defaultIter = defaultResult.iterator();
+        RowIterator iter = result.iterator();
+        while (defaultIter.hasNext()) {
+            DataRow defaultRow = defaultIter.next();
+            DataRow row = iter.next();
+            // rows with equal index may be ordered differently
+            Assert.assertEquals(defaultRow.getCell(0), row.getCell(0));
+            defaultKeys.add(defaultRow.getKey().getString());
+            keys.add(row.getKey().getString());
+        }
+        Assert.assertEquals(defaultKeys, keys);
+    }
+
+    /**
+     * Test that a limit returns the first rows of the full sort, using one or multiple threads.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testLimit() throws CanceledExecutionException {
+        BufferedDataTable bdt = m_exec.createBufferedDataTable(new TestData(100, 3), m_exec);
+        BufferedDataTableSorter sorter = new BufferedDataTableSorter(bdt, Arrays.asList("Index"), new boolean[]{false});
+        BufferedDataTable defaultResult = sorter.sort(m_exec);
+
+        for (int threadCount : new int[]{1, 4}) {
+            sorter.setThreadCount(threadCount);
+            for (long limit : new long[]{0, 1, 10, 100, 1000}) {
+                sorter.setLimit(limit);
+                BufferedDataTable result = sorter.sort(m_exec);
+                Assert.assertEquals(Math.min(limit, defaultResult.size()), result.size());
+                RowIterator defaultIter = defaultResult.iterator();
+                for (DataRow row : result) {
+                    DataRow defaultRow = defaultIter.next();
+                    Assert.assertEquals(defaultRow.getKey(), row.getKey());
+                    Assert.assertEquals(defaultRow.getCell(0), row.getCell(0));
+                }
+            }
+        }
+    }
+
     private void runMemoryTest(final int numRows,
             final int maxNumRowsPerContainer,
             final int maxOpenContainers) throws CanceledExecutionException {
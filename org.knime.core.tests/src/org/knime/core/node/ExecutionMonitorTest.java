@@ -111,5 +111,33 @@ public void run() {
         double n = dad.getProgress();
         assertTrue("progress=" + n, n < 0.91 && n > 0.89);
     }
+
+    /**
+     * Test method for the rate-limited 'ExecutionMonitor.setProgress(long, long, LongFunction)'.
+     */
+    public final void testRateLimitedProgress() {
+        DefaultNodeProgressMonitor dad = new DefaultNodeProgressMonitor();
+        ExecutionMonitor dadEx = new ExecutionMonitor(dad);
+        final int[] messageCount = new int[1];
+        // first update is passed on
+        dadEx.setProgress(1, 100, i -> {
+            messageCount[0]++;
+            return "Row " + i;
+        });
+        assertEquals(0.01, dad.getProgress(), 1e-9);
+        assertEquals("Row 1", dad.getMessage());
+        // subsequent updates are skipped (unless the interval is over, which is unlikely) ...
+        for (long i = 2; i < 100; i++) {
+            dadEx.setProgress(i, 100, j -> {
+                messageCount[0]++;
+                return "Row " + j;
+            });
+        }
+        assertTrue("messages=" + messageCount[0], messageCount[0] < 10);
+        // ... except for the last one
+        dadEx.setProgress(100, 100, i -> "Row " + i);
+        assertEquals(1.0, dad.getProgress(), 1e-9);
+        assertEquals("Row 100", dad.getMessage());
+    }
     
 }
@@ -0,0 +1,217 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ConnectionPool}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ConnectionPoolTest {
+
+    /** Creates a connection that only supports {@link Connection#close()} and {@link Connection#isClosed()}. */
+    private static Connection createConnection() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        return (Connection)Proxy.newProxyInstance(ConnectionPoolTest.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        closed.set(true);
+                        return null;
+                    case "isClosed":
+                        return closed.get();
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    /**
+     * Returned connections are reused.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testReuse() throws Exception {
+        final ConnectionPool pool = new ConnectionPool("test", 0, 2, 300, 600);
+        final Connection first;
+        try (BorrowedConnection borrowed = pool.borrow(ConnectionPoolTest::createConnection, c -> true, 0)) {
+            assertThat("Pooled connection not exclusive", borrowed.isExclusive(), is(true));
+            first = borrowed.getConnection();
+        }
+        try (BorrowedConnection borrowed = pool.borrow(ConnectionPoolTest::createConnection, c -> true, 0)) {
+            assertThat("Idle connection not reused", borrowed.getConnection(), is(sameInstance(first)));
+        }
+        final ConnectionPool.Statistics statistics = pool.getStatistics();
+        assertThat("Unexpected number of created connections", statistics.getCreatedConnections(), is(1L));
+        assertThat("Unexpected borrow count", statistics.getBorrowCount(), is(2L));
+        assertThat("Unexpected number of idle connections", statistics.getIdleConnections(), is(1));
+        assertThat("Unexpected number of borrowed connections", statistics.getBorrowedConnections(), is(0));
+    }
+
+    /**
+     * Invalid connections are closed and replaced.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testInvalidConnections() throws Exception {
+        final ConnectionPool pool = new ConnectionPool("test", 0, 1, 300, 600);
+        final Connection first;
+        try (BorrowedConnection borrowed = pool.borrow(ConnectionPoolTest::createConnection, c -> true, 0)) {
+            first = borrowed.getConnection();
+            borrowed.invalidate();
+        }
+        assertThat("Invalidated connection not closed", first.isClosed(), is(true));
+
+        final Connection second;
+        try (BorrowedConnection borrowed = pool.borrow(ConnectionPoolTest::createConnection, c -> true, 0)) {
+            second = borrowed.getConnection();
+            assertThat("Invalidated connection reused", second, is(not(sameInstance(first))));
+        }
+        try (BorrowedConnection borrowed = pool.borrow(ConnectionPoolTest::createConnection, c -> false, 0)) {
+            assertThat("Connection failing the validation reused", borrowed.getConnection(),
+                is(not(sameInstance(second))));
+        }
+        assertThat("Connection failing the validation not closed", second.isClosed(), is(true));
+        assertThat("Unexpected number of destroyed connections", pool.getStatistics().getDestroyedConnections(),
+            is(2L));
+    }
+
+    /**
+     * Threads wait if the pool is exhausted and time out if no connection is returned.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testMaximumSize() throws Exception {
+        final ConnectionPool pool = new ConnectionPool("test", 0, 1, 300, 600);
+        final BorrowedConnection borrowed = pool.borrow(ConnectionPoolTest::createConnection, c -> true, 0);
+        try {
+            pool.borrow(ConnectionPoolTest::createConnection, c -> true, TimeUnit.MILLISECONDS.toNanos(10));
+            throw new AssertionError("Exhausted pool handed out a connection");
+        } catch (SQLException e) {
+            // expected
+        }
+
+        final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try (BorrowedConnection other =
+                pool.borrow(ConnectionPoolTest::createConnection, c -> true, TimeUnit.SECONDS.toNanos(30))) {
+                return other.getConnection();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (pool.getStatistics().getWaitingThreads() == 0) {
+            Thread.sleep(1);
+        }
+        borrowed.close();
+        assertThat("Returned connection not handed to waiting thread", waiting.get(30, TimeUnit.SECONDS),
+            is(sameInstance(borrowed.getConnection())));
+        assertThat("Unexpected number of created connections", pool.getStatistics().getCreatedConnections(), is(1L));
+    }
+
+    /**
+     * Trying to borrow from an exhausted pool returns immediately without a connection.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testTryBorrow() throws Exception {
+        final ConnectionPool pool = new ConnectionPool("test", 0, 2, 300, 600);
+        try (BorrowedConnection first = pool.tryBorrow(ConnectionPoolTest::createConnection, c -> true);
+                BorrowedConnection second = pool.tryBorrow(ConnectionPoolTest::createConnection, c -> true)) {
+            assertThat("No connection borrowed from pool", first, is(notNullValue()));
+            assertThat("No connection borrowed from pool", second, is(notNullValue()));
+            assertThat("Exhausted pool handed out a connection",
+                pool.tryBorrow(ConnectionPoolTest::createConnection, c -> true), is(nullValue()));
+            assertThat("Thread waited for a connection", pool.getStatistics().getWaitingThreads(), is(0));
+        }
+        try (BorrowedConnection borrowed = pool.tryBorrow(ConnectionPoolTest::createConnection, c -> true)) {
+            assertThat("Returned connection not handed out", borrowed, is(notNullValue()));
+        }
+    }
+
+    /**
+     * Idle connections are closed by the maintenance.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testIdleTimeout() throws Exception {
+        final ConnectionPool pool = new ConnectionPool("test", 0, 2, 0, 600);
+        final Connection conn;
+        try (BorrowedConnection borrowed = pool.borrow(ConnectionPoolTest::createConnection, c -> true, 0)) {
+            conn = borrowed.getConnection();
+        }
+        Thread.sleep(1);
+        pool.maintain();
+        assertThat("Idle connection not closed", conn.isClosed(), is(true));
+        assertThat("Unexpected number of idle connections", pool.getStatistics().getIdleConnections(), is(0));
+    }
+}
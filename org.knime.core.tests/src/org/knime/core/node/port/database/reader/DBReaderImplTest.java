@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests the partitioned read of {@link DBReaderImpl#createPartitionedTable}, see
+ * {@link DBReaderImpl#readPartitions(ExecutionContext, DataTableSpec, int, DBReaderImpl.PartitionReader)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBReaderImplTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("id", IntCell.TYPE).createSpec());
+
+    private HashMap<Integer, ContainerTable> m_localTableRepository;
+
+    private ExecutionContext m_exec;
+
+    /** Creates the execution context. */
+    @Before
+    public void setUp() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_localTableRepository = new HashMap<>();
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, m_localTableRepository);
+    }
+
+    /**
+     * The partitions are concatenated in the order of their index, no matter in which order they complete, and the
+     * row keys don't depend on the order either.
+     *
+     * @throws Exception if reading fails
+     */
+    @Test
+    public void testOrderAndRowKeys() throws Exception {
+        final CountDownLatch lastDone = new CountDownLatch(1);
+        final BufferedDataTable table = DBReaderImpl.readPartitions(m_exec, SPEC, 3, (partition, container, exec) -> {
+            if (partition == 0) {
+                // the first partition completes last
+                try {
+                    lastDone.await();
+                } catch (InterruptedException e) {
+                    throw new SQLException(e);
+                }
+            }
+            for (int i = 0; i < 2; i++) {
+                container.addRowToTable(
+                    new DefaultRow(DBReaderImpl.createPartitionRowKey(partition, i), new IntCell(partition * 10 + i)));
+            }
+            if (partition == 2) {
+                lastDone.countDown();
+            }
+        });
+
+        final List<String> keys = new ArrayList<>();
+        final List<Integer> values = new ArrayList<>();
+        for (DataRow row : table) {
+            keys.add(row.getKey().getString());
+            values.add(((IntCell)row.getCell(0)).getIntValue());
+        }
+        assertThat("Unexpected row keys", keys, contains("Row0_0", "Row0_1", "Row1_0", "Row1_1", "Row2_0", "Row2_1"));
+        assertThat("Unexpected values", values, contains(0, 1, 10, 11, 20, 21));
+        assertThat("Unexpected row count", table.size(), is(6L));
+    }
+
+    /**
+     * A single partition is returned as is.
+     *
+     * @throws Exception if reading fails
+     */
+    @Test
+    public void testSinglePartition() throws Exception {
+        final BufferedDataTable table = DBReaderImpl.readPartitions(m_exec, SPEC, 1, (partition, container,
+            exec) -> container.addRowToTable(new DefaultRow(DBReaderImpl.createPartitionRowKey(partition, 0),
+                new IntCell(42))));
+        assertThat("Unexpected row count", table.size(), is(1L));
+        assertThat("Unexpected row key", table.iterator().next().getKey().getString(), is("Row0_0"));
+    }
+
+    /**
+     * If a partition fails, its failure is thrown without waiting for the preceding partitions, the other readers are
+     * interrupted and waited for, and all containers are discarded.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testFailure() throws Exception {
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final AtomicBoolean stopped = new AtomicBoolean();
+        try {
+            DBReaderImpl.readPartitions(m_exec, SPEC, 3, (partition, container, exec) -> {
+                if (partition == 1) {
+                    throw new SQLException("Partition failed");
+                }
+                container.addRowToTable(
+                    new DefaultRow(DBReaderImpl.createPartitionRowKey(partition, 0), new IntCell(partition)));
+                try {
+                    // blocks until interrupted because of the failing partition
+                    Thread.sleep(60000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                } finally {
+                    stopped.set(true);
+                }
+            });
+            throw new AssertionError("Expected failure of partition not thrown");
+        } catch (SQLException e) {
+            assertThat("Unexpected exception", e.getMessage(), is("Partition failed"));
+        }
+        assertThat("Other readers not interrupted", interrupted.get(), is(true));
+        assertThat("Other readers not waited for", stopped.get(), is(true));
+        assertThat("Containers of partitions not discarded", m_localTableRepository.isEmpty(), is(true));
+    }
+}
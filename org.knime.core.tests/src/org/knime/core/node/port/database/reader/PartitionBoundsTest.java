@@ -0,0 +1,122 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link PartitionBounds}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PartitionBoundsTest {
+
+    /** Integral ranges are split into ranges of (almost) equal width. */
+    @Test
+    public void testIntegralBounds() {
+        assertThat("Unexpected bounds", PartitionBounds.split(0, 100, 4), contains(25L, 50L, 75L));
+        assertThat("Unexpected bounds", PartitionBounds.split(10L, 20L, 3), contains(13L, 16L));
+        assertThat("Unexpected bounds for decimal", PartitionBounds.split(new BigDecimal("0"), new BigDecimal("8"), 2),
+            contains(4L));
+        assertThat("Duplicate bounds for small range", PartitionBounds.split(0, 2, 8), contains(1L));
+        assertThat("Unexpected bounds for extreme range",
+            PartitionBounds.split(Long.MIN_VALUE, Long.MAX_VALUE, 2).size(), is(1));
+    }
+
+    /** Floating point ranges are split into ranges of equal width. */
+    @Test
+    public void testFloatingPointBounds() {
+        assertThat("Unexpected bounds", PartitionBounds.split(0.0, 1.0, 4), contains(0.25, 0.5, 0.75));
+        assertThat("Unexpected bounds for decimal",
+            PartitionBounds.split(new BigDecimal("0.5"), new BigDecimal("1.5"), 2), contains(1.0));
+        assertThat("Bounds for NaN", PartitionBounds.split(Double.NaN, 1.0, 2), is(empty()));
+    }
+
+    /** Date ranges are split into bounds of the same type. */
+    @Test
+    public void testDateBounds() {
+        final List<Object> bounds = PartitionBounds.split(new Timestamp(0), new Timestamp(3000), 3);
+        assertThat("Unexpected bounds", bounds, contains(new Timestamp(1000), new Timestamp(2000)));
+        final List<Object> dateBounds = PartitionBounds.split(new java.sql.Date(0), new java.sql.Date(4000), 2);
+        assertThat("Unexpected bound type", dateBounds.get(0).getClass(), is((Object)java.sql.Date.class));
+    }
+
+    /** Ranges that cannot be split result in a single partition. */
+    @Test
+    public void testUnsplittable() {
+        assertThat("Bounds for missing values", PartitionBounds.split(null, null, 4), is(empty()));
+        assertThat("Bounds for a single value", PartitionBounds.split(5, 5, 4), is(empty()));
+        assertThat("Bounds for a single partition", PartitionBounds.split(0, 100, 1), is(empty()));
+    }
+
+    /** Values that are neither numbers nor dates are rejected. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidType() {
+        PartitionBounds.split("a", "z", 2);
+    }
+
+    /** Bounds are strictly ascending. */
+    @Test
+    public void testAscending() {
+        final List<Object> bounds = PartitionBounds.split(-7, 1_000_003, 16);
+        final Object[] sorted = bounds.toArray();
+        Arrays.sort(sorted);
+        assertThat("Bounds not sorted", bounds, contains(sorted));
+        assertThat("Unexpected number of bounds", bounds.size(), is(15));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Optional;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.IntCell;
+
+/**
+ * Tests for {@link QueryResultCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class QueryResultCacheTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("id", IntCell.TYPE).createSpec());
+
+    /** Whitespace outside of quotes and a trailing semicolon are ignored. */
+    @Test
+    public void testNormalize() {
+        assertThat("Unexpected normalized query", QueryResultCache.normalize("  SELECT *\n\tFROM  t ; "),
+            is("SELECT * FROM t"));
+        assertThat("Quoted whitespace must be kept", QueryResultCache.normalize("SELECT  'a  b' AS \"x  y\"  FROM t"),
+            is("SELECT 'a  b' AS \"x  y\" FROM t"));
+    }
+
+    /** Specs are returned for equal keys only and counted as hits and misses. */
+    @Test
+    public void testSpecHitsAndMisses() {
+        final QueryResultCache cache = new QueryResultCache(60000, 1 << 20, null);
+        final QueryResultCache.Key key = new QueryResultCache.Key("jdbc:test", "user", "SELECT * FROM t", "spec");
+        assertThat("Unexpected spec before put", cache.getSpec(key), is(Optional.empty()));
+        cache.putSpec(key, SPEC);
+        assertThat("Unexpected cached spec",
+            cache.getSpec(new QueryResultCache.Key("jdbc:test", "user", "SELECT * FROM t", "spec")),
+            is(Optional.of(SPEC)));
+        assertThat("Spec of other user must not be returned",
+            cache.getSpec(new QueryResultCache.Key("jdbc:test", "other", "SELECT * FROM t", "spec")),
+            is(Optional.empty()));
+
+        final QueryResultCache.Statistics statistics = cache.getCacheStatistics();
+        assertThat("Unexpected number of entries", statistics.getEntries(), is(1));
+        assertThat("Unexpected number of hits", statistics.getHits(), is(1L));
+        assertThat("Unexpected number of misses", statistics.getMisses(), is(2L));
+
+        cache.clearEntries();
+        assertThat("Unexpected spec after clear", cache.getSpec(key), is(Optional.empty()));
+    }
+
+    /**
+     * Entries are evicted after their time to live.
+     *
+     * @throws InterruptedException if interrupted while waiting for the entry to expire
+     */
+    @Test
+    public void testExpiry() throws InterruptedException {
+        final QueryResultCache cache = new QueryResultCache(1, 1 << 20, null);
+        final QueryResultCache.Key key = new QueryResultCache.Key("jdbc:test", "user", "SELECT * FROM t", "spec");
+        cache.putSpec(key, SPEC);
+        Thread.sleep(5);
+        assertThat("Expired spec must not be returned", cache.getSpec(key), is(Optional.empty()));
+        assertThat("Unexpected number of evictions", cache.getCacheStatistics().getEvictions(), is(1L));
+        assertThat("Unexpected number of entries", cache.getCacheStatistics().getEntries(), is(0));
+    }
+}
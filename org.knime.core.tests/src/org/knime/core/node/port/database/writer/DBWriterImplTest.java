@@ -0,0 +1,263 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DefaultTable;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.streamable.DataTableRowInput;
+
+/**
+ * Tests the parallel write of {@link DBWriterImpl}, see
+ * {@link DBWriterImpl#writeDataParallel(String, org.knime.core.node.streamable.RowInput, long, boolean,
+ * ExecutionMonitor, java.util.Map, int, boolean, boolean, List)}, with stubbed connections.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBWriterImplTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("id", IntCell.TYPE).createSpec());
+
+    private static final int ROW_COUNT = 100;
+
+    private static final int BATCH_SIZE = 10;
+
+    /** The statements executed on all connections, in the order of execution. */
+    private final List<String> m_log = Collections.synchronizedList(new ArrayList<>());
+
+    /** The values inserted by all connections. */
+    private final List<Integer> m_inserted = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * The table is dropped and created (and committed) before any writer prepares its statement, and the other
+     * connections end their transactions in between. All rows are inserted exactly once and committed.
+     *
+     * @throws Exception if writing fails
+     */
+    @Test
+    public void testTableCreatedBeforeInserts() throws Exception {
+        final List<Connection> connections = createConnections(3, -1);
+        assertThat("Unexpected result", write(connections, false), is(nullValue()));
+
+        final int createIndex = m_log.indexOf("0: CREATE");
+        assertThat("Table not dropped before it is created", m_log.indexOf("0: DROP"), is(lessThan(createIndex)));
+        final int firstWriterEvent = IntStream.range(0, m_log.size())
+            .filter(i -> m_log.get(i).endsWith(": prepare") || m_log.get(i).endsWith(": insert")).findFirst()
+            .getAsInt();
+        for (int c = 0; c < connections.size(); c++) {
+            final int commitIndex = m_log.subList(createIndex, m_log.size()).indexOf(c + ": commit") + createIndex;
+            assertThat("Connection " + c + " not committed after creating the table", commitIndex,
+                is(greaterThan(createIndex)));
+            assertThat("Connection " + c + " not committed before the writers started", commitIndex,
+                is(lessThan(firstWriterEvent)));
+            assertThat("Connection " + c + " not committed at the end", m_log.lastIndexOf(c + ": commit"),
+                is(greaterThan(m_log.lastIndexOf(c + ": insert"))));
+        }
+        final List<Integer> inserted = new ArrayList<>(m_inserted);
+        Collections.sort(inserted);
+        assertThat("Rows not inserted exactly once", inserted,
+            contains(IntStream.range(0, ROW_COUNT).boxed().toArray(Integer[]::new)));
+    }
+
+    /**
+     * A failing batch is counted if the write shall not fail on errors, all other rows are inserted.
+     *
+     * @throws Exception if writing fails
+     */
+    @Test
+    public void testErrorsCounted() throws Exception {
+        final List<Connection> connections = createConnections(3, 42);
+        assertThat("Unexpected result", write(connections, false), is("Errors \"1\" writing " + ROW_COUNT + " rows."));
+        // the failing batch holds the values 40 to 49
+        final List<Integer> inserted = new ArrayList<>(m_inserted);
+        Collections.sort(inserted);
+        assertThat("Rows not inserted exactly once (except the failing batch)", inserted, contains(
+            IntStream.range(0, ROW_COUNT).filter(i -> i < 40 || i >= 50).boxed().toArray(Integer[]::new)));
+    }
+
+    /**
+     * A failing batch stops all writers and rolls back all connections if the write shall fail on errors.
+     *
+     * @throws Exception if writing fails
+     */
+    @Test
+    public void testFailOnError() throws Exception {
+        final List<Connection> connections = createConnections(3, 42);
+        try {
+            write(connections, true);
+            throw new AssertionError("Failing batch not reported");
+        } catch (Exception e) {
+            assertThat("Unexpected error", e.getMessage(), is("Error while adding rows #41 - #50, reason: failing"));
+        }
+        for (int c = 0; c < connections.size(); c++) {
+            assertThat("Connection " + c + " not rolled back", m_log, hasItem(c + ": rollback"));
+        }
+    }
+
+    private String write(final List<Connection> connections, final boolean failOnError) throws Exception {
+        final DataRow[] rows = IntStream.range(0, ROW_COUNT)
+            .mapToObj(i -> new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i))).toArray(DataRow[]::new);
+        final DBWriterImpl writer = new DBWriterImpl(
+            new DatabaseConnectionSettings("org.knime.test.Driver", "jdbc:test://localhost", "user", "", null));
+        return writer.writeDataParallel("test_table", new DataTableRowInput(new DefaultTable(rows, SPEC)), ROW_COUNT,
+            false, new ExecutionMonitor(), Collections.singletonMap("id", "integer"), BATCH_SIZE, false, failOnError,
+            connections);
+    }
+
+    /** Creates connections not in auto-commit mode, whose batches fail if they contain the argument value. */
+    private List<Connection> createConnections(final int count, final int failingValue) {
+        return IntStream.range(0, count).mapToObj(c -> createConnection(c, failingValue)).collect(Collectors.toList());
+    }
+
+    /**
+     * Creates a connection stub that logs the statements it executes, prefixed with its number. Executing statements
+     * is logged with the first word of the SQL, preparing and executing inserts as "prepare" and "insert".
+     */
+    private Connection createConnection(final int number, final int failingValue) {
+        final boolean[] autoCommit = new boolean[1];
+        return (Connection)Proxy.newProxyInstance(DBWriterImplTest.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getAutoCommit":
+                        return autoCommit[0];
+                    case "setAutoCommit":
+                        autoCommit[0] = (Boolean)args[0];
+                        return null;
+                    case "commit":
+                    case "rollback":
+                        m_log.add(number + ": " + method.getName());
+                        return null;
+                    case "createStatement":
+                        return createStatement(number);
+                    case "prepareStatement":
+                        m_log.add(number + ": prepare");
+                        return createPreparedStatement(number, failingValue);
+                    case "isClosed":
+                        return false;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    private Statement createStatement(final int number) {
+        return (Statement)Proxy.newProxyInstance(DBWriterImplTest.class.getClassLoader(),
+            new Class<?>[]{Statement.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "execute":
+                        m_log.add(number + ": " + ((String)args[0]).split(" ")[0]);
+                        return false;
+                    case "close":
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    private PreparedStatement createPreparedStatement(final int number, final int failingValue) {
+        final List<Integer> batch = new ArrayList<>();
+        final int[] value = new int[1];
+        return (PreparedStatement)Proxy.newProxyInstance(DBWriterImplTest.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "setInt":
+                        value[0] = (Integer)args[1];
+                        return null;
+                    case "addBatch":
+                        batch.add(value[0]);
+                        return null;
+                    case "executeBatch":
+                        if (batch.contains(failingValue)) {
+                            throw new SQLException("failing");
+                        }
+                        m_inserted.addAll(batch);
+                        m_log.add(number + ": insert");
+                        return new int[batch.size()];
+                    case "clearBatch":
+                        batch.clear();
+                        return null;
+                    case "close":
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+}
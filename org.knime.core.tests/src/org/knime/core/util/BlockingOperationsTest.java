@@ -0,0 +1,140 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link BlockingOperations}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BlockingOperationsTest {
+
+    /**
+     * Checks that a blocking call of an elastic job releases the pool's only thread for another job.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 10000)
+    public void testElasticJobReleasesThread() throws Exception {
+        final ThreadPool pool = new ThreadPool(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Future<?> blocked = pool.enqueue(BlockingOperations.elastic(() -> {
+            try {
+                BlockingOperations.call(() -> latch.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }));
+        final Future<?> other = pool.enqueue(latch::countDown);
+        other.get();
+        blocked.get();
+        assertEquals(0, latch.getCount());
+    }
+
+    /**
+     * Checks that blocking calls of ordinary jobs keep their thread.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 10000)
+    public void testOrdinaryJobKeepsThread() throws Exception {
+        final ThreadPool pool = new ThreadPool(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Future<Boolean> blocked = pool.enqueue(() -> BlockingOperations.call(() -> {
+            started.countDown();
+            return latch.await(500, TimeUnit.MILLISECONDS);
+        }));
+        started.await();
+        final Future<?> other = pool.enqueue(latch::countDown);
+        assertTrue("Ordinary job should have timed out", !blocked.get());
+        other.get();
+    }
+
+    /**
+     * Checks that results and exceptions are passed through unchanged.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testResultAndException() throws Exception {
+        final ThreadPool pool = new ThreadPool(1);
+        final Object result = new Object();
+        final IOException exception = new IOException("Test");
+        final Future<?> job = pool.enqueue(BlockingOperations.elastic(() -> {
+            assertSame(result, BlockingOperations.call(() -> result));
+            try {
+                BlockingOperations.call(() -> {
+                    throw exception;
+                });
+                fail("Exception expected");
+            } catch (IOException ex) {
+                assertSame(exception, ex);
+            }
+        }));
+        try {
+            job.get();
+        } catch (ExecutionException ex) {
+            throw (Exception)ex.getCause();
+        }
+        assertSame(result, BlockingOperations.call(() -> result));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests {@link HashDuplicateChecker}, using small memory budgets to force spilling and splitting of partitions.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HashDuplicateCheckerTest {
+
+    /** The smallest allowed memory budget. */
+    private static final long MIN_BUDGET = 32 << 10;
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private static List<String> createKeys(final int count, final long seed) {
+        final List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add("Row" + i);
+        }
+        Collections.shuffle(keys, new Random(seed));
+        return keys;
+    }
+
+    private static boolean hasDuplicates(final List<String> keys, final long memoryBudget) throws IOException {
+        final HashDuplicateChecker checker = new HashDuplicateChecker(memoryBudget);
+        try {
+            for (String key : keys) {
+                checker.addKey(key);
+            }
+            checker.checkForDuplicates();
+            return false;
+        } catch (DuplicateKeyException ex) {
+            return true;
+        } finally {
+            checker.clear();
+        }
+    }
+
+    /**
+     * Unique keys, in memory and spilled.
+     *
+     * @throws IOException not expected
+     */
+    @Test
+    public void testNoDuplicates() throws IOException {
+        for (long budget : new long[]{MIN_BUDGET, 1 << 20, HashDuplicateChecker.DEFAULT_MEMORY_BUDGET}) {
+            Assert.assertFalse(hasDuplicates(createKeys(200000, 1), budget));
+        }
+    }
+
+    /**
+     * Duplicates detected when added (both keys in memory) or when checking spilled partitions.
+     *
+     * @throws IOException not expected
+     */
+    @Test
+    public void testDuplicates() throws IOException {
+        final List<String> keys = createKeys(200000, 2);
+        keys.add(keys.get(keys.size() - 1));
+        Assert.assertTrue(hasDuplicates(keys, MIN_BUDGET));
+        keys.add(keys.get(0));
+        Assert.assertTrue(hasDuplicates(keys, MIN_BUDGET));
+        Assert.assertTrue(hasDuplicates(keys, HashDuplicateChecker.DEFAULT_MEMORY_BUDGET));
+    }
+
+    /**
+     * Simple test for duplicates in memory.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testEarlyDuplicate() throws Exception {
+        final HashDuplicateChecker checker = new HashDuplicateChecker();
+        checker.addKey("A");
+        expectedException.expect(DuplicateKeyException.class);
+        checker.addKey("A");
+    }
+
+    /**
+     * Duplicate found after flushing the keys to disk.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFlushWithDuplicate() throws Exception {
+        final HashDuplicateChecker checker = new HashDuplicateChecker();
+        for (int i = 0; i < DuplicateChecker.MAX_CHUNK_SIZE; i++) {
+            checker.addKey("Row" + i);
+        }
+        checker.flushIfNecessary();
+        checker.addKey("Row0");
+        expectedException.expect(DuplicateKeyException.class);
+        checker.checkForDuplicates();
+    }
+
+    /**
+     * Keys too long to be written as modified UTF-8 and keys with special characters.
+     *
+     * @throws IOException not expected
+     */
+    @Test
+    public void testSpecialKeys() throws IOException {
+        final char[] longKey = new char[70000];
+        Arrays.fill(longKey, '\u00E4');
+        final List<String> keys = createKeys(20000, 3);
+        keys.add(new String(longKey));
+        keys.add("");
+        keys.add("\u0000");
+        keys.add("\uD83D\uDE00");
+        Assert.assertFalse(hasDuplicates(keys, MIN_BUDGET));
+        keys.add(new String(longKey));
+        Assert.assertTrue(hasDuplicates(keys, MIN_BUDGET));
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.util.WorkStealingThreadPool.Priority;
+
+import junit.framework.TestCase;
+
+/**
+ * Testcase for the {@link WorkStealingThreadPool}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkStealingThreadPoolTest extends TestCase {
+
+    private static void sleep(final int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Checks that the number of running tasks doesn't exceed the quotas of the pool and its sub pools.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testQuotas() throws Exception {
+        final WorkStealingThreadPool root = new WorkStealingThreadPool(4);
+        final WorkStealingThreadPool sub = (WorkStealingThreadPool)root.createSubPool(2);
+        final ThreadPool otherSub = root.createSubPool(6);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger runningInSub = new AtomicInteger();
+        final AtomicInteger maxRunningInSub = new AtomicInteger();
+        for (int i = 0; i < 40; i++) {
+            if (i % 2 == 0) {
+                sub.enqueue(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    maxRunningInSub.accumulateAndGet(runningInSub.incrementAndGet(), Math::max);
+                    sleep(5);
+                    runningInSub.decrementAndGet();
+                    running.decrementAndGet();
+                });
+            } else {
+                otherSub.enqueue(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(5);
+                    running.decrementAndGet();
+                });
+            }
+        }
+        root.waitForTermination();
+        assertTrue("Too many running tasks: " + maxRunning, maxRunning.get() <= 4);
+        assertTrue("Too many running tasks in sub pool: " + maxRunningInSub, maxRunningInSub.get() <= 2);
+        assertEquals(40, root.getStartedTaskCount());
+        assertEquals(20, sub.getStartedTaskCount());
+        assertEquals(0, root.getQueueLength());
+        assertEquals(0, root.getRunningThreads());
+    }
+
+    /**
+     * Checks that tasks waiting for other tasks of the same pool don't dead-lock it.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testNestedTasks() throws Exception {
+        final WorkStealingThreadPool root = new WorkStealingThreadPool(2);
+        final AtomicInteger finished = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            futures.add(root.enqueue(() -> {
+                assertSame(root, ThreadPool.currentPool());
+                final Future<?> f1 = root.enqueue(() -> finished.incrementAndGet());
+                final Future<?> f2 = root.enqueue(() -> finished.incrementAndGet());
+                f1.get();
+                return root.runInvisible(() -> f2.get());
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(12, finished.get());
+    }
+
+    /**
+     * Checks that waiting tasks are started by priority.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testPriorities() throws Exception {
+        final WorkStealingThreadPool root = new WorkStealingThreadPool(1);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        root.enqueue(() -> {
+            blocker.await();
+            return null;
+        });
+        final WorkStealingThreadPool low = (WorkStealingThreadPool)root.createSubPool();
+        low.setPriority(Priority.LOW);
+        final WorkStealingThreadPool high = (WorkStealingThreadPool)root.createSubPool();
+        high.setPriority(Priority.HIGH);
+        final List<String> order = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 3; i++) {
+            low.enqueue(() -> order.add("L"));
+            root.enqueue(() -> order.add("N"));
+            high.enqueue(() -> order.add("H"));
+        }
+        assertEquals(9, root.getQueueLength());
+        assertEquals(3, low.getQueueLength());
+        assertEquals(1.0, root.getUtilization());
+        blocker.countDown();
+        root.waitForTermination();
+        assertEquals("[H, H, H, N, N, N, L, L, L]", order.toString());
+    }
+
+    /**
+     * Checks that canceled and shut down tasks are removed from the queue.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testCancelAndShutdown() throws Exception {
+        final WorkStealingThreadPool root = new WorkStealingThreadPool(1);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        root.enqueue(() -> {
+            blocker.await();
+            return null;
+        });
+        final AtomicInteger run = new AtomicInteger();
+        final Future<?> canceled = root.enqueue(() -> run.incrementAndGet());
+        final ThreadPool sub = root.createSubPool();
+        final Future<?> shutDown = sub.enqueue(() -> run.incrementAndGet());
+        assertEquals(2, root.getQueueSize());
+        assertTrue(canceled.cancel(true));
+        sub.shutdown();
+        assertTrue(shutDown.isCancelled());
+        assertEquals(0, root.getQueueLength());
+        assertNull(root.trySubmit(() -> run.incrementAndGet()));
+        blocker.countDown();
+        root.waitForTermination();
+        assertEquals(0, run.get());
+    }
+
+}
@@ -52,11 +52,18 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.knime.core.data.container.BlobWrapperDataCell;
 import org.knime.core.data.container.DataContainerSettings;
+import org.knime.core.data.container.PrimitiveDataRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
@@ -72,6 +79,18 @@
  * @since 2.10
  */
 public class DataTableDomainCreator {
+    /** Number of rows between progress updates and cancellation checks in parallel scans. */
+    private static final int PARALLEL_PROGRESS_INTERVAL = 1024;
+
+    /** Kinds of columns whose min and max are tracked in primitive form, see {@link #m_primitiveKinds}. */
+    private static final byte NO_PRIMITIVE = 0;
+
+    private static final byte DOUBLE_PRIMITIVE = 1;
+
+    private static final byte INT_PRIMITIVE = 2;
+
+    private static final byte LONG_PRIMITIVE = 3;
+
     /** Defines columns to recreate or drop domain values. */
     private final DomainCreatorColumnSelection m_domainValuesColumnSelection;
 
@@ -93,8 +112,32 @@ public class DataTableDomainCreator {
 
     private final Map<DataCell, Long>[] m_possVals;
 
+    /**
+     * The cell that was last added to or found in the possible values of a column. Runs of the same cell instance
+     * (e.g. {@link org.knime.core.data.def.BooleanCell} constants or cells cached by readers) skip the hash lookup.
+     */
+    private final DataCell[] m_lastValues;
+
     private final DataValueComparator[] m_comparators;
 
+    /**
+     * For columns of type double, int or long the min and max are accumulated as primitives (without comparator calls
+     * and cell references) and only merged into {@link #m_mins} and {@link #m_maxs} when the domain is read or merged,
+     * see {@link #flushPrimitiveBounds()}. {@link #NO_PRIMITIVE} for all other columns.
+     */
+    private final byte[] m_primitiveKinds;
+
+    /** Whether the primitive bounds of a column hold values that haven't been flushed yet. */
+    private final boolean[] m_hasPrimitiveBounds;
+
+    private final double[] m_doubleMins;
+
+    private final double[] m_doubleMaxs;
+
+    private final long[] m_longMins;
+
+    private final long[] m_longMaxs;
+
     /** The batch id. */
     private long m_batchId;
 
@@ -117,7 +160,14 @@ public DataTableDomainCreator(final DataTableSpec inputSpec,
         m_maxs = new DataCell[inputSpec.getNumColumns()];
         m_maxsMissing = new boolean[inputSpec.getNumColumns()];
         m_possVals = new LinkedHashMap[inputSpec.getNumColumns()];
+        m_lastValues = new DataCell[inputSpec.getNumColumns()];
         m_comparators = new DataValueComparator[inputSpec.getNumColumns()];
+        m_primitiveKinds = new byte[inputSpec.getNumColumns()];
+        m_hasPrimitiveBounds = new boolean[inputSpec.getNumColumns()];
+        m_doubleMins = new double[inputSpec.getNumColumns()];
+        m_doubleMaxs = new double[inputSpec.getNumColumns()];
+        m_longMins = new long[inputSpec.getNumColumns()];
+        m_longMaxs = new long[inputSpec.getNumColumns()];
         m_domainValuesColumnSelection = domainValuesColumnSelection;
         m_domainMinMaxColumnSelection = domainMinMaxColumnSelection;
         m_maxPossibleValues = DataContainerSettings.getDefault().getMaxDomainValues();
@@ -160,6 +210,7 @@ public DataTableDomainCreator(final DataTableSpec inputSpec,
                     }
                 }
                 m_comparators[i] = colSpec.getType().getComparator();
+                m_primitiveKinds[i] = getPrimitiveKind(colSpec.getType());
             }
             if (m_mins[i] != null) {
                 m_minsMissing[i] = m_mins[i].isMissing();
@@ -171,6 +222,21 @@ public DataTableDomainCreator(final DataTableSpec inputSpec,
         }
     }
 
+    /**
+     * Returns the kind of primitive bounds tracking for columns of the given type. Only the exact types are supported
+     * as only for them it's known that the comparator compares the primitive values.
+     */
+    private static byte getPrimitiveKind(final DataType type) {
+        if (DoubleCell.TYPE.equals(type)) {
+            return DOUBLE_PRIMITIVE;
+        } else if (IntCell.TYPE.equals(type)) {
+            return INT_PRIMITIVE;
+        } else if (LongCell.TYPE.equals(type)) {
+            return LONG_PRIMITIVE;
+        }
+        return NO_PRIMITIVE;
+    }
+
     /**
      * A new instance that recreates the domain of all columns. Domain values are recreated for all {@link NominalValue}
      * columns whereas min/max values are recreated for all {@link BoundedValue} columns.
@@ -222,9 +288,18 @@ public DataTableDomainCreator(final DataTableDomainCreator toCopy) {
         m_maxsMissing = toCopy.m_maxsMissing.clone();
         m_possVals = new LinkedHashMap[toCopy.m_possVals.length];
         for (int i = 0; i < m_possVals.length; i++) {
-            m_possVals[i] = new LinkedHashMap<>(toCopy.m_possVals[i]);
+            if (toCopy.m_possVals[i] != null) {
+                m_possVals[i] = new LinkedHashMap<>(toCopy.m_possVals[i]);
+            }
         }
+        m_lastValues = new DataCell[m_possVals.length];
         m_comparators = toCopy.m_comparators.clone();
+        m_primitiveKinds = toCopy.m_primitiveKinds.clone();
+        m_hasPrimitiveBounds = toCopy.m_hasPrimitiveBounds.clone();
+        m_doubleMins = toCopy.m_doubleMins.clone();
+        m_doubleMaxs = toCopy.m_doubleMaxs.clone();
+        m_longMins = toCopy.m_longMins.clone();
+        m_longMaxs = toCopy.m_longMaxs.clone();
         m_batchId = toCopy.m_batchId;
     }
 
@@ -272,10 +347,12 @@ private void updateMinMax(final int col, final DataCell cell, final DataCell[] m
         final DataValueComparator[] comparators) {
         final boolean isMissing = cell.isMissing();
 
-        if (!isMissing && m_possVals[col] != null) {
+        if (!isMissing && m_possVals[col] != null && cell != m_lastValues[col]) {
+            m_lastValues[col] = cell;
             if (m_possVals[col].putIfAbsent(cell, m_batchId) == null
                 && (m_possVals[col].size() > m_maxPossibleValues)) {
                 m_possVals[col] = null;
+                m_lastValues[col] = null;
             }
         }
 
@@ -285,6 +362,23 @@ private void updateMinMax(final int col, final DataCell cell, final DataCell[] m
 
         final DataCell unwrapped = (cell instanceof BlobWrapperDataCell) ? ((BlobWrapperDataCell)cell).getCell() : cell;
 
+        switch (m_primitiveKinds[col]) {
+            case DOUBLE_PRIMITIVE:
+                if (unwrapped instanceof DoubleValue) {
+                    updateDouble(col, ((DoubleValue)unwrapped).getDoubleValue());
+                    return;
+                }
+                break;
+            case INT_PRIMITIVE:
+            case LONG_PRIMITIVE:
+                if (unwrapped instanceof LongValue) {
+                    updateLong(col, ((LongValue)unwrapped).getLongValue());
+                    return;
+                }
+                break;
+            default:
+        }
+
         if (isNaN(unwrapped)) {
             return;
         }
@@ -294,6 +388,64 @@ private void updateMinMax(final int col, final DataCell cell, final DataCell[] m
         updateMax(col, maxs, unwrapped, comparator);
     }
 
+    private void updateDouble(final int col, final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (!m_hasPrimitiveBounds[col]) {
+            m_doubleMins[col] = value;
+            m_doubleMaxs[col] = value;
+            m_hasPrimitiveBounds[col] = true;
+        } else if (Double.compare(value, m_doubleMins[col]) < 0) {
+            m_doubleMins[col] = value;
+        } else if (Double.compare(value, m_doubleMaxs[col]) > 0) {
+            m_doubleMaxs[col] = value;
+        }
+    }
+
+    private void updateLong(final int col, final long value) {
+        if (!m_hasPrimitiveBounds[col]) {
+            m_longMins[col] = value;
+            m_longMaxs[col] = value;
+            m_hasPrimitiveBounds[col] = true;
+        } else if (value < m_longMins[col]) {
+            m_longMins[col] = value;
+        } else if (value > m_longMaxs[col]) {
+            m_longMaxs[col] = value;
+        }
+    }
+
+    /**
+     * Merges the primitive bounds accumulated by {@link #updateDouble(int, double)} and {@link #updateLong(int, long)}
+     * into the cell bounds. The comparators of the supported types compare the primitive values, so the result is the
+     * same as if all cells had been compared individually.
+     */
+    private void flushPrimitiveBounds() {
+        for (int col = 0; col < m_hasPrimitiveBounds.length; col++) {
+            if (!m_hasPrimitiveBounds[col]) {
+                continue;
+            }
+            final DataCell min;
+            final DataCell max;
+            switch (m_primitiveKinds[col]) {
+                case DOUBLE_PRIMITIVE:
+                    min = new DoubleCell(m_doubleMins[col]);
+                    max = new DoubleCell(m_doubleMaxs[col]);
+                    break;
+                case INT_PRIMITIVE:
+                    min = new IntCell((int)m_longMins[col]);
+                    max = new IntCell((int)m_longMaxs[col]);
+                    break;
+                default:
+                    min = new LongCell(m_longMins[col]);
+                    max = new LongCell(m_longMaxs[col]);
+            }
+            updateMin(col, m_mins, min, m_comparators[col]);
+            updateMax(col, m_maxs, max, m_comparators[col]);
+            m_hasPrimitiveBounds[col] = false;
+        }
+    }
+
     private void updateMin(final int col, final DataCell[] mins, final DataCell cell,
         final Comparator<DataCell> comparator) {
         if (m_minsMissing[col] || (comparator.compare(cell, mins[col]) < 0)) {
@@ -323,6 +475,7 @@ private static boolean isNaN(final DataCell cell) {
      * @return an updated table spec
      */
     public DataTableSpec createSpec() {
+        flushPrimitiveBounds();
         DataColumnSpec[] outColSpecs = new DataColumnSpec[m_inputSpec.getNumColumns()];
         for (int i = 0; i < outColSpecs.length; i++) {
             DataColumnSpec original = m_inputSpec.getColumnSpec(i);
@@ -374,10 +527,23 @@ public void updateDomain(final DataRow row) {
         assert row.getNumCells() == m_inputSpec.getNumColumns() : "Unequal number of columns in spec and row: "
             + m_inputSpec.getNumColumns() + " vs. " + row.getNumCells();
 
-        int i = 0;
-        for (DataCell c : row) {
-            updateMinMax(i, c, m_mins, m_maxs, m_comparators);
-            i++;
+        // values of primitive rows are read without creating cells (unless the column has possible values)
+        final PrimitiveDataRow primitiveRow = row instanceof PrimitiveDataRow ? (PrimitiveDataRow)row : null;
+        final int numCells = row.getNumCells();
+        for (int i = 0; i < numCells; i++) {
+            final byte kind = m_primitiveKinds[i];
+            if (kind != NO_PRIMITIVE && primitiveRow != null && m_possVals[i] == null && m_mins[i] != null
+                && primitiveRow.isPrimitive(i)) {
+                if (!primitiveRow.isMissing(i)) {
+                    if (kind == DOUBLE_PRIMITIVE) {
+                        updateDouble(i, primitiveRow.getDouble(i));
+                    } else {
+                        updateLong(i, primitiveRow.getLong(i));
+                    }
+                }
+            } else {
+                updateMinMax(i, row.getCell(i), m_mins, m_maxs, m_comparators);
+            }
         }
     }
 
@@ -418,14 +584,17 @@ public void updateDomain(final DataTable table, final ExecutionMonitor exec, fin
 
         long row = 0;
         for (final DataRow r : table) {
-            final long finalRow = row;
             if (exec != null) {
                 exec.checkCanceled();
-                if (rowCount > 0) {
-                    final double progress = row / (double)rowCount;
-                    exec.setProgress(Math.min(progress, 1.0), () -> String.format("Row %,d/%,d", finalRow, rowCount));
-                } else {
-                    exec.setMessage(() -> String.format("Row %,d (\"%s\")", finalRow, r.getKey()));
+                if (exec.isProgressUpdateDue()) {
+                    final long finalRow = row;
+                    if (rowCount > 0) {
+                        final double progress = row / (double)rowCount;
+                        exec.setProgress(Math.min(progress, 1.0),
+                            () -> String.format("Row %,d/%,d", finalRow, rowCount));
+                    } else {
+                        exec.setMessage(() -> String.format("Row %,d (\"%s\")", finalRow, r.getKey()));
+                    }
                 }
             }
 
@@ -453,6 +622,52 @@ public void updateDomain(final BufferedDataTable table, final ExecutionMonitor e
         updateDomain(table, exec, table.size());
     }
 
+    /**
+     * Updates the domain values by scanning a whole table in parallel (see {@link BufferedDataTable#parallelRows()}).
+     * Each row range is scanned by a copy of this instance, the copies are then merged in row order (see
+     * {@link #merge(DataTableDomainCreator)}), hence the possible values retain the order of their occurrence.
+     * Note that only {@link #updateDomain(DataRow)} of this class is used to process the rows, i.e. subclasses
+     * overriding it should use {@link #updateDomain(BufferedDataTable, ExecutionMonitor)} instead.
+     *
+     * @param table the table to be processed
+     * @param exec an execution monitor to check for cancellation and report progress. Might be <code>null</code> if not
+     *            needed.
+     * @throws CanceledExecutionException when execution is cancelled
+     * @since 3.8
+     */
+    public void updateDomainParallel(final BufferedDataTable table, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        if (!m_inputSpec.equalStructure(table.getDataTableSpec())) {
+            throw new IllegalArgumentException("Spec of table to scan does not match spec given in constructor");
+        }
+        final long rowCount = table.size();
+        final AtomicLong rowsProcessed = new AtomicLong();
+        final DataTableDomainCreator result;
+        try (Stream<DataRow> rows = table.parallelRows()) {
+            result = rows.collect(() -> new DataTableDomainCreator(this), (creator, r) -> {
+                creator.updateDomain(r);
+                final long row = rowsProcessed.incrementAndGet();
+                if (exec != null && row % PARALLEL_PROGRESS_INTERVAL == 0) {
+                    try {
+                        exec.checkCanceled();
+                    } catch (CanceledExecutionException cee) {
+                        throw new CancellationException(cee.getMessage());
+                    }
+                    exec.setProgress(Math.min(row / (double)rowCount, 1.0),
+                        () -> String.format("Row %,d/%,d", row, rowCount));
+                }
+            }, DataTableDomainCreator::merge);
+        } catch (CancellationException ce) {
+            throw new CanceledExecutionException(ce.getMessage());
+        }
+        merge(result);
+
+        if (exec != null) {
+            exec.checkCanceled();
+            exec.setProgress(1.0);
+        }
+    }
+
     /**
      * Merges two distinct {@link DataTableDomainCreator}.
      *
@@ -464,6 +679,7 @@ public void merge(final DataTableDomainCreator dataTableDomainCreator) {
             "Cannot merge data table domain creators based on different table specs");
         CheckUtils.checkArgument(m_maxPossibleValues == dataTableDomainCreator.m_maxPossibleValues,
             "Cannot merge data table domain creators using a different number of unique values");
+        dataTableDomainCreator.flushPrimitiveBounds();
         for (int i = 0; i < m_inputSpec.getNumColumns(); i++) {
             if (m_possVals[i] != null && dataTableDomainCreator.m_possVals[i] != null) {
                 for (final Entry<DataCell, Long> entry : dataTableDomainCreator.m_possVals[i].entrySet()) {
@@ -480,15 +696,16 @@ public void merge(final DataTableDomainCreator dataTableDomainCreator) {
                 m_possVals[i] = null;
             }
             final Comparator<DataCell> comparator = m_comparators[i];
+            // a missing cell is the placeholder for bounds not yet set, e.g. if all values seen so far are missing
             final DataCell otherMin = dataTableDomainCreator.m_mins[i];
-            if (otherMin != null) {
+            if (otherMin != null && !dataTableDomainCreator.m_minsMissing[i]) {
                 updateMin(i, m_mins, otherMin, comparator);
             }
             final DataCell otherMax = dataTableDomainCreator.m_maxs[i];
-            if (otherMax != null) {
+            if (otherMax != null && !dataTableDomainCreator.m_maxsMissing[i]) {
                 updateMax(i, m_maxs, otherMax, comparator);
             }
         }
     }
 
-}
\ No newline at end of file
+}
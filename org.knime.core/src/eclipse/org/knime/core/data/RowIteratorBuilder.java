@@ -48,8 +48,12 @@
  */
 package org.knime.core.data;
 
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.util.CheckUtils;
 
 /**
@@ -89,6 +93,53 @@
      */
     RowIteratorBuilder<I> filterColumns(String... columns);
 
+    /**
+     * Iterate only over rows starting at the given index. Implementations backed by an index on the table's storage
+     * seek to the row directly; others skip the preceding rows.
+     *
+     * The default implementation returns a builder that skips the preceding rows of the iterators built by this
+     * builder.
+     *
+     * @param index the (0-based) index of the first row to return; if it exceeds the number of rows in the table the
+     *            iterator is empty
+     * @return this or a {@link RowIteratorBuilder} wrapping it, which is to be used for further calls
+     * @throws IndexOutOfBoundsException if the index is negative
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> fromIndex(final long index) {
+        return new RangeRowIteratorBuilder<>(this).fromIndex(index);
+    }
+
+    /**
+     * Iterate only over rows up to (and including) the given index.
+     *
+     * The default implementation returns a builder that stops the iterators built by this builder after the row.
+     *
+     * @param index the (0-based) index of the last row to return
+     * @return this or a {@link RowIteratorBuilder} wrapping it, which is to be used for further calls
+     * @throws IndexOutOfBoundsException if the index is negative
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> toIndex(final long index) {
+        return new RangeRowIteratorBuilder<>(this).toIndex(index);
+    }
+
+    /**
+     * Read up to the given number of rows ahead on a background thread, so that reading and decompressing the table
+     * overlaps with the processing of the returned rows. Only iterators reading from storage prefetch rows, others
+     * ignore this setting. Iterators that aren't pushed to the end should be closed, which also stops the background
+     * thread. The default implementation ignores this setting.
+     *
+     * @param rowCount the maximum number of rows read ahead, 0 (the default) to not prefetch any rows
+     * @return this {@link RowIteratorBuilder}
+     * @throws IllegalArgumentException if the count is negative
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> prefetch(final int rowCount) {
+        CheckUtils.checkArgument(rowCount >= 0, "Number of rows to prefetch must not be negative: %d", rowCount);
+        return this;
+    }
+
     /**
      * Build a new row iterator with the behavior specified via methods invoked in this builder.
      *
@@ -98,7 +149,9 @@
 
     /**
      * A {@link RowIteratorBuilder} that always builds default {@link RowIterator}s, i.e., iterators iterating over all
-     * rows and columns of a table.
+     * rows and columns of a table. If a row range is set, the built iterator wraps the supplied iterator and skips the
+     * rows before the range; subclasses building more specific iterator types (or able to seek) override
+     * {@link #build()} and evaluate {@link #getFromIndex()} and {@link #getToIndex()} themselves.
      *
      * @param <I> the row iterator to be built
      *
@@ -110,6 +163,15 @@
 
         private final DataTableSpec m_spec;
 
+        /** The indices of the columns to materialize or <code>null</code> if all columns are to be materialized. */
+        private int[] m_filterIndices;
+
+        private long m_fromIndex;
+
+        private long m_toIndex = Long.MAX_VALUE;
+
+        private int m_prefetchCount;
+
         /**
          * Constructs a new {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder}.
          *
@@ -128,6 +190,7 @@ public DefaultRowIteratorBuilder(final Supplier<I> iteratorSupplier, final DataT
         @Override
         public RowIteratorBuilder<I> filterColumns(final int... indices) {
             m_spec.verifyIndices(indices);
+            m_filterIndices = indices.clone();
             return this;
         }
 
@@ -143,10 +206,201 @@ public RowIteratorBuilder<I> filterColumns(final String... columns) {
          * {@inheritDoc}
          */
         @Override
+        public RowIteratorBuilder<I> fromIndex(final long index) {
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Row index must not be negative: " + index);
+            }
+            m_fromIndex = index;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> toIndex(final long index) {
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Row index must not be negative: " + index);
+            }
+            m_toIndex = index;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> prefetch(final int rowCount) {
+            CheckUtils.checkArgument(rowCount >= 0, "Number of rows to prefetch must not be negative: %d", rowCount);
+            m_prefetchCount = rowCount;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public I build() {
+            final I iterator = m_iteratorSupplier.get();
+            if (!hasRowRange()) {
+                return iterator;
+            }
+            // the range iterator is both a RowIterator and a CloseableRowIterator, i.e. valid for the generic
+            // builders; builders of more specific types must override this method
+            return (I)new RangeRowIterator(iterator, m_fromIndex, m_toIndex);
+        }
+
+        /**
+         * @return whether {@link #fromIndex(long)} or {@link #toIndex(long)} restrict the rows to iterate over
+         * @since 3.8
+         */
+        protected final boolean hasRowRange() {
+            return m_fromIndex > 0 || m_toIndex != Long.MAX_VALUE;
+        }
+
+        /**
+         * @return the index of the first row to return, 0 by default
+         * @since 3.8
+         */
+        protected final long getFromIndex() {
+            return m_fromIndex;
+        }
+
+        /**
+         * @return the index of the last row to return (inclusive), {@link Long#MAX_VALUE} by default
+         * @since 3.8
+         */
+        protected final long getToIndex() {
+            return m_toIndex;
+        }
+
+        /**
+         * @return the maximum number of rows to read ahead on a background thread, 0 by default
+         * @since 3.8
+         */
+        protected final int getPrefetchCount() {
+            return m_prefetchCount;
+        }
+
+        /**
+         * Returns the indices of the columns that were selected via {@link #filterColumns(int...)}. Subclasses can use
+         * this to avoid materializing (and, ideally, reading) the cells of any other column.
+         *
+         * @return the (ascending) indices of the selected columns or an empty optional if no filter was set
+         * @since 3.8
+         */
+        protected final Optional<int[]> getFilterIndices() {
+            if (m_filterIndices == null) {
+                return Optional.empty();
+            }
+            final int[] indices = m_filterIndices.clone();
+            Arrays.sort(indices);
+            return Optional.of(indices);
+        }
+
+    }
+
+    /**
+     * Builder restricting the rows of the iterators of a delegate builder that doesn't support row ranges itself, see
+     * {@link RowIteratorBuilder#fromIndex(long)}.
+     */
+    static final class RangeRowIteratorBuilder<I extends RowIterator> implements RowIteratorBuilder<I> {
+
+        private RowIteratorBuilder<I> m_delegate;
+
+        private long m_fromIndex;
+
+        private long m_toIndex = Long.MAX_VALUE;
+
+        RangeRowIteratorBuilder(final RowIteratorBuilder<I> delegate) {
+            m_delegate = delegate;
+        }
+
+        @Override
+        public RowIteratorBuilder<I> filterColumns(final int... indices) {
+            m_delegate = m_delegate.filterColumns(indices);
+            return this;
+        }
+
+        @Override
+        public RowIteratorBuilder<I> filterColumns(final String... columns) {
+            m_delegate = m_delegate.filterColumns(columns);
+            return this;
+        }
+
+        @Override
+        public RowIteratorBuilder<I> fromIndex(final long index) {
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Row index must not be negative: " + index);
+            }
+            m_fromIndex = index;
+            return this;
+        }
+
+        @Override
+        public RowIteratorBuilder<I> toIndex(final long index) {
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Row index must not be negative: " + index);
+            }
+            m_toIndex = index;
+            return this;
+        }
+
+        @Override
+        public RowIteratorBuilder<I> prefetch(final int rowCount) {
+            m_delegate = m_delegate.prefetch(rowCount);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
         public I build() {
-            return m_iteratorSupplier.get();
+            // see DefaultRowIteratorBuilder#build()
+            return (I)new RangeRowIterator(m_delegate.build(), m_fromIndex, m_toIndex);
+        }
+    }
+
+    /** Iterator returning a range of rows of a delegate iterator, closes the delegate if it's closeable. */
+    static final class RangeRowIterator extends CloseableRowIterator {
+
+        private final RowIterator m_delegate;
+
+        private long m_remaining;
+
+        RangeRowIterator(final RowIterator delegate, final long fromIndex, final long toIndex) {
+            m_delegate = delegate;
+            for (long i = 0; i < fromIndex && delegate.hasNext(); i++) {
+                delegate.next();
+            }
+            if (toIndex == Long.MAX_VALUE) {
+                m_remaining = Long.MAX_VALUE;
+            } else {
+                m_remaining = toIndex >= fromIndex ? toIndex - fromIndex + 1 : 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_remaining > 0 && m_delegate.hasNext();
         }
 
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            m_remaining--;
+            return m_delegate.next();
+        }
+
+        @Override
+        public void close() {
+            m_remaining = 0;
+            if (m_delegate instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_delegate).close();
+            }
+        }
     }
 
 }
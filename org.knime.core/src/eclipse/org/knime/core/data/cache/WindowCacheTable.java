@@ -106,6 +106,12 @@ public class WindowCacheTable implements DirectAccessTable {
      */
     private long m_rowCountOfInterestInIterator;
 
+    /** Index of the row the current iterator started at, rows before it are not cached. */
+    private long m_firstRowInIterator;
+
+    /** Whether the table's iterators can seek to a row index (tables with row offset index), set in initCache. */
+    private boolean m_isSeekable;
+
     /**
      * Number of rows of interest that have been seen so far. If only hilited rows should be shown this field is equal
      * to {@link #m_maxRowCount}.
@@ -188,6 +194,8 @@ private void initCache() {
         m_cachedRows = null;
         m_tableIterator = null;
         m_rowCountOfInterestInIterator = 0;
+        m_firstRowInIterator = 0;
+        m_isSeekable = false;
         m_rowCountOfInterest = 0;
         m_maxRowCount = 0;
         m_isMaxRowCountFinal = true;
@@ -202,6 +210,7 @@ private void initCache() {
             } else {
                 rowCountFromTable = -1; // unknown
             }
+            m_isSeekable = rowCountFromTable >= 0;
             if (rowCountFromTable >= 0) {
                 m_isMaxRowCountFinal = true;
                 m_maxRowCount = rowCountFromTable;
@@ -359,16 +368,17 @@ public List<DataRow> getRows(final long start, final int length, final Execution
 
         // the iterator goes further when the last known row is requested
         boolean pushIterator = !hasRowCount() && (lastRow >= oldRowCount - 1);
-        if (start >= (m_rowCountOfInterestInIterator - cacheSize)
-                && (lastRow < m_rowCountOfInterestInIterator) && !pushIterator) {
+        final long firstCachedRow = Math.max(m_rowCountOfInterestInIterator - cacheSize, m_firstRowInIterator);
+        if (start >= firstCachedRow && (lastRow < m_rowCountOfInterestInIterator) && !pushIterator) {
             return getRowsFromCache(start, length, exec);
         }
 
         /* not all rows in cache */
-        // some rows already released from cache
-        if (start < (m_rowCountOfInterestInIterator - cacheSize)) {
-            // clear cache, init new iterator
-            clearCacheAndInitIterator();
+        if (start < firstCachedRow
+            || (m_isSeekable && start > m_rowCountOfInterestInIterator + cacheSize && start < m_rowCountOfInterest)) {
+            // some rows already released from cache or far ahead of the iterator (but known to exist):
+            // clear cache, init new iterator (starting at the requested row if the table supports seeking)
+            clearCacheAndInitIterator(m_isSeekable ? start : 0);
         }
         assert (start + length >= m_rowCountOfInterestInIterator - 1);
 
@@ -434,12 +444,15 @@ private boolean cacheNextRow() {
      * Get new iterator, only to be called when data is set. If predicates are set those are tried to push down to
      * the iterator.
      */
-    private RowIterator getNewDataIterator() {
+    private RowIterator getNewDataIterator(final long fromRow) {
         assert hasData();
         RowIteratorBuilder<? extends RowIterator> iteratorBuilder = m_table.iteratorBuilder();
         if (m_includedColumnIndices != null) {
             iteratorBuilder.filterColumns(m_includedColumnIndices.stream().toArray(String[]::new));
         }
+        if (fromRow > 0) {
+            iteratorBuilder = iteratorBuilder.fromIndex(fromRow);
+        }
         return iteratorBuilder.build();
     }
 
@@ -447,16 +460,25 @@ private RowIterator getNewDataIterator() {
      * Clears cache, instantiates a new iterator.
      */
     private void clearCacheAndInitIterator() {
+        clearCacheAndInitIterator(0);
+    }
+
+    /**
+     * Clears cache, instantiates a new iterator starting at the argument row (which must exist in the table, all rows
+     * are currently rows of interest).
+     */
+    private void clearCacheAndInitIterator(final long fromRow) {
         if (!hasData()) {
             return;
         }
         if (m_tableIterator instanceof CloseableRowIterator) {
             ((CloseableRowIterator)m_tableIterator).close();
         }
-        m_tableIterator = getNewDataIterator();
-        m_rowCountInIterator = 0;
+        m_tableIterator = getNewDataIterator(fromRow);
+        m_firstRowInIterator = fromRow;
+        m_rowCountInIterator = fromRow;
         // all updated in nextBlock()
-        m_rowCountOfInterestInIterator = 0;
+        m_rowCountOfInterestInIterator = fromRow;
         // clear cache
         Arrays.fill(m_cachedRows, null);
     }
@@ -73,6 +73,7 @@ public abstract class AbstractCellFactory implements CellFactory {
 
     private int m_maxParallelWorkers = -1;
     private int m_maxQueueSize = -1;
+    private int m_chunkSize = -1;
 
     /** True if the deprecatd {@link #setProgress(int, int, RowKey, ExecutionMonitor)} method is overridden. If so,
      * it will be called by the default implementation of the (new) setProgress method. */
@@ -226,6 +227,30 @@ public final int getMaxQueueSize() {
         return m_maxQueueSize;
     }
 
+    /** Sets the number of rows that are handed to a worker thread at once if the input is processed concurrently.
+     * Processing each row in its own task causes a scheduling overhead that exceeds the actual computation if the
+     * calculation of a single row is cheap (e.g. simple math expressions). Larger chunks reduce this overhead but
+     * require more rows to be kept in memory. The queue size and worker count (see
+     * {@link #setParallelProcessing(boolean, int, int)}) then refer to chunks rather than individual rows.
+     *
+     * <p>By default (or if the argument is &lt;= 0) the chunk size is determined automatically based on the
+     * measured time it takes to compute a row, i.e. expensive rows are still processed one by one. If several
+     * factories are used in the same table, the smallest explicitly set chunk size is used. This property is
+     * ignored if parallel processing is disabled.
+     * @param chunkSize the number of rows per chunk or a value &lt;= 0 to determine it automatically.
+     * @since 3.8 */
+    public final void setParallelProcessingChunkSize(final int chunkSize) {
+        m_chunkSize = chunkSize <= 0 ? -1 : chunkSize;
+    }
+
+    /** The number of rows that are processed in one chunk if the input is processed concurrently or -1 if it's
+     * determined automatically. See {@link #setParallelProcessingChunkSize(int)} for details.
+     * @return the chunk size or -1.
+     * @since 3.8 */
+    public final int getParallelProcessingChunkSize() {
+        return m_chunkSize;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DataColumnSpec[] getColumnSpecs() {
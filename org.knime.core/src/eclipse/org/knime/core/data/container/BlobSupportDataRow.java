@@ -86,7 +86,7 @@ public BlobSupportDataRow(final RowKey key, final DataCell[] cells) {
     public BlobSupportDataRow(final RowKey key, final DataRow oldRow) {
         m_key = key;
         if (oldRow instanceof BlobSupportDataRow) {
-            m_cells = ((BlobSupportDataRow)oldRow).m_cells;
+            m_cells = ((BlobSupportDataRow)oldRow).getRawCells();
         } else {
             m_cells = new DataCell[oldRow.getNumCells()];
             for (int i = 0; i < m_cells.length; i++) {
@@ -115,7 +115,7 @@ public BlobSupportDataRow(final RowKey key, final Iterable<DataRow> oldRows) {
         for (DataRow row : oldRows) {
             if (row instanceof BlobSupportDataRow) {
                 BlobSupportDataRow blobRow = (BlobSupportDataRow)row;
-                System.arraycopy(blobRow.m_cells, 0, m_cells, offset, blobRow.getNumCells());
+                System.arraycopy(blobRow.getRawCells(), 0, m_cells, offset, blobRow.getNumCells());
                 offset += blobRow.getNumCells();
             } else {
                 for (DataCell cell : row) {
@@ -141,7 +141,7 @@ public BlobSupportDataRow(final String id, final DataRow oldRow) {
      */
     @Override
     public DataCell getCell(final int index) {
-        DataCell c = m_cells[index];
+        DataCell c = getRawCell(index);
         if (c instanceof BlobWrapperDataCell) {
             return ((BlobWrapperDataCell)c).getCell();
         }
@@ -158,6 +158,16 @@ public DataCell getRawCell(final int index) {
         return m_cells[index];
     }
 
+    /**
+     * Returns the (raw) cells of this row. Subclasses that don't keep a cell array create it on demand; the returned
+     * array must not be modified.
+     *
+     * @return the raw cells, never null
+     */
+    DataCell[] getRawCells() {
+        return m_cells;
+    }
+
     /**
      * {@inheritDoc}
      */
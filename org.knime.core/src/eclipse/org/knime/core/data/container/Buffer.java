@@ -137,7 +137,6 @@
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.util.FileUtil;
-import org.knime.core.util.LRUCache;
 import org.knime.core.util.MutableBoolean;
 import org.knime.core.util.ShutdownHelper;
 import org.knime.core.util.ThreadUtils.CallableWithContext;
@@ -308,6 +307,9 @@ public class Buffer implements KNIMEStreamConstants {
     /** Number of dirs/files per directory when blobs are saved. */
     private static final int BLOB_ENTRIES_PER_DIRECTORY = 1000;
 
+    /** Number of rows per {@link PrimitiveRowChunk} of in-memory tables with only primitive columns. */
+    private static final int PRIMITIVE_CHUNK_SIZE = 1024;
+
     /**
      * Is executing the shutdown hook? If so, no logging is done, bug fix #862.
      */
@@ -379,6 +381,10 @@ public class Buffer implements KNIMEStreamConstants {
     /** A cache for holding tables in memory. */
     private static final BufferCache CACHE = new BufferCache();
 
+    /** A cache for holding serialized tables in direct memory, see {@link BufferSettings#useOffHeapCache()}. */
+    private static final OffHeapTableCache OFF_HEAP_CACHE =
+        new OffHeapTableCache(BufferSettings.getDefault().getOffHeapCacheSize());
+
     /** A single-threaded executor for asynchronous disk I/O threads. */
     static final ExecutorService ASYNC_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
         private final AtomicInteger m_threadCount = new AtomicInteger();
@@ -502,6 +508,13 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
     /** A flag that is set when this buffer has been flushed to disk (for whatever reason). */
     private boolean m_flushedToDisk;
 
+    /**
+     * A flag that is set when the table has been moved from the {@link BufferCache CACHE} into the
+     * {@link OffHeapTableCache OFF_HEAP_CACHE}. From then on, the table is read from the off-heap cache and restored
+     * into the off-heap cache (rather than the heap) on a cache miss.
+     */
+    private volatile boolean m_isOffHeap;
+
     /** maximum number of rows that are in memory. */
     private final int m_maxRowsInMem;
 
@@ -513,6 +526,17 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
      */
     private List<BlobSupportDataRow> m_listWhileAddRow;
 
+    /**
+     * The primitive encoding per column if all columns of the spec are primitive (see
+     * {@link PrimitiveRowChunk#getPrimitiveEncodings(DataTableSpec)}), otherwise null. Rows of such tables are kept in
+     * {@link #m_listWhileAddRow} as {@link PrimitiveChunkDataRow PrimitiveChunkDataRows} backed by
+     * {@link #m_currentChunk} and its predecessors.
+     */
+    private byte[] m_primitiveEncodings;
+
+    /** The chunk rows are currently appended to, only used if {@link #m_primitiveEncodings} is set. */
+    private PrimitiveRowChunk m_currentChunk;
+
     private int[] m_indicesOfBlobInColumns;
 
     /** the spec the rows comply with, no checking is done, however. */
@@ -602,6 +626,8 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
             m_lifecycle = new MemorizeIfSmallLifecycle();
         }
         CACHE.setLRUCacheSize(m_bufferSettings.getLRUCacheSize());
+        CACHE.setLRUCacheBudget(m_bufferSettings.getLRUCacheBudget());
+        OFF_HEAP_CACHE.setBudget(m_bufferSettings.getOffHeapCacheSize());
         /**
          * independent of the lifecycle, if maxRowsInMemory is zero, the buffer is expected to flush to disk (e.g, see
          * {@link org.knime.core.data.sort.DataTableSorter#createDataContainer(DataTableSpec, boolean)}).
@@ -613,6 +639,7 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         m_fileStoreHandler = fileStoreHandler;
         m_dataRepository = dataRepository;
         m_spec = spec;
+        m_primitiveEncodings = PrimitiveRowChunk.getPrimitiveEncodings(spec);
         m_outputFormat = m_bufferSettings.getOutputFormat(m_spec);
         BufferTracker.getInstance().bufferCreated(this);
     }
@@ -677,6 +704,8 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         m_maxRowsInMem = 0;
         m_lifecycle = m_bufferSettings.useLRU() ? new SoftRefLRUSyncWriteLifecycle() : new MemorizeIfSmallLifecycle();
         CACHE.setLRUCacheSize(m_bufferSettings.getLRUCacheSize());
+        CACHE.setLRUCacheBudget(m_bufferSettings.getLRUCacheBudget());
+        OFF_HEAP_CACHE.setBudget(m_bufferSettings.getOffHeapCacheSize());
         try {
             readMetaFromFile(metaIn, fileStoreDir);
         } catch (InvalidSettingsException ise) {
@@ -781,7 +810,7 @@ synchronized void addBlobSupportDataRow(final BlobSupportDataRow row) throws IOE
             flushBuffer();
         }
         if (m_listWhileAddRow != null) {
-            m_listWhileAddRow.add(row);
+            m_listWhileAddRow.add(toListRow(row));
             if (m_listWhileAddRow.size() > m_maxRowsInMem) {
                 m_lifecycle.onAddRowToLargeList();
             }
@@ -791,6 +820,20 @@ synchronized void addBlobSupportDataRow(final BlobSupportDataRow row) throws IOE
         }
     }
 
+    /**
+     * Returns the representation of a row in {@link #m_listWhileAddRow}: rows of tables with only primitive columns are
+     * appended to a {@link PrimitiveRowChunk} so that the in-memory table doesn't hold a cell object per value.
+     */
+    private BlobSupportDataRow toListRow(final BlobSupportDataRow row) {
+        if (m_primitiveEncodings == null) {
+            return row;
+        }
+        if (m_currentChunk == null || m_currentChunk.isFull()) {
+            m_currentChunk = new PrimitiveRowChunk(m_primitiveEncodings, PRIMITIVE_CHUNK_SIZE);
+        }
+        return m_currentChunk.add(row);
+    }
+
     /**
      * @throws IOException
      */
@@ -1164,6 +1207,7 @@ synchronized void close(final DataTableSpec spec) {
     /** Closes by creating shortcut array for file access. */
     void closeInternal() {
         assert Thread.holdsLock(this);
+        m_currentChunk = null;
         if (m_listWhileAddRow != null) {
             // buffer still held in memory; can be cached
             CACHE.put(Buffer.this, m_listWhileAddRow);
@@ -1324,6 +1368,11 @@ private void readMetaFromFile(final InputStream metaIn, final File fileStoreDir)
                 m_version >= 10 ? subSettings.getNodeSettings(CFG_TABLE_FORMAT_CONFIG) : subSettings;
             m_formatSettings = outputFormatSettings;
             initOutputReader(outputFormatSettings, m_version);
+            if (m_useBackIntoMemoryIterator && useOffHeapCache()) {
+                /** Restore the table into the off-heap cache rather than the heap on first access. */
+                m_useBackIntoMemoryIterator = false;
+                m_isOffHeap = true;
+            }
         }
     }
 
@@ -1399,6 +1448,70 @@ final synchronized void setRestoreIntoMemoryOnCacheMiss() {
         m_useBackIntoMemoryIterator = true;
     }
 
+    /**
+     * @return whether the table can be moved into the off-heap cache, which requires the table to be read by a
+     *         {@link DefaultTableStoreReader}
+     */
+    private boolean useOffHeapCache() {
+        return m_bufferSettings.useOffHeapCache() && m_outputFormat instanceof DefaultTableStoreFormat;
+    }
+
+    /**
+     * Moves the table, which must have been fully written to disk, from the heap into the off-heap cache (if enabled
+     * and the table fits the cache's budget).
+     *
+     * @return <code>true</code> iff the table was moved and dropped from the heap cache
+     */
+    private boolean moveToOffHeapCache() {
+        if (!useOffHeapCache() || !putIntoOffHeapCache()) {
+            return false;
+        }
+        synchronized (m_isClearedLock) {
+            if (m_isClearedLock.booleanValue()) {
+                return false;
+            }
+            /** the order is important: iterators created in between must find the table in either cache */
+            m_isOffHeap = true;
+            CACHE.invalidate(this);
+            return true;
+        }
+    }
+
+    /**
+     * Copies the table file into the off-heap cache. The file is copied without holding the clear lock (or the lock of
+     * this buffer), so clearing is not blocked by the copy. A clear during the copy invalidates the pending copy; a
+     * clear in between checking the flag and starting the copy is detected afterwards.
+     *
+     * @return <code>true</code> iff the table is held in the off-heap cache
+     */
+    private boolean putIntoOffHeapCache() {
+        synchronized (m_isClearedLock) {
+            if (m_isClearedLock.booleanValue() || m_binFile == null) {
+                return false;
+            }
+        }
+        if (!OFF_HEAP_CACHE.put(this, m_binFile)) {
+            return false;
+        }
+        synchronized (m_isClearedLock) {
+            if (m_isClearedLock.booleanValue()) {
+                OFF_HEAP_CACHE.invalidate(this);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Used by the {@link DefaultTableStoreReader} to read the table from the off-heap cache instead of the file. The
+     * returned copy must be {@link MappedTableFile#release() released} by the caller after having opened its streams.
+     *
+     * @return the copy of the file held in the off-heap cache or <code>null</code> if not held in the off-heap cache
+     */
+    MappedTableFile getOffHeapCopy() {
+        return m_isOffHeap ? OFF_HEAP_CACHE.get(this) : null;
+    }
+
     /**
      * Used while reading file store cells and referenced tables and blobs.
      *
@@ -1560,9 +1673,23 @@ private static String getFileName(final int fileIndex) {
      * @return the row iterator builder
      * @noreference This method is not intended to be referenced by clients.
      */
-    public final synchronized RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
+    public final RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
+        if (m_isOffHeap && !OFF_HEAP_CACHE.contains(this)) {
+            /**
+             * evicted tables are copied back into the off-heap cache (or read from disk if they don't fit), without
+             * holding the lock of this buffer
+             */
+            putIntoOffHeapCache();
+        }
+        return iteratorBuilderInternal();
+    }
+
+    private synchronized RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilderInternal() {
         final List<BlobSupportDataRow> list = obtainListFromCacheOrBackIntoMemoryIterator();
         if (list == null) {
+            if (m_isOffHeap) {
+                return m_outputReader.iteratorBuilder();
+            }
             if (m_useBackIntoMemoryIterator) {
                 // the order of the following lines is very important!
                 m_useBackIntoMemoryIterator = false;
@@ -1578,9 +1705,37 @@ public final synchronized RowIteratorBuilder<? extends CloseableRowIterator> ite
                 m_outputReader.iteratorBuilder();
             return iteratorBuilder;
         } else {
-            return new DefaultRowIteratorBuilder<>(() -> new FromListIterator(list,
-                m_backIntoMemoryIteratorRef != null ? m_backIntoMemoryIteratorRef.get() : null), getTableSpec());
+            final BackIntoMemoryIterator backIntoMemoryIterator =
+                m_backIntoMemoryIteratorRef != null ? m_backIntoMemoryIteratorRef.get() : null;
+            return new DefaultRowIteratorBuilder<CloseableRowIterator>(
+                () -> new FromListIterator(list, backIntoMemoryIterator), getTableSpec()) {
+                @Override
+                public CloseableRowIterator build() {
+                    if (hasRowRange() && backIntoMemoryIterator == null) {
+                        // all rows are in the list, access the range directly
+                        return new FromListIterator(list, getFromIndex(), getToIndex());
+                    }
+                    return super.build();
+                }
+            };
+        }
+    }
+
+    /**
+     * Whether iterators created via {@link #iteratorBuilder()} over a row range start directly at the first row of the
+     * range, i.e. whether the rows are kept in memory or the file can be read from an arbitrary row (see
+     * {@link AbstractTableStoreReader#canSeek()}).
+     *
+     * @return whether row ranges can be read without reading all preceding rows
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.8
+     */
+    public final synchronized boolean canSeek() {
+        if (CACHE.contains(this)) {
+            // rows are read from the list only if it's complete
+            return m_backIntoMemoryIteratorRef == null || m_backIntoMemoryIteratorRef.get() == null;
         }
+        return !m_useBackIntoMemoryIterator && m_outputReader != null && m_outputReader.canSeek();
     }
 
     private List<BlobSupportDataRow> obtainListFromCacheOrBackIntoMemoryIterator() {
@@ -1826,6 +1981,7 @@ void performClear() {
                 BufferTracker.getInstance().bufferCleared(this);
                 m_listWhileAddRow = null;
                 CACHE.invalidate(this);
+                OFF_HEAP_CACHE.invalidate(this);
                 if (m_binFile != null) {
                     if (m_outputReader != null) {
                         // output reader might be null if Buffer was created but never read -- no iterators to clear
@@ -2021,9 +2177,21 @@ private class FromListIterator extends CloseableRowIterator {
         // do not use iterator here, see inner class comment
         private int m_nextIndex = 0;
 
+        /** The index after the last row to return. */
+        private final long m_endIndex;
+
         FromListIterator(final List<BlobSupportDataRow> list, final BackIntoMemoryIterator backIntoMemoryIterator) {
             m_list = list;
             m_backIntoMemoryIterator = backIntoMemoryIterator;
+            m_endIndex = size();
+        }
+
+        /** Iterator over a range of rows in the list, only to be used if all rows are in the list. */
+        FromListIterator(final List<BlobSupportDataRow> list, final long fromIndex, final long toIndex) {
+            m_list = list;
+            m_endIndex = Math.min(size(), toIndex == Long.MAX_VALUE ? toIndex : (toIndex + 1));
+            // we never store more than 2^31 rows in memory, therefore it's safe to cast to int
+            m_nextIndex = (int)Math.min(fromIndex, m_endIndex);
         }
 
         /**
@@ -2031,7 +2199,7 @@ private class FromListIterator extends CloseableRowIterator {
          */
         @Override
         public boolean hasNext() {
-            return m_nextIndex < size();
+            return m_nextIndex < m_endIndex;
         }
 
         /**
@@ -2073,7 +2241,7 @@ public DataRow next() {
         /** {@inheritDoc} */
         @Override
         public void close() {
-            m_nextIndex = (int)size();
+            m_nextIndex = (int)m_endIndex;
         }
     }
 
@@ -2436,10 +2604,13 @@ protected boolean memoryAlert(final MemoryAlert alert) {
      * than a certain amount of rows, which by default is derived from
      * {@link DataContainerSettings#DEF_MAX_CELLS_IN_MEMORY}. However, when the {@link MemoryAlertSystem} notices that
      * memory becomes critical, small tables are not dropped from the cache, but merely cleared for garbage collection.
-     * Also, tables larger than the specified row limit are not prematurely flushed to disk, but attempted to be kept in
+     * Also, tables larger than the specified row limit (or larger than their share of the cache's memory budget, see
+     * {@link BufferCache#exceedsBudgetShare(Buffer)}) are not prematurely flushed to disk, but attempted to be kept in
      * memory and only cleared for garbage collection. When the garbage collector notices that memory becomes scarce,
      * tables cleared for garbage collection are evicted from the cache in least-recently-used (LRU) order (see
-     * {@link LRUCache}). A table that has been cached once will always be read back into the cache when iterated over.
+     * {@link BufferCache}). A table that has been cached once will always be read back into the cache when iterated over.
+     * If the off-heap cache is enabled (see {@link BufferSettings#useOffHeapCache()}), tables are instead moved into
+     * the {@link OffHeapTableCache} once written to disk and are read back into the off-heap cache when iterated over.
      *
      * @author Marc Bux, KNIME GmbH, Berlin, Germany
      */
@@ -2461,7 +2632,8 @@ public void onCloseIfCached() {
             m_fitsIntoMemory = true;
             setRestoreIntoMemoryOnCacheMiss();
 
-            if (size() <= m_maxRowsInMem) {
+            /** Tables with few rows can still be large in memory, e.g., when holding long strings. */
+            if (size() <= m_maxRowsInMem && !CACHE.exceedsBudgetShare(Buffer.this)) {
                 m_memoryAlertListener = new BufferFlusher(Buffer.this);
                 MemoryAlertSystem.getInstance().addListener(m_memoryAlertListener);
             } else {
@@ -2471,7 +2643,9 @@ public void onCloseIfCached() {
 
         @Override
         public void onWriteSuccessful() {
-            CACHE.clearForGarbageCollection(Buffer.this);
+            if (!moveToOffHeapCache()) {
+                CACHE.clearForGarbageCollection(Buffer.this);
+            }
         }
 
         abstract void onCloseIfCachedAndLarge();
@@ -2542,7 +2716,9 @@ public void onFlush() {
         @Override
         void onCloseIfCachedAndLarge() {
             closeWriterAndWriteMeta();
-            CACHE.clearForGarbageCollection(Buffer.this);
+            if (!moveToOffHeapCache()) {
+                CACHE.clearForGarbageCollection(Buffer.this);
+            }
         }
 
         @Override
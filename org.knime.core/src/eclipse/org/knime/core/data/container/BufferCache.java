@@ -53,14 +53,14 @@
 import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
-import org.knime.core.util.LRUCache;
 
 /**
  * A data structure that manages which tables (i.e., {@link List} of {@link BlobSupportDataRow}) to keep in memory. The
@@ -70,6 +70,11 @@
  * not take care of when and how tables are flushed to disk and cleared for garbage collection, but makes sure that no
  * tables are cleared for garbage collection before they have been flushed to disk. How this cache is used by the
  * {@link Buffer} class is specified by means of a Lifecycle.
+ * <p>
+ * The number of tables attempted to be kept in the lower level is limited by a maximum number of tables and by a
+ * budget of bytes, which is compared to the sum of the estimated sizes of the tables (see {@link TableSizeEstimator}).
+ * When either limit is exceeded, tables are evicted in least-recently-used order, whereby frequently used tables are
+ * given a second chance.
  *
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
  */
@@ -98,12 +103,23 @@ final class BufferCache {
     private int m_LRUCacheSize = BufferSettings.getDefault().getLRUCacheSize();
 
     /**
-     * An LRU-cache of soft references to tables held in this cache. Note that soft references also keep track of when
-     * they were last accessed. When memory becomes scarce, the garbage collector should clear weak-referenced tables
-     * first and then proceed with soft-referenced tables in the order in which they were least recently used.
+     * The number of bytes that tables in the soft-references LRU cache may occupy before being weak-referenced.
      */
-    private LRUCache<Long, SoftReference<List<BlobSupportDataRow>>> m_LRUCache =
-        new LRUCache<>(m_LRUCacheSize, m_LRUCacheSize);
+    private long m_LRUCacheBudget = BufferSettings.getDefault().getLRUCacheBudget();
+
+    /**
+     * An LRU-cache of soft references to tables held in this cache, ordered by access. Note that soft references also
+     * keep track of when they were last accessed. When memory becomes scarce, the garbage collector should clear
+     * weak-referenced tables first and then proceed with soft-referenced tables in the order in which they were least
+     * recently used.
+     */
+    private final LinkedHashMap<Long, LRUEntry> m_LRUCache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The sum of the estimated sizes of the tables in the LRU cache. */
+    private long m_LRUCacheBytes = 0;
+
+    /** The estimated sizes of all tables in this cache (including weak-referenced ones). */
+    private final Map<Long, Long> m_sizes = new HashMap<>();
 
     /**
      * A map of weak references to tables evicted from the LRU cache.
@@ -132,6 +148,10 @@ final class BufferCache {
 
     private long m_nMisses = 0;
 
+    private long m_nEvictedTables = 0;
+
+    private long m_nEvictedBytes = 0;
+
     private long timeOfLastLog = System.currentTimeMillis();
 
     private void logStatistics() {
@@ -158,6 +178,10 @@ private void logStatistics() {
             LOGGER.debugWithFormat("\t%d cache hits (softly referenced)", m_nSoftHits);
             LOGGER.debugWithFormat("\t%d cache hits (weakly referenced)", m_nWeakHits);
             LOGGER.debugWithFormat("\t%d cache misses", m_nMisses);
+            LOGGER.debugWithFormat("\t%d tables (%d MB) evicted from LRU cache", m_nEvictedTables,
+                m_nEvictedBytes >> 20);
+            LOGGER.debugWithFormat("\t%d of %d MB occupied in LRU cache", m_LRUCacheBytes >> 20,
+                m_LRUCacheBudget >> 20);
 
             timeOfLastLog = time;
             assert m_nAccesses == m_nHardHits + m_nSoftHits + m_nWeakHits + m_nMisses;
@@ -170,25 +194,30 @@ private void logStatistics() {
      * @param buffer the buffer which the table is associated with
      * @param list a fully read table
      */
-    synchronized void put(final Buffer buffer, final List<BlobSupportDataRow> list) {
+    void put(final Buffer buffer, final List<BlobSupportDataRow> list) {
         CheckUtils.checkArgumentNotNull(buffer);
         CheckUtils.checkArgumentNotNull(list);
 
         final long uniqueId = buffer.getUniqueID();
-
-        /** disallow modification */
-        final List<BlobSupportDataRow> undmodifiableList = Collections.unmodifiableList(list);
-        m_hardMap.put(uniqueId, undmodifiableList);
-        /**
-         * We already fill the soft cache here to keep track of how recently the table has been used. Note that soft and
-         * weak references won't be cleared while there is still a hard reference on the object.
-         */
-        m_LRUCache.put(uniqueId, new SoftReference<List<BlobSupportDataRow>>(undmodifiableList));
-        final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.put(uniqueId,
-            new WeakReference<List<BlobSupportDataRow>>(undmodifiableList, m_weakCacheRefQueue));
-
-        if (previousValue == null) {
-            m_nTables++;
+        /** estimate the size before acquiring the lock, as it inspects (a sample of) the cells */
+        final long size = TableSizeEstimator.estimateTableSize(list);
+
+        synchronized (this) {
+            /** disallow modification */
+            final List<BlobSupportDataRow> undmodifiableList = Collections.unmodifiableList(list);
+            m_hardMap.put(uniqueId, undmodifiableList);
+            m_sizes.put(uniqueId, size);
+            /**
+             * We already fill the soft cache here to keep track of how recently the table has been used. Note that soft
+             * and weak references won't be cleared while there is still a hard reference on the object.
+             */
+            putIntoLRUCache(uniqueId, undmodifiableList);
+            final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.put(uniqueId,
+                new WeakReference<List<BlobSupportDataRow>>(undmodifiableList, m_weakCacheRefQueue));
+
+            if (previousValue == null) {
+                m_nTables++;
+            }
         }
     }
 
@@ -269,11 +298,14 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
             hit = true;
         }
 
-        /** Update recent access in LRU cache and soft reference. */
-        final SoftReference<List<BlobSupportDataRow>> softRef = m_LRUCache.get(uniqueId);
-        if (softRef != null && softRef.get() != null && !hit) {
-            m_nSoftHits++;
-            hit = true;
+        /** Update recent access and access frequency in LRU cache and soft reference. */
+        final LRUEntry lruEntry = m_LRUCache.get(uniqueId);
+        if (lruEntry != null) {
+            lruEntry.m_frequency++;
+            if (lruEntry.m_ref.get() != null && !hit) {
+                m_nSoftHits++;
+                hit = true;
+            }
         }
 
         Optional<List<BlobSupportDataRow>> result = Optional.empty();
@@ -285,8 +317,8 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
         final List<BlobSupportDataRow> list = weakRef.get();
         if (list != null) {
             /** Make sure to put the accessed table back into the LRU cache. */
-            if (!m_LRUCache.containsKey(uniqueId)) {
-                m_LRUCache.put(uniqueId, new SoftReference<List<BlobSupportDataRow>>(list));
+            if (lruEntry == null) {
+                putIntoLRUCache(uniqueId, list);
             }
             if (!hit) {
                 m_nWeakHits++;
@@ -296,7 +328,7 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
         } else {
             /** Table has been garbage collected; it should be removed from the LRU cache to make room for other
              * tables. */
-            m_LRUCache.remove(uniqueId);
+            removeFromLRUCache(uniqueId);
         }
 
         if (!hit) {
@@ -316,7 +348,8 @@ synchronized void invalidate(final Buffer buffer) {
         final long uniqueId = buffer.getUniqueID();
 
         m_hardMap.remove(uniqueId);
-        m_LRUCache.remove(uniqueId);
+        removeFromLRUCache(uniqueId);
+        m_sizes.remove(uniqueId);
         final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.remove(uniqueId);
 
         if (previousValue != null && previousValue.get() != null) {
@@ -325,26 +358,121 @@ synchronized void invalidate(final Buffer buffer) {
     }
 
     /**
-     * Can be used to adjust the size of the LRU cache at runtime. Should only be used for benchmarking purposes.
+     * Checks whether the estimated size of the table associated with a given buffer exceeds an even share of the LRU
+     * cache's budget among the maximum number of tables held in the LRU cache. Such a table is large in terms of
+     * memory, independent of its number of rows.
      *
-     * @param newSize the new size of the LRU cache
+     * @param buffer the buffer which the to-be-checked table is associated with
+     * @return <code>true</code> iff the table is held in the cache and its estimated size exceeds its share
      */
-    synchronized void setLRUCacheSize(final int newSize) {
-        if (newSize == m_LRUCacheSize) {
-            return;
+    synchronized boolean exceedsBudgetShare(final Buffer buffer) {
+        CheckUtils.checkArgumentNotNull(buffer);
+
+        final Long size = m_sizes.get(buffer.getUniqueID());
+        return size != null && size > m_LRUCacheBudget / Math.max(1, m_LRUCacheSize);
+    }
+
+    /**
+     * @return the number of accesses to tables that were held in the cache
+     */
+    synchronized long getHitCount() {
+        return m_nHardHits + m_nSoftHits + m_nWeakHits;
+    }
+
+    /**
+     * @return the number of accesses to tables that were no longer held in the cache
+     */
+    synchronized long getMissCount() {
+        return m_nMisses;
+    }
+
+    /**
+     * @return the sum of the estimated sizes of the tables evicted from the LRU cache so far
+     */
+    synchronized long getEvictedBytes() {
+        return m_nEvictedBytes;
+    }
+
+    /**
+     * @return the sum of the estimated sizes of the tables currently held in the LRU cache
+     */
+    synchronized long getLRUCacheBytes() {
+        return m_LRUCacheBytes;
+    }
+
+    private void putIntoLRUCache(final long uniqueId, final List<BlobSupportDataRow> list) {
+        final long size = m_sizes.getOrDefault(uniqueId, 0L);
+        final LRUEntry previous = m_LRUCache.put(uniqueId, new LRUEntry(list, size));
+        if (previous != null) {
+            m_LRUCacheBytes -= previous.m_size;
         }
+        m_LRUCacheBytes += size;
+        evictFromLRUCache();
+    }
 
-        /** Since there is no way of adjusting the cache size of an LRUCache, we have to create a new cache. */
-        final LRUCache<Long, SoftReference<List<BlobSupportDataRow>>> cache = new LRUCache<>(newSize, newSize);
+    private void removeFromLRUCache(final long uniqueId) {
+        final LRUEntry entry = m_LRUCache.remove(uniqueId);
+        if (entry != null) {
+            m_LRUCacheBytes -= entry.m_size;
+        }
+    }
 
-        /** If the new cache is smaller than the old one, the least-recently-accessed entries will be entered first
-         * and then also evicted first when the new cache size is reached. */
-        for (Entry<Long, SoftReference<List<BlobSupportDataRow>>> entry : m_LRUCache.entrySet()) {
-            cache.put(entry.getKey(), entry.getValue());
+    /**
+     * Evicts tables from the LRU cache until both its size and budget are respected. Tables are evicted in
+     * least-recently-used order, except for tables that have been accessed more than once since they were last
+     * considered for eviction: these are moved to the most-recently-used end with their access count halved.
+     */
+    private void evictFromLRUCache() {
+        while (m_LRUCache.size() > m_LRUCacheSize || (m_LRUCacheBytes > m_LRUCacheBudget && m_LRUCache.size() > 1)) {
+            final Iterator<Map.Entry<Long, LRUEntry>> it = m_LRUCache.entrySet().iterator();
+            final Map.Entry<Long, LRUEntry> eldest = it.next();
+            final LRUEntry entry = eldest.getValue();
+            it.remove();
+            if (entry.m_frequency > 1 && entry.m_ref.get() != null) {
+                /** second chance; terminates since the frequency strictly decreases */
+                entry.m_frequency >>= 1;
+                m_LRUCache.put(eldest.getKey(), entry);
+            } else {
+                m_LRUCacheBytes -= entry.m_size;
+                m_nEvictedTables++;
+                m_nEvictedBytes += entry.m_size;
+            }
         }
+    }
+
+    /**
+     * Can be used to adjust the budget of the LRU cache at runtime. Should only be used for benchmarking purposes.
+     *
+     * @param newBudget the new budget of the LRU cache in bytes
+     */
+    synchronized void setLRUCacheBudget(final long newBudget) {
+        m_LRUCacheBudget = newBudget;
+        evictFromLRUCache();
+    }
 
+    /**
+     * Can be used to adjust the size of the LRU cache at runtime. Should only be used for benchmarking purposes.
+     *
+     * @param newSize the new size of the LRU cache
+     */
+    synchronized void setLRUCacheSize(final int newSize) {
         m_LRUCacheSize = newSize;
-        m_LRUCache = cache;
+        evictFromLRUCache();
+    }
+
+    /** An entry in the LRU cache: a soft reference to a table, its estimated size, and its access frequency. */
+    private static final class LRUEntry {
+
+        private final SoftReference<List<BlobSupportDataRow>> m_ref;
+
+        private final long m_size;
+
+        private int m_frequency = 1;
+
+        LRUEntry(final List<BlobSupportDataRow> list, final long size) {
+            m_ref = new SoftReference<>(list);
+            m_size = size;
+        }
     }
 
 }
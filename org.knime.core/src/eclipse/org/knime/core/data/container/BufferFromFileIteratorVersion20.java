@@ -60,6 +60,7 @@
 import org.knime.core.data.DataCellSerializer;
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
 import org.knime.core.data.container.DefaultTableStoreReader.FromFileIterator;
@@ -83,7 +84,10 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     private final DefaultTableStoreReader m_tableFormatReader;
 
     /** Row pointer. */
-    private int m_pointer;
+    private long m_pointer;
+
+    /** Index of the row after the last row to return. */
+    private final long m_endIndex;
 
     /** Content of the rows that get returned in {@link #next()} when the
      * table is {@link #close()}'d. Will be instantiated lazy. */
@@ -101,34 +105,110 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     /** Utility object with designated functionality to deserialize datacell. */
     private DataCellStreamReader m_dataCellStreamReader;
 
+    /** Flag per column whether its cells are to be deserialized, or <code>null</code> if all columns are read. */
+    private final boolean[] m_isMaterialized;
+
     /** Inits iterator, opens input stream.
      * @param tableFormatReader The associated buffer.
      * @throws IOException If stream reading fails.
      */
     BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
-        // init the pointer
-        m_pointer = 0;
+        this(tableFormatReader, null);
+    }
+
+    /** Inits iterator, opens input stream.
+     * @param tableFormatReader The associated buffer.
+     * @param materializedColumns The indices of the columns to deserialize, all others are skipped and returned as
+     *            {@link UnmaterializedCell}; <code>null</code> to read all columns.
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader,
+        final int[] materializedColumns) throws IOException {
+        this(tableFormatReader, materializedColumns, 0L, Long.MAX_VALUE);
+    }
 
+    /** Inits iterator over a range of rows, opens input stream.
+     * @param tableFormatReader The associated buffer.
+     * @param materializedColumns The indices of the columns to deserialize, all others are skipped and returned as
+     *            {@link UnmaterializedCell}; <code>null</code> to read all columns.
+     * @param fromIndex The index of the first row to return.
+     * @param toIndex The index of the last row to return (inclusive).
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader,
+        final int[] materializedColumns, final long fromIndex, final long toIndex) throws IOException {
         // check for file existence
         if (tableFormatReader.getBinFile() == null) {
             throw new IOException("Unable to read table from file, table has been cleared.");
         }
 
+        final long size = tableFormatReader.size();
+        m_endIndex = toIndex >= size ? size : (toIndex + 1);
+        // start at the closest indexed row (if any) preceding the range
+        final long startIndex;
+        final long startOffset;
+        if (fromIndex > 0 && fromIndex < m_endIndex && tableFormatReader.hasRowIndex()) {
+            final int interval = tableFormatReader.getRowIndexInterval();
+            final int entry = (int)(fromIndex / interval);
+            startIndex = (long)entry * interval;
+            startOffset = tableFormatReader.getRowOffsets()[entry];
+        } else {
+            startIndex = 0L;
+            startOffset = 0L;
+        }
+        // init the pointer
+        m_pointer = startIndex;
+
         // init the format reader
         m_tableFormatReader = tableFormatReader;
         assert m_tableFormatReader.getReadVersion() >= 6 : "Iterator is not backward compatible, use instead "
             + BufferFromFileIteratorVersion1x.class.getSimpleName();
 
+        if (materializedColumns != null) {
+            m_isMaterialized = new boolean[tableFormatReader.getTableSpec().getNumColumns()];
+            for (int i : materializedColumns) {
+                m_isMaterialized[i] = true;
+            }
+        } else {
+            m_isMaterialized = null;
+        }
+
         // open the input stream
         m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
-        m_inStream = new BlockableDCObjectInputVersion2(getInputStream(tableFormatReader), m_dataCellStreamReader);
+        m_inStream = new BlockableDCObjectInputVersion2(
+            tableFormatReader.openInputStream(startOffset), m_dataCellStreamReader);
+        try {
+            while (m_pointer < fromIndex && m_pointer < m_endIndex) {
+                skipRow();
+                m_pointer++;
+            }
+        } catch (IOException ioe) {
+            m_inStream.close();
+            throw ioe;
+        }
+    }
+
+    /** Skips all blocks of the current row in the stream without deserializing its key or cells.
+     * @throws IOException If reading fails. */
+    private void skipRow() throws IOException {
+        if (m_tableFormatReader.isReadRowKey()) {
+            m_inStream.endBlock();
+        }
+        final int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
+        for (int i = 0; i < colCount; i++) {
+            m_inStream.endBlock();
+        }
+        final byte eoRow = m_inStream.readControlByte();
+        if (eoRow != BYTE_ROW_SEPARATOR) {
+            throw new IOException("Expected end of row byte, got '" + eoRow + "', (byte " + (int)eoRow + ")");
+        }
     }
 
 
     /** {@inheritDoc} */
     @Override
     public synchronized boolean hasNext() {
-        boolean hasNext = m_pointer < m_tableFormatReader.size();
+        boolean hasNext = m_pointer < m_endIndex;
         if (!hasNext && (m_inStream != null)) {
             close();
         }
@@ -169,7 +249,12 @@ public synchronized BlobSupportDataRow next() {
             DataCell nextCell;
             try {
                 try {
-                    nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
+                    if (m_isMaterialized == null || m_isMaterialized[i]) {
+                        nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
+                    } else {
+                        // the block end marker allows to skip the cell's bytes without deserializing them
+                        nextCell = UnmaterializedCell.getInstance();
+                    }
                 } finally {
                     m_inStream.endBlock();
                 }
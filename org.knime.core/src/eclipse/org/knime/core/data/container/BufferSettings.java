@@ -83,16 +83,24 @@ public final class BufferSettings {
     /** The LRU cache size. */
     private final int m_lruCacheSize;
 
+    /** The LRU cache budget in bytes. */
+    private final long m_lruCacheBudget;
+
     /** The output table store format. */
     private final TableStoreFormat m_outputFormat;
 
+    /** The size of the off-heap table cache in bytes, 0 if disabled. */
+    private final long m_offHeapCacheSize;
+
     /**
      * Default constructor.
      */
     BufferSettings() {
         m_enableLRU = initLRU();
         m_lruCacheSize = DEF_LRU_CACHE_SIZE;
+        m_lruCacheBudget = initLRUCacheBudget();
         m_outputFormat = TableStoreFormatRegistry.getInstance().getInstanceTableStoreFormat();
+        m_offHeapCacheSize = initOffHeapCacheSize();
     }
 
     /**
@@ -100,13 +108,18 @@ public final class BufferSettings {
      *
      * @param enableLRU the enable LRU flag
      * @param lruCacheSize the LRU cache size
+     * @param lruCacheBudget the LRU cache budget in bytes
      * @param outputFormat the output format
+     * @param offHeapCacheSize the off-heap cache size in bytes
      * @noreference This constructor is not intended to be referenced by clients.
      */
-    private BufferSettings(final boolean enableLRU, final int lruCacheSize, final TableStoreFormat outputFormat) {
+    private BufferSettings(final boolean enableLRU, final int lruCacheSize, final long lruCacheBudget,
+        final TableStoreFormat outputFormat, final long offHeapCacheSize) {
         m_enableLRU = enableLRU;
         m_lruCacheSize = lruCacheSize;
+        m_lruCacheBudget = lruCacheBudget;
         m_outputFormat = outputFormat;
+        m_offHeapCacheSize = offHeapCacheSize;
     }
 
     /**
@@ -130,6 +143,50 @@ private static boolean initLRU() {
         return DEF_TABLE_CACHE.equals("LRU");
     }
 
+    /**
+     * Initializes the LRU cache budget w.r.t. the defined properties.
+     *
+     * @return the LRU cache budget in bytes
+     */
+    private static long initLRUCacheBudget() {
+        final long defBudget = Runtime.getRuntime().maxMemory() / 2;
+        final String valSize = System.getProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_SIZE);
+        if (valSize != null) {
+            try {
+                final long sizeInMB = Long.parseLong(valSize.trim());
+                if (sizeInMB > 0) {
+                    return sizeInMB << 20;
+                }
+            } catch (NumberFormatException nfe) {
+                // warning below
+            }
+            LOGGER.warn("Invalid setting for table cache size: " + valSize + ". Using default: "
+                + (defBudget >> 20) + "MB.");
+        }
+        return defBudget;
+    }
+
+    /**
+     * Initializes the off-heap cache size w.r.t. the defined properties.
+     *
+     * @return the off-heap cache size in bytes
+     */
+    private static long initOffHeapCacheSize() {
+        final String valSize = System.getProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_OFF_HEAP_SIZE);
+        if (valSize != null) {
+            try {
+                final long sizeInMB = Long.parseLong(valSize.trim());
+                if (sizeInMB >= 0) {
+                    return sizeInMB << 20;
+                }
+            } catch (NumberFormatException nfe) {
+                // warning below
+            }
+            LOGGER.warn("Invalid setting for off-heap table cache size: " + valSize + ". Off-heap cache disabled.");
+        }
+        return 0;
+    }
+
     /**
      * Returns whether to use LRU caching or not.
      *
@@ -148,6 +205,43 @@ int getLRUCacheSize() {
         return m_lruCacheSize;
     }
 
+    /**
+     * Returns the the LRU cache budget, i.e., the estimated number of bytes that tables in the LRU cache may occupy.
+     *
+     * @return the LRU cache budget in bytes
+     */
+    long getLRUCacheBudget() {
+        return m_lruCacheBudget;
+    }
+
+    /**
+     * Returns whether tables are moved into the off-heap cache, which requires LRU caching.
+     *
+     * @return flag indicating whether to use the off-heap cache or not
+     */
+    boolean useOffHeapCache() {
+        return m_enableLRU && m_offHeapCacheSize > 0;
+    }
+
+    /**
+     * Returns the off-heap cache size.
+     *
+     * @return the off-heap cache size in bytes, 0 if disabled
+     */
+    long getOffHeapCacheSize() {
+        return m_offHeapCacheSize;
+    }
+
+    /**
+     * Returns the configured {@link TableStoreFormat}, which may not accept all specs.
+     *
+     * @return the configured {@link TableStoreFormat}
+     * @see #getOutputFormat(DataTableSpec)
+     */
+    TableStoreFormat getOutputFormat() {
+        return m_outputFormat;
+    }
+
     /**
      * Returns the {@link TableStoreFormat} used to read and write the {@link Buffer Buffer's} content.
      *
@@ -183,7 +277,7 @@ public static BufferSettings getDefault() {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withLRU(final boolean enableLRU) {
-        return new BufferSettings(enableLRU, m_lruCacheSize, m_outputFormat);
+        return new BufferSettings(enableLRU, m_lruCacheSize, m_lruCacheBudget, m_outputFormat, m_offHeapCacheSize);
     }
 
     /**
@@ -194,7 +288,18 @@ public BufferSettings withLRU(final boolean enableLRU) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withLRUCacheSize(final int lruCacheSize) {
-        return new BufferSettings(m_enableLRU, lruCacheSize, m_outputFormat);
+        return new BufferSettings(m_enableLRU, lruCacheSize, m_lruCacheBudget, m_outputFormat, m_offHeapCacheSize);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the LRU cache budget.
+     *
+     * @param lruCacheBudget the new LRU cache budget in bytes
+     * @return a new instance of {@code BufferSettings}
+     */
+    public BufferSettings withLRUCacheBudget(final long lruCacheBudget) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, lruCacheBudget, m_outputFormat, m_offHeapCacheSize);
     }
 
     /**
@@ -205,7 +310,18 @@ public BufferSettings withLRUCacheSize(final int lruCacheSize) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withOutputFormat(final TableStoreFormat outputFormat) {
-        return new BufferSettings(m_enableLRU, m_lruCacheSize, outputFormat);
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_lruCacheBudget, outputFormat, m_offHeapCacheSize);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the off-heap cache size.
+     *
+     * @param offHeapCacheSize the new off-heap cache size in bytes, 0 to disable the off-heap cache
+     * @return a new instance of {@code BufferSettings}
+     */
+    public BufferSettings withOffHeapCacheSize(final long offHeapCacheSize) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_lruCacheBudget, m_outputFormat, offHeapCacheSize);
     }
 
 }
@@ -0,0 +1,186 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IDataRepository;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.CompressionCodec;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * A column-oriented table store format. Rows are collected in chunks of (by default) {@value #DEF_CHUNK_SIZE} rows
+ * and each chunk is written column by column. Columns of type {@link org.knime.core.data.def.DoubleCell},
+ * {@link org.knime.core.data.def.IntCell}, {@link org.knime.core.data.def.LongCell} and
+ * {@link org.knime.core.data.def.BooleanCell} are stored as primitive arrays (plus a bit set for missing values),
+ * all other columns (and chunks of primitive columns containing unexpected cells) are stored cell by cell as in the
+ * {@link DefaultTableStoreFormat}. Each column chunk is compressed and length-prefixed separately so that iterators
+ * that only {@link org.knime.core.data.RowIteratorBuilder#filterColumns(int...) select some columns} skip the bytes
+ * of all other columns without reading or decoding them.
+ *
+ * <p>
+ * The format is selected via the table store format preference ({@link
+ * org.knime.core.data.container.storage.TableStoreFormatRegistry#PREF_KEY_STORAGE_FORMAT}). It is mostly beneficial
+ * for wide tables whose downstream nodes only access a few of the columns.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ColumnarTableStoreFormat implements TableStoreFormat {
+
+    /** Default number of rows per chunk. */
+    static final int DEF_CHUNK_SIZE = 1024;
+
+    /** The version string written to (and expected in) the meta data. */
+    private static final String VERSION = "columnar_1";
+
+    /** The table store settings, defining the compression applied to each column chunk. */
+    private final DefaultTableStoreSettings m_tableStoreSettings;
+
+    /** The number of rows per chunk. */
+    private final int m_chunkSize;
+
+    /**
+     * Constructor using the default table store settings (as also used by the {@link DefaultTableStoreFormat}).
+     */
+    public ColumnarTableStoreFormat() {
+        this(DefaultTableStoreSettings.getDefault(), DEF_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tableStoreSettings the table store settings
+     * @param chunkSize the number of rows per chunk, must be larger than 0
+     */
+    ColumnarTableStoreFormat(final DefaultTableStoreSettings tableStoreSettings, final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be larger than 0: " + chunkSize);
+        }
+        m_tableStoreSettings = tableStoreSettings;
+        m_chunkSize = chunkSize;
+    }
+
+    @Override
+    public String getName() {
+        return "Columnar (chunked, with column projection)";
+    }
+
+    @Override
+    public String getFilenameSuffix() {
+        return ".kcol";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accepts(final DataTableSpec spec) {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final File binFile, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return createWriter(new FileOutputStream(binFile), spec, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return new ColumnarTableStoreWriter(spec, output, writeRowKey, getCompressionCodec(),
+            m_tableStoreSettings.getCompressionLevel(), m_chunkSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreReader createReader(final File binFile, final DataTableSpec spec,
+        final IDataRepository dataRepository, final NodeSettingsRO settings, final int version,
+        final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        return new ColumnarTableStoreReader(binFile, spec, settings, version, isReadRowKey);
+    }
+
+    /** @return the compression codec applied to each column chunk */
+    CompressionCodec getCompressionCodec() {
+        return m_tableStoreSettings.getCompressionCodec();
+    }
+
+    /** @return the settings defining the compression of column chunks */
+    DefaultTableStoreSettings getTableStoreSettings() {
+        return m_tableStoreSettings;
+    }
+
+    /** @return the number of rows per chunk */
+    int getChunkSize() {
+        return m_chunkSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateVersion(final String versionString) {
+        return VERSION.equals(versionString);
+    }
+
+}
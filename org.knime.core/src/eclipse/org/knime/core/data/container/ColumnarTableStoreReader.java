@@ -0,0 +1,342 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_BOOLEAN;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_CELLS;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_DOUBLE;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_INT;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_LONG;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.BufferFromFileIteratorVersion20.DataCellStreamReader;
+import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.CompressionCodec;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Reader for the {@link ColumnarTableStoreFormat}, see {@link ColumnarTableStoreWriter} for the file layout. Iterators
+ * created with a column filter skip the (length-prefixed) data of all unselected columns. The returned rows are
+ * {@link PrimitiveDataRow PrimitiveDataRows} backed by the decoded chunk, primitive values are not converted into
+ * cells unless accessed as such.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreReader extends AbstractTableStoreReader {
+
+    private final CompressionCodec m_compressionFormat;
+
+    private final boolean m_isReadRowKey;
+
+    /**
+     * Constructs a reader.
+     *
+     * @param binFile the local file from which to read
+     * @param spec the specification of the data table
+     * @param settings The settings (written by
+     *            {@link AbstractTableStoreWriter#writeMetaInfoAfterWrite(org.knime.core.node.NodeSettingsWO)})
+     * @param version The version as defined in the {@link Buffer} class
+     * @param isReadRowKey whether or not row keys are to be read (or generated anew)
+     * @throws IOException any type of I/O problem
+     * @throws InvalidSettingsException if the settings can't be parsed
+     */
+    ColumnarTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
+        final int version, final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        super(binFile, spec, settings, version);
+        readCellClassInfoArrayFromMetaVersion2(settings);
+        m_compressionFormat = DefaultTableStoreFormat.loadCompressionCodec(settings, version);
+        m_isReadRowKey = isReadRowKey;
+    }
+
+    @Override
+    public TableStoreCloseableRowIterator iterator() {
+        return iterator(null);
+    }
+
+    /** {@inheritDoc} The data of unselected columns is skipped on disc. */
+    @Override
+    public TableStoreCloseableRowIterator iterator(final int[] materializedColumns) {
+        try {
+            return new ColumnarFromFileIterator(materializedColumns);
+        } catch (IOException ioe) {
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException("Cannot read file \"" + getFile().getName() + "\"", ioe);
+        }
+    }
+
+    /**
+     * Creates the cell for a primitive value.
+     *
+     * @param encoding the primitive encoding
+     * @param isMissing whether the value is missing
+     * @param value the raw value bits
+     * @return a new cell
+     */
+    static DataCell toCell(final byte encoding, final boolean isMissing, final long value) {
+        if (isMissing) {
+            return DataType.getMissingCell();
+        }
+        switch (encoding) {
+            case ENC_DOUBLE:
+                return new DoubleCell(Double.longBitsToDouble(value));
+            case ENC_INT:
+                return new IntCell((int)value);
+            case ENC_LONG:
+                return new LongCell(value);
+            case ENC_BOOLEAN:
+                return BooleanCell.get(value != 0L);
+            default:
+                throw new IllegalArgumentException("Not a primitive encoding: " + encoding);
+        }
+    }
+
+    /** Skips the argument number of bytes in the stream. */
+    private static void skipFully(final DataInputStream in, final int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            final int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException("Unexpected end of file while skipping column data");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /** Iterator reading chunk by chunk. */
+    private final class ColumnarFromFileIterator extends TableStoreCloseableRowIterator {
+
+        private DataInputStream m_in;
+
+        /** Flag per column whether it is to be materialized, or null if all are. */
+        private final boolean[] m_isMaterialized;
+
+        private final DataCellStreamReader m_cellReader;
+
+        private final int m_colCount;
+
+        /** The decoded current chunk, its arrays are not reused as rows may be retained by the caller. */
+        private PrimitiveRowChunk m_chunk;
+
+        private int m_chunkRowCount;
+
+        private int m_indexInChunk;
+
+        private long m_pointer;
+
+        ColumnarFromFileIterator(final int[] materializedColumns) throws IOException {
+            m_colCount = getSpec().getNumColumns();
+            if (materializedColumns != null) {
+                m_isMaterialized = new boolean[m_colCount];
+                for (int i : materializedColumns) {
+                    m_isMaterialized[i] = true;
+                }
+            } else {
+                m_isMaterialized = null;
+            }
+            m_cellReader = new DataCellStreamReader(ColumnarTableStoreReader.this);
+            m_in = new DataInputStream(new BufferedInputStream(new FileInputStream(getFile())));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean hasNext() {
+            boolean hasNext = m_pointer < getBuffer().size();
+            if (!hasNext && m_in != null) {
+                close();
+            }
+            return hasNext;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized BlobSupportDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            if (m_in == null) {
+                throw new IllegalStateException("Invalid access on table, iterator has been closed");
+            }
+            if (m_indexInChunk == m_chunkRowCount) {
+                try {
+                    readChunk();
+                } catch (IOException ioe) {
+                    throw new RuntimeException("Errors while reading row " + (m_pointer + 1) + " from file \""
+                        + getFile().getName() + "\": " + ioe.getMessage(), ioe);
+                }
+            }
+            m_pointer++;
+            return new PrimitiveChunkDataRow(m_chunk, m_indexInChunk++);
+        }
+
+        private void readChunk() throws IOException {
+            final int rowCount = m_in.readInt();
+            final RowKey[] keys = new RowKey[rowCount];
+            if (m_isReadRowKey) {
+                final DCObjectInputVersion2 in = new DCObjectInputVersion2(readSegment(), m_cellReader);
+                try {
+                    for (int r = 0; r < rowCount; r++) {
+                        keys[r] = in.readRowKey();
+                    }
+                } finally {
+                    in.close();
+                }
+            } else {
+                Arrays.fill(keys, DUMMY_ROW_KEY);
+            }
+            final byte[] encodings = new byte[m_colCount];
+            final long[][] values = new long[m_colCount][];
+            final boolean[][] missing = new boolean[m_colCount][];
+            final DataCell[][] cells = new DataCell[m_colCount][];
+            for (int c = 0; c < m_colCount; c++) {
+                final byte encoding = m_in.readByte();
+                if (m_isMaterialized != null && !m_isMaterialized[c]) {
+                    encodings[c] = PrimitiveRowChunk.ENC_UNMATERIALIZED;
+                    skipFully(m_in, m_in.readInt());
+                    continue;
+                }
+                encodings[c] = encoding;
+                if (encoding == ENC_CELLS) {
+                    cells[c] = readCells(rowCount);
+                } else {
+                    values[c] = new long[rowCount];
+                    missing[c] = new boolean[rowCount];
+                    readPrimitives(encoding, rowCount, values[c], missing[c]);
+                }
+            }
+            m_chunk = new PrimitiveRowChunk(keys, encodings, values, missing, cells, rowCount);
+            m_chunkRowCount = rowCount;
+            m_indexInChunk = 0;
+        }
+
+        /** @return decompressing stream on the next length-prefixed segment */
+        private InputStream readSegment() throws IOException {
+            final byte[] bytes = new byte[m_in.readInt()];
+            m_in.readFully(bytes);
+            return m_compressionFormat.createInputStream(new ByteArrayInputStream(bytes));
+        }
+
+        private DataCell[] readCells(final int rowCount) throws IOException {
+            final DataCell[] cells = new DataCell[rowCount];
+            final BlockableDCObjectInputVersion2 in = new BlockableDCObjectInputVersion2(readSegment(), m_cellReader);
+            try {
+                for (int r = 0; r < rowCount; r++) {
+                    try {
+                        cells[r] = m_cellReader.readDataCell(in);
+                    } finally {
+                        in.endBlock();
+                    }
+                }
+            } finally {
+                in.close();
+            }
+            return cells;
+        }
+
+        private void readPrimitives(final byte encoding, final int rowCount, final long[] values,
+            final boolean[] missing) throws IOException {
+            try (DataInputStream in = new DataInputStream(readSegment())) {
+                for (int r = 0; r < rowCount; r += 8) {
+                    final int bits = in.readUnsignedByte();
+                    for (int b = 0; b < 8 && r + b < rowCount; b++) {
+                        missing[r + b] = (bits & (1 << b)) != 0;
+                    }
+                }
+                for (int r = 0; r < rowCount; r++) {
+                    switch (encoding) {
+                        case ENC_DOUBLE:
+                        case ENC_LONG:
+                            values[r] = in.readLong();
+                            break;
+                        case ENC_INT:
+                            values[r] = in.readInt();
+                            break;
+                        case ENC_BOOLEAN:
+                            values[r] = in.readByte();
+                            break;
+                        default:
+                            throw new IOException("Unknown column encoding: " + encoding);
+                    }
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            if (m_in == null) {
+                return false;
+            }
+            final DataInputStream in = m_in;
+            m_in = null;
+            in.close();
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,328 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DCObjectOutputVersion2.BlockableDCObjectOutputVersion2;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.CompressionCodec;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Writer for the {@link ColumnarTableStoreFormat}. The file is a sequence of chunks, each chunk is laid out as
+ *
+ * <pre>
+ *   int rowCount
+ *   [int length, byte[length] row keys]     (only if row keys are written)
+ *   for each column: byte encoding, int length, byte[length] column data
+ * </pre>
+ *
+ * where all byte arrays are compressed individually using the configured {@link CompressionCodec}. Primitive
+ * column data consists of a bit set marking missing values followed by the (fixed-width) values.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreWriter extends AbstractTableStoreWriter {
+
+    /** Column chunk encoding: cells written one by one (as in the {@link DefaultTableStoreFormat}). */
+    static final byte ENC_CELLS = 0;
+
+    /** Column chunk encoding: 8 byte double values. */
+    static final byte ENC_DOUBLE = 1;
+
+    /** Column chunk encoding: 4 byte int values. */
+    static final byte ENC_INT = 2;
+
+    /** Column chunk encoding: 8 byte long values. */
+    static final byte ENC_LONG = 3;
+
+    /** Column chunk encoding: 1 byte boolean values. */
+    static final byte ENC_BOOLEAN = 4;
+
+    private final DataOutputStream m_out;
+
+    private final CompressionCodec m_compFormat;
+
+    private final int m_compLevel;
+
+    private final int m_chunkSize;
+
+    /** Row keys of the current chunk (null if keys are not written). */
+    private final RowKey[] m_keys;
+
+    private final ColumnChunkWriter[] m_columns;
+
+    /** Reused to collect the compressed bytes of a single column chunk. */
+    private final ByteArrayOutputStream m_segmentBytes = new ByteArrayOutputStream();
+
+    private int m_rowsInChunk;
+
+    /**
+     * Constructs a writer.
+     *
+     * @param spec the specification of the KNIME table to write to disk
+     * @param outputStream to write to
+     * @param writeRowKey whether to store the row keys
+     * @param compFormat the compression format or codec applied to each column chunk
+     * @param compLevel the compression level (see {@link CompressionCodec#isValidLevel(int)})
+     * @param chunkSize the number of rows per chunk
+     */
+    ColumnarTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
+        final CompressionCodec compFormat, final int compLevel, final int chunkSize) {
+        super(spec, writeRowKey);
+        m_out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        m_compFormat = compFormat;
+        m_compLevel = compLevel;
+        m_chunkSize = chunkSize;
+        m_keys = writeRowKey ? new RowKey[chunkSize] : null;
+        m_columns = new ColumnChunkWriter[spec.getNumColumns()];
+        for (int i = 0; i < m_columns.length; i++) {
+            m_columns[i] = new ColumnChunkWriter(getPrimitiveEncoding(spec.getColumnSpec(i).getType()));
+        }
+    }
+
+    /**
+     * @param type column type
+     * @return the primitive encoding used for columns of that type or {@link #ENC_CELLS}
+     */
+    static byte getPrimitiveEncoding(final DataType type) {
+        final Class<? extends DataCell> cellClass = type.getCellClass();
+        if (cellClass == DoubleCell.class) {
+            return ENC_DOUBLE;
+        } else if (cellClass == IntCell.class) {
+            return ENC_INT;
+        } else if (cellClass == LongCell.class) {
+            return ENC_LONG;
+        } else if (cellClass == BooleanCell.class) {
+            return ENC_BOOLEAN;
+        }
+        return ENC_CELLS;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeRow(final DataRow row) throws IOException {
+        if (m_keys != null) {
+            m_keys[m_rowsInChunk] = row.getKey();
+        }
+        if (row instanceof PrimitiveChunkDataRow) {
+            final PrimitiveChunkDataRow primitiveRow = (PrimitiveChunkDataRow)row;
+            for (int i = 0; i < m_columns.length; i++) {
+                m_columns[i].add(m_rowsInChunk, primitiveRow, i);
+            }
+        } else {
+            final boolean isBlobRow = row instanceof BlobSupportDataRow;
+            for (int i = 0; i < m_columns.length; i++) {
+                final DataCell cell = isBlobRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+                m_columns[i].add(m_rowsInChunk, cell);
+            }
+        }
+        if (++m_rowsInChunk == m_chunkSize) {
+            writeChunk();
+        }
+    }
+
+    /** Writes all buffered rows as one chunk. */
+    private void writeChunk() throws IOException {
+        if (m_rowsInChunk == 0) {
+            return;
+        }
+        m_out.writeInt(m_rowsInChunk);
+        if (m_keys != null) {
+            try (DCObjectOutputVersion2 out = new DCObjectOutputVersion2(openSegment(), this)) {
+                for (int r = 0; r < m_rowsInChunk; r++) {
+                    out.writeRowKey(m_keys[r]);
+                    m_keys[r] = null;
+                }
+            }
+            m_out.writeInt(m_segmentBytes.size());
+            m_segmentBytes.writeTo(m_out);
+        }
+        for (ColumnChunkWriter column : m_columns) {
+            column.write(m_rowsInChunk);
+        }
+        m_rowsInChunk = 0;
+    }
+
+    /** @return a fresh compressing stream writing into {@link #m_segmentBytes}, to be closed by the caller */
+    private OutputStream openSegment() throws IOException {
+        m_segmentBytes.reset();
+        return m_compFormat.createOutputStream(m_segmentBytes, m_compLevel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
+        DefaultTableStoreFormat.saveCompressionCodec(m_compFormat, settings);
+        super.writeMetaInfoAfterWrite(settings);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeChunk();
+        } finally {
+            m_out.close();
+        }
+    }
+
+    /**
+     * Collects the values of one column for the current chunk. Values of primitive columns are kept as raw long bits;
+     * if a chunk receives a cell that can't be represented that way (for instance a missing cell with error message)
+     * the chunk falls back to the generic cell encoding.
+     */
+    private final class ColumnChunkWriter {
+
+        private final byte m_primitiveEncoding;
+
+        private byte m_encoding;
+
+        private final long[] m_values;
+
+        private final boolean[] m_isMissing;
+
+        private DataCell[] m_cells;
+
+        ColumnChunkWriter(final byte primitiveEncoding) {
+            m_primitiveEncoding = primitiveEncoding;
+            m_encoding = primitiveEncoding;
+            m_values = primitiveEncoding == ENC_CELLS ? null : new long[m_chunkSize];
+            m_isMissing = primitiveEncoding == ENC_CELLS ? null : new boolean[m_chunkSize];
+            m_cells = primitiveEncoding == ENC_CELLS ? new DataCell[m_chunkSize] : null;
+        }
+
+        void add(final int index, final DataCell cell) {
+            if (m_encoding != ENC_CELLS) {
+                if (PrimitiveRowChunk.storePrimitive(m_encoding, cell, m_values, m_isMissing, index)) {
+                    return;
+                }
+                switchToCellEncoding(index);
+            }
+            m_cells[index] = cell;
+        }
+
+        /** Adds the value of a chunk-backed row, copying the raw value bits if the encodings match. */
+        void add(final int index, final PrimitiveChunkDataRow row, final int column) {
+            if (m_encoding != ENC_CELLS && row.getEncoding(column) == m_encoding) {
+                m_isMissing[index] = row.isMissing(column);
+                m_values[index] = m_isMissing[index] ? 0L : row.getValue(column);
+            } else {
+                add(index, row.getRawCell(column));
+            }
+        }
+
+        /** Converts the primitive values collected so far into cells. */
+        private void switchToCellEncoding(final int count) {
+            if (m_cells == null) {
+                m_cells = new DataCell[m_chunkSize];
+            }
+            for (int r = 0; r < count; r++) {
+                m_cells[r] = ColumnarTableStoreReader.toCell(m_encoding, m_isMissing[r], m_values[r]);
+            }
+            m_encoding = ENC_CELLS;
+        }
+
+        void write(final int rowCount) throws IOException {
+            if (m_encoding == ENC_CELLS) {
+                try (BlockableDCObjectOutputVersion2 out =
+                    new BlockableDCObjectOutputVersion2(openSegment(), ColumnarTableStoreWriter.this)) {
+                    for (int r = 0; r < rowCount; r++) {
+                        writeDataCell(m_cells[r], out);
+                        out.endBlock();
+                        m_cells[r] = null;
+                    }
+                }
+            } else {
+                try (DataOutputStream out = new DataOutputStream(openSegment())) {
+                    for (int r = 0; r < rowCount; r += 8) {
+                        int bits = 0;
+                        for (int b = 0; b < 8 && r + b < rowCount; b++) {
+                            if (m_isMissing[r + b]) {
+                                bits |= 1 << b;
+                            }
+                        }
+                        out.writeByte(bits);
+                    }
+                    for (int r = 0; r < rowCount; r++) {
+                        switch (m_encoding) {
+                            case ENC_DOUBLE:
+                            case ENC_LONG:
+                                out.writeLong(m_values[r]);
+                                break;
+                            case ENC_INT:
+                                out.writeInt((int)m_values[r]);
+                                break;
+                            default:
+                                out.writeByte((int)m_values[r]);
+                        }
+                    }
+                }
+            }
+            m_out.writeByte(m_encoding);
+            m_out.writeInt(m_segmentBytes.size());
+            m_segmentBytes.writeTo(m_out);
+            m_encoding = m_primitiveEncoding;
+        }
+    }
+
+}
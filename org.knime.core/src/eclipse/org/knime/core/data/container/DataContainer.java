@@ -94,9 +94,9 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.workflow.WorkflowDataRepository;
-import org.knime.core.util.DuplicateChecker;
 import org.knime.core.util.DuplicateKeyException;
 import org.knime.core.util.FileUtil;
+import org.knime.core.util.IDuplicateChecker;
 import org.knime.core.util.ThreadUtils.RunnableWithContext;
 
 /**
@@ -254,7 +254,7 @@ public Thread newThread(final Runnable r) {
     private int m_maxRowsInMemory;
 
     /** Holds the keys of the added rows to check for duplicates. */
-    private DuplicateChecker m_duplicateChecker;
+    private IDuplicateChecker m_duplicateChecker;
 
     /** The tablespec of the return table. */
     private DataTableSpec m_spec;
@@ -831,9 +831,9 @@ protected int createInternalBufferID() {
      * duplicates being added whatsoever.
      *
      * @param key Key being added. This implementation extracts the string representation from it and adds it to an
-     *            internal {@link DuplicateChecker} instance.
+     *            internal {@link IDuplicateChecker} instance.
      * @throws DataContainerException This implementation may throw a <code>DataContainerException</code> when
-     *             {@link DuplicateChecker#addKey(String)} throws an {@link IOException}.
+     *             {@link IDuplicateChecker#addKey(String)} throws an {@link IOException}.
      * @throws DuplicateKeyException If a duplicate is encountered.
      */
     protected void addRowKeyForDuplicateCheck(final RowKey key) {
@@ -931,7 +931,9 @@ public static DataTable cache(final DataTable table, final ExecutionMonitor exec
         try {
             for (RowIterator it = table.iterator(); it.hasNext(); row++) {
                 DataRow next = it.next();
-                exec.setMessage("Caching row #" + (row + 1) + " (\"" + next.getKey() + "\")");
+                if (exec.isProgressUpdateDue()) {
+                    exec.setMessage("Caching row #" + (row + 1) + " (\"" + next.getKey() + "\")");
+                }
                 exec.checkCanceled();
                 buf.addRowToTable(next);
             }
@@ -1016,7 +1018,9 @@ public static void writeToStream(final DataTable table, final OutputStream out,
             int rowCount = 0;
             for (DataRow row : table) {
                 rowCount++;
-                e.setMessage("Writing row #" + rowCount + " (\"" + row.getKey() + "\")");
+                if (e.isProgressUpdateDue()) {
+                    e.setMessage("Writing row #" + rowCount + " (\"" + row.getKey() + "\")");
+                }
                 e.checkCanceled();
                 buf.addRow(row, false, false);
             }
@@ -54,6 +54,9 @@
 
 import org.knime.core.data.DataTableDomainCreator;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.container.storage.CompressionCodec;
+import org.knime.core.data.container.storage.TableStoreFormat;
 import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.ConfigurableWorkflowContext;
@@ -61,6 +64,8 @@
 import org.knime.core.node.workflow.WorkflowContext;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.util.DuplicateChecker;
+import org.knime.core.util.HashDuplicateChecker;
+import org.knime.core.util.IDuplicateChecker;
 
 /**
  * The data container settings. Solely used for benchmarking.
@@ -97,6 +102,10 @@ public final class DataContainerSettings {
     /** The default initialize domain flag. */
     private static final boolean DEF_INIT_DOMAIN = false;
 
+    /** Whether to check row keys using hashes, see {@link KNIMEConstants#PROPERTY_HASH_ROWID_DUPLICATE_CHECK}. */
+    private static final boolean USE_HASH_DUPLICATE_CHECKER =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_HASH_ROWID_DUPLICATE_CHECK);
+
     /**
      * Builder pattern.
      *
@@ -195,8 +204,8 @@ DataContainerSettings build() {
 
     }
 
-    /** The function creating new instances of {@link DuplicateChecker}. */
-    private final Supplier<DuplicateChecker> m_duplicateCheckerCreator;
+    /** The function creating new instances of {@link IDuplicateChecker}. */
+    private final Supplier<IDuplicateChecker> m_duplicateCheckerCreator;
 
     /** The function creating new instances of {@link DataTableDomainCreator}. */
     private final BiFunction<DataTableSpec, Boolean, DataTableDomainCreator> m_tableDomainCreatorFunction;
@@ -229,7 +238,7 @@ DataContainerSettings build() {
      * Default constructor.
      */
     private DataContainerSettings() {
-        m_duplicateCheckerCreator = () -> new DuplicateChecker(Integer.MAX_VALUE);
+        m_duplicateCheckerCreator = DataContainerSettings::newDuplicateChecker;
         m_tableDomainCreatorFunction = (spec, initDomain) -> new DataTableDomainCreator(spec, initDomain);
         m_maxCellsInMemory = initMaxCellsInMemory();
         m_syncIO = initSynchronousIO();
@@ -254,7 +263,7 @@ private DataContainerSettings() {
      * @param builder the builder holding the settings
      */
     private DataContainerSettings(final Builder builder) {
-        m_duplicateCheckerCreator = () -> new DuplicateChecker(Integer.MAX_VALUE);
+        m_duplicateCheckerCreator = DataContainerSettings::newDuplicateChecker;
         m_tableDomainCreatorFunction = (spec, initDomain) -> new DataTableDomainCreator(spec, initDomain);
         m_maxCellsInMemory = builder.m_maxCellsInMemory;
         m_syncIO = builder.m_syncIO;
@@ -348,14 +357,24 @@ public int getMaxDomainValues() {
     }
 
     /**
-     * Creates a {@link DuplicateChecker} ensuring that the row keys are unique.
+     * Creates a {@link IDuplicateChecker} ensuring that the row keys are unique.
      *
-     * @return a {@code DuplicateChecker}
+     * @return a {@code IDuplicateChecker}
      */
-    DuplicateChecker createDuplicateChecker() {
+    IDuplicateChecker createDuplicateChecker() {
         return m_duplicateCheckerCreator.get();
     }
 
+    /**
+     * Creates a {@link HashDuplicateChecker} if enabled via {@link KNIMEConstants#PROPERTY_HASH_ROWID_DUPLICATE_CHECK},
+     * otherwise a {@link DuplicateChecker} that keeps the keys in memory until memory gets low.
+     *
+     * @return a new duplicate checker
+     */
+    private static IDuplicateChecker newDuplicateChecker() {
+        return USE_HASH_DUPLICATE_CHECKER ? new HashDuplicateChecker() : new DuplicateChecker(Integer.MAX_VALUE);
+    }
+
     /**
      * Initializes a domain creator.
      *
@@ -487,6 +506,32 @@ public DataContainerSettings withBufferSettings(final BufferSettings bufferSetti
         return b.build();
     }
 
+    /**
+     * Creates a new <code>DataContainerSetting</code> object by replicating the current
+     * <code>DataContainerSetting</code> instance and solely changes the compression used to write the table to disc.
+     * The compression applies to the {@link DefaultTableStoreFormat} and the {@link ColumnarTableStoreFormat}; any
+     * other table store format is replaced by the default format.
+     *
+     * @param compFormat the compression format or codec, see
+     *            {@link org.knime.core.data.container.storage.CompressionCodecRegistry#getCodecs()}
+     * @param compLevel the compression level, see {@link CompressionCodec#isValidLevel(int)}
+     * @return a new instance of {@code DataContainerSettings}
+     * @throws IllegalArgumentException if the level is not valid for the compression codec
+     * @since 3.8
+     */
+    public DataContainerSettings withCompression(final CompressionCodec compFormat, final int compLevel) {
+        final DefaultTableStoreSettings storeSettings =
+            DefaultTableStoreSettings.getDefault().withCompression(compFormat, compLevel);
+        final TableStoreFormat format = m_bufferSettings.getOutputFormat();
+        final TableStoreFormat newFormat;
+        if (format instanceof ColumnarTableStoreFormat) {
+            newFormat = new ColumnarTableStoreFormat(storeSettings, ((ColumnarTableStoreFormat)format).getChunkSize());
+        } else {
+            newFormat = new DefaultTableStoreFormat(storeSettings);
+        }
+        return withBufferSettings(m_bufferSettings.withOutputFormat(newFormat));
+    }
+
     /**
      * Initializes the maximum number of cells in memory w.r.t. the defined properties.
      *
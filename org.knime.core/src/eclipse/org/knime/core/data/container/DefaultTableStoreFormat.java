@@ -50,12 +50,13 @@
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -64,17 +65,21 @@
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.CompressionCodec;
+import org.knime.core.data.container.storage.CompressionCodecRegistry;
 import org.knime.core.data.container.storage.TableStoreFormat;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.util.CheckUtils;
 import org.xerial.snappy.SnappyInputStream;
 import org.xerial.snappy.SnappyOutputStream;
 
 import net.jpountz.lz4.LZ4BlockInputStream;
 import net.jpountz.lz4.LZ4BlockOutputStream;
+import net.jpountz.lz4.LZ4Factory;
 
 /**
  * The default table store format used to read data from / write data to disc.
@@ -117,82 +122,122 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
     }
 
     /**
-     * Various compression formats for KNIME datatables.
+     * Function creating a compressing output stream using a compression level.
+     */
+    @FunctionalInterface
+    private static interface CompressingStreamFunction {
+
+        /**
+         * Creates the compressing stream.
+         *
+         * @param out the stream to write the compressed data to
+         * @param level the compression level, within the bounds of the compression format, or
+         *            {@link CompressionCodec#DEFAULT_LEVEL}
+         * @return the compressing stream
+         * @throws IOException - If the stream cannot be created
+         */
+        OutputStream apply(OutputStream out, int level) throws IOException;
+    }
+
+    /** GZip output stream using a custom compression level. */
+    private static final class LevelGZIPOutputStream extends GZIPOutputStream {
+
+        LevelGZIPOutputStream(final OutputStream out, final int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+
+    /**
+     * Various compression formats for KNIME datatables, the built-in {@link CompressionCodec compression codecs}.
      *
      * @author Mark Ortmann, KNIME GmbH, Berlin, Germany
      * @since 3.8
      */
-    public static enum CompressionFormat {
+    public static enum CompressionFormat implements CompressionCodec {
 
             /** No compression. */
-            NONE(".bin", //
+            NONE(".bin", 0, //
                 i -> new BufferedInputStream(i), //
-                o -> o),
+                (o, l) -> o),
 
-            /** GZip compression. */
-            GZIP(".bin.gz", //
+            /** GZip compression, levels 1 (fastest) to 9 (best compression). */
+            GZIP(".bin.gz", Deflater.BEST_COMPRESSION, //
                 i -> new BufferedInputStream(new GZIPInputStream(i)), //
-                o -> new BufferedOutputStream(new GZIPOutputStream(o))),
+                (o, l) -> new BufferedOutputStream(
+                    l == CompressionFormat.DEFAULT_LEVEL ? new GZIPOutputStream(o) : new LevelGZIPOutputStream(o, l))),
 
-            /** LZ4 compression. */
-            LZ4(".bin.lz4", //
+            /** LZ4 compression, levels 1 to 17 use the (slower, denser) high compression variant. */
+            LZ4(".bin.lz4", 17, //
                 i -> new BufferedInputStream(new LZ4BlockInputStream(i)), //
-                o -> new BufferedOutputStream(new LZ4BlockOutputStream(o))),
+                (o, l) -> new BufferedOutputStream(l == CompressionFormat.DEFAULT_LEVEL ? new LZ4BlockOutputStream(o)
+                    : new LZ4BlockOutputStream(o, 1 << 16, LZ4Factory.fastestInstance().highCompressor(l)))),
 
             /** Snappy compression. */
-            SNAPPY(".bin.snappy", //
+            SNAPPY(".bin.snappy", 0, //
                 i -> new BufferedInputStream(new SnappyInputStream(i)), //
-                o -> new BufferedOutputStream(new SnappyOutputStream(o)));
+                (o, l) -> new BufferedOutputStream(new SnappyOutputStream(o)));
+
+        /** The level denoting the format's default compression level. */
+        public static final int DEFAULT_LEVEL = CompressionCodec.DEFAULT_LEVEL;
+
+        /** The magic bytes starting each LZ4 block header. */
+        private static final byte[] LZ4_MAGIC = "LZ4Block".getBytes(StandardCharsets.US_ASCII);
+
+        /** The length of the (empty) block marking the end of an LZ4 stream: magic, token, 3 ints. */
+        private static final int LZ4_END_MARK_LENGTH = LZ4_MAGIC.length + 1 + 3 * 4;
 
         /** The file name extension. */
         private final String m_fileNameExtension;
 
+        /** The highest compression level, 0 if the format doesn't support levels. */
+        private final int m_maxLevel;
+
         /** The input stream create function. */
         private final CheckedIOFunction<InputStream, InputStream> m_inFunc;
 
         /** The output stream create function. */
-        private final CheckedIOFunction<OutputStream, OutputStream> m_outFunc;
+        private final CompressingStreamFunction m_outFunc;
 
         /**
          * Constructor.
          *
          * @param fileNameExtension the file name extension
+         * @param maxLevel the highest compression level (0 if levels are not supported)
          */
-        private CompressionFormat(final String fileNameExtension,
-            final CheckedIOFunction<InputStream, InputStream> inFunc,
-            final CheckedIOFunction<OutputStream, OutputStream> outFunc) {
+        private CompressionFormat(final String fileNameExtension, final int maxLevel,
+            final CheckedIOFunction<InputStream, InputStream> inFunc, final CompressingStreamFunction outFunc) {
             m_fileNameExtension = fileNameExtension;
+            m_maxLevel = maxLevel;
             m_inFunc = inFunc;
             m_outFunc = outFunc;
         }
 
         /**
-         * Returns the file name extension.
-         *
-         * @return the file name extension
+         * {@inheritDoc} The name of a format is the name of its constant.
          */
-        String getFileExtension() {
-            return m_fileNameExtension;
+        @Override
+        public String getName() {
+            return name();
         }
 
-        void saveSettings(final NodeSettingsWO settings) {
-            /* To ensure that GZIP-compressed and uncompressed workflows written with >= 3.8 can be loaded in earlier
-             * versions, we have to camel-case the names of these compresssion formats (None, Gzip), since KNIME AP
-             * <= 3.7 only accepts compression format Strings "Gzip" and "None".
-             */
-            settings.addString(DefaultTableStoreFormat.CFG_COMPRESSION, WordUtils.capitalize(name().toLowerCase()));
+        /** {@inheritDoc} */
+        @Override
+        public int getMaxLevel() {
+            return m_maxLevel;
         }
 
-        /**
-         * Returns the compressed output stream.
-         *
-         * @param out the output stream
-         * @return the compressed output stream
-         * @throws IOException - If GZip compression fails
-         */
-        OutputStream getOutputStream(final OutputStream out) throws IOException {
+        /** {@inheritDoc} */
+        @Override
+        public String getFileExtension() {
+            return m_fileNameExtension;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public OutputStream createOutputStream(final OutputStream out, final int level) throws IOException {
             try {
-                return m_outFunc.apply(out);
+                return m_outFunc.apply(out, level);
             } catch (final IOException e) {
                 out.close();
                 throw e;
@@ -200,46 +245,69 @@ OutputStream getOutputStream(final OutputStream out) throws IOException {
         }
 
         /**
-         * Returns the uncompressed input stream.
+         * Whether blocks of data compressed independently with
+         * {@link #compressBlock(byte[], int, int, ParallelCompressionOutputStream.CompressedBlock)} can be
+         * concatenated to a single stream, which is readable by {@link #createInputStream(InputStream)}. GZip streams
+         * consist of multiple members, LZ4 streams of independent blocks, and Snappy supports concatenated streams.
          *
-         * @param file the file to be written to
-         * @return the compressed input stream
-         * @throws IOException - If the input file does not exist or GZip compression fails
+         * @return <code>true</code> for all formats but {@link #NONE}
          */
-        @SuppressWarnings("resource")
-        InputStream getInputStream(final File file) throws IOException {
-            final FileInputStream fis = new FileInputStream(file);
-            try {
-                return m_inFunc.apply(fis);
-            } catch (final IOException e) {
-                fis.close();
-                throw e;
+        boolean supportsBlockCompression() {
+            return this != NONE;
+        }
+
+        /**
+         * Compresses a block of data independently from any other block. The result is part of a stream that needs to
+         * be terminated with {@link #finishBlocks(OutputStream)} after the last block.
+         *
+         * @param data the data to compress
+         * @param length the number of bytes to compress, starting at index 0
+         * @param level the compression level, see {@link #isValidLevel(int)}
+         * @param out the (reused) buffer to compress into, reset before
+         * @throws IOException - If compression fails
+         */
+        void compressBlock(final byte[] data, final int length, final int level,
+            final ParallelCompressionOutputStream.CompressedBlock out) throws IOException {
+            out.reset();
+            try (OutputStream compOut = createOutputStream(out, level)) {
+                compOut.write(data, 0, length);
             }
+            if (this != LZ4) {
+                return;
+            }
+            // strip the end mark, which would stop the LZ4BlockInputStream
+            final int endMarkStart = out.size() - LZ4_END_MARK_LENGTH;
+            if (endMarkStart < 0 || !Arrays.equals(LZ4_MAGIC,
+                Arrays.copyOfRange(out.getBuffer(), endMarkStart, endMarkStart + LZ4_MAGIC.length))) {
+                throw new IOException("Unexpected end of LZ4 compressed block");
+            }
+            out.truncate(endMarkStart);
         }
 
         /**
-         * Retrieves the compression format from the {@link NodeSettingsRO}.
+         * Terminates a stream of blocks written by
+         * {@link #compressBlock(byte[], int, int, ParallelCompressionOutputStream.CompressedBlock)}.
          *
-         * @param settings the {@code NodeSettingsRO}
-         * @param version the version as defined in the {@code Buffer}
-         * @return the stored {@code CompressionFormat}
-         * @throws InvalidSettingsException
+         * @param out the stream to write to, not closed
+         * @throws IOException - If writing fails
          */
-        static CompressionFormat loadSettings(final NodeSettingsRO settings, final int version)
-            throws InvalidSettingsException {
-            final String defaultFormat;
-            if (version < 12) {
-                defaultFormat = PRE_V_12_DEF_COMPRESSION.name();
-            } else {
-                defaultFormat = DEF_COMPRESSION.name();
+        void finishBlocks(final OutputStream out) throws IOException {
+            if (this == LZ4) {
+                // not closed, finishing only writes the end mark
+                @SuppressWarnings("resource")
+                final LZ4BlockOutputStream endMarkOut = new LZ4BlockOutputStream(out);
+                endMarkOut.finish();
             }
-            final String compFormat = settings.getString(DefaultTableStoreFormat.CFG_COMPRESSION, defaultFormat);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public InputStream createInputStream(final InputStream in) throws IOException {
             try {
-                // backwards compatible since #getCompressionFormat uses upper-case comparison
-                return CompressionFormat.getCompressionFormat(compFormat);
-            } catch (final IllegalArgumentException iea) {
-                throw new InvalidSettingsException(String.format("Unable to parse \"%s\" property (\"%s\"): %s",
-                    DefaultTableStoreFormat.CFG_COMPRESSION, compFormat, iea.getMessage()), iea);
+                return m_inFunc.apply(in);
+            } catch (final IOException e) {
+                in.close();
+                throw e;
             }
         }
 
@@ -262,6 +330,65 @@ static CompressionFormat getCompressionFormat(final String arg0) {
         }
     }
 
+    /**
+     * Saves the compression codec used to write a table.
+     *
+     * @param codec the codec
+     * @param settings the settings to save to
+     */
+    static void saveCompressionCodec(final CompressionCodec codec, final NodeSettingsWO settings) {
+        /* To ensure that GZIP-compressed and uncompressed workflows written with >= 3.8 can be loaded in earlier
+         * versions, we have to camel-case the names of these compresssion formats (None, Gzip), since KNIME AP
+         * <= 3.7 only accepts compression format Strings "Gzip" and "None".
+         */
+        final String name = codec instanceof CompressionFormat ? WordUtils.capitalize(codec.getName().toLowerCase())
+            : codec.getName();
+        settings.addString(CFG_COMPRESSION, name);
+    }
+
+    /**
+     * Retrieves the compression codec from the {@link NodeSettingsRO}.
+     *
+     * @param settings the {@code NodeSettingsRO}
+     * @param version the version as defined in the {@code Buffer}
+     * @return the stored {@code CompressionCodec}
+     * @throws InvalidSettingsException if the codec is unknown, e.g. because it's not installed
+     */
+    static CompressionCodec loadCompressionCodec(final NodeSettingsRO settings, final int version)
+        throws InvalidSettingsException {
+        final String defaultFormat;
+        if (version < 12) {
+            defaultFormat = PRE_V_12_DEF_COMPRESSION.name();
+        } else {
+            defaultFormat = DEF_COMPRESSION.name();
+        }
+        final String compFormat = settings.getString(CFG_COMPRESSION, defaultFormat);
+        try {
+            return getCompressionCodec(compFormat);
+        } catch (final IllegalArgumentException iea) {
+            throw new InvalidSettingsException(String.format("Unable to parse \"%s\" property (\"%s\"): %s",
+                CFG_COMPRESSION, compFormat, iea.getMessage()), iea);
+        }
+    }
+
+    /**
+     * Returns the compression codec with the given name, ignoring case. Built-in {@link CompressionFormat formats}
+     * take precedence over codecs registered via the extension point (see {@link CompressionCodecRegistry}).
+     *
+     * @param name the name of the codec, see {@link CompressionCodec#getName()}
+     * @return the codec
+     * @throws IllegalArgumentException if no such codec is installed
+     * @since 3.8
+     */
+    public static CompressionCodec getCompressionCodec(final String name) {
+        try {
+            return CompressionFormat.getCompressionFormat(name);
+        } catch (final IllegalArgumentException iae) {
+            return CompressionCodecRegistry.getInstance().getCodec(name)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown compression codec \"" + name + "\"", iae));
+        }
+    }
+
     /** The table store settings. */
     private final DefaultTableStoreSettings m_tableStoreSettings;
 
@@ -288,7 +415,7 @@ public String getName() {
 
     @Override
     public String getFilenameSuffix() {
-        return m_tableStoreSettings.getCompressionFormat().getFileExtension();
+        return m_tableStoreSettings.getCompressionCodec().getFileExtension();
     }
 
     /** {@inheritDoc} */
@@ -308,7 +435,8 @@ public AbstractTableStoreWriter createWriter(final File binFile, final DataTable
     @Override
     public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
         final boolean writeRowKey) throws IOException {
-        return new DefaultTableStoreWriter(spec, output, writeRowKey, m_tableStoreSettings.getCompressionFormat());
+        return new DefaultTableStoreWriter(spec, output, writeRowKey, m_tableStoreSettings.getCompressionCodec(),
+            m_tableStoreSettings.getCompressionLevel());
     }
 
     @Override
@@ -327,13 +455,24 @@ public String getVersion() {
     }
 
     /**
-     * The (internal) compression format used to write the format. The value is {@link #validateVersion(String)
-     * validated} during reading.
+     * The (internal) compression codec used to write the format. The value is
+     * {@link #validateCompressionFormat(String) validated} during reading.
      *
-     * @return the compression format string that is persisted
+     * @return the compression codec whose name is persisted
+     * @since 3.8
+     */
+    public CompressionCodec getCompressionCodec() {
+        return m_tableStoreSettings.getCompressionCodec();
+    }
+
+    /**
+     * The settings used to write the format.
+     *
+     * @return the table store settings
+     * @since 3.8
      */
-    public CompressionFormat getCompressionFormat() {
-        return m_tableStoreSettings.getCompressionFormat();
+    public DefaultTableStoreSettings getTableStoreSettings() {
+        return m_tableStoreSettings;
     }
 
     /**
@@ -348,10 +487,11 @@ public boolean validateVersion(final String versionString) {
      * Validates the compression format string that was saved along with the data.
      *
      * @param compressionFormatString the non-null compression format string
-     * @return true if the compression format is 'known' and readable, false otherwise
+     * @return true if the compression format (or codec) is 'known' and readable, false otherwise
      */
     public static boolean validateCompressionFormat(final String compressionFormatString) {
-        return Arrays.stream(CompressionFormat.values()).anyMatch((c) -> c.name().equals(compressionFormatString));
+        return Arrays.stream(CompressionFormat.values()).anyMatch((c) -> c.name().equals(compressionFormatString))
+            || CompressionCodecRegistry.getInstance().getCodec(compressionFormatString).isPresent();
     }
 
     /**
@@ -363,29 +503,64 @@ public static boolean validateCompressionFormat(final String compressionFormatSt
      */
     public static final class DefaultTableStoreSettings {
 
-        /** The compression format. */
-        private final CompressionFormat m_compType;
+        /** The compression codec. */
+        private final CompressionCodec m_compType;
+
+        /** The compression level. */
+        private final int m_compLevel;
 
         /** The default instance. */
         private static final DefaultTableStoreSettings DEFAULT_INSTANCE = new DefaultTableStoreSettings();
 
         /** Default constructor. */
         private DefaultTableStoreSettings() {
+            m_compType = initCompressionFormat();
+            m_compLevel = initCompressionLevel(m_compType);
+        }
+
+        /**
+         * Initializes the compression codec w.r.t. the defined properties.
+         *
+         * @return the compression codec
+         */
+        private static CompressionCodec initCompressionFormat() {
             final String compName = System.getProperty(KNIMEConstants.PROPERTY_TABLE_COMPRESSION);
             if (compName == null) {
-                m_compType = DefaultTableStoreFormat.DEF_COMPRESSION;
-            } else {
-                CompressionFormat compFormat = DefaultTableStoreFormat.DEF_COMPRESSION;
-                try {
-                    compFormat = CompressionFormat.getCompressionFormat(compName);
-                    LOGGER.debug("Setting table stream compression to " + compFormat);
-                } catch (final IllegalArgumentException iae) {
-                    LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_COMPRESSION + " (\""
-                        + compName + "\"); defaulting to " + DefaultTableStoreFormat.DEF_COMPRESSION);
-                }
-                m_compType = compFormat;
+                return DefaultTableStoreFormat.DEF_COMPRESSION;
+            }
+            CompressionCodec compFormat = DefaultTableStoreFormat.DEF_COMPRESSION;
+            try {
+                compFormat = DefaultTableStoreFormat.getCompressionCodec(compName);
+                LOGGER.debug("Setting table stream compression to " + compFormat);
+            } catch (final IllegalArgumentException iae) {
+                LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_COMPRESSION + " (\""
+                    + compName + "\"); defaulting to " + DefaultTableStoreFormat.DEF_COMPRESSION);
             }
+            return compFormat;
+        }
 
+        /**
+         * Initializes the compression level w.r.t. the defined properties.
+         *
+         * @param compFormat the compression codec the level is used with
+         * @return the compression level
+         */
+        private static int initCompressionLevel(final CompressionCodec compFormat) {
+            final String levelString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_COMPRESSION_LEVEL);
+            if (levelString == null) {
+                return CompressionFormat.DEFAULT_LEVEL;
+            }
+            try {
+                final int level = Integer.parseInt(levelString.trim());
+                if (compFormat.isValidLevel(level)) {
+                    LOGGER.debug("Setting table stream compression level to " + level);
+                    return level;
+                }
+            } catch (final NumberFormatException nfe) { // NOSONAR, warning below
+            }
+            LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_COMPRESSION_LEVEL + " (\""
+                + levelString + "\"), not a valid level for " + compFormat + "; using default level");
+            return CompressionFormat.DEFAULT_LEVEL;
         }
 
         /**
@@ -400,30 +575,56 @@ public static DefaultTableStoreSettings getDefault() {
         /**
          * Constructor.
          *
-         * @param compFormat the compression format
+         * @param compFormat the compression codec
          */
-        private DefaultTableStoreSettings(final CompressionFormat compFormat) {
+        private DefaultTableStoreSettings(final CompressionCodec compFormat, final int compLevel) {
             m_compType = compFormat;
+            m_compLevel = compLevel;
         }
 
         /**
-         * Returns the compression format.
+         * Returns the compression codec.
          *
-         * @return the compression format
+         * @return the compression codec
          */
-        CompressionFormat getCompressionFormat() {
+        CompressionCodec getCompressionCodec() {
             return m_compType;
         }
 
         /**
-         * Returns a copy using the new compression format.
+         * Returns the compression level.
+         *
+         * @return the compression level, possibly {@link CompressionFormat#DEFAULT_LEVEL}
+         */
+        int getCompressionLevel() {
+            return m_compLevel;
+        }
+
+        /**
+         * Returns a copy using the new compression codec (and its default compression level).
+         *
+         * @param compFormat the compression format or codec to be used
+         * @return a copy using the new compression codec
+         */
+        @SuppressWarnings("static-method")
+        public DefaultTableStoreSettings withCompression(final CompressionCodec compFormat) {
+            return new DefaultTableStoreSettings(compFormat, CompressionCodec.DEFAULT_LEVEL);
+        }
+
+        /**
+         * Returns a copy using the new compression codec and level.
          *
-         * @param compFormat the compression format to be used
-         * @return a copy using the new compression format
+         * @param compFormat the compression format or codec to be used
+         * @param compLevel the compression level, see {@link CompressionCodec#isValidLevel(int)}
+         * @return a copy using the new compression codec and level
+         * @throws IllegalArgumentException if the level is not valid for the codec
+         * @since 3.8
          */
         @SuppressWarnings("static-method")
-        public DefaultTableStoreSettings withCompression(final CompressionFormat compFormat) {
-            return new DefaultTableStoreSettings(compFormat);
+        public DefaultTableStoreSettings withCompression(final CompressionCodec compFormat, final int compLevel) {
+            CheckUtils.checkArgument(compFormat.isValidLevel(compLevel), "Invalid compression level for %s: %d",
+                compFormat.getName(), compLevel);
+            return new DefaultTableStoreSettings(compFormat, compLevel);
         }
     }
 
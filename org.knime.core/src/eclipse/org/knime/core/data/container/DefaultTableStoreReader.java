@@ -47,15 +47,27 @@
  */
 package org.knime.core.data.container;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.eclipse.core.runtime.Platform;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.CompressionCodec;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 
 /**
@@ -64,7 +76,24 @@
  */
 final class DefaultTableStoreReader extends AbstractTableStoreReader {
 
-    private CompressionFormat m_compressionFormat;
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DefaultTableStoreReader.class);
+
+    /** Whether uncompressed files are memory mapped, see {@link KNIMEConstants#PROPERTY_TABLE_MEMORY_MAPPING}. */
+    private static final boolean IS_MEMORY_MAPPING = isMemoryMappingEnabled();
+
+    private CompressionCodec m_compressionFormat;
+
+    /**
+     * Interval of the row offset index or -1 if the file has no index (compressed with a codec not writing independent
+     * blocks or written by an old version).
+     */
+    private final int m_rowIndexInterval;
+
+    /** The row offset index, lazily read from the file trailer. */
+    private RowIndex m_rowIndex;
+
+    /** The memory mapped file shared by all iterators, lazily created; null if not mapped (yet). */
+    private MappedTableFile m_mappedFile;
 
     private final File m_binFile;
 
@@ -98,25 +127,44 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
         m_spec = spec;
         m_isReadRowKey = isReadRowKey;
 
-        final CompressionFormat cF;
+        final CompressionCodec cF;
         if (version < 3) { // stream was not zipped in KNIME 1.1.x
             cF = CompressionFormat.NONE;
         } else if (version >= 8) { // added sometime between format 8 and 9 - no increment of version number
-            cF = CompressionFormat.loadSettings(settings, version);
+            cF = DefaultTableStoreFormat.loadCompressionCodec(settings, version);
         } else {
             // use gzip compression
             cF = CompressionFormat.GZIP;
         }
         m_compressionFormat = cF;
+        m_rowIndexInterval = settings.getInt(DefaultTableStoreWriter.CFG_ROW_INDEX_INTERVAL, -1);
+    }
+
+    private static boolean isMemoryMappingEnabled() {
+        final String mmap = System.getProperty(KNIMEConstants.PROPERTY_TABLE_MEMORY_MAPPING);
+        if (mmap == null) {
+            // mapped files can't be deleted on windows as long as the mapping is alive (until gc)
+            return !Platform.OS_WIN32.equals(Platform.getOS());
+        }
+        return Boolean.parseBoolean(mmap.trim());
     }
 
     @Override
     public TableStoreCloseableRowIterator iterator() {
+        return iterator(null);
+    }
+
+    /**
+     * {@inheritDoc} Cells of unselected columns are skipped block-wise in the stream, i.e. they are neither
+     * deserialized nor instantiated (only supported for tables written with KNIME 2.0 or later).
+     */
+    @Override
+    public TableStoreCloseableRowIterator iterator(final int[] materializedColumns) {
         try {
             if (getReadVersion() <= 5) { // 2.0 tech preview and before
                 return new BufferFromFileIteratorVersion1x(this);
             } else {
-                return new BufferFromFileIteratorVersion20(this);
+                return new BufferFromFileIteratorVersion20(this, materializedColumns);
             }
         } catch (IOException ioe) {
             StringBuilder b = new StringBuilder("Cannot read file \"");
@@ -127,9 +175,216 @@ public TableStoreCloseableRowIterator iterator() {
         }
     }
 
-    /** @return Whether stream is zipped. */
-    CompressionFormat getBinFileCompressionFormat() {
-        return m_compressionFormat;
+    /**
+     * Opens the (decompressed) input stream on the bin file. If the table is held in the {@link OffHeapTableCache},
+     * the file content is read from there. Otherwise uncompressed files are read from a memory mapping, which is
+     * shared among all iterators of this reader.
+     *
+     * @param offset the byte offset in the (uncompressed) data to start reading from, must be 0 for files without
+     *            row offset index
+     * @return the (decompressed) input stream
+     * @throws IOException If the file could not be opened or the (decompressed) stream could not be created
+     */
+    InputStream openInputStream(final long offset) throws IOException {
+        final Buffer buffer = getBuffer();
+        final MappedTableFile offHeapCopy = buffer != null ? buffer.getOffHeapCopy() : null;
+        if (offHeapCopy != null) {
+            /** the stream holds its own reference to the copy until it is closed */
+            try {
+                return openInputStream(offHeapCopy, offset);
+            } finally {
+                offHeapCopy.release();
+            }
+        }
+        if (m_compressionFormat == CompressionFormat.NONE) {
+            final MappedTableFile mappedFile = getMappedFile();
+            if (mappedFile != null) {
+                return mappedFile.newInputStream(offset);
+            }
+            return new BufferedInputStream(openFile(offset));
+        }
+        return openCompressedInputStream(null, offset);
+    }
+
+    /**
+     * Opens the (decompressed) input stream on a copy of the bin file held in the {@link OffHeapTableCache}.
+     *
+     * @param offHeapCopy the copy, retained by the caller
+     * @param offset the byte offset in the (uncompressed) data to start reading from, must be 0 for files without
+     *            row offset index
+     * @return the (decompressed) input stream
+     * @throws IOException If the (decompressed) stream could not be created
+     */
+    private InputStream openInputStream(final MappedTableFile offHeapCopy, final long offset) throws IOException {
+        if (m_compressionFormat == CompressionFormat.NONE) {
+            return offHeapCopy.newInputStream(offset);
+        }
+        return openCompressedInputStream(offHeapCopy, offset);
+    }
+
+    /**
+     * Opens the decompressed input stream at an offset in the uncompressed data. Files with row offset index are
+     * opened at the compressed block containing the offset, the remaining bytes of the block are skipped after
+     * decompression. The compressed stream ends before the index trailer.
+     *
+     * @param offHeapCopy the copy of the file to read from (retained by the caller) or null to read the file
+     * @param offset the byte offset in the uncompressed data, must be 0 for files without row offset index
+     * @return the decompressed input stream
+     * @throws IOException If the file could not be opened or the decompressed stream could not be created
+     */
+    @SuppressWarnings("resource")
+    private InputStream openCompressedInputStream(final MappedTableFile offHeapCopy, final long offset)
+        throws IOException {
+        if (!hasRowIndex()) {
+            if (offset != 0) {
+                throw new IOException("Can't open compressed file at an offset: " + offset);
+            }
+            return m_compressionFormat.createInputStream(
+                offHeapCopy != null ? offHeapCopy.newInputStream(0L) : new FileInputStream(m_binFile));
+        }
+        final RowIndex index = getRowIndex();
+        final int block = index.getBlock(offset);
+        final long blockOffset = index.m_blockOffsets[block];
+        final InputStream in = new BoundedInputStream(
+            offHeapCopy != null ? offHeapCopy.newInputStream(blockOffset) : openFile(blockOffset),
+            index.m_dataLength - blockOffset);
+        final InputStream decompressed = m_compressionFormat.createInputStream(in);
+        try {
+            IOUtils.skipFully(decompressed, offset - index.m_blockStarts[block]);
+        } catch (IOException ioe) {
+            decompressed.close();
+            throw ioe;
+        }
+        return decompressed;
+    }
+
+    /** Opens the (raw) bin file at a file position. */
+    private FileInputStream openFile(final long position) throws IOException {
+        final FileInputStream in = new FileInputStream(m_binFile);
+        try {
+            in.getChannel().position(position);
+        } catch (IOException ioe) {
+            in.close();
+            throw ioe;
+        }
+        return in;
+    }
+
+    /** @return the mapped file, created on first invocation, or null if mapping is disabled or failed. */
+    private synchronized MappedTableFile getMappedFile() {
+        if (m_mappedFile == null && IS_MEMORY_MAPPING) {
+            try {
+                m_mappedFile = new MappedTableFile(m_binFile);
+            } catch (IOException ioe) {
+                LOGGER.debug("Unable to memory map file \"" + m_binFile.getAbsolutePath()
+                    + "\", reading stream-based: " + ioe.getMessage(), ioe);
+            }
+        }
+        return m_mappedFile;
+    }
+
+    /** @return Whether the file contains a row offset index (see {@link #getRowOffsets()}). */
+    boolean hasRowIndex() {
+        return m_rowIndexInterval > 0;
+    }
+
+    /** @return the number of rows between two entries in the row offset index, only valid if indexed */
+    int getRowIndexInterval() {
+        return m_rowIndexInterval;
+    }
+
+    /**
+     * Reads the row offset index written by {@link DefaultTableStoreWriter} at the end of the file (only called if
+     * {@link #hasRowIndex()}). Entry i is the (uncompressed) byte offset of row <code>i * getRowIndexInterval()</code>.
+     *
+     * @return the row offsets, not to be modified
+     * @throws IOException If reading fails or the trailer is corrupt
+     */
+    long[] getRowOffsets() throws IOException {
+        return getRowIndex().m_rowOffsets;
+    }
+
+    /** @return the row offset index, read on first invocation (only called if {@link #hasRowIndex()}) */
+    private synchronized RowIndex getRowIndex() throws IOException {
+        if (m_rowIndex == null) {
+            final boolean isCompressed = m_compressionFormat != CompressionFormat.NONE;
+            final int entryCount = (int)((size() + m_rowIndexInterval - 1) / m_rowIndexInterval);
+            try (RandomAccessFile raf = new RandomAccessFile(m_binFile, "r")) {
+                final long trailerStart = raf.length() - (isCompressed
+                    ? DefaultTableStoreWriter.ROW_BLOCK_INDEX_TRAILER_SIZE
+                    : DefaultTableStoreWriter.ROW_INDEX_TRAILER_SIZE);
+                if (trailerStart < 0) {
+                    throw new IOException("File too short to contain row index");
+                }
+                raf.seek(trailerStart);
+                final int interval = raf.readInt();
+                final int count = raf.readInt();
+                final int blockCount = isCompressed ? raf.readInt() : 0;
+                final long magic = raf.readLong();
+                final long indexStart = trailerStart - 8L * entryCount - 16L * blockCount;
+                if (magic != (isCompressed ? DefaultTableStoreWriter.ROW_BLOCK_INDEX_MAGIC
+                    : DefaultTableStoreWriter.ROW_INDEX_MAGIC) || interval != m_rowIndexInterval
+                    || count != entryCount || blockCount < 0 || indexStart < 0) {
+                    throw new IOException("Invalid row index trailer in file \"" + m_binFile.getName() + "\"");
+                }
+                raf.seek(indexStart);
+                final byte[] bytes = new byte[(int)(trailerStart - indexStart)];
+                raf.readFully(bytes);
+                final LongBuffer longs = ByteBuffer.wrap(bytes).asLongBuffer();
+                final long[] offsets = new long[entryCount];
+                longs.get(offsets);
+                final long[] blockOffsets = new long[blockCount];
+                final long[] blockStarts = new long[blockCount];
+                for (int i = 0; i < blockCount; i++) {
+                    blockOffsets[i] = longs.get();
+                    blockStarts[i] = longs.get();
+                }
+                m_rowIndex = new RowIndex(offsets, blockOffsets, blockStarts, indexStart);
+            }
+        }
+        return m_rowIndex;
+    }
+
+    /**
+     * {@inheritDoc} Also releases the memory mapping of the file (if any).
+     */
+    @Override
+    public void clearIteratorInstances() {
+        super.clearIteratorInstances();
+        synchronized (this) {
+            m_mappedFile = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc} Returns whether the file contains a row offset index, i.e. whether it is uncompressed or
+     * compressed in independent blocks (see {@link CompressionFormat#supportsBlockCompression()}).
+     */
+    @Override
+    public boolean canSeek() {
+        return hasRowIndex();
+    }
+
+    /**
+     * {@inheritDoc} Tables written with a row offset index are opened at the indexed position preceding the first row
+     * of the range (compressed tables at the compressed block containing it); remaining rows before the range are
+     * skipped block-wise without deserializing their cells.
+     */
+    @Override
+    public TableStoreCloseableRowIterator iterator(final int[] materializedColumns, final long fromIndex,
+        final long toIndex) {
+        if (getReadVersion() <= 5) {
+            return super.iterator(materializedColumns, fromIndex, toIndex);
+        }
+        try {
+            return new BufferFromFileIteratorVersion20(this, materializedColumns, fromIndex, toIndex);
+        } catch (IOException ioe) {
+            StringBuilder b = new StringBuilder("Cannot read file \"");
+            b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
+            b.append("\"");
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException(b.toString(), ioe);
+        }
     }
 
     /** @return Underlying binary file. */
@@ -154,6 +409,46 @@ long size() {
         return getBuffer().size();
     }
 
+    /**
+     * The row offset index of a file. In compressed files the row offsets refer to the uncompressed data, which is
+     * located via the block table, i.e. the position of each independently compressed block in the file and in the
+     * uncompressed data.
+     */
+    private static final class RowIndex {
+
+        private final long[] m_rowOffsets;
+
+        /** File positions of the compressed blocks, empty for uncompressed files. */
+        private final long[] m_blockOffsets;
+
+        /** Uncompressed positions of the compressed blocks, empty for uncompressed files. */
+        private final long[] m_blockStarts;
+
+        /** The length of the data in the file, i.e. the position of the trailer. */
+        private final long m_dataLength;
+
+        RowIndex(final long[] rowOffsets, final long[] blockOffsets, final long[] blockStarts,
+            final long dataLength) {
+            m_rowOffsets = rowOffsets;
+            m_blockOffsets = blockOffsets;
+            m_blockStarts = blockStarts;
+            m_dataLength = dataLength;
+        }
+
+        /**
+         * @param offset an uncompressed byte offset
+         * @return the index of the compressed block containing the offset
+         * @throws IOException If the file contains no blocks
+         */
+        int getBlock(final long offset) throws IOException {
+            if (m_blockStarts.length == 0) {
+                throw new IOException("No compressed blocks in row index");
+            }
+            final int pos = Arrays.binarySearch(m_blockStarts, offset);
+            return pos >= 0 ? pos : Math.max(0, -pos - 2);
+        }
+    }
+
     /** Super class of all file iterators. */
     abstract static class FromFileIterator extends TableStoreCloseableRowIterator implements KNIMEStreamConstants {
 
@@ -180,10 +475,7 @@ abstract static class FromFileIterator extends TableStoreCloseableRowIterator im
          */
         static final InputStream getInputStream(final DefaultTableStoreReader tableFormatReader)
             throws IOException {
-            // get the decompression format
-            final CompressionFormat cType = tableFormatReader.getBinFileCompressionFormat();
-            // return the (decompressed) stream
-            return cType.getInputStream(tableFormatReader.getBinFile());
+            return tableFormatReader.openInputStream(0L);
         }
 
     }
@@ -48,8 +48,12 @@
 package org.knime.core.data.container;
 
 import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.apache.commons.io.output.CountingOutputStream;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
@@ -57,6 +61,7 @@
 import org.knime.core.data.RowKey;
 import org.knime.core.data.container.DCObjectOutputVersion2.BlockableDCObjectOutputVersion2;
 import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.storage.CompressionCodec;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
 import org.knime.core.node.NodeSettingsWO;
 
@@ -66,29 +71,93 @@
  */
 final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements KNIMEStreamConstants {
 
+    /** Number of rows between two entries in the row offset index. */
+    static final int ROW_INDEX_INTERVAL = 1024;
+
+    /**
+     * Config key for the interval of the row offset index, only present if the file ends with the index trailer, see
+     * {@link #writeRowIndexTrailer()}.
+     */
+    static final String CFG_ROW_INDEX_INTERVAL = "container.rowindex.interval";
+
+    /** Magic number terminating the row offset index trailer. */
+    static final long ROW_INDEX_MAGIC = 0x4B4E494D45494458L; // "KNIMEIDX"
+
+    /** Size of the fixed part of the index trailer (interval, entry count, magic). */
+    static final int ROW_INDEX_TRAILER_SIZE = 4 + 4 + 8;
+
+    /** Magic number terminating the index trailer of compressed files, which also contains the block table. */
+    static final long ROW_BLOCK_INDEX_MAGIC = 0x4B4E494D45424C4BL; // "KNIMEBLK"
+
+    /** Size of the fixed part of the index trailer of compressed files (interval, entry count, block count, magic). */
+    static final int ROW_BLOCK_INDEX_TRAILER_SIZE = 4 + 4 + 4 + 8;
+
     /**
      * the stream that writes to the file, it's a special object output stream, in which we can mark the end of an entry
      * (to figure out when a cell implementation reads too many or too few bytes).
      */
     private final BlockableDCObjectOutputVersion2 m_outStream;
 
-    /** The compression format. */
-    private final CompressionFormat m_compFormat;
+    /** The compression codec. */
+    private final CompressionCodec m_compFormat;
+
+    /** The compression level. */
+    private final int m_compLevel;
+
+    /** The buffered stream on the file, the index trailer is appended to it; null if the rows are not indexed. */
+    private final OutputStream m_fileStream;
+
+    /** The stream compressing independent blocks, null if the table is uncompressed or not compressed in blocks. */
+    private final ParallelCompressionOutputStream m_blockStream;
+
+    /** Counts the (uncompressed) bytes written, null if the rows are not indexed. */
+    private final CountingOutputStream m_countingStream;
+
+    /** (Uncompressed) byte offsets of every {@link #ROW_INDEX_INTERVAL}th row, null if the rows are not indexed. */
+    private long[] m_rowOffsets;
+
+    /** Number of rows written so far. */
+    private long m_rowCount;
 
     /**
-     * Constructs a writer for writing KNIME tables to disk using the given compression format.
+     * Constructs a writer for writing KNIME tables to disk using the given compression codec.
      *
      * @param spec the specification of the KNIME table to write to disk
      * @param outputStream
      * @param writeRowKey a flag that determines whether to store the row keys in the Parquet file
-     * @param compFormat the compression format
+     * @param compFormat the compression format or codec
+     * @param compLevel the compression level (see {@link CompressionCodec#isValidLevel(int)})
      * @throws IOException any type of I/O problem
      */
     public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
-        final CompressionFormat compFormat) throws IOException {
+        final CompressionCodec compFormat, final int compLevel) throws IOException {
         super(spec, writeRowKey);
         m_compFormat = compFormat;
-        m_outStream = initOutFile(new BufferedOutputStream(outputStream));
+        m_compLevel = compLevel;
+        if (compFormat == CompressionFormat.NONE) {
+            // offsets in uncompressed files are file positions, which allows to index them
+            m_fileStream = new BufferedOutputStream(outputStream);
+            m_blockStream = null;
+            m_countingStream = new CountingOutputStream(m_fileStream);
+        } else if (compFormat instanceof CompressionFormat
+            && ((CompressionFormat)compFormat).supportsBlockCompression()) {
+            // compressed blocks can be read independently, which allows to index them (and the rows within them)
+            m_fileStream = new BufferedOutputStream(outputStream);
+            m_blockStream =
+                new ParallelCompressionOutputStream(m_fileStream, (CompressionFormat)compFormat, compLevel);
+            m_countingStream = new CountingOutputStream(m_blockStream);
+        } else {
+            m_fileStream = null;
+            m_blockStream = null;
+            m_countingStream = null;
+        }
+        if (m_countingStream != null) {
+            m_rowOffsets = new long[16];
+            m_outStream = new BlockableDCObjectOutputVersion2(m_countingStream, this);
+        } else {
+            m_outStream = new BlockableDCObjectOutputVersion2(
+                compFormat.createOutputStream(new BufferedOutputStream(outputStream), compLevel), this);
+        }
     }
 
     /**
@@ -98,6 +167,14 @@ public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outp
      */
     @Override
     public void writeRow(final DataRow row) throws IOException {
+        if (m_countingStream != null && m_rowCount % ROW_INDEX_INTERVAL == 0) {
+            final int entry = (int)(m_rowCount / ROW_INDEX_INTERVAL);
+            if (entry == m_rowOffsets.length) {
+                m_rowOffsets = Arrays.copyOf(m_rowOffsets, 2 * entry);
+            }
+            m_rowOffsets[entry] = m_countingStream.getByteCount();
+        }
+        m_rowCount++;
         RowKey id = row.getKey();
         writeRowKey(id, m_outStream);
         for (int i = 0; i < row.getNumCells(); i++) {
@@ -124,26 +201,61 @@ void writeRowKey(final RowKey key, final BlockableDCObjectOutputVersion2 outStre
         }
     }
 
-    /**
-     * Creates short cut array and wraps the argument stream in a {@link DCObjectOutputVersion2}.
-     */
-    @SuppressWarnings("resource")
-    private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream) throws IOException {
-        final OutputStream out = m_compFormat.getOutputStream(outStream);
-        return new BlockableDCObjectOutputVersion2(out, this);
-    }
-
     /** {@inheritDoc} */
     @Override
     public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
-        m_compFormat.saveSettings(settings);
+        DefaultTableStoreFormat.saveCompressionCodec(m_compFormat, settings);
+        if (m_countingStream != null) {
+            settings.addInt(CFG_ROW_INDEX_INTERVAL, ROW_INDEX_INTERVAL);
+        }
         super.writeMetaInfoAfterWrite(settings);
     }
 
     /** {@inheritDoc} */
     @Override
     public void close() throws IOException {
+        if (m_countingStream != null) {
+            if (m_blockStream != null) {
+                // the trailer is appended to the file, after the last compressed block
+                m_blockStream.finish();
+            }
+            writeRowIndexTrailer();
+        }
         m_outStream.close();
     }
 
+    /**
+     * Appends the row offset index to the end of the file: the offsets (one long per index entry) followed by the
+     * index interval (int), the number of entries (int) and {@link #ROW_INDEX_MAGIC} (long). Readers not aware of the
+     * index stop reading after the last row and never see these bytes. In compressed files the offsets refer to the
+     * uncompressed data and are followed by the block table, i.e. the position of each compressed block in the file
+     * and in the uncompressed data (two longs per block); the fixed part then is the index interval (int), the number
+     * of entries (int), the number of blocks (int) and {@link #ROW_BLOCK_INDEX_MAGIC} (long).
+     */
+    private void writeRowIndexTrailer() throws IOException {
+        final int entryCount = (int)((m_rowCount + ROW_INDEX_INTERVAL - 1) / ROW_INDEX_INTERVAL);
+        // not closed, the row stream is closed afterwards
+        @SuppressWarnings("resource")
+        final DataOutputStream out = new DataOutputStream(m_fileStream);
+        for (int i = 0; i < entryCount; i++) {
+            out.writeLong(m_rowOffsets[i]);
+        }
+        if (m_blockStream != null) {
+            final int blockCount = m_blockStream.getBlockCount();
+            for (int i = 0; i < blockCount; i++) {
+                out.writeLong(m_blockStream.getBlockOffset(i));
+                out.writeLong(m_blockStream.getBlockStart(i));
+            }
+            out.writeInt(ROW_INDEX_INTERVAL);
+            out.writeInt(entryCount);
+            out.writeInt(blockCount);
+            out.writeLong(ROW_BLOCK_INDEX_MAGIC);
+        } else {
+            out.writeInt(ROW_INDEX_INTERVAL);
+            out.writeInt(entryCount);
+            out.writeLong(ROW_INDEX_MAGIC);
+        }
+        out.flush();
+    }
+
 }
@@ -0,0 +1,122 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.knime.core.data.container.storage.CompressionCodec;
+
+/**
+ * Deflate (zlib) compression, levels 1 (fastest) to 9 (best compression). Compresses as dense as
+ * {@link DefaultTableStoreFormat.CompressionFormat#GZIP GZip} at the same level, but uses the cheaper Adler-32
+ * checksum instead of CRC-32. Registered via the extension point <code>org.knime.core.CompressionCodec</code>.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class DeflateCompressionCodec implements CompressionCodec {
+
+    /** Buffer size of the deflater and inflater streams. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Deflater output stream releasing its (non-default) deflater when closed. */
+    private static final class LevelDeflaterOutputStream extends DeflaterOutputStream {
+
+        LevelDeflaterOutputStream(final OutputStream out, final int level) {
+            super(out, new Deflater(level), BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                def.end();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName() {
+        return "Deflate";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getFileExtension() {
+        return ".bin.deflate";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxLevel() {
+        return Deflater.BEST_COMPRESSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OutputStream createOutputStream(final OutputStream out, final int level) {
+        return new BufferedOutputStream(
+            new LevelDeflaterOutputStream(out, level == DEFAULT_LEVEL ? Deflater.DEFAULT_COMPRESSION : level));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public InputStream createInputStream(final InputStream in) {
+        return new BufferedInputStream(new InflaterInputStream(in));
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Read-only memory mapping of an (uncompressed) table file. Files larger than {@value #SEGMENT_SIZE} bytes are mapped
+ * in multiple segments. The mapping is created once per file and shared by all streams created via
+ * {@link #newInputStream(long)}; each stream keeps its own position, so concurrent iterators neither copy the file
+ * content into heap buffers nor issue individual read calls.
+ * <p>
+ * Alternatively, the content of a (possibly compressed) file can be copied into direct memory, see
+ * {@link #copyToDirectMemory(File, int)}. Such a copy is used by the {@link OffHeapTableCache}. Copies are reference
+ * counted: the creator holds the initial reference, each stream holds another one until it is closed. Once the last
+ * reference is {@link #release() released}, the slabs are handed to the slab recycler (if any) for reuse.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class MappedTableFile {
+
+    /** Size of a single mapped segment (1GB). */
+    static final int SEGMENT_SIZE = 1 << 30;
+
+    private final ByteBuffer[] m_segments;
+
+    private final long m_length;
+
+    /** The size of all but the last segment. */
+    private final int m_segmentSize;
+
+    /** The writable slabs of a copy in direct memory, handed to the recycler when released; null if mapped. */
+    private final ByteBuffer[] m_slabs;
+
+    /** Receives the slabs once the last reference is released, may be null. */
+    private final Consumer<ByteBuffer> m_slabRecycler;
+
+    /** The number of references to this file, see {@link #retain()} and {@link #release()}. */
+    private final AtomicInteger m_refCount = new AtomicInteger(1);
+
+    /**
+     * Maps the argument file.
+     *
+     * @param file the file to map, not modified afterwards
+     * @throws IOException if the file can't be opened or mapped
+     */
+    MappedTableFile(final File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            m_length = channel.size();
+            final int segmentCount = (int)((m_length + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            m_segments = new ByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                final long position = (long)i * SEGMENT_SIZE;
+                final MappedByteBuffer segment =
+                    channel.map(MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, m_length - position));
+                m_segments[i] = segment;
+            }
+        }
+        m_segmentSize = SEGMENT_SIZE;
+        m_slabs = null;
+        m_slabRecycler = null;
+    }
+
+    private MappedTableFile(final ByteBuffer[] slabs, final long length, final int segmentSize,
+        final Consumer<ByteBuffer> slabRecycler) {
+        m_segments = new ByteBuffer[slabs.length];
+        for (int i = 0; i < slabs.length; i++) {
+            m_segments[i] = slabs[i].asReadOnlyBuffer();
+        }
+        m_length = length;
+        m_segmentSize = segmentSize;
+        m_slabs = slabs;
+        m_slabRecycler = slabRecycler;
+    }
+
+    /**
+     * Copies the content of the argument file into newly allocated direct (off-heap) buffers. The copy does not
+     * reflect subsequent changes to the file.
+     *
+     * @param file the file to copy
+     * @param slabSize the size of each of the allocated buffers (the last one may be smaller)
+     * @return the copy of the file
+     * @throws IOException if the file can't be read
+     * @throws OutOfMemoryError if the direct memory limit is exceeded
+     */
+    static MappedTableFile copyToDirectMemory(final File file, final int slabSize) throws IOException {
+        return copyToDirectMemory(file, slabSize, ByteBuffer::allocateDirect, null);
+    }
+
+    /**
+     * Copies the content of the argument file into direct (off-heap) buffers obtained from the argument allocator.
+     * The buffers are handed to the recycler once the copy has been {@link #release() released} by its creator and
+     * all its streams have been closed, or if copying fails.
+     *
+     * @param file the file to copy
+     * @param slabSize the size of each of the buffers (the last one may be smaller)
+     * @param slabAllocator provides a cleared direct buffer with at least the requested capacity
+     * @param slabRecycler receives the buffers once no longer used, may be null
+     * @return the copy of the file
+     * @throws IOException if the file can't be read
+     * @throws OutOfMemoryError if the direct memory limit is exceeded
+     */
+    static MappedTableFile copyToDirectMemory(final File file, final int slabSize,
+        final IntFunction<ByteBuffer> slabAllocator, final Consumer<ByteBuffer> slabRecycler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long length = channel.size();
+            final int slabCount = (int)((length + slabSize - 1) / slabSize);
+            final ByteBuffer[] slabs = new ByteBuffer[slabCount];
+            try {
+                for (int i = 0; i < slabCount; i++) {
+                    final long position = (long)i * slabSize;
+                    final ByteBuffer slab = slabAllocator.apply((int)Math.min(slabSize, length - position));
+                    slabs[i] = slab;
+                    slab.limit((int)Math.min(slabSize, length - position));
+                    while (slab.hasRemaining()) {
+                        if (channel.read(slab, position + slab.position()) < 0) {
+                            throw new IOException("Unexpected end of file \"" + file.getName() + "\"");
+                        }
+                    }
+                    slab.flip();
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                recycle(slabs, slabRecycler);
+                throw e;
+            }
+            return new MappedTableFile(slabs, length, slabSize, slabRecycler);
+        }
+    }
+
+    private static void recycle(final ByteBuffer[] slabs, final Consumer<ByteBuffer> slabRecycler) {
+        if (slabRecycler != null) {
+            for (final ByteBuffer slab : slabs) {
+                if (slab != null) {
+                    slabRecycler.accept(slab);
+                }
+            }
+        }
+    }
+
+    /**
+     * Acquires an additional reference to this file, which must be {@link #release() released} when no longer used.
+     *
+     * @return <code>true</code> if the reference was acquired, <code>false</code> if this file was already released
+     */
+    boolean retain() {
+        int count;
+        do {
+            count = m_refCount.get();
+            if (count <= 0) {
+                return false;
+            }
+        } while (!m_refCount.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * Releases a reference to this file. Once the last reference is released, the slabs of a copy in direct memory
+     * are handed to the slab recycler and must not be read anymore.
+     */
+    void release() {
+        if (m_refCount.decrementAndGet() == 0 && m_slabs != null) {
+            recycle(m_slabs, m_slabRecycler);
+        }
+    }
+
+    /** @return the length of the mapped file in bytes */
+    long length() {
+        return m_length;
+    }
+
+    /**
+     * Creates a new stream reading the mapped file from the argument position. The stream holds a reference to this
+     * file until it is closed; closing the stream does not release the mapping. The caller must hold a reference
+     * itself.
+     *
+     * @param position the byte offset to start reading from, 0 &lt;= position &lt;= {@link #length()}
+     * @return a new stream
+     * @throws IllegalStateException if this file has already been released
+     */
+    InputStream newInputStream(final long position) {
+        if (position < 0 || position > m_length) {
+            throw new IndexOutOfBoundsException("Invalid position " + position + " (length " + m_length + ")");
+        }
+        if (!retain()) {
+            throw new IllegalStateException("File copy has already been released");
+        }
+        return new MappedInputStream(position);
+    }
+
+    /** Stream over the mapped segments, each stream using its own views of the segments. */
+    private final class MappedInputStream extends InputStream {
+
+        private int m_segmentIndex;
+
+        private ByteBuffer m_current;
+
+        private boolean m_closed;
+
+        MappedInputStream(final long position) {
+            seek(position);
+        }
+
+        private void seek(final long position) {
+            m_segmentIndex = (int)(position / m_segmentSize);
+            if (m_segmentIndex < m_segments.length) {
+                m_current = m_segments[m_segmentIndex].duplicate();
+                m_current.position((int)(position % m_segmentSize));
+            } else {
+                m_current = null;
+            }
+        }
+
+        /** @return true if there is more data (moving on to the next segment if needed) */
+        private boolean ensureRemaining() {
+            while (m_current != null && !m_current.hasRemaining()) {
+                m_segmentIndex++;
+                m_current = m_segmentIndex < m_segments.length ? m_segments[m_segmentIndex].duplicate() : null;
+            }
+            return m_current != null;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureRemaining()) {
+                return -1;
+            }
+            return m_current.get() & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!ensureRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(len, m_current.remaining());
+            m_current.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            if (n <= 0 || !ensureRemaining()) {
+                return 0;
+            }
+            final long position = (long)m_segmentIndex * m_segmentSize + m_current.position();
+            final long newPosition = Math.min(m_length, position + n);
+            seek(newPosition);
+            return newPosition - position;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return ensureRemaining() ? m_current.remaining() : 0;
+        }
+
+        @Override
+        public void close() {
+            if (!m_closed) {
+                m_closed = true;
+                m_current = null;
+                m_segmentIndex = m_segments.length;
+                release();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,404 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * A cache that holds tables in their serialized form (i.e., a copy of the table's file) in direct memory. As opposed
+ * to the {@link BufferCache}, which holds tables as lists of {@link BlobSupportDataRow}, tables in this cache consist
+ * of only a few large {@link java.nio.ByteBuffer slabs} allocated outside the Java heap and therefore don't put
+ * pressure on the garbage collector. The cache has an explicit budget in bytes. When adding a table exceeds the
+ * budget, the least-recently-used tables are evicted. Since only tables that have already been written to disk are
+ * put into this cache, evicted tables are subsequently read from disk. How this cache is used by the {@link Buffer}
+ * class is specified by means of a Lifecycle.
+ * <p>
+ * Files are copied without holding the cache's lock, so lookups are not blocked by concurrent insertions. The copies
+ * are reference counted (see {@link MappedTableFile#retain()}): the slabs of an evicted table are reused for
+ * subsequently cached tables as soon as the last stream reading the table has been closed. Slabs that don't fit the
+ * budget anymore are dropped and released once garbage collected.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class OffHeapTableCache {
+
+    /**
+     * The node logger for this class.
+     */
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(OffHeapTableCache.class);
+
+    /**
+     * The size of the direct buffers holding the file content (16MB).
+     */
+    static final int SLAB_SIZE = 1 << 24;
+
+    /**
+     * The minimum capacity of a slab (64KB). The last slab of a table is rounded up to the next power of two so that
+     * it can be reused for other tables.
+     */
+    private static final int MIN_SLAB_CAPACITY = 1 << 16;
+
+    /**
+     * The time (in seconds) that has to pass at least in between the logging of statistics.
+     */
+    private static final int STATISTICS_OUTPUT_INTERVAL = 300;
+
+    /** The size of all but the last slab of a table, a power of two. */
+    private final int m_slabSize;
+
+    /**
+     * The tables held in this cache in least-recently-used order, keyed by the unique id of the buffer.
+     */
+    private final LinkedHashMap<Long, MappedTableFile> m_tables = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The unique ids of the buffers whose tables are currently being copied into the cache. */
+    private final Set<Long> m_pending = new HashSet<>();
+
+    /** Slabs available for reuse, keyed by their capacity. */
+    private final Map<Integer, ArrayDeque<ByteBuffer>> m_freeSlabs = new HashMap<>();
+
+    /** The maximum number of bytes held by this cache. */
+    private long m_budget;
+
+    /** The number of bytes currently held by the tables in this cache. */
+    private long m_usedBytes;
+
+    /** The number of bytes reserved for tables currently being copied into the cache. */
+    private long m_reservedBytes;
+
+    /** The number of bytes held by slabs available for reuse. */
+    private long m_freeBytes;
+
+    /** Some counters for instrumentation / statistics. */
+    private long m_nHits = 0;
+
+    private long m_nMisses = 0;
+
+    private long m_nEvictions = 0;
+
+    private long m_nRejections = 0;
+
+    private long m_nReusedSlabs = 0;
+
+    private long timeOfLastLog = System.currentTimeMillis();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param budget the maximum number of bytes held by this cache
+     */
+    OffHeapTableCache(final long budget) {
+        this(budget, SLAB_SIZE);
+    }
+
+    /**
+     * Creates a new cache using slabs of a custom size.
+     *
+     * @param budget the maximum number of bytes held by this cache
+     * @param slabSize the size of the slabs, a power of two
+     */
+    OffHeapTableCache(final long budget, final int slabSize) {
+        CheckUtils.checkArgument(Integer.bitCount(slabSize) == 1, "Slab size must be a power of two: %d", slabSize);
+        m_budget = budget;
+        m_slabSize = slabSize;
+    }
+
+    private void logStatistics() {
+        final long time = System.currentTimeMillis();
+        if ((time - timeOfLastLog) / 1000 >= STATISTICS_OUTPUT_INTERVAL) {
+            LOGGER.debug("KNIME off-heap table cache statistics:");
+            LOGGER.debugWithFormat("\t%d tables currently held in cache (%d of %d MB, %d MB free slabs)",
+                m_tables.size(), m_usedBytes >> 20, m_budget >> 20, m_freeBytes >> 20);
+            LOGGER.debugWithFormat("\t%d cache hits", m_nHits);
+            LOGGER.debugWithFormat("\t%d cache misses", m_nMisses);
+            LOGGER.debugWithFormat("\t%d tables evicted", m_nEvictions);
+            LOGGER.debugWithFormat("\t%d tables rejected", m_nRejections);
+            LOGGER.debugWithFormat("\t%d slabs reused", m_nReusedSlabs);
+            timeOfLastLog = time;
+        }
+    }
+
+    /**
+     * Copies the (fully written) file of a table into the cache, evicting least-recently-used tables as needed. Tables
+     * larger than the budget are not cached. The file is copied without holding the lock of this cache; if the table
+     * is {@link #invalidate(Buffer) invalidated} while being copied, the copy is discarded.
+     *
+     * @param buffer the buffer which the table is associated with
+     * @param file the file of the table, not modified afterwards
+     * @return <code>true</code> iff the table is held in the cache or concurrently being copied into it
+     */
+    boolean put(final Buffer buffer, final File file) {
+        CheckUtils.checkArgumentNotNull(buffer);
+        CheckUtils.checkArgumentNotNull(file);
+
+        final Long uniqueId = buffer.getUniqueID();
+        final long size = getAllocationSize(file.length());
+        synchronized (this) {
+            if (m_tables.containsKey(uniqueId) || m_pending.contains(uniqueId)) {
+                return true;
+            }
+            if (size > m_budget) {
+                m_nRejections++;
+                return false;
+            }
+            evict(m_budget - size);
+            m_reservedBytes += size;
+            m_pending.add(uniqueId);
+        }
+
+        MappedTableFile copy = null;
+        try {
+            copy = MappedTableFile.copyToDirectMemory(file, m_slabSize, this::allocateSlab, this::recycleSlab);
+        } catch (IOException ioe) {
+            LOGGER.debug("Unable to copy file \"" + file.getAbsolutePath() + "\" into off-heap cache: "
+                + ioe.getMessage(), ioe);
+        } catch (OutOfMemoryError oome) {
+            // direct memory limit is smaller than the budget
+            LOGGER.debug("Insufficient direct memory to cache file \"" + file.getAbsolutePath()
+                + "\" off-heap, consider increasing -XX:MaxDirectMemorySize", oome);
+        }
+
+        synchronized (this) {
+            m_reservedBytes -= size;
+            final boolean isInvalidated = !m_pending.remove(uniqueId);
+            if (copy == null) {
+                m_nRejections++;
+                return false;
+            }
+            if (isInvalidated) {
+                copy.release();
+                return false;
+            }
+            m_tables.put(uniqueId, copy);
+            m_usedBytes += size;
+            return true;
+        }
+    }
+
+    /**
+     * @param length the length of a file
+     * @return the number of bytes allocated for a copy of the file
+     */
+    private long getAllocationSize(final long length) {
+        final long fullSlabBytes = length - length % m_slabSize;
+        final int remainder = (int)(length - fullSlabBytes);
+        return fullSlabBytes + (remainder > 0 ? getSlabCapacity(remainder) : 0);
+    }
+
+    /**
+     * @param size the number of bytes to be held by a slab, at most the slab size
+     * @return the capacity of the slab holding the bytes, the smallest power of two not below the size
+     */
+    private int getSlabCapacity(final int size) {
+        if (size <= MIN_SLAB_CAPACITY) {
+            return Math.min(MIN_SLAB_CAPACITY, m_slabSize);
+        }
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Provides a slab for copying a file, reusing a free slab if available. Invoked while copying, i.e., without
+     * holding the lock of this cache.
+     *
+     * @param size the number of bytes to be held by the slab
+     * @return a cleared slab with sufficient capacity
+     */
+    private ByteBuffer allocateSlab(final int size) {
+        final int capacity = getSlabCapacity(size);
+        synchronized (this) {
+            final ArrayDeque<ByteBuffer> slabs = m_freeSlabs.get(capacity);
+            if (slabs != null && !slabs.isEmpty()) {
+                m_freeBytes -= capacity;
+                m_nReusedSlabs++;
+                return slabs.poll();
+            }
+            // free slabs of other capacities would exceed the budget, drop them to allow for their collection
+            trimFreeSlabs(m_budget - m_usedBytes - m_reservedBytes);
+        }
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Receives the slabs of released copies and keeps them for reuse if they fit the budget.
+     *
+     * @param slab a slab that is no longer read
+     */
+    private synchronized void recycleSlab(final ByteBuffer slab) {
+        if (m_usedBytes + m_reservedBytes + m_freeBytes + slab.capacity() <= m_budget) {
+            slab.clear();
+            m_freeSlabs.computeIfAbsent(slab.capacity(), c -> new ArrayDeque<>()).push(slab);
+            m_freeBytes += slab.capacity();
+        }
+    }
+
+    /**
+     * Drops free slabs until at most the argument number of bytes is held by free slabs.
+     *
+     * @param maxFreeBytes the number of bytes that may remain in free slabs
+     */
+    private void trimFreeSlabs(final long maxFreeBytes) {
+        for (Iterator<ArrayDeque<ByteBuffer>> it = m_freeSlabs.values().iterator();
+                m_freeBytes > maxFreeBytes && it.hasNext();) {
+            final ArrayDeque<ByteBuffer> slabs = it.next();
+            while (m_freeBytes > maxFreeBytes && !slabs.isEmpty()) {
+                m_freeBytes -= slabs.poll().capacity();
+            }
+            if (slabs.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Evicts least-recently-used tables until at most the argument number of bytes is used (including the bytes
+     * reserved for pending copies). The slabs of evicted tables are reused once they are no longer read.
+     *
+     * @param maxUsedBytes the number of bytes that may remain in use
+     */
+    private void evict(final long maxUsedBytes) {
+        for (Iterator<Entry<Long, MappedTableFile>> it = m_tables.entrySet().iterator();
+                m_usedBytes + m_reservedBytes > maxUsedBytes && it.hasNext();) {
+            final MappedTableFile copy = it.next().getValue();
+            it.remove();
+            m_usedBytes -= getAllocationSize(copy.length());
+            m_nEvictions++;
+            copy.release();
+        }
+    }
+
+    /**
+     * Retrieve the table associated with a buffer from the cache and mark it as recently used. The returned copy is
+     * retained on behalf of the caller, which must {@link MappedTableFile#release() release} it after having opened
+     * its streams.
+     *
+     * @param buffer the buffer which the to-be-retrieved table is associated with
+     * @return the copy of the table's file or <code>null</code> if the table is not held in the cache
+     */
+    synchronized MappedTableFile get(final Buffer buffer) {
+        CheckUtils.checkArgumentNotNull(buffer);
+
+        final MappedTableFile copy = m_tables.get(buffer.getUniqueID());
+        if (copy != null) {
+            m_nHits++;
+            // can't fail, the cache holds a reference
+            copy.retain();
+        } else {
+            m_nMisses++;
+        }
+        logStatistics();
+        return copy;
+    }
+
+    /**
+     * Checks whether the cache holds the table associated with a given buffer.
+     *
+     * @param buffer the buffer which the to-be-checked table is associated with
+     * @return <code>true</code> iff the associated table is held in the cache
+     */
+    synchronized boolean contains(final Buffer buffer) {
+        CheckUtils.checkArgumentNotNull(buffer);
+
+        return m_tables.containsKey(buffer.getUniqueID());
+    }
+
+    /**
+     * Invalidate the table associated with a buffer, i.e., remove it from the cache. A copy of the table that is
+     * concurrently being put into the cache is discarded.
+     *
+     * @param buffer the buffer which the to-be-invalidated table is associated with
+     */
+    synchronized void invalidate(final Buffer buffer) {
+        final Long uniqueId = buffer.getUniqueID();
+        m_pending.remove(uniqueId);
+        final MappedTableFile copy = m_tables.remove(uniqueId);
+        if (copy != null) {
+            m_usedBytes -= getAllocationSize(copy.length());
+            copy.release();
+        }
+    }
+
+    /**
+     * Can be used to adjust the budget of the cache at runtime, evicting tables and dropping free slabs if the new
+     * budget is smaller.
+     *
+     * @param budget the new maximum number of bytes held by this cache
+     */
+    synchronized void setBudget(final long budget) {
+        m_budget = budget;
+        evict(budget);
+        trimFreeSlabs(budget - m_usedBytes - m_reservedBytes);
+    }
+
+    /**
+     * @return the number of bytes currently held by the tables in this cache
+     */
+    synchronized long getUsedBytes() {
+        return m_usedBytes;
+    }
+
+    /**
+     * @return the number of bytes held by slabs available for reuse
+     */
+    synchronized long getFreeBytes() {
+        return m_freeBytes;
+    }
+
+}
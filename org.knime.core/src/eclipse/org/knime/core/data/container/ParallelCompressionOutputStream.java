@@ -0,0 +1,402 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * An output stream that compresses its data in independent blocks of {@value #BLOCK_SIZE} bytes on a pool of worker
+ * threads. The compressed blocks are appended to the underlying stream in order by the thread writing to this stream,
+ * which blocks once more than {@value #MAX_PENDING_BLOCKS} blocks are being compressed. The blocks (and the buffers
+ * holding their compressed form) are reused, so a stream holds at most {@value #MAX_PENDING_BLOCKS} + 1 blocks
+ * independent of the number of worker threads. If parallel compression is disabled (see {@link #isEnabled()}), blocks
+ * are compressed by the writing thread. The resulting stream is readable by
+ * {@link CompressionFormat#createInputStream(java.io.InputStream)}, see
+ * {@link CompressionFormat#supportsBlockCompression()}. Since the blocks are independent, reading can also start at
+ * the beginning of any block; the position of each block in the underlying stream and in the uncompressed data is
+ * recorded (see {@link #getBlockCount()}).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelCompressionOutputStream extends OutputStream {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ParallelCompressionOutputStream.class);
+
+    /** The size of the uncompressed blocks (1MB). */
+    static final int BLOCK_SIZE = 1 << 20;
+
+    /** The initial capacity of a block (64kB), blocks grow up to {@value #BLOCK_SIZE} bytes. */
+    private static final int INITIAL_BLOCK_CAPACITY = 1 << 16;
+
+    /** The maximum number of blocks of a single stream being compressed at a time. */
+    static final int MAX_PENDING_BLOCKS = 4;
+
+    /**
+     * The number of compression threads, see {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_THREADS}; 1 (i.e.,
+     * sequential compression) unless configured otherwise.
+     */
+    static final int THREAD_COUNT = initThreadCount();
+
+    /** Lazily creates the pool compressing the blocks of all streams. */
+    private static final class ExecutorHolder {
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREAD_COUNT, new ThreadFactory() {
+            private final AtomicInteger m_threadCount = new AtomicInteger();
+
+            /** {@inheritDoc} */
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread thread = new Thread(r, "KNIME-TableCompressor-" + m_threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * A block of uncompressed data and the buffer holding its compressed form, reused for subsequent blocks. The data
+     * array grows up to {@value #BLOCK_SIZE} bytes, so small tables don't allocate full blocks.
+     */
+    private static final class Block {
+
+        private byte[] m_data = new byte[INITIAL_BLOCK_CAPACITY];
+
+        private int m_length;
+
+        private final CompressedBlock m_compressed = new CompressedBlock();
+
+        /** @return the number of bytes that can be added to the block, growing it if it's full */
+        private int ensureCapacity() {
+            if (m_length == m_data.length && m_length < BLOCK_SIZE) {
+                m_data = Arrays.copyOf(m_data, Math.min(BLOCK_SIZE, 2 * m_data.length));
+            }
+            return m_data.length - m_length;
+        }
+    }
+
+    /**
+     * The (reusable) buffer a block is compressed into, see
+     * {@link CompressionFormat#compressBlock(byte[], int, int, CompressedBlock)}.
+     */
+    static final class CompressedBlock extends ByteArrayOutputStream {
+
+        CompressedBlock() {
+            super(INITIAL_BLOCK_CAPACITY / 2);
+        }
+
+        /** @return the internal buffer, valid up to {@link #size()} */
+        byte[] getBuffer() {
+            return buf;
+        }
+
+        /**
+         * Drops the bytes beyond the argument size.
+         *
+         * @param size the new size, at most {@link #size()}
+         */
+        void truncate(final int size) {
+            count = size;
+        }
+    }
+
+    private final OutputStream m_out;
+
+    private final CompressionFormat m_format;
+
+    private final int m_level;
+
+    /** The blocks being compressed, in the order they are to be appended. */
+    private final Deque<Future<Block>> m_pendingBlocks = new ArrayDeque<>();
+
+    /** Blocks that have been appended and can be reused. */
+    private final Deque<Block> m_freeBlocks = new ArrayDeque<>();
+
+    /** The block currently being filled. */
+    private Block m_block = new Block();
+
+    /** Whether any block has been submitted (a stream needs at least one, possibly empty, block). */
+    private boolean m_hasBlocks;
+
+    /** Number of appended blocks. */
+    private int m_blockCount;
+
+    /** Positions of the appended blocks in the underlying stream, see {@link #getBlockOffset(int)}. */
+    private long[] m_blockOffsets = new long[16];
+
+    /** Positions of the appended blocks in the uncompressed data, see {@link #getBlockStart(int)}. */
+    private long[] m_blockStarts = new long[16];
+
+    /** Number of bytes written to the underlying stream. */
+    private long m_compressedBytes;
+
+    /** Number of uncompressed bytes in the appended blocks. */
+    private long m_uncompressedBytes;
+
+    private boolean m_isFinished;
+
+    private boolean m_isClosed;
+
+    /**
+     * Creates a new stream. Only to be used if the format
+     * {@link CompressionFormat#supportsBlockCompression() supports block compression}.
+     *
+     * @param out the stream to write the compressed data to, closed when this stream is closed
+     * @param format the compression format
+     * @param level the compression level, see {@link CompressionFormat#isValidLevel(int)}
+     */
+    ParallelCompressionOutputStream(final OutputStream out, final CompressionFormat format, final int level) {
+        m_out = out;
+        m_format = format;
+        m_level = level;
+    }
+
+    private static int initThreadCount() {
+        final String valThreads = System.getProperty(KNIMEConstants.PROPERTY_TABLE_COMPRESSION_THREADS);
+        if (valThreads != null) {
+            try {
+                return Math.max(1, Integer.parseInt(valThreads.trim()));
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Invalid setting for table compression threads: " + valThreads
+                    + ". Compressing sequentially.");
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * @return whether tables are compressed in parallel, i.e., if more than one compression thread is configured
+     */
+    static boolean isEnabled() {
+        return THREAD_COUNT > 1;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (m_block.ensureCapacity() == 0) {
+            submitBlock();
+            nextBlock();
+        }
+        m_block.m_data[m_block.m_length++] = (byte)b;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (m_block.ensureCapacity() == 0) {
+                submitBlock();
+                nextBlock();
+            }
+            final int count = Math.min(remaining, m_block.ensureCapacity());
+            System.arraycopy(b, offset, m_block.m_data, m_block.m_length, count);
+            m_block.m_length += count;
+            offset += count;
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Compresses the data written so far (ending the current block early, if any) and writes all compressed blocks to
+     * the underlying stream, which is flushed.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (m_isFinished) {
+            return;
+        }
+        if (m_block.m_length > 0) {
+            submitBlock();
+            nextBlock();
+        }
+        while (!m_pendingBlocks.isEmpty()) {
+            appendBlock();
+        }
+        m_out.flush();
+    }
+
+    /**
+     * Submits the current block for compression (or compresses it if parallel compression is disabled), appending
+     * compressed blocks while too many blocks are pending.
+     */
+    private void submitBlock() throws IOException {
+        final Block block = m_block;
+        m_block = null;
+        m_hasBlocks = true;
+        if (isEnabled()) {
+            m_pendingBlocks.add(ExecutorHolder.EXECUTOR.submit(() -> compress(block)));
+            while (m_pendingBlocks.size() > MAX_PENDING_BLOCKS) {
+                appendBlock();
+            }
+        } else {
+            append(compress(block));
+        }
+    }
+
+    /** Continues with a free block or, if there is none, a new one. */
+    private void nextBlock() {
+        m_block = m_freeBlocks.isEmpty() ? new Block() : m_freeBlocks.poll();
+        m_block.m_length = 0;
+    }
+
+    private Block compress(final Block block) throws IOException {
+        m_format.compressBlock(block.m_data, block.m_length, m_level, block.m_compressed);
+        return block;
+    }
+
+    /** Waits for the first pending block to be compressed and appends it to the underlying stream. */
+    private void appendBlock() throws IOException {
+        final Future<Block> future = m_pendingBlocks.poll();
+        try {
+            append(future.get());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for table compression");
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException("Compressing table failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /** Writes a compressed block to the underlying stream and records its position, the block is reused afterwards. */
+    private void append(final Block block) throws IOException {
+        if (m_blockCount == m_blockOffsets.length) {
+            m_blockOffsets = Arrays.copyOf(m_blockOffsets, 2 * m_blockCount);
+            m_blockStarts = Arrays.copyOf(m_blockStarts, 2 * m_blockCount);
+        }
+        m_blockOffsets[m_blockCount] = m_compressedBytes;
+        m_blockStarts[m_blockCount] = m_uncompressedBytes;
+        m_blockCount++;
+        block.m_compressed.writeTo(m_out);
+        m_compressedBytes += block.m_compressed.size();
+        m_uncompressedBytes += block.m_length;
+        m_freeBlocks.add(block);
+    }
+
+    /** @return the number of blocks written to the underlying stream so far */
+    int getBlockCount() {
+        return m_blockCount;
+    }
+
+    /**
+     * @param block the index of the block, 0 &lt;= block &lt; {@link #getBlockCount()}
+     * @return the position of the block in the underlying stream, where reading (and decompression) can start
+     */
+    long getBlockOffset(final int block) {
+        return m_blockOffsets[block];
+    }
+
+    /**
+     * @param block the index of the block, 0 &lt;= block &lt; {@link #getBlockCount()}
+     * @return the position of the first byte of the block in the uncompressed data
+     */
+    long getBlockStart(final int block) {
+        return m_blockStarts[block];
+    }
+
+    /**
+     * Compresses and writes the remaining data and terminates the stream of blocks, without closing the underlying
+     * stream (which is flushed). Afterwards the underlying stream can be appended to directly, nothing is written to it
+     * by this stream anymore.
+     *
+     * @throws IOException If compressing or writing fails
+     */
+    void finish() throws IOException {
+        if (m_isFinished) {
+            return;
+        }
+        m_isFinished = true;
+        try {
+            if ((m_block != null && m_block.m_length > 0) || !m_hasBlocks) {
+                submitBlock();
+            }
+            while (!m_pendingBlocks.isEmpty()) {
+                appendBlock();
+            }
+            m_format.finishBlocks(m_out);
+            m_out.flush();
+        } finally {
+            m_pendingBlocks.forEach(f -> f.cancel(true));
+            m_pendingBlocks.clear();
+            m_freeBlocks.clear();
+            m_block = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        try {
+            finish();
+        } finally {
+            m_out.close();
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_BOOLEAN;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_DOUBLE;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_INT;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_LONG;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+
+/**
+ * A row backed by a {@link PrimitiveRowChunk}. Primitive-aware consumers read values without creating cells, so that
+ * a table held in memory in this form doesn't keep a cell object per value. Cells of primitive columns requested via
+ * {@link #getRawCell(int)} are created once and cached by the chunk.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PrimitiveChunkDataRow extends BlobSupportDataRow implements PrimitiveDataRow {
+
+    private final PrimitiveRowChunk m_chunk;
+
+    private final int m_index;
+
+    /**
+     * @param chunk the chunk holding the values
+     * @param index the index of the row in the chunk
+     */
+    PrimitiveChunkDataRow(final PrimitiveRowChunk chunk, final int index) {
+        super(chunk.getKey(index), (DataCell[])null);
+        m_chunk = chunk;
+        m_index = index;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataCell getRawCell(final int index) {
+        return m_chunk.getCell(index, m_index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    DataCell[] getRawCells() {
+        final DataCell[] cells = new DataCell[getNumCells()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = getRawCell(i);
+        }
+        return cells;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumCells() {
+        return m_chunk.getNumColumns();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPrimitive(final int index) {
+        return m_chunk.isPrimitive(index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMissing(final int index) {
+        if (m_chunk.isPrimitive(index)) {
+            return m_chunk.isMissing(index, m_index);
+        }
+        return getRawCell(index).isMissing();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble(final int index) {
+        if (m_chunk.isPrimitive(index)) {
+            final long value = getPrimitiveValue(index);
+            switch (m_chunk.getEncoding(index)) {
+                case ENC_DOUBLE:
+                    return Double.longBitsToDouble(value);
+                case ENC_INT:
+                case ENC_LONG:
+                    return value;
+                default:
+                    throw newIncompatibleTypeException(index, "double");
+            }
+        }
+        return ((DoubleValue)getNonMissingCell(index)).getDoubleValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLong(final int index) {
+        if (m_chunk.isPrimitive(index)) {
+            final long value = getPrimitiveValue(index);
+            switch (m_chunk.getEncoding(index)) {
+                case ENC_INT:
+                case ENC_LONG:
+                    return value;
+                default:
+                    throw newIncompatibleTypeException(index, "long");
+            }
+        }
+        return ((LongValue)getNonMissingCell(index)).getLongValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getInt(final int index) {
+        if (m_chunk.isPrimitive(index)) {
+            final long value = getPrimitiveValue(index);
+            if (m_chunk.getEncoding(index) != ENC_INT) {
+                throw newIncompatibleTypeException(index, "int");
+            }
+            return (int)value;
+        }
+        return ((IntValue)getNonMissingCell(index)).getIntValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean getBoolean(final int index) {
+        if (m_chunk.isPrimitive(index)) {
+            final long value = getPrimitiveValue(index);
+            if (m_chunk.getEncoding(index) != ENC_BOOLEAN) {
+                throw newIncompatibleTypeException(index, "boolean");
+            }
+            return value != 0L;
+        }
+        return ((BooleanValue)getNonMissingCell(index)).getBooleanValue();
+    }
+
+    /**
+     * @param index the column index
+     * @return the encoding of the column in the backing chunk
+     */
+    byte getEncoding(final int index) {
+        return m_chunk.getEncoding(index);
+    }
+
+    /**
+     * @param index the index of a primitive column
+     * @return the raw value bits (undefined for missing values)
+     */
+    long getValue(final int index) {
+        return m_chunk.getValue(index, m_index);
+    }
+
+    /** @return the raw value bits of a primitive column */
+    private long getPrimitiveValue(final int index) {
+        if (m_chunk.isMissing(index, m_index)) {
+            throw newMissingValueException(index);
+        }
+        return m_chunk.getValue(index, m_index);
+    }
+
+    private DataCell getNonMissingCell(final int index) {
+        final DataCell cell = getCell(index);
+        if (cell.isMissing()) {
+            throw newMissingValueException(index);
+        }
+        return cell;
+    }
+
+    private IllegalStateException newMissingValueException(final int index) {
+        return new IllegalStateException("Value in column " + index + " of row \"" + getKey() + "\" is missing");
+    }
+
+    private static ClassCastException newIncompatibleTypeException(final int index, final String type) {
+        return new ClassCastException("Column " + index + " does not hold " + type + " values");
+    }
+
+}
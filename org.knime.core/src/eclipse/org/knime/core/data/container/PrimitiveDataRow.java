@@ -0,0 +1,120 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+
+/**
+ * A {@link DataRow} whose values of primitive columns (double, int, long and boolean) can be read without creating
+ * {@link DataCell} objects. Tables that consist of primitive columns only hand out their rows in this form, both when
+ * held in memory and when read from the columnar table format. Consumers that process many numeric values can test
+ * for this interface and use the accessors below instead of {@link #getCell(int)}:
+ *
+ * <pre>
+ * if (row instanceof PrimitiveDataRow &amp;&amp; ((PrimitiveDataRow)row).isPrimitive(i)) {
+ *     PrimitiveDataRow primitiveRow = (PrimitiveDataRow)row;
+ *     double d = primitiveRow.isMissing(i) ? Double.NaN : primitiveRow.getDouble(i);
+ *     ...
+ * }
+ * </pre>
+ *
+ * The accessors also work for columns that aren't held in primitive form, they then read the value from the cell.
+ * Calling a value accessor for a missing value or for a column of incompatible type results in an exception.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public interface PrimitiveDataRow extends DataRow {
+
+    /**
+     * @param index the column index
+     * @return whether the value in the column is held in primitive form, i.e. whether the accessors of this interface
+     *         can read it without accessing a cell
+     */
+    boolean isPrimitive(int index);
+
+    /**
+     * @param index the column index
+     * @return whether the value in the column is missing
+     */
+    boolean isMissing(int index);
+
+    /**
+     * @param index the column index
+     * @return the value of a double, int or long column (or of a {@link DoubleValue} cell)
+     * @throws IllegalStateException if the value is missing
+     */
+    double getDouble(int index);
+
+    /**
+     * @param index the column index
+     * @return the value of an int or long column (or of a {@link LongValue} cell)
+     * @throws IllegalStateException if the value is missing
+     */
+    long getLong(int index);
+
+    /**
+     * @param index the column index
+     * @return the value of an int column (or of an {@link IntValue} cell)
+     * @throws IllegalStateException if the value is missing
+     */
+    int getInt(int index);
+
+    /**
+     * @param index the column index
+     * @return the value of a boolean column (or of a {@link BooleanValue} cell)
+     * @throws IllegalStateException if the value is missing
+     */
+    boolean getBoolean(int index);
+
+}
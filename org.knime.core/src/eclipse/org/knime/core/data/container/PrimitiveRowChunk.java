@@ -0,0 +1,362 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_BOOLEAN;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_CELLS;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_DOUBLE;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_INT;
+import static org.knime.core.data.container.ColumnarTableStoreWriter.ENC_LONG;
+
+import java.util.Arrays;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+
+/**
+ * A chunk of consecutive rows whose primitive columns (double, int, long and boolean) are held as arrays of raw value
+ * bits rather than as {@link DataCell} objects. Rows of the chunk are represented by {@link PrimitiveChunkDataRow}.
+ * Consumers aware of {@link PrimitiveDataRow} read the values without creating cells; for all other consumers cells
+ * are created on first access and cached per column, so repeated access doesn't allocate. Columns use the encodings
+ * of the {@link ColumnarTableStoreWriter}; a column that receives a value that can't be represented as primitive (for
+ * instance a missing cell with error message) falls back to holding cells.
+ *
+ * <p>
+ * Chunks are filled by a single thread and must not be modified once rows have been handed out to other threads.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PrimitiveRowChunk {
+
+    /** Column encoding of columns that are not materialized (see {@link UnmaterializedCell}), never persisted. */
+    static final byte ENC_UNMATERIALIZED = -1;
+
+    /** The initial number of rows an empty chunk has room for; grows up to the chunk's capacity. */
+    private static final int INITIAL_SIZE = 16;
+
+    private final byte[] m_encodings;
+
+    private final int m_capacity;
+
+    private RowKey[] m_keys;
+
+    private final long[][] m_values;
+
+    private final boolean[][] m_isMissing;
+
+    private final DataCell[][] m_cells;
+
+    /**
+     * Cells of primitive columns created on access, per column created lazily. Concurrent readers may race to create
+     * a cell or the array of a column, which only results in redundant (equal) cells.
+     */
+    private final DataCell[][] m_cellCache;
+
+    private int m_size;
+
+    /**
+     * Creates an empty chunk to be filled with {@link #add(DataRow)}.
+     *
+     * @param primitiveEncodings the primitive encoding per column (see {@link #getPrimitiveEncodings(DataTableSpec)})
+     * @param capacity the maximum number of rows in this chunk
+     */
+    PrimitiveRowChunk(final byte[] primitiveEncodings, final int capacity) {
+        final int colCount = primitiveEncodings.length;
+        final int size = Math.min(INITIAL_SIZE, capacity);
+        m_encodings = primitiveEncodings.clone();
+        m_capacity = capacity;
+        m_keys = new RowKey[size];
+        m_values = new long[colCount][];
+        m_isMissing = new boolean[colCount][];
+        m_cells = new DataCell[colCount][];
+        m_cellCache = new DataCell[colCount][];
+        for (int c = 0; c < colCount; c++) {
+            if (m_encodings[c] == ENC_CELLS) {
+                m_cells[c] = new DataCell[size];
+            } else {
+                m_values[c] = new long[size];
+                m_isMissing[c] = new boolean[size];
+            }
+        }
+    }
+
+    /**
+     * Creates a chunk from decoded column data. Arrays of columns are only read for the respective encoding, i.e.
+     * cells for {@link ColumnarTableStoreWriter#ENC_CELLS}, values and missing flags for primitive encodings and
+     * nothing for {@link #ENC_UNMATERIALIZED}. The arrays are taken over, not copied.
+     *
+     * @param keys the row keys
+     * @param encodings the encoding per column
+     * @param values the raw value bits per column
+     * @param isMissing the missing flags per column
+     * @param cells the cells per column
+     * @param size the number of rows
+     */
+    PrimitiveRowChunk(final RowKey[] keys, final byte[] encodings, final long[][] values, final boolean[][] isMissing,
+        final DataCell[][] cells, final int size) {
+        m_keys = keys;
+        m_encodings = encodings;
+        m_values = values;
+        m_isMissing = isMissing;
+        m_cells = cells;
+        m_cellCache = new DataCell[encodings.length][];
+        m_capacity = size;
+        m_size = size;
+    }
+
+    /**
+     * @param spec a table spec
+     * @return the primitive encoding per column if all columns of the spec can be represented in primitive form,
+     *         otherwise (or if there are no columns) null
+     */
+    static byte[] getPrimitiveEncodings(final DataTableSpec spec) {
+        final int colCount = spec.getNumColumns();
+        if (colCount == 0) {
+            return null;
+        }
+        final byte[] encodings = new byte[colCount];
+        for (int c = 0; c < colCount; c++) {
+            encodings[c] = ColumnarTableStoreWriter.getPrimitiveEncoding(spec.getColumnSpec(c).getType());
+            if (encodings[c] == ENC_CELLS) {
+                return null;
+            }
+        }
+        return encodings;
+    }
+
+    /**
+     * Stores a cell in primitive form if it is a missing cell (without error message) or if its class matches the
+     * encoding.
+     *
+     * @param encoding the primitive encoding of the column
+     * @param cell the cell to store
+     * @param values the raw value bits of the column
+     * @param isMissing the missing flags of the column
+     * @param index the index to store the value at
+     * @return whether the cell could be stored, if false the arrays are unchanged
+     */
+    static boolean storePrimitive(final byte encoding, final DataCell cell, final long[] values,
+        final boolean[] isMissing, final int index) {
+        if (cell == DataType.getMissingCell()) {
+            isMissing[index] = true;
+            values[index] = 0L;
+            return true;
+        }
+        final Class<? extends DataCell> cellClass = cell.getClass();
+        if (encoding == ENC_DOUBLE && cellClass == DoubleCell.class) {
+            values[index] = Double.doubleToRawLongBits(((DoubleCell)cell).getDoubleValue());
+        } else if (encoding == ENC_INT && cellClass == IntCell.class) {
+            values[index] = ((IntCell)cell).getIntValue();
+        } else if (encoding == ENC_LONG && cellClass == LongCell.class) {
+            values[index] = ((LongCell)cell).getLongValue();
+        } else if (encoding == ENC_BOOLEAN && cellClass == BooleanCell.class) {
+            values[index] = ((BooleanCell)cell).getBooleanValue() ? 1L : 0L;
+        } else {
+            return false;
+        }
+        isMissing[index] = false;
+        return true;
+    }
+
+    /** @return whether no more rows can be added */
+    boolean isFull() {
+        return m_size == m_capacity;
+    }
+
+    /** @return the number of rows in this chunk */
+    int size() {
+        return m_size;
+    }
+
+    /**
+     * Appends a row to this chunk.
+     *
+     * @param row the row to add, must have as many cells as this chunk has columns
+     * @return the row backed by this chunk
+     * @throws IllegalStateException if the chunk is full
+     */
+    PrimitiveChunkDataRow add(final DataRow row) {
+        if (isFull()) {
+            throw new IllegalStateException("Chunk is full (" + m_capacity + " rows)");
+        }
+        final int r = m_size;
+        if (r == m_keys.length) {
+            grow(Math.min(m_capacity, 2 * r));
+        }
+        m_keys[r] = row.getKey();
+        final boolean isBlobRow = row instanceof BlobSupportDataRow;
+        for (int c = 0; c < m_encodings.length; c++) {
+            final DataCell cell = isBlobRow ? ((BlobSupportDataRow)row).getRawCell(c) : row.getCell(c);
+            if (m_encodings[c] != ENC_CELLS) {
+                if (storePrimitive(m_encodings[c], cell, m_values[c], m_isMissing[c], r)) {
+                    continue;
+                }
+                switchToCellEncoding(c);
+            }
+            m_cells[c][r] = cell;
+        }
+        m_size++;
+        return new PrimitiveChunkDataRow(this, r);
+    }
+
+    private void grow(final int newLength) {
+        m_keys = Arrays.copyOf(m_keys, newLength);
+        for (int c = 0; c < m_encodings.length; c++) {
+            if (m_values[c] != null) {
+                m_values[c] = Arrays.copyOf(m_values[c], newLength);
+                m_isMissing[c] = Arrays.copyOf(m_isMissing[c], newLength);
+            }
+            if (m_cells[c] != null) {
+                m_cells[c] = Arrays.copyOf(m_cells[c], newLength);
+            }
+            if (m_cellCache[c] != null) {
+                m_cellCache[c] = Arrays.copyOf(m_cellCache[c], newLength);
+            }
+        }
+    }
+
+    /** Converts the primitive values collected so far for the given column into cells. */
+    private void switchToCellEncoding(final int column) {
+        final DataCell[] cells = new DataCell[m_keys.length];
+        final DataCell[] cache = m_cellCache[column];
+        for (int r = 0; r < m_size; r++) {
+            cells[r] = cache != null && cache[r] != null ? cache[r]
+                : ColumnarTableStoreReader.toCell(m_encodings[column], m_isMissing[column][r], m_values[column][r]);
+        }
+        m_cells[column] = cells;
+        m_cellCache[column] = null;
+        m_values[column] = null;
+        m_isMissing[column] = null;
+        m_encodings[column] = ENC_CELLS;
+    }
+
+    /**
+     * @param row the row index
+     * @return the key of the row
+     */
+    RowKey getKey(final int row) {
+        return m_keys[row];
+    }
+
+    /** @return the number of columns */
+    int getNumColumns() {
+        return m_encodings.length;
+    }
+
+    /**
+     * @param column the column index
+     * @return the encoding of the column
+     */
+    byte getEncoding(final int column) {
+        return m_encodings[column];
+    }
+
+    /**
+     * @param column the column index
+     * @return whether the values of the column are held in primitive form
+     */
+    boolean isPrimitive(final int column) {
+        return m_encodings[column] > ENC_CELLS;
+    }
+
+    /**
+     * @param column the index of a primitive column
+     * @param row the row index
+     * @return whether the value is missing
+     */
+    boolean isMissing(final int column, final int row) {
+        return m_isMissing[column][row];
+    }
+
+    /**
+     * @param column the index of a primitive column
+     * @param row the row index
+     * @return the raw value bits
+     */
+    long getValue(final int column, final int row) {
+        return m_values[column][row];
+    }
+
+    /**
+     * Returns the cell at the given position, cells of primitive columns are created on first access and cached.
+     *
+     * @param column the column index
+     * @param row the row index
+     * @return the (raw) cell
+     */
+    DataCell getCell(final int column, final int row) {
+        switch (m_encodings[column]) {
+            case ENC_UNMATERIALIZED:
+                return UnmaterializedCell.getInstance();
+            case ENC_CELLS:
+                return m_cells[column][row];
+            default:
+                DataCell[] cache = m_cellCache[column];
+                if (cache == null) {
+                    cache = new DataCell[m_keys.length];
+                    m_cellCache[column] = cache;
+                }
+                DataCell cell = cache[row];
+                if (cell == null) {
+                    cell = ColumnarTableStoreReader.toCell(m_encodings[column], m_isMissing[column][row],
+                        m_values[column][row]);
+                    cache[row] = cell;
+                }
+                return cell;
+        }
+    }
+
+}
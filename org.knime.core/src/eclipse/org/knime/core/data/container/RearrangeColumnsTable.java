@@ -54,12 +54,15 @@
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.IntStream;
 
 import org.knime.core.data.DataCell;
@@ -445,12 +448,16 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
         CellFactory facForProgress = null;
         int workers = Integer.MAX_VALUE;
         int queueSize = Integer.MAX_VALUE;
+        int chunkSize = Integer.MAX_VALUE;
         Collection<SpecAndFactoryObject> newColsFactories = newColsProducerMapping.getAllNewColumnsList();
         for (SpecAndFactoryObject specAndFac : newColsFactories) {
             if (specAndFac.getFactory() instanceof AbstractCellFactory) {
                 AbstractCellFactory acf = (AbstractCellFactory)specAndFac.getFactory();
                 workers = Math.min(workers, acf.getMaxParallelWorkers());
                 queueSize = Math.min(queueSize, acf.getMaxQueueSize());
+                if (acf.getParallelProcessingChunkSize() > 0) {
+                    chunkSize = Math.min(chunkSize, acf.getParallelProcessingChunkSize());
+                }
             } else {
                 throw new IllegalStateException("Coding problem: This method"
                     + " should not have been called as the cell factories do not allow parallel processing");
@@ -462,11 +469,12 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
         assert facForProgress != null;
         assert workers > 0 : "Nr workers <= 0: " + workers;
         assert queueSize > 0 : "queue size <= 0: " + queueSize;
+        // chunk size is determined automatically unless set by any of the factories
         ConcurrentNewColCalculator calculator =
-            new ConcurrentNewColCalculator(queueSize, workers, container, subProgress, finalRowCount,
-                newColsProducerMapping, facForProgress);
+            new ConcurrentNewColCalculator(queueSize, workers, chunkSize == Integer.MAX_VALUE ? -1 : chunkSize,
+                container, subProgress, finalRowCount, newColsProducerMapping, facForProgress);
         try {
-            calculator.run(table);
+            calculator.run(calculator.chunks(table));
         } catch (InterruptedException e) {
             CanceledExecutionException cee = new CanceledExecutionException(e.getMessage());
             cee.initCause(e);
@@ -694,9 +702,17 @@ Buffer createBuffer(final File binFile, final File blobDir, final File fileStore
     /**
      * The MultiThreadWorker that processes the input rows concurrently. Only used if the cell factory is an
      * {@link AbstractCellFactory} with parallel processing ( {@link AbstractCellFactory#setParallelProcessing(boolean)}
-     * )
+     * ). The rows are handed to the workers in chunks (see
+     * {@link AbstractCellFactory#setParallelProcessingChunkSize(int)}) so that cheap computations are not dominated
+     * by the cost of scheduling a task per row.
      */
-    private static final class ConcurrentNewColCalculator extends MultiThreadWorker<DataRow, DataRow> {
+    static final class ConcurrentNewColCalculator extends MultiThreadWorker<List<DataRow>, List<DataRow>> {
+
+        /** Targeted computation time of an automatically sized chunk (1ms). */
+        static final long TARGET_CHUNK_NANOS = 1000000L;
+
+        /** Upper bound for automatically sized chunks, limits the number of rows held in memory. */
+        static final int MAX_AUTO_CHUNK_SIZE = 1024;
 
         private final ExecutionMonitor m_subProgress;
 
@@ -708,9 +724,24 @@ private static final class ConcurrentNewColCalculator extends MultiThreadWorker<
 
         private final CellFactory m_facForProgress;
 
+        /** Fixed chunk size or -1 if determined automatically. */
+        private final int m_chunkSize;
+
+        /** Upper bound of the chunk size so that small tables are still split among all workers. */
+        private final long m_maxChunkSize;
+
+        /** Statistics used to determine the chunk size, updated concurrently by the workers. */
+        private final LongAdder m_computedRows = new LongAdder();
+
+        private final LongAdder m_computeNanos = new LongAdder();
+
+        /** Number of rows that have been added to the container (only accessed in processFinished). */
+        private long m_processedRows;
+
         /**
          * @param maxQueueSize
          * @param maxActiveInstanceSize
+         * @param chunkSize
          * @param table
          * @param subProgress
          * @param reducedList
@@ -718,9 +749,11 @@ private static final class ConcurrentNewColCalculator extends MultiThreadWorker<
          * @param container
          */
         private ConcurrentNewColCalculator(final int maxQueueSize, final int maxActiveInstanceSize,
-            final DataContainer container, final ExecutionMonitor subProgress, final long totalRowCount,
-            final NewColumnsProducerMapping reducedList, final CellFactory facForProgress) {
+            final int chunkSize, final DataContainer container, final ExecutionMonitor subProgress,
+            final long totalRowCount, final NewColumnsProducerMapping reducedList, final CellFactory facForProgress) {
             super(maxQueueSize, maxActiveInstanceSize);
+            m_chunkSize = chunkSize;
+            m_maxChunkSize = getMaxAutoChunkSize(totalRowCount, maxActiveInstanceSize);
             m_container = container;
             m_subProgress = subProgress;
             m_totalRowCount = totalRowCount;
@@ -728,21 +761,98 @@ private ConcurrentNewColCalculator(final int maxQueueSize, final int maxActiveIn
             m_facForProgress = facForProgress;
         }
 
+        /**
+         * @param table the input table
+         * @return an iterable that splits the input table into consecutive chunks
+         */
+        private Iterable<List<DataRow>> chunks(final Iterable<DataRow> table) {
+            return () -> new Iterator<List<DataRow>>() {
+
+                private final Iterator<DataRow> m_rowIterator = table.iterator();
+
+                @Override
+                public boolean hasNext() {
+                    return m_rowIterator.hasNext();
+                }
+
+                @Override
+                public List<DataRow> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final int size = nextChunkSize();
+                    final List<DataRow> chunk = new ArrayList<>(size);
+                    while (chunk.size() < size && m_rowIterator.hasNext()) {
+                        chunk.add(m_rowIterator.next());
+                    }
+                    return chunk;
+                }
+            };
+        }
+
+        /**
+         * Returns the size of the next chunk. If not fixed it's derived from the average time needed to compute a
+         * row so far, see {@link #getAutoChunkSize(long, long, long)}.
+         */
+        private int nextChunkSize() {
+            if (m_chunkSize > 0) {
+                return m_chunkSize;
+            }
+            return getAutoChunkSize(m_computedRows.sum(), m_computeNanos.sum(), m_maxChunkSize);
+        }
+
+        /**
+         * @param totalRowCount the number of rows of the input table
+         * @param workerCount the number of workers
+         * @return the upper bound of automatically sized chunks, so that each worker gets about four chunks (but at
+         *         most {@value #MAX_AUTO_CHUNK_SIZE} rows per chunk)
+         */
+        static long getMaxAutoChunkSize(final long totalRowCount, final int workerCount) {
+            return Math.max(1L, Math.min(MAX_AUTO_CHUNK_SIZE, totalRowCount / (4L * workerCount)));
+        }
+
+        /**
+         * Determines the size of a chunk so that its computation takes about {@value #TARGET_CHUNK_NANOS}ns, starting
+         * with single rows until the first chunk has been computed.
+         *
+         * @param computedRows the number of rows computed so far
+         * @param computeNanos the time needed to compute these rows
+         * @param maxChunkSize the upper bound of the chunk size
+         * @return the chunk size, at least 1
+         */
+        static int getAutoChunkSize(final long computedRows, final long computeNanos, final long maxChunkSize) {
+            if (computedRows == 0L) {
+                return 1;
+            }
+            final long nanosPerRow = Math.max(1L, computeNanos / computedRows);
+            return (int)Math.max(1L, Math.min(maxChunkSize, TARGET_CHUNK_NANOS / nanosPerRow));
+        }
+
         /** {@inheritDoc} */
         @Override
-        protected DataRow compute(final DataRow in, final long index) throws Exception {
-            return calcNewCellsForRow(in, m_reducedList);
+        protected List<DataRow> compute(final List<DataRow> in, final long index) throws Exception {
+            final long start = System.nanoTime();
+            final List<DataRow> result = new ArrayList<>(in.size());
+            for (DataRow row : in) {
+                result.add(calcNewCellsForRow(row, m_reducedList));
+            }
+            m_computeNanos.add(System.nanoTime() - start);
+            m_computedRows.add(in.size());
+            return result;
         }
 
         /** {@inheritDoc} */
         @Override
         protected void processFinished(final ComputationTask task) throws ExecutionException, CancellationException,
             InterruptedException {
-            int r = (int)task.getIndex(); // row count in table is integer
-            RowKey key = task.getInput().getKey();
-            DataRow append = task.get(); // exception falls through
-            m_container.addRowToTable(append);
-            m_facForProgress.setProgress(r + 1, m_totalRowCount, key, m_subProgress);
+            final List<DataRow> in = task.getInput();
+            final List<DataRow> append = task.get(); // exception falls through
+            for (DataRow row : append) {
+                m_container.addRowToTable(row);
+            }
+            m_processedRows += append.size();
+            RowKey key = in.get(in.size() - 1).getKey();
+            m_facForProgress.setProgress(m_processedRows, m_totalRowCount, key, m_subProgress);
             try {
                 m_subProgress.checkCanceled();
             } catch (CanceledExecutionException cee) {
@@ -0,0 +1,207 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowIteratorBuilder;
+
+/**
+ * A {@link Spliterator} over the rows of a table that splits into independent row ranges, each read by its own
+ * iterator created via {@link RowIteratorBuilder#fromIndex(long)} and {@link RowIteratorBuilder#toIndex(long)}. Split
+ * points are aligned to {@value #SPLIT_ALIGNMENT} rows, which is the interval of the row offset index of stored tables.
+ *
+ * <p>
+ * Iterators are closed once their range is consumed. As short-circuiting operations may leave ranges unfinished,
+ * clients should {@link #close()} the root spliterator (which closes the iterators of all its splits), e.g. via
+ * {@link java.util.stream.Stream#onClose(Runnable)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class RowRangeSpliterator implements Spliterator<DataRow>, AutoCloseable {
+
+    /** Split points are multiples of this number of rows. */
+    static final long SPLIT_ALIGNMENT = 1024;
+
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+    private final Supplier<? extends RowIteratorBuilder<? extends CloseableRowIterator>> m_builderSupplier;
+
+    /** Iterators of this spliterator and all its splits that are not yet closed. */
+    private final Set<CloseableRowIterator> m_openIterators;
+
+    private final boolean m_isSplittable;
+
+    /** Index of the next row to return. */
+    private long m_index;
+
+    /** Index after the last row to return. */
+    private final long m_endIndex;
+
+    /** The iterator, created on first access. */
+    private CloseableRowIterator m_iterator;
+
+    /**
+     * Creates a spliterator over all rows of a table.
+     *
+     * @param builderSupplier creates new row iterator builders on the table (called once per split)
+     * @param rowCount the number of rows in the table
+     * @param isSplittable whether to split at all; should be <code>false</code> if the table's iterators can't seek
+     *            to a row but need to skip all preceding rows
+     */
+    public RowRangeSpliterator(final Supplier<? extends RowIteratorBuilder<? extends CloseableRowIterator>>
+        builderSupplier, final long rowCount, final boolean isSplittable) {
+        this(builderSupplier, ConcurrentHashMap.newKeySet(), isSplittable, 0L, rowCount);
+    }
+
+    private RowRangeSpliterator(final Supplier<? extends RowIteratorBuilder<? extends CloseableRowIterator>>
+        builderSupplier, final Set<CloseableRowIterator> openIterators, final boolean isSplittable,
+        final long fromIndex, final long endIndex) {
+        m_builderSupplier = builderSupplier;
+        m_openIterators = openIterators;
+        m_isSplittable = isSplittable;
+        m_index = fromIndex;
+        m_endIndex = endIndex;
+    }
+
+    private CloseableRowIterator getIterator() {
+        if (m_iterator == null) {
+            m_iterator = m_builderSupplier.get().fromIndex(m_index).toIndex(m_endIndex - 1).build();
+            m_openIterators.add(m_iterator);
+        }
+        return m_iterator;
+    }
+
+    private void closeIterator() {
+        m_index = m_endIndex;
+        if (m_iterator != null) {
+            m_openIterators.remove(m_iterator);
+            m_iterator.close();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean tryAdvance(final Consumer<? super DataRow> action) {
+        if (m_index >= m_endIndex) {
+            return false;
+        }
+        final CloseableRowIterator iterator = getIterator();
+        if (!iterator.hasNext()) {
+            closeIterator();
+            return false;
+        }
+        m_index++;
+        action.accept(iterator.next());
+        if (m_index >= m_endIndex) {
+            closeIterator();
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachRemaining(final Consumer<? super DataRow> action) {
+        if (m_index >= m_endIndex) {
+            return;
+        }
+        final CloseableRowIterator iterator = getIterator();
+        try {
+            while (iterator.hasNext()) {
+                m_index++;
+                action.accept(iterator.next());
+            }
+        } finally {
+            closeIterator();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Spliterator<DataRow> trySplit() {
+        if (!m_isSplittable || m_iterator != null) {
+            return null;
+        }
+        final long mid = (m_index + (m_endIndex - m_index) / 2) / SPLIT_ALIGNMENT * SPLIT_ALIGNMENT;
+        if (mid <= m_index || mid >= m_endIndex) {
+            return null;
+        }
+        final RowRangeSpliterator prefix =
+            new RowRangeSpliterator(m_builderSupplier, m_openIterators, true, m_index, mid);
+        m_index = mid;
+        return prefix;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long estimateSize() {
+        return Math.max(0L, m_endIndex - m_index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /** Closes the iterators of this spliterator and all its splits that are still open. */
+    @Override
+    public void close() {
+        for (CloseableRowIterator iterator : m_openIterators) {
+            iterator.close();
+        }
+        m_openIterators.clear();
+    }
+
+}
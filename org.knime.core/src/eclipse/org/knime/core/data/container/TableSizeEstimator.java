@@ -0,0 +1,262 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.collection.BlobSupportDataCellIterator;
+import org.knime.core.data.collection.CellCollection;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Estimates the heap memory retained by tables held in memory as lists of rows (see {@link BufferCache}). The estimate
+ * is based on a sample of rows and on per-cell-class estimators; the elements of collection cells are sampled as well.
+ * Blobs are not accounted for, since they are only softly referenced by their {@link BlobWrapperDataCell}. Cells of
+ * unknown classes get a fixed estimate per class, derived from the fields of the class, since inspecting their content
+ * (e.g., their string representation) may be expensive. The estimates assume a 64-bit JVM with compressed object
+ * pointers.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class TableSizeEstimator {
+
+    /** The number of rows sampled from a table. */
+    static final int ROW_SAMPLE_SIZE = 1024;
+
+    /** The number of elements sampled from a collection cell. */
+    static final int COLLECTION_SAMPLE_SIZE = 32;
+
+    /** Object header plus a reference field, e.g., of an {@link IntCell} (12 + 4 bytes). */
+    private static final long SMALL_OBJECT_SIZE = 16;
+
+    /** Object header plus length of an array (16 bytes). */
+    private static final long ARRAY_HEADER_SIZE = 16;
+
+    /** The size of an object reference. */
+    private static final long REFERENCE_SIZE = 4;
+
+    /** The size of a {@link BlobSupportDataRow} (without cells and key string). */
+    private static final long ROW_OVERHEAD = 24 + SMALL_OBJECT_SIZE + ARRAY_HEADER_SIZE;
+
+    /** The size of {@link BlobWrapperDataCell} (without the blob). */
+    private static final long BLOB_WRAPPER_SIZE = 32;
+
+    /** The size of an object header. */
+    private static final long OBJECT_HEADER_SIZE = 12;
+
+    /** The size assumed for an object referenced by a cell of an unknown class, e.g., a short string. */
+    private static final long REFERENCED_OBJECT_SIZE = 48;
+
+    /** Fixed estimates for cells of unknown classes, computed once per class. */
+    private static final ClassValue<Long> CLASS_ESTIMATES = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(final Class<?> type) {
+            return estimateInstanceSize(type);
+        }
+    };
+
+    private static final Map<Class<? extends DataCell>, ToLongFunction<DataCell>> ESTIMATORS = new HashMap<>();
+
+    static {
+        ESTIMATORS.put(IntCell.class, c -> SMALL_OBJECT_SIZE);
+        ESTIMATORS.put(DoubleCell.class, c -> 24);
+        ESTIMATORS.put(LongCell.class, c -> 24);
+        ESTIMATORS.put(BooleanCell.class, c -> 0); // shared instances
+        ESTIMATORS.put(StringCell.class, c -> SMALL_OBJECT_SIZE + estimateString(((StringCell)c).getStringValue()));
+        ESTIMATORS.put(MissingCell.class, c -> SMALL_OBJECT_SIZE + estimateString(((MissingCell)c).getError()));
+        ESTIMATORS.put(BlobWrapperDataCell.class, c -> BLOB_WRAPPER_SIZE);
+    }
+
+    private TableSizeEstimator() {
+    }
+
+    /**
+     * Estimates the memory retained by a table held in memory. At most {@value #ROW_SAMPLE_SIZE} rows, evenly spread
+     * across the table, are inspected.
+     *
+     * @param rows the rows of the table
+     * @return the estimated size in bytes
+     */
+    static long estimateTableSize(final List<? extends DataRow> rows) {
+        final int rowCount = rows.size();
+        final long listSize = ARRAY_HEADER_SIZE + REFERENCE_SIZE * rowCount;
+        if (rowCount == 0) {
+            return listSize;
+        }
+        final int sampleCount = Math.min(rowCount, ROW_SAMPLE_SIZE);
+        final double step = rowCount / (double)sampleCount;
+        long sampleSize = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            sampleSize += estimateRowSize(rows.get((int)(i * step)));
+        }
+        return listSize + (long)(sampleSize * (rowCount / (double)sampleCount));
+    }
+
+    /**
+     * Estimates the memory retained by a single row.
+     *
+     * @param row the row
+     * @return the estimated size in bytes
+     */
+    static long estimateRowSize(final DataRow row) {
+        final int cellCount = row.getNumCells();
+        if (row instanceof PrimitiveChunkDataRow) {
+            // values of primitive columns are held in the arrays of the row's chunk
+            final PrimitiveChunkDataRow primitiveRow = (PrimitiveChunkDataRow)row;
+            long size = ROW_OVERHEAD + estimateString(row.getKey().getString());
+            for (int i = 0; i < cellCount; i++) {
+                size += primitiveRow.isPrimitive(i) ? Long.BYTES + 1 : REFERENCE_SIZE
+                    + estimateCellSize(primitiveRow.getRawCell(i));
+            }
+            return size;
+        }
+        long size = ROW_OVERHEAD + estimateString(row.getKey().getString()) + REFERENCE_SIZE * cellCount;
+        for (int i = 0; i < cellCount; i++) {
+            final DataCell cell = row instanceof BlobSupportDataRow
+                ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+            size += estimateCellSize(cell);
+        }
+        return size;
+    }
+
+    /**
+     * Estimates the memory retained by a single cell.
+     *
+     * @param cell the cell
+     * @return the estimated size in bytes
+     */
+    static long estimateCellSize(final DataCell cell) {
+        final ToLongFunction<DataCell> estimator = ESTIMATORS.get(cell.getClass());
+        if (estimator != null) {
+            return estimator.applyAsLong(cell);
+        }
+        if (cell instanceof CellCollection && cell instanceof CollectionDataValue) {
+            return estimateCollectionSize((CellCollection)cell, ((CollectionDataValue)cell).size());
+        }
+        return CLASS_ESTIMATES.get(cell.getClass());
+    }
+
+    /**
+     * Estimates the size of an instance of the argument class from its (also inherited) instance fields, assuming
+     * {@value #REFERENCED_OBJECT_SIZE} bytes for each object referenced by the instance.
+     *
+     * @param type the class
+     * @return the estimated size in bytes
+     */
+    static long estimateInstanceSize(final Class<?> type) {
+        long shallowSize = OBJECT_HEADER_SIZE;
+        long referencedSize = 0;
+        try {
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(f.getModifiers())) {
+                        continue;
+                    }
+                    final Class<?> fieldType = f.getType();
+                    if (!fieldType.isPrimitive()) {
+                        shallowSize += REFERENCE_SIZE;
+                        referencedSize += REFERENCED_OBJECT_SIZE;
+                    } else if (fieldType == long.class || fieldType == double.class) {
+                        shallowSize += 8;
+                    } else if (fieldType == int.class || fieldType == float.class) {
+                        shallowSize += 4;
+                    } else if (fieldType == short.class || fieldType == char.class) {
+                        shallowSize += 2;
+                    } else {
+                        shallowSize += 1;
+                    }
+                }
+            }
+        } catch (SecurityException e) {
+            return SMALL_OBJECT_SIZE + REFERENCED_OBJECT_SIZE;
+        }
+        return align(shallowSize) + referencedSize;
+    }
+
+    /** Samples the first {@value #COLLECTION_SAMPLE_SIZE} elements of a collection (without reading blobs). */
+    private static long estimateCollectionSize(final CellCollection collection, final int size) {
+        final Iterator<DataCell> it = collection.iterator();
+        final BlobSupportDataCellIterator blobIt =
+            it instanceof BlobSupportDataCellIterator ? (BlobSupportDataCellIterator)it : null;
+        long sampleSize = 0;
+        int sampleCount = 0;
+        while (sampleCount < COLLECTION_SAMPLE_SIZE && it.hasNext()) {
+            sampleSize += estimateCellSize(blobIt != null ? blobIt.nextWithBlobSupport() : it.next());
+            sampleCount++;
+        }
+        final long elementsSize = sampleCount == 0 ? 0 : (long)(sampleSize * (size / (double)sampleCount));
+        return SMALL_OBJECT_SIZE + ARRAY_HEADER_SIZE + REFERENCE_SIZE * size + elementsSize;
+    }
+
+    /** Size of a string (object plus char array), 0 for null. */
+    private static long estimateString(final String s) {
+        if (s == null) {
+            return 0;
+        }
+        return 24 + align(ARRAY_HEADER_SIZE + 2L * s.length());
+    }
+
+    private static long align(final long size) {
+        return (size + 7) & ~7L;
+    }
+
+}
@@ -55,6 +55,7 @@
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.WeakHashMap;
@@ -63,6 +64,7 @@
 import org.apache.commons.io.IOUtils;
 import org.eclipse.core.runtime.Platform;
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataTypeRegistry;
@@ -192,7 +194,8 @@ public final BlobWrapperDataCell createBlobWrapperCell(final BlobAddress address
 
     /**
      * Returns a {@link RowIteratorBuilder} that can be used to assemble more complex
-     * {@link TableStoreCloseableRowIterator}s that only iterate over parts of a table.
+     * {@link TableStoreCloseableRowIterator}s that only iterate over parts of a table. Iterators of builders
+     * configured to {@link RowIteratorBuilder#prefetch(int) prefetch} rows read ahead on a background thread.
      *
      * @return a {@link RowIteratorBuilder} that can be used to assemble complex {@link TableStoreCloseableRowIterator}s
      *
@@ -202,13 +205,66 @@ public RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuil
         return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(() -> iterator(), m_spec) {
             @Override
             public TableStoreCloseableRowIterator build() {
-                TableStoreCloseableRowIterator iterator = super.build();
+                final int[] filterIndices = getFilterIndices().orElse(null);
+                TableStoreCloseableRowIterator iterator;
+                if (hasRowRange()) {
+                    iterator = iterator(filterIndices, getFromIndex(), getToIndex());
+                } else {
+                    iterator = filterIndices != null ? iterator(filterIndices) : super.build();
+                }
+                if (getPrefetchCount() > 0) {
+                    iterator = new PrefetchingTableStoreRowIterator(iterator, getPrefetchCount());
+                }
                 registerNewIteratorInstance(iterator);
                 return iterator;
             }
         };
     }
 
+    /**
+     * Returns a row iterator that only needs to materialize the cells of the argument columns. Cells of all other
+     * columns may be returned as {@link org.knime.core.data.UnmaterializedCell}. Implementations are encouraged to
+     * not even read (or decode) the data of these columns. The default implementation ignores the argument and
+     * returns {@link #iterator()}.
+     *
+     * @param materializedColumns the (ascending, distinct, valid) indices of the columns that need to be materialized
+     * @return row iterator
+     * @since 3.8
+     */
+    public TableStoreCloseableRowIterator iterator(final int[] materializedColumns) {
+        return iterator();
+    }
+
+    /**
+     * Returns a row iterator over a range of rows, only materializing the cells of the argument columns (see
+     * {@link #iterator(int[])}). The default implementation skips the rows before the range; implementations that
+     * can seek in their storage should override it.
+     *
+     * @param materializedColumns the (ascending, distinct, valid) indices of the columns that need to be materialized
+     *            or <code>null</code> to materialize all columns
+     * @param fromIndex the index of the first row to return, non-negative
+     * @param toIndex the index of the last row to return (inclusive), {@link Long#MAX_VALUE} for all remaining rows
+     * @return row iterator
+     * @since 3.8
+     */
+    public TableStoreCloseableRowIterator iterator(final int[] materializedColumns, final long fromIndex,
+        final long toIndex) {
+        final TableStoreCloseableRowIterator iterator =
+            materializedColumns != null ? iterator(materializedColumns) : iterator();
+        return new RangeTableStoreRowIterator(iterator, fromIndex, toIndex);
+    }
+
+    /**
+     * Whether {@link #iterator(int[], long, long)} seeks to the first row of the range rather than skipping all
+     * preceding rows. The default implementation returns <code>false</code>.
+     *
+     * @return whether iterators over a row range can start at an arbitrary row
+     * @since 3.8
+     */
+    public boolean canSeek() {
+        return false;
+    }
+
     /**
      * Reads the cell class info shortcuts array from the node settings for container versions 6 and lower.
      *
@@ -415,4 +471,55 @@ public final void close() {
         public abstract boolean performClose() throws IOException;
     }
 
+    /** Iterator returning a range of rows of a delegate iterator by skipping the rows before the range. */
+    private static final class RangeTableStoreRowIterator extends TableStoreCloseableRowIterator {
+
+        private final TableStoreCloseableRowIterator m_delegate;
+
+        /** Rows still to skip, done lazily as the delegate can only be closed once the reader is set. */
+        private long m_toSkip;
+
+        private long m_remaining;
+
+        RangeTableStoreRowIterator(final TableStoreCloseableRowIterator delegate, final long fromIndex,
+            final long toIndex) {
+            m_delegate = delegate;
+            m_toSkip = fromIndex;
+            if (toIndex == Long.MAX_VALUE) {
+                m_remaining = Long.MAX_VALUE;
+            } else {
+                m_remaining = toIndex >= fromIndex ? toIndex - fromIndex + 1 : 0;
+            }
+        }
+
+        @Override
+        public void setReader(final AbstractTableStoreReader reader) {
+            super.setReader(reader);
+            m_delegate.setReader(reader);
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (; m_toSkip > 0 && m_delegate.hasNext(); m_toSkip--) {
+                m_delegate.next();
+            }
+            return m_remaining > 0 && m_delegate.hasNext();
+        }
+
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            m_remaining--;
+            return m_delegate.next();
+        }
+
+        @Override
+        public boolean performClose() throws IOException {
+            m_remaining = 0;
+            return m_delegate.performClose();
+        }
+    }
+
 }
@@ -0,0 +1,127 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A codec compressing the binary files of the {@link org.knime.core.data.container.DefaultTableStoreFormat} and the
+ * {@link org.knime.core.data.container.ColumnarTableStoreFormat}. The built-in codecs are the constants of
+ * {@link org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat}, further codecs are registered via
+ * the extension point <code>org.knime.core.CompressionCodec</code> (see {@link CompressionCodecRegistry}).
+ *
+ * <p>
+ * A codec is chosen per table via
+ * {@link org.knime.core.data.container.DataContainerSettings#withCompression(CompressionCodec, int)} or for all
+ * tables via the {@link org.knime.core.node.KNIMEConstants#PROPERTY_TABLE_COMPRESSION} property. Its
+ * {@linkplain #getName() name} is saved along with the table, which can then be read by any installation that has the
+ * codec installed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public interface CompressionCodec {
+
+    /** The level denoting the codec's default compression level. */
+    int DEFAULT_LEVEL = -1;
+
+    /**
+     * Returns the name identifying the codec, which is saved with the tables written with it. Names are compared
+     * ignoring case and must not be changed once tables have been written.
+     *
+     * @return the name of the codec, not null
+     */
+    String getName();
+
+    /**
+     * Returns the extension of the files written with this codec, e.g. <code>".bin.gz"</code>.
+     *
+     * @return the file name extension
+     */
+    String getFileExtension();
+
+    /**
+     * Returns the highest compression level supported by this codec. Levels range from 1 (fastest) to this value
+     * (densest). The level only affects writing, data can be read independent of the level it was written with.
+     *
+     * @return the highest compression level or 0 if the codec does not support levels
+     */
+    int getMaxLevel();
+
+    /**
+     * Whether the argument is a valid compression level for this codec.
+     *
+     * @param level the level to test
+     * @return true if the level is either {@link #DEFAULT_LEVEL} or within [1, {@link #getMaxLevel()}]
+     */
+    default boolean isValidLevel(final int level) {
+        return level == DEFAULT_LEVEL || (level >= 1 && level <= getMaxLevel());
+    }
+
+    /**
+     * Returns a stream compressing the data written to it. Closing the returned stream closes the argument stream.
+     *
+     * @param out the stream to write the compressed data to
+     * @param level the compression level, see {@link #isValidLevel(int)}
+     * @return the compressing stream
+     * @throws IOException if the stream cannot be created, in which case the argument stream is closed
+     */
+    OutputStream createOutputStream(OutputStream out, int level) throws IOException;
+
+    /**
+     * Returns a stream uncompressing the data read from the argument stream. Closing the returned stream closes the
+     * argument stream.
+     *
+     * @param in the (compressed) stream to read from
+     * @return the uncompressed input stream
+     * @throws IOException if the stream cannot be created, in which case the argument stream is closed
+     */
+    InputStream createInputStream(InputStream in) throws IOException;
+}
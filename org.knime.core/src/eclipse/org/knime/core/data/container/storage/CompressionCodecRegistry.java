@@ -0,0 +1,138 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.Platform;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Collects the {@link CompressionCodec compression codecs} from the extension point and provides them, along with the
+ * built-in {@link CompressionFormat compression formats}, to the framework.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class CompressionCodecRegistry {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CompressionCodecRegistry.class);
+
+    private static final String EXT_POINT_ID = "org.knime.core.CompressionCodec";
+
+    private static final CompressionCodecRegistry INSTANCE = createInstance();
+
+    private static CompressionCodecRegistry createInstance() {
+        final List<CompressionCodec> codecs = new ArrayList<>(Arrays.asList(CompressionFormat.values()));
+        final IExtensionRegistry registry = Platform.getExtensionRegistry();
+        final IExtensionPoint point = registry != null ? registry.getExtensionPoint(EXT_POINT_ID) : null;
+        if (point != null) {
+            Stream.of(point.getExtensions()).flatMap(ext -> Stream.of(ext.getConfigurationElements()))
+                .map(CompressionCodecRegistry::readCodec).filter(c -> c != null).forEach(c -> {
+                    if (codecs.stream().anyMatch(other -> other.getName().equalsIgnoreCase(c.getName()))) {
+                        LOGGER.errorWithFormat("Duplicate compression codec name '%s', ignoring '%s'", c.getName(),
+                            c.getClass().getName());
+                    } else {
+                        codecs.add(c);
+                    }
+                });
+        }
+        return new CompressionCodecRegistry(codecs);
+    }
+
+    private static CompressionCodec readCodec(final IConfigurationElement cfe) {
+        try {
+            final CompressionCodec c = (CompressionCodec)cfe.createExecutableExtension("codecDefinition");
+            LOGGER.debugWithFormat("Added compression codec '%s' from '%s'", c.getName(),
+                cfe.getContributor().getName());
+            return c;
+        } catch (CoreException ex) {
+            LOGGER.error(String.format("Could not create '%s' from extension '%s': %s",
+                CompressionCodec.class.getName(), cfe.getContributor().getName(), ex.getMessage()), ex);
+        }
+        return null;
+    }
+
+    /** @return the instance to use. */
+    public static CompressionCodecRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private final List<CompressionCodec> m_codecs;
+
+    private CompressionCodecRegistry(final List<CompressionCodec> codecs) {
+        m_codecs = Collections.unmodifiableList(codecs);
+    }
+
+    /** @return all codecs in an unmodifiable list, the built-in compression formats first */
+    public List<CompressionCodec> getCodecs() {
+        return m_codecs;
+    }
+
+    /**
+     * Returns the codec with the given name, ignoring case.
+     *
+     * @param name the name of the codec, see {@link CompressionCodec#getName()}
+     * @return the codec or an empty optional if no such codec is installed
+     */
+    public Optional<CompressionCodec> getCodec(final String name) {
+        return m_codecs.stream().filter(c -> c.getName().equalsIgnoreCase(name)).findFirst();
+    }
+}
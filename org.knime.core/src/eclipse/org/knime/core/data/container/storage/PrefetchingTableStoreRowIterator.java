@@ -0,0 +1,253 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.container.storage;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.storage.AbstractTableStoreReader.TableStoreCloseableRowIterator;
+
+/**
+ * Iterator that reads (and decodes) the rows of a delegate iterator on a background thread into a bounded queue, so
+ * that reading from disc and decompressing overlaps with the processing of the rows by the caller. The background
+ * thread is started on the first call of {@link #hasNext()} and stops when the table is read completely or this
+ * iterator is closed. Exceptions thrown by the delegate are rethrown by {@link #next()}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PrefetchingTableStoreRowIterator extends TableStoreCloseableRowIterator {
+
+    /** Threads reading ahead; each one is busy for the lifetime of an iterator, hence a cached pool. */
+    private static final ExecutorService PREFETCH_SERVICE = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger m_threadCount = new AtomicInteger();
+
+        /** {@inheritDoc} */
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r, "KNIME-TablePrefetcher-" + m_threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    /**
+     * Time in milliseconds after which a blocked background thread checks whether the iterator was closed or is no
+     * longer referenced.
+     */
+    private static final long CLOSE_POLL_INTERVAL = 100L;
+
+    /** Queue element marking the end of the table. */
+    private static final Object END = new Object();
+
+    private final TableStoreCloseableRowIterator m_delegate;
+
+    /** State shared with the background thread, which must not reference this iterator (see {@link Prefetcher}). */
+    private final Prefetcher m_prefetcher;
+
+    private volatile Future<?> m_future;
+
+    /** The next element taken from the queue, null if it's yet to be taken. */
+    private Object m_next;
+
+    /**
+     * @param delegate the iterator to read from
+     * @param prefetchCount the maximum number of rows read ahead, positive
+     */
+    PrefetchingTableStoreRowIterator(final TableStoreCloseableRowIterator delegate, final int prefetchCount) {
+        m_delegate = delegate;
+        m_prefetcher = new Prefetcher(this, delegate, prefetchCount);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setReader(final AbstractTableStoreReader reader) {
+        super.setReader(reader);
+        m_delegate.setReader(reader);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean hasNext() {
+        if (m_prefetcher.m_isClosed) {
+            return false;
+        }
+        if (m_next == null) {
+            if (m_future == null) {
+                m_future = PREFETCH_SERVICE.submit(m_prefetcher);
+            }
+            try {
+                m_next = m_prefetcher.m_queue.take();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for rows to be read", ie);
+            }
+        }
+        return !m_prefetcher.m_isClosed && m_next != END;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Iterator at end");
+        }
+        final Object next = m_next;
+        m_next = null;
+        if (next instanceof Failure) {
+            m_next = END;
+            final Throwable cause = ((Failure)next).m_cause;
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw (RuntimeException)cause;
+        }
+        return (DataRow)next;
+    }
+
+    /** {@inheritDoc} The background thread stops after decoding at most one more row. */
+    @Override
+    public boolean performClose() throws IOException {
+        m_prefetcher.m_isClosed = true;
+        final Future<?> future = m_future;
+        if (future != null) {
+            future.cancel(false);
+        }
+        // release the buffered rows and wake up a caller waiting in hasNext()
+        m_prefetcher.m_queue.clear();
+        m_prefetcher.m_queue.offer(END);
+        return m_delegate.performClose();
+    }
+
+    /**
+     * Reads the rows of the delegate into the queue on the background thread. It only references the iterator weakly,
+     * so that an iterator that is abandoned without being closed can be garbage collected. The background thread then
+     * stops and closes the delegate, which releases the underlying file.
+     */
+    private static final class Prefetcher implements Runnable {
+
+        private final Reference<PrefetchingTableStoreRowIterator> m_owner;
+
+        private final TableStoreCloseableRowIterator m_delegate;
+
+        private final BlockingQueue<Object> m_queue;
+
+        private volatile boolean m_isClosed;
+
+        Prefetcher(final PrefetchingTableStoreRowIterator owner, final TableStoreCloseableRowIterator delegate,
+            final int prefetchCount) {
+            m_owner = new WeakReference<>(owner);
+            m_delegate = delegate;
+            m_queue = new ArrayBlockingQueue<>(prefetchCount);
+        }
+
+        /** Reads all rows of the delegate into the queue. */
+        @Override
+        public void run() {
+            try {
+                while (!m_isClosed && m_delegate.hasNext()) {
+                    if (!put(m_delegate.next())) {
+                        return;
+                    }
+                }
+                put(END);
+            } catch (RuntimeException | Error e) {
+                if (!m_isClosed) {
+                    put(new Failure(e));
+                }
+            }
+        }
+
+        /**
+         * Puts an element into the queue, waiting for space to become available unless the iterator is closed or no
+         * longer referenced.
+         *
+         * @return whether the element was added, false if the iterator was closed or abandoned (or the thread
+         *         interrupted)
+         */
+        private boolean put(final Object element) {
+            try {
+                while (!m_isClosed) {
+                    if (m_queue.offer(element, CLOSE_POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                    if (m_owner.get() == null) {
+                        m_isClosed = true;
+                        m_queue.clear();
+                        // closes via the reader, just like a delegate that is finalized
+                        m_delegate.close();
+                    }
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
+    /** Queue element carrying an exception thrown by the delegate. */
+    private static final class Failure {
+
+        private final Throwable m_cause;
+
+        Failure(final Throwable cause) {
+            m_cause = cause;
+        }
+    }
+
+}
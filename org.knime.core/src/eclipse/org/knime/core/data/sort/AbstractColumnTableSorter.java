@@ -120,6 +120,12 @@ abstract class AbstractColumnTableSorter {
 
     private final DataTableSpec m_dataTableSpec;
 
+    /** The maximum number of rows in the output or -1 if all rows are returned, see {@link #setLimit(long)}. */
+    private long m_limit = -1;
+
+    /** Number of rows read before they are passed to the selectors of the sorting descriptions. */
+    private static final int TOP_K_BATCH_ROWS = 1024;
+
     /**
      * The constructor is identical to {@link #AbstractColumnTableSorter(DataTableSpec, long, String...)} with
      * {@link DataTableSpec#getColumnNames()} as the last input.
@@ -187,15 +193,43 @@ void sort(final DataTable dataTable, final ExecutionMonitor exec, final SortingC
         throws CanceledExecutionException {
 
         if (m_sortDescriptions.length <= 0) {
+            long rowNo = 0;
             for (DataRow r : dataTable) {
+                if (m_limit >= 0 && rowNo++ >= m_limit) {
+                    break;
+                }
                 resultListener.consume(new DefaultRow(r.getKey(), new DataCell[0]));
             }
-        } else {
+        } else if (m_limit < 0 || m_limit > TopKSelector.MAX_LIMIT || !sortTopK(dataTable, exec, resultListener)) {
             clearBuffer();
             sortOnDisk(dataTable, exec, resultListener);
         }
     }
 
+    /**
+     * @return the maximum number of rows passed to the consumer or -1 if all rows are, see {@link #setLimit(long)}
+     * @since 3.8
+     */
+    public long getLimit() {
+        return m_limit;
+    }
+
+    /**
+     * Restricts the output to its first <code>limit</code> rows, i.e. the first <code>limit</code> values of each
+     * {@link SortingDescription}. Unless memory gets low, the input table is read once and the first rows of each
+     * description are selected using a bounded heap, without writing temporary tables. Otherwise the table is sorted
+     * on disk and the output is truncated.
+     *
+     * <p>
+     * The default is -1 (no limit).
+     *
+     * @param limit the maximum number of rows in the output, a negative value removes the limit
+     * @since 3.8
+     */
+    public void setLimit(final long limit) {
+        m_limit = limit < 0 ? -1 : limit;
+    }
+
     /**
      * Changes the number of maximum open containers (=files) during the sorting. Containers are used in the k-way merge
      * sort, the higher the number the fewer iterations in the final merge need to be done.
@@ -299,7 +333,7 @@ private void sortOnDisk(final DataTable dataTable, final ExecutionMonitor exec,
         long rowNo = 0;
         Iterator<DataRow> firstPartitionIterator = partitionRowIterators.isEmpty()
                 ? Collections.<DataRow>emptyList().iterator() : partitionRowIterators.get(0);
-        while (firstPartitionIterator.hasNext()) {
+        while (firstPartitionIterator.hasNext() && (m_limit < 0 || rowNo < m_limit)) {
             for (int i = 0; i < partitionRowIterators.size(); i++) {
                 currentRow.add(partitionRowIterators.get(i).next());
             }
@@ -308,6 +342,90 @@ private void sortOnDisk(final DataTable dataTable, final ExecutionMonitor exec,
         }
     }
 
+    /**
+     * Selects the first {@link #m_limit} rows of each sorting description using one bounded heap per description.
+     * The rows are read in batches and the heaps are filled concurrently.
+     *
+     * @param dataTable the table to sort
+     * @param exec for progress and cancellation
+     * @param resultListener the result listener
+     * @return false if memory got low while retaining the rows (nothing has been passed to the listener then)
+     * @throws CanceledExecutionException if canceled
+     */
+    private boolean sortTopK(final DataTable dataTable, final ExecutionMonitor exec,
+        final SortingConsumer resultListener) throws CanceledExecutionException {
+        final int limit = (int)m_limit;
+        final TopKSelector[] selectors = new TopKSelector[m_sortDescriptions.length];
+        for (int i = 0; i < selectors.length; i++) {
+            selectors[i] = new TopKSelector(limit, m_sortDescriptions[i], null);
+        }
+
+        exec.setMessage("Reading table");
+        ExecutionMonitor readProgress = exec.createSubProgress(0.9);
+        List<DataRow> batch = new ArrayList<>(TOP_K_BATCH_ROWS);
+        long counter = 0;
+        for (DataRow r : dataTable) {
+            readProgress.checkCanceled();
+            batch.add(r);
+            counter++;
+            if (batch.size() == TOP_K_BATCH_ROWS) {
+                addBatchInParallel(batch, counter - batch.size(), selectors);
+                batch.clear();
+                if (m_rowCount > 0) {
+                    readProgress.setProgress(counter / (double)m_rowCount, "Reading table, " + counter + " rows read");
+                }
+                if (Math.min(counter, limit) >= m_maxOpenContainers
+                    && m_memActionIndicator.lowMemoryActionRequired()) {
+                    LOGGER.debugWithFormat("Not enough memory to retain the first %d rows, sorting on disk", limit);
+                    return false;
+                }
+            }
+        }
+        addBatchInParallel(batch, counter - batch.size(), selectors);
+
+        exec.setMessage("Sorting");
+        final List<DataRow[]> partitionRows = new ArrayList<>(selectors.length);
+        for (TopKSelector selector : selectors) {
+            partitionRows.add(selector.getSortedRows(false));
+        }
+        List<DataRow> currentRow = new ArrayList<>();
+        final int rowCount = partitionRows.get(0).length;
+        for (int rowNo = 0; rowNo < rowCount; rowNo++) {
+            for (DataRow[] rows : partitionRows) {
+                currentRow.add(rows[rowNo]);
+            }
+            resultListener.consume(aggregateRows(new RowKey("AutoGenerated" + rowNo), currentRow));
+            currentRow.clear();
+        }
+        return true;
+    }
+
+    private void addBatchInParallel(final List<DataRow> batch, final long firstIndex,
+        final TopKSelector[] selectors) {
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < selectors.length; i++) {
+                final SortingDescription description = m_sortDescriptions[i];
+                final TopKSelector selector = selectors[i];
+                futures.add(m_executor.enqueue(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (int j = 0; j < batch.size(); j++) {
+                            selector.add(description.createSubRow(batch.get(j)), firstIndex + j);
+                        }
+                    }
+                }));
+            }
+            // wait until the inserting is finished
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (ExecutionException | InterruptedException e) {
+            futures.stream().forEach(f -> f.cancel(true));
+            throw new RuntimeException("Execution has been interrupted!", e);
+        }
+    }
+
     private List<Iterator<DataRow>> mergePartitions(final List<AbstractTableSorter> columnPartitions,
         final ExecutionMonitor exec, final int chunkCount) throws CanceledExecutionException {
         LOGGER.debug("Merging tables");
@@ -51,9 +51,11 @@
 import java.text.NumberFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -62,6 +64,14 @@
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -71,6 +81,8 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
@@ -78,7 +90,9 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Class to sort a table. See <a href="package.html">package description</a> for details.
@@ -98,6 +112,18 @@ abstract class AbstractTableSorter {
      */
     public static final int DEF_MAX_OPENCONTAINER = 40;
 
+    /**
+     * The default number of threads, see {@link #setThreadCount(int)} and
+     * {@link KNIMEConstants#PROPERTY_SORT_THREADS}.
+     */
+    private static final int DEF_THREAD_COUNT = initThreadCount();
+
+    /** Number of rows read ahead from each temporary table while merging in parallel mode. */
+    private static final int MERGE_PREFETCH_ROWS = 256;
+
+    /** Number of rows read ahead from the input table in parallel mode. */
+    private static final int INPUT_PREFETCH_ROWS = 1024;
+
     private MemoryAlertSystem m_memService = MemoryAlertSystem.getInstance();
 
     private final DataTable m_inputTable;
@@ -118,9 +144,30 @@ abstract class AbstractTableSorter {
 
     private boolean m_sortInMemory = false;
 
+    private int m_threadCount = DEF_THREAD_COUNT;
+
+    /**
+     * Workers sorting, writing and merging temporary tables, a sub pool of the
+     * {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool} created on demand if {@link #m_threadCount} &gt; 1.
+     * The workers only sort rows and fill containers; creating, closing and clearing tables modifies the (not
+     * thread-safe) local table repository of the execution context and is hence left to the calling thread.
+     */
+    private ThreadPool m_executor;
+
+    /** Set if a worker failed, so that the other workers of the same {@link #invokeAll(List)} stop early. */
+    private volatile boolean m_abortWorkers;
+
     /** The RowComparator to compare two DataRows (inner class). */
     private Comparator<DataRow> m_rowComparator;
 
+    /** Encoder for the sort columns set via {@link #setSortColumns(Collection, boolean[], boolean)}, if supported. */
+    private NormalizedSortKeyEncoder m_keyEncoder;
+
+    private boolean m_useNormalizedKeys = false;
+
+    /** The maximum number of rows in the output or -1 if all rows are returned, see {@link #setLimit(long)}. */
+    private long m_limit = -1;
+
     private DataContainer m_currentContainer;
 
     private Queue<Iterable<DataRow>> m_chunksContainer = new LinkedList<Iterable<DataRow>>();
@@ -278,6 +325,7 @@ public void setRowComparator(final Comparator<DataRow> rowComparator) {
             throw new NullPointerException("Argument must not be null.");
         }
         m_rowComparator = rowComparator;
+        m_keyEncoder = null;
     }
 
     /**
@@ -334,6 +382,43 @@ public void setSortColumns(final Collection<String> inclList, final boolean[] so
             indices[curIndex++] = index;
         }
         setRowComparator(new RowComparator(indices, sortAscending, sortMissingsToEnd, spec));
+        m_keyEncoder = NormalizedSortKeyEncoder.create(indices, sortAscending, sortMissingsToEnd, spec);
+    }
+
+    /**
+     * @return whether normalized keys are used if possible, see {@link #setUseNormalizedKeys(boolean)}
+     * @since 3.8
+     */
+    public boolean getUseNormalizedKeys() {
+        return m_useNormalizedKeys;
+    }
+
+    /**
+     * Sorts using normalized keys if possible (if argument is true). A normalized key is a byte array encoding the
+     * values of all sort columns of a row; keys are computed once per row and compared byte by byte while sorting and
+     * merging, rather than comparing the cells using the columns' comparators. This requires the sort columns to be
+     * set via {@link #setSortColumns(Collection, boolean[], boolean)} and all of them to be compared by the
+     * comparators of double, int, long or string values (or to be the row key); otherwise this setting is ignored.
+     * The result is the same as without normalized keys.
+     *
+     * <p>
+     * The default value for this option is <b>false</b>.
+     *
+     * @param useNormalizedKeys whether to use normalized keys if possible
+     * @since 3.8
+     */
+    public void setUseNormalizedKeys(final boolean useNormalizedKeys) {
+        m_useNormalizedKeys = useNormalizedKeys;
+    }
+
+    /** @return whether the current sort columns can be compared using normalized keys */
+    boolean isNormalizedKeySupported() {
+        return m_keyEncoder != null;
+    }
+
+    /** @return the encoder if normalized keys are to be used, otherwise null */
+    private NormalizedSortKeyEncoder getKeyEncoder() {
+        return m_useNormalizedKeys ? m_keyEncoder : null;
     }
 
     /**
@@ -405,6 +490,91 @@ public void setSortInMemory(final boolean sortInMemory) {
         m_sortInMemory = sortInMemory;
     }
 
+    /**
+     * @return the number of threads used for sorting, see {@link #setThreadCount(int)}
+     * @since 3.8
+     */
+    public int getThreadCount() {
+        return m_threadCount;
+    }
+
+    /**
+     * Sets the number of threads used for sorting. With more than one thread, the buffered rows are split into
+     * slices that are sorted and written to temporary tables concurrently, temporary tables are merged in parallel
+     * where more than {@link #getMaxOpenContainers()} of them need to be merged, and the rows of the input and the
+     * temporary tables are read ahead on background threads. Tables sorted in memory are sorted using
+     * {@link Arrays#parallelSort(Object[], Comparator)}. The row comparator must be thread-safe in that case.
+     *
+     * <p>
+     * The default is {@code 1} (sorting on the calling thread only) unless set otherwise via
+     * {@link KNIMEConstants#PROPERTY_SORT_THREADS}.
+     *
+     * @param threadCount the number of threads
+     * @throws IllegalArgumentException If argument is smaller than 1.
+     * @since 3.8
+     */
+    public void setThreadCount(final int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threadCount);
+        }
+        m_threadCount = threadCount;
+    }
+
+    private boolean isParallel() {
+        return m_threadCount > 1;
+    }
+
+    /**
+     * @return the maximum number of rows in the sorted output or -1 if all rows are returned, see
+     *         {@link #setLimit(long)}
+     * @since 3.8
+     */
+    public long getLimit() {
+        return m_limit;
+    }
+
+    /**
+     * Restricts the sorted output to its first <code>limit</code> rows (top-k sort). If the limit is smaller than the
+     * maximum array size, the input table is read once and the first rows are selected using a bounded heap per
+     * thread (see {@link #setThreadCount(int)}); the heaps are merged and sorted in the end and no temporary tables
+     * are written. Only if the retained rows don't fit into memory the table is sorted on disk and the output is
+     * truncated. The output order is the same as the one of the unrestricted sort, including the stable order of
+     * equal rows.
+     *
+     * <p>
+     * The default is -1 (no limit).
+     *
+     * @param limit the maximum number of rows in the output, a negative value removes the limit
+     * @since 3.8
+     */
+    public void setLimit(final long limit) {
+        m_limit = limit < 0 ? -1 : limit;
+    }
+
+    /**
+     * @param rowCount the number of sorted rows
+     * @return the number of rows to write to the output according to {@link #m_limit}
+     */
+    private long getOutputRowCount(final long rowCount) {
+        return m_limit < 0 ? rowCount : Math.min(m_limit, rowCount);
+    }
+
+    private static int initThreadCount() {
+        final String valThreads = System.getProperty(KNIMEConstants.PROPERTY_SORT_THREADS);
+        if (valThreads != null) {
+            try {
+                final int threads = Integer.parseInt(valThreads.trim());
+                if (threads >= 1) {
+                    return threads;
+                }
+            } catch (NumberFormatException nfe) {
+                // fall through
+            }
+            LOGGER.warn("Invalid setting for sort threads: " + valThreads + ". Using default: 1.");
+        }
+        return 1;
+    }
+
     /**
      * Sorts the table passed in the constructor according to the settings and returns the sorted output table.
      *
@@ -413,14 +583,25 @@ public void setSortInMemory(final boolean sortInMemory) {
      * @throws CanceledExecutionException If canceled.
      */
     DataTable sortInternal(final ExecutionMonitor exec) throws CanceledExecutionException {
-        DataTable result;
-        if (m_sortInMemory && (m_rowsInInputTable <= Integer.MAX_VALUE)) {
-            result = sortInMemory(exec);
-        } else {
-            if (m_rowsInInputTable > Integer.MAX_VALUE) {
-                LOGGER.info("Not sorting table in memory, because it has more than " + Integer.MAX_VALUE + " rows.");
+        DataTable result = null;
+        try {
+            if (m_limit >= 0 && m_limit <= TopKSelector.MAX_LIMIT) {
+                result = sortTopK(exec);
+            }
+            if (result == null && m_sortInMemory && (m_rowsInInputTable <= Integer.MAX_VALUE)) {
+                result = sortInMemory(exec);
+            } else if (result == null) {
+                if (m_rowsInInputTable > Integer.MAX_VALUE) {
+                    LOGGER.info(
+                        "Not sorting table in memory, because it has more than " + Integer.MAX_VALUE + " rows.");
+                }
+                result = sortOnDisk(exec);
+            }
+        } finally {
+            if (m_executor != null) {
+                m_executor.shutdown();
+                m_executor = null;
             }
-            result = sortOnDisk(exec);
         }
         exec.setProgress(1.0);
         return result;
@@ -436,34 +617,38 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         ExecutionMonitor readExec = exec.createSubProgress(0.5);
         for (final DataRow r : dataTable) {
             readExec.checkCanceled();
-            if (rowCount > 0) {
-                readExec.setProgress(progress / (double)rowCount, r.getKey().getString());
-            } else {
-                readExec.setMessage(r.getKey() + " (row " + progress + ")");
+            if (readExec.isProgressUpdateDue()) {
+                if (rowCount > 0) {
+                    readExec.setProgress(progress / (double)rowCount, r.getKey().getString());
+                } else {
+                    readExec.setMessage(r.getKey() + " (row " + progress + ")");
+                }
             }
             rowList.add(r);
             progress++;
         }
         // if there is 0 or 1 row only, return immediately (can't rely on
         // "rowCount" as it might not be set)
-        if (rowList.size() <= 1) {
+        if (rowList.size() <= 1 && getOutputRowCount(rowList.size()) == rowList.size()) {
             return m_inputTable;
         }
 
         exec.setMessage("Sorting");
-        Collections.sort(rowList, m_rowComparator);
+        sortRows(rowList);
 
         exec.setMessage("Creating sorted table");
 
         final DataContainer dc = createDataContainer(dataTable.getDataTableSpec(), false);
         ExecutionMonitor writeExec = exec.createSubProgress(0.5);
         progress = 0;
-        for (DataRow r : rowList) {
+        for (DataRow r : rowList.subList(0, (int)getOutputRowCount(rowList.size()))) {
             exec.checkCanceled();
-            if (rowCount > 0) {
-                writeExec.setProgress(progress / (double)rowCount, r.getKey().getString());
-            } else {
-                writeExec.setMessage(r.getKey() + " (row " + progress + ")");
+            if (writeExec.isProgressUpdateDue()) {
+                if (rowCount > 0) {
+                    writeExec.setProgress(progress / (double)rowCount, r.getKey().getString());
+                } else {
+                    writeExec.setMessage(r.getKey() + " (row " + progress + ")");
+                }
             }
             dc.addRowToTable(r);
             progress++;
@@ -472,6 +657,98 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         return dc.getTable();
     }
 
+    /**
+     * Selects the first {@link #m_limit} rows of the input table using a bounded heap per thread. In parallel mode
+     * the rows are read in batches, each of which is added to one of the heaps by a worker. The heaps are merged and
+     * sorted once the whole table has been read.
+     *
+     * @param exec for progress and cancellation
+     * @return the sorted output or null if memory got low while retaining the rows; the table is then to be sorted
+     *         on disk
+     * @throws CanceledExecutionException if canceled
+     */
+    private DataTable sortTopK(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int limit = (int)m_limit;
+        final int heapCount = isParallel() ? m_threadCount : 1;
+        final BlockingQueue<TopKSelector> selectors = new ArrayBlockingQueue<>(heapCount);
+        for (int i = 0; i < heapCount; i++) {
+            selectors.add(new TopKSelector(limit, m_rowComparator, getKeyEncoder()));
+        }
+        final MemoryActionIndicator memObservable = m_memService.newIndicator();
+        final Deque<Future<Void>> pendingBatches = new ArrayDeque<>();
+        final ExecutionMonitor readExec = exec.createSubProgress(0.8);
+        exec.setMessage("Reading table");
+        final RowIterator iter = isParallel()
+            ? m_inputTable.iteratorBuilder().prefetch(INPUT_PREFETCH_ROWS).build() : m_inputTable.iterator();
+        try {
+            long counter = 0;
+            List<DataRow> batch = new ArrayList<>(INPUT_PREFETCH_ROWS);
+            while (iter.hasNext()) {
+                readExec.checkCanceled();
+                final DataRow row = iter.next();
+                if (isParallel()) {
+                    batch.add(row);
+                } else {
+                    selectors.peek().add(row, counter);
+                }
+                counter++;
+                readExec.setProgress(counter, m_rowsInInputTable, c -> "Reading table, " + c + " rows read");
+                if (memObservable.lowMemoryActionRequired()
+                    && Math.min(counter, (long)limit * heapCount) >= m_maxOpenContainers) {
+                    LOGGER.info("Not enough memory to retain the first " + limit + " rows, sorting on disk - "
+                        + getMemUsage());
+                    return null;
+                }
+                if (batch.size() == INPUT_PREFETCH_ROWS || (!iter.hasNext() && !batch.isEmpty())) {
+                    final List<DataRow> rows = batch;
+                    final long firstIndex = counter - rows.size();
+                    pendingBatches.add(getExecutor().enqueue(() -> {
+                        final TopKSelector selector = selectors.take();
+                        try {
+                            for (int i = 0; i < rows.size(); i++) {
+                                selector.add(rows.get(i), firstIndex + i);
+                            }
+                        } finally {
+                            selectors.add(selector);
+                        }
+                        return null;
+                    }));
+                    batch = new ArrayList<>(INPUT_PREFETCH_ROWS);
+                    // don't read (much) further ahead than the workers can process
+                    if (pendingBatches.size() > 2 * m_threadCount) {
+                        getResult(pendingBatches.poll());
+                    }
+                }
+            }
+            while (!pendingBatches.isEmpty()) {
+                getResult(pendingBatches.poll());
+            }
+        } finally {
+            pendingBatches.forEach(f -> f.cancel(true));
+            if (iter instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)iter).close();
+            }
+        }
+
+        exec.setMessage("Sorting");
+        final TopKSelector result = selectors.poll();
+        for (TopKSelector selector : selectors) {
+            result.addAll(selector);
+        }
+        final DataRow[] rows = result.getSortedRows(isParallel());
+
+        exec.setMessage("Creating sorted table");
+        final DataContainer dc = createDataContainer(m_dataTableSpec, false);
+        final ExecutionMonitor writeExec = exec.createSubProgress(0.2);
+        for (int i = 0; i < rows.length; i++) {
+            writeExec.checkCanceled();
+            writeExec.setProgress(i, rows.length, null);
+            dc.addRowToTable(rows[i]);
+        }
+        dc.close();
+        return dc.getTable();
+    }
+
     /**
      * Creates data container, either a buffered data container or a plain one.
      *
@@ -504,7 +781,7 @@ private DataTable sortOnDisk(final ExecutionMonitor exec) throws CanceledExecuti
         long counter = createInitialChunks(exec, dataTable);
         // no or one row only in input table, can exit immediately
         // (can't rely on global rowCount - might not be set)
-        if (counter <= 1) {
+        if (counter <= 1 && getOutputRowCount(counter) == counter) {
             return m_inputTable;
         }
 
@@ -517,8 +794,14 @@ private DataTable sortOnDisk(final ExecutionMonitor exec) throws CanceledExecuti
         // The final output container, leave it to the
         // system to do the caching (bug 1809)
         DataContainer resultContainer = createDataContainer(dataTable.getDataTableSpec(), false);
-        while (result.hasNext()) {
-            resultContainer.addRowToTable(result.next());
+        try {
+            for (long i = getOutputRowCount(Long.MAX_VALUE); i > 0 && result.hasNext(); i--) {
+                resultContainer.addRowToTable(result.next());
+            }
+        } finally {
+            if (result instanceof MergingIterator) {
+                ((MergingIterator)result).close();
+            }
         }
         resultContainer.close();
         return resultContainer.getTable();
@@ -535,6 +818,10 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
         throws CanceledExecutionException {
         while (!m_chunksContainer.isEmpty()) {
             exec.setMessage("Merging temporary tables, " + m_chunksContainer.size() + " remaining");
+            if (isParallel() && m_chunksContainer.size() > m_maxOpenContainers) {
+                mergeChunksInParallel(exec);
+                continue;
+            }
             if (m_chunksContainer.size() < m_maxOpenContainers) {
                 if (m_rowsInInputTable > 0) {
                     m_incProgress = (1.0 - m_progress) / m_rowsInInputTable;
@@ -550,7 +837,8 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
             Queue<MergeEntry> containersToMerge = new ArrayDeque<>();
 
             for (int i = 0; !m_chunksContainer.isEmpty() && i < m_maxOpenContainers; i++) {
-                containersToMerge.add(new MergeEntry(m_chunksContainer.poll(), i, m_rowComparator));
+                containersToMerge.add(
+                    new MergeEntry(m_chunksContainer.poll(), i, m_rowComparator, getKeyEncoder(), true));
             }
 
             MergingIterator mergingIterator = new MergingIterator(containersToMerge);
@@ -571,6 +859,7 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
                         exec.checkCanceled();
                     }
                 } finally {
+                    mergingIterator.close();
                     closeChunk();
                 }
             }
@@ -579,6 +868,20 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
     }
 
     private long createInitialChunks(final ExecutionMonitor exec, final DataTable dataTable)
+        throws CanceledExecutionException {
+        exec.setMessage("Reading table");
+        final RowIterator iter = isParallel()
+            ? dataTable.iteratorBuilder().prefetch(INPUT_PREFETCH_ROWS).build() : dataTable.iterator();
+        try {
+            return createInitialChunks(exec, iter);
+        } finally {
+            if (iter instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)iter).close();
+            }
+        }
+    }
+
+    private long createInitialChunks(final ExecutionMonitor exec, final RowIterator iter)
         throws CanceledExecutionException {
         long outerCounter;
         long counter = 0;
@@ -588,17 +891,20 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
 
         MemoryActionIndicator memObservable = m_memService.newIndicator();
 
-        exec.setMessage("Reading table");
-        for (Iterator<DataRow> iter = dataTable.iterator(); iter.hasNext();) {
+        while (iter.hasNext()) {
             counter++;
             rowsInCurrentChunk++;
             exec.checkCanceled();
-            String message = "Reading table, " + counter + " rows read";
             if (m_rowsInInputTable > 0) {
                 m_progress += m_incProgress;
-                exec.setProgress(m_progress, message);
-            } else {
-                exec.setMessage(message);
+            }
+            if (exec.isProgressUpdateDue()) {
+                String message = "Reading table, " + counter + " rows read";
+                if (m_rowsInInputTable > 0) {
+                    exec.setProgress(m_progress, message);
+                } else {
+                    exec.setMessage(message);
+                }
             }
             DataRow row = iter.next();
             buffer.add(row);
@@ -609,26 +915,36 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
                     long estimatedIncrements = m_rowsInInputTable - counter + buffer.size();
                     m_incProgress = (0.5 - m_progress) / estimatedIncrements;
                 }
-                exec.setMessage("Sorting temporary buffer");
-                // sort buffer
-                Collections.sort(buffer, m_rowComparator);
-                // write buffer to disk
-                openChunk();
-                final int totalBufferSize = buffer.size();
-                for (int i = 0; i < totalBufferSize; i++) {
-                    exec.setMessage("Writing temporary table -- " + i + "/" + totalBufferSize);
-                    // must not use Iterator#remove as it causes
-                    // array copies
-                    DataRow next = buffer.set(i, null);
-                    addRowToChunk(next);
-                    exec.checkCanceled();
-                    if (m_rowsInInputTable > 0) {
-                        m_progress += m_incProgress;
-                        exec.setProgress(m_progress);
+                if (isParallel()) {
+                    writeChunksInParallel(exec, buffer);
+                } else {
+                    exec.setMessage("Sorting temporary buffer");
+                    // sort buffer
+                    sortRows(buffer);
+                    // write buffer to disk
+                    openChunk();
+                    final int totalBufferSize = buffer.size();
+                    for (int i = 0; i < totalBufferSize; i++) {
+                        // must not use Iterator#remove as it causes
+                        // array copies
+                        DataRow next = buffer.set(i, null);
+                        addRowToChunk(next);
+                        exec.checkCanceled();
+                        if (m_rowsInInputTable > 0) {
+                            m_progress += m_incProgress;
+                        }
+                        if (exec.isProgressUpdateDue()) {
+                            String message = "Writing temporary table -- " + i + "/" + totalBufferSize;
+                            if (m_rowsInInputTable > 0) {
+                                exec.setProgress(m_progress, message);
+                            } else {
+                                exec.setMessage(message);
+                            }
+                        }
                     }
+                    closeChunk();
                 }
                 buffer.clear();
-                closeChunk();
 
                 LOGGER.debug("Wrote chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
                 chunkStartRow = counter + 1;
@@ -638,7 +954,7 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
         // Add buffer to the chunks
         if (!buffer.isEmpty()) {
             // sort buffer
-            Collections.sort(buffer, m_rowComparator);
+            sortRows(buffer);
             m_chunksContainer.add(buffer);
         }
         outerCounter = counter;
@@ -650,8 +966,14 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
      * the current container and adds it to the chunk list.
      */
     void openChunk() {
-        m_currentContainer = createDataContainer(m_dataTableSpec, true);
-        m_currentContainer.setMaxPossibleValues(0);
+        m_currentContainer = createChunkContainer();
+    }
+
+    /** @return a new container for a temporary table */
+    private DataContainer createChunkContainer() {
+        final DataContainer container = createDataContainer(m_dataTableSpec, true);
+        container.setMaxPossibleValues(0);
+        return container;
     }
 
     /**
@@ -679,6 +1001,298 @@ void closeChunk() {
         }
     }
 
+    /**
+     * Sorts the argument rows in place, in parallel if more than one thread is to be used.
+     *
+     * @param rows the rows to sort
+     */
+    void sortRows(final List<DataRow> rows) {
+        final DataRow[] array = rows.toArray(new DataRow[rows.size()]);
+        sortRows(array, isParallel());
+        for (int i = 0; i < array.length; i++) {
+            rows.set(i, array[i]);
+        }
+    }
+
+    /**
+     * Sorts the argument rows in place (stable), using normalized keys if enabled and possible.
+     *
+     * @param rows the rows to sort
+     * @param parallel whether to sort in parallel
+     */
+    private void sortRows(final DataRow[] rows, final boolean parallel) {
+        final NormalizedSortKeyEncoder encoder = getKeyEncoder();
+        if (encoder == null) {
+            if (parallel) {
+                Arrays.parallelSort(rows, m_rowComparator);
+            } else {
+                Arrays.sort(rows, m_rowComparator);
+            }
+            return;
+        }
+        final KeyedRow[] keyedRows = new KeyedRow[rows.length];
+        final IntStream indices = IntStream.range(0, rows.length);
+        (parallel ? indices.parallel() : indices)
+            .forEach(i -> keyedRows[i] = new KeyedRow(encoder.encode(rows[i]), rows[i]));
+        if (parallel) {
+            Arrays.parallelSort(keyedRows);
+        } else {
+            Arrays.sort(keyedRows);
+        }
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = keyedRows[i].m_row;
+        }
+    }
+
+    /**
+     * Splits the buffer into one slice per thread; each slice is sorted and written to a temporary table by a worker.
+     *
+     * @param exec for progress and cancellation
+     * @param buffer the rows to write, not modified
+     * @throws CanceledExecutionException if canceled
+     */
+    private void writeChunksInParallel(final ExecutionMonitor exec, final List<DataRow> buffer)
+        throws CanceledExecutionException {
+        exec.setMessage("Sorting and writing temporary tables");
+        final int size = buffer.size();
+        final int sliceSize = (size + m_threadCount - 1) / m_threadCount;
+        final List<DataContainer> containers = new ArrayList<>();
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < size; from += sliceSize) {
+            final DataRow[] slice = buffer.subList(from, Math.min(from + sliceSize, size)).toArray(new DataRow[0]);
+            final DataContainer container = createChunkContainer();
+            containers.add(container);
+            tasks.add(() -> {
+                sortRows(slice, false);
+                fillChunk(container, new Iterator<DataRow>() {
+                    private int m_index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return m_index < slice.length;
+                    }
+
+                    @Override
+                    public DataRow next() {
+                        // release the rows once written
+                        final DataRow row = slice[m_index];
+                        slice[m_index++] = null;
+                        return row;
+                    }
+                }, exec, null);
+                return null;
+            });
+        }
+        boolean success = false;
+        try {
+            invokeAll(tasks);
+            success = true;
+        } finally {
+            closeChunks(containers, success);
+        }
+        if (m_rowsInInputTable > 0) {
+            m_progress += size * m_incProgress;
+            exec.setProgress(m_progress);
+        }
+    }
+
+    /**
+     * Merges the chunks at the head of the chunk queue in groups of {@link #m_maxOpenContainers}, one group per
+     * thread, and appends the merged tables to the queue.
+     *
+     * @param exec for progress and cancellation
+     * @throws CanceledExecutionException if canceled
+     */
+    private void mergeChunksInParallel(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final AtomicLong mergedRows = new AtomicLong();
+        final List<DataContainer> containers = new ArrayList<>();
+        final List<MergeEntry> mergedEntries = new ArrayList<>();
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < m_threadCount && m_chunksContainer.size() > 1; t++) {
+            final Queue<MergeEntry> containersToMerge = new ArrayDeque<>();
+            for (int i = 0; !m_chunksContainer.isEmpty() && i < m_maxOpenContainers; i++) {
+                containersToMerge.add(
+                    new MergeEntry(m_chunksContainer.poll(), i, m_rowComparator, getKeyEncoder(), false));
+            }
+            mergedEntries.addAll(containersToMerge);
+            final DataContainer container = createChunkContainer();
+            containers.add(container);
+            tasks.add(() -> {
+                final MergingIterator mergingIterator = new MergingIterator(containersToMerge);
+                try {
+                    fillChunk(container, mergingIterator, exec, mergedRows);
+                } finally {
+                    mergingIterator.close();
+                }
+                return null;
+            });
+        }
+        boolean success = false;
+        try {
+            invokeAll(tasks);
+            success = true;
+        } finally {
+            closeChunks(containers, success);
+            mergedEntries.forEach(MergeEntry::discard);
+        }
+        if (m_rowsInInputTable > 0) {
+            m_progress += mergedRows.get() * m_incProgress;
+            exec.setProgress(m_progress);
+        }
+    }
+
+    /**
+     * Adds the rows to a temporary table, called by the workers. The container is created and closed by the calling
+     * thread, see {@link #m_executor}.
+     *
+     * @param container the container to add the rows to
+     * @param rows the rows to write
+     * @param exec for cancellation
+     * @param rowCounter incremented for each written row, may be null
+     * @throws CanceledExecutionException if canceled or if another worker failed
+     */
+    private void fillChunk(final DataContainer container, final Iterator<DataRow> rows, final ExecutionMonitor exec,
+        final AtomicLong rowCounter) throws CanceledExecutionException {
+        while (rows.hasNext()) {
+            exec.checkCanceled();
+            if (m_abortWorkers) {
+                throw new CanceledExecutionException("Sorting aborted");
+            }
+            container.addRowToTable(rows.next());
+            if (rowCounter != null) {
+                rowCounter.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Closes the containers filled by the workers and adds their tables to the chunk queue, or clears the tables if
+     * the workers failed.
+     *
+     * @param containers the containers to close
+     * @param success whether all workers completed successfully
+     */
+    private void closeChunks(final List<DataContainer> containers, final boolean success) {
+        for (DataContainer container : containers) {
+            container.close();
+            if (success) {
+                m_chunksContainer.offer(container.getTable());
+            } else {
+                clearTable(container.getTable());
+            }
+        }
+    }
+
+    /**
+     * Runs the tasks on the worker pool and waits for all of them to complete. If a task fails, the remaining ones are
+     * asked to stop (see {@link #m_abortWorkers}) and are waited for, too, so that the caller can safely release the
+     * containers they write to.
+     *
+     * @param tasks the tasks to run
+     * @return the results in the order of the tasks
+     * @throws CanceledExecutionException if canceled (or interrupted while waiting)
+     */
+    private <T> List<T> invokeAll(final List<Callable<T>> tasks) throws CanceledExecutionException {
+        m_abortWorkers = false;
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(getExecutor().enqueue(task));
+        }
+        final List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(getResult(future));
+            }
+            return results;
+        } catch (CanceledExecutionException | RuntimeException | Error e) {
+            m_abortWorkers = true;
+            futures.forEach(AbstractTableSorter::awaitTermination);
+            throw e;
+        }
+    }
+
+    /** Waits for the task to terminate, ignoring its result and interrupts. */
+    private static void awaitTermination(final Future<?> future) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                get(future);
+                break;
+            } catch (InterruptedException ie) {
+                interrupted = true;
+            } catch (ExecutionException | CancellationException e) {
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** @return the worker pool, created on first access */
+    private ThreadPool getExecutor() {
+        if (m_executor == null) {
+            m_executor = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_threadCount);
+        }
+        return m_executor;
+    }
+
+    /**
+     * Waits for the task to complete. If the current thread is taken out of a thread pool (e.g., when executing a
+     * node) it doesn't count against the pool's limit while waiting, so that the workers can run in its place.
+     *
+     * @param future the task
+     * @return its result
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if the task failed
+     */
+    private static <T> T get(final Future<T> future) throws InterruptedException, ExecutionException {
+        final ThreadPool pool = ThreadPool.currentPool();
+        if (pool == null) {
+            return future.get();
+        }
+        try {
+            return pool.runInvisible(future::get);
+        } catch (ExecutionException ee) {
+            // the pool wraps the exceptions of the callable, i.e. of Future#get
+            final Throwable cause = ee.getCause();
+            if (cause instanceof ExecutionException) {
+                throw (ExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw ee;
+        }
+    }
+
+    /**
+     * Waits for the task to complete.
+     *
+     * @param future the task
+     * @return its result
+     * @throws CanceledExecutionException if canceled (or interrupted while waiting)
+     */
+    private static <T> T getResult(final Future<T> future) throws CanceledExecutionException {
+        try {
+            return get(future);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while sorting");
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new RuntimeException(cause.getMessage(), cause);
+        }
+    }
+
     private String getMemUsage() {
         Runtime runtime = Runtime.getRuntime();
         long free = runtime.freeMemory();
@@ -693,6 +1307,24 @@ private String getMemUsage() {
         return "avail: " + availS + "MB, total: " + totalS + "MB, free: " + freeS + "MB";
     }
 
+    /** A row along with its normalized sort key, used for sorting in memory. */
+    private static final class KeyedRow implements Comparable<KeyedRow> {
+
+        private final byte[] m_key;
+
+        private final DataRow m_row;
+
+        KeyedRow(final byte[] key, final DataRow row) {
+            m_key = key;
+            m_row = row;
+        }
+
+        @Override
+        public int compareTo(final KeyedRow that) {
+            return NormalizedSortKeyEncoder.compare(m_key, that.m_key);
+        }
+    }
+
     private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataRow> {
         private DataRow m_row;
 
@@ -704,22 +1336,53 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
 
         private Comparator<DataRow> m_comparator;
 
+        /** Encoder of the normalized keys or null if rows are compared using {@link #m_comparator}. */
+        private final NormalizedSortKeyEncoder m_encoder;
+
+        /** The normalized key of {@link #m_row} if {@link #m_encoder} is set. */
+        private byte[] m_key;
+
+        private final boolean m_discardAtEnd;
+
         /**
          * @param iterator
          * @param index
          * @param comparator
+         * @param encoder the normalized key encoder or null
+         * @param discardAtEnd whether to clear the table once all of its rows are returned; if false, the owner of
+         *            the entry calls {@link #discard()} (on the calling thread, see {@link #m_executor})
          */
-        MergeEntry(final Iterable<DataRow> iterable, final int index, final Comparator<DataRow> comparator) {
+        MergeEntry(final Iterable<DataRow> iterable, final int index, final Comparator<DataRow> comparator,
+            final NormalizedSortKeyEncoder encoder, final boolean discardAtEnd) {
             m_iterable = iterable;
             m_index = index;
             m_comparator = comparator;
+            m_encoder = encoder;
+            m_discardAtEnd = discardAtEnd;
+        }
+
+        /** Clears the table of this entry, if it's a temporary table. */
+        private void discard() {
+            if (m_iterable instanceof DataTable) {
+                clearTable((DataTable)m_iterable);
+            }
+        }
+
+        private void setRow(final DataRow row) {
+            m_row = row;
+            m_key = row != null && m_encoder != null ? m_encoder.encode(row) : null;
         }
 
         private void open() {
             if (m_iterator == null) {
-                m_iterator = m_iterable.iterator();
+                if (isParallel() && m_iterable instanceof DataTable) {
+                    // read ahead the rows (and hence the sort keys) of all open tables concurrently
+                    m_iterator = ((DataTable)m_iterable).iteratorBuilder().prefetch(MERGE_PREFETCH_ROWS).build();
+                } else {
+                    m_iterator = m_iterable.iterator();
+                }
                 if (m_iterator.hasNext()) {
-                    m_row = m_iterator.next();
+                    setRow(m_iterator.next());
                 }
             }
         }
@@ -731,8 +1394,8 @@ private void open() {
         public boolean hasNext() {
             // open the file lazily
             if (m_row == null) {
-                if (m_iterable instanceof DataTable) {
-                    clearTable((DataTable)m_iterable);
+                if (m_discardAtEnd) {
+                    discard();
                 }
                 return false;
             }
@@ -749,7 +1412,7 @@ public DataRow next() {
                 throw new NoSuchElementException();
             }
             DataRow toReturn = m_row;
-            m_row = m_iterator.hasNext() ? m_iterator.next() : null;
+            setRow(m_iterator.hasNext() ? m_iterator.next() : null);
             return toReturn;
         }
 
@@ -761,12 +1424,20 @@ public void remove() {
             throw new UnsupportedOperationException();
         }
 
+        /** Closes the underlying iterator if it's not at its end yet. */
+        private void close() {
+            if (m_iterator instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_iterator).close();
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public int compareTo(final MergeEntry that) {
-            int value = m_comparator.compare(this.m_row, that.m_row);
+            int value = m_encoder != null ? NormalizedSortKeyEncoder.compare(this.m_key, that.m_key)
+                : m_comparator.compare(this.m_row, that.m_row);
             if (value == 0) {
                 return this.m_index - that.m_index;
             } else {
@@ -840,6 +1511,11 @@ public boolean hasNext() {
             return !m_containerToMerge.isEmpty();
         }
 
+        /** Closes the iterators of all tables that are not merged completely, e.g. after cancellation. */
+        private void close() {
+            m_containerToMerge.forEach(MergeEntry::close);
+        }
+
         /**
          * {@inheritDoc}
          */
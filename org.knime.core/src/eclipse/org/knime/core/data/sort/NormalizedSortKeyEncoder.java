@@ -0,0 +1,272 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.Arrays;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.DoubleValueComparator;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.IntValueComparator;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.LongValueComparator;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.StringValueComparator;
+
+/**
+ * Encodes the sort columns of a row into a normalized key, i.e. a byte array whose unsigned lexicographic order (see
+ * {@link #compare(byte[], byte[])}) equals the order defined by the column comparators. Keys are computed once per
+ * row so that sorting and merging don't need to call the {@link DataValueComparator DataValueComparators}. Only
+ * columns compared by the {@link DoubleValueComparator}, {@link IntValueComparator}, {@link LongValueComparator} and
+ * {@link StringValueComparator} (and the row key) are supported.
+ *
+ * <p>
+ * Each column is encoded as a flag byte distinguishing missing from non-missing values, followed by the value for
+ * non-missing values: numbers as fixed-width big-endian bits transformed to sort as unsigned bytes, strings as their
+ * UTF-16 chars followed by a terminator. The bytes of descending columns are inverted. Instances are thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NormalizedSortKeyEncoder {
+
+    private enum ColumnKind {
+        DOUBLE, INT, LONG, STRING, ROW_KEY;
+    }
+
+    private final int[] m_indices;
+
+    private final ColumnKind[] m_kinds;
+
+    private final boolean[] m_sortAscending;
+
+    private final boolean m_sortMissingsToEnd;
+
+    private NormalizedSortKeyEncoder(final int[] indices, final ColumnKind[] kinds, final boolean[] sortAscending,
+        final boolean sortMissingsToEnd) {
+        m_indices = indices;
+        m_kinds = kinds;
+        m_sortAscending = sortAscending;
+        m_sortMissingsToEnd = sortMissingsToEnd;
+    }
+
+    /**
+     * Creates an encoder for the given sort criteria, as used by the sorter's row comparator.
+     *
+     * @param indices the sort column indices, -1 for the row key
+     * @param sortAscending the sort order per column
+     * @param sortMissingsToEnd whether missing values are sorted to the end independent of the sort order
+     * @param spec the spec of the table
+     * @return the encoder or null if any of the columns uses an unsupported comparator
+     */
+    static NormalizedSortKeyEncoder create(final int[] indices, final boolean[] sortAscending,
+        final boolean sortMissingsToEnd, final DataTableSpec spec) {
+        final ColumnKind[] kinds = new ColumnKind[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] == -1) {
+                kinds[i] = ColumnKind.ROW_KEY;
+                continue;
+            }
+            // subclasses may define a different order, hence the exact class check
+            final Class<? extends DataValueComparator> comparatorClass =
+                spec.getColumnSpec(indices[i]).getType().getComparator().getClass();
+            if (comparatorClass == DoubleValueComparator.class) {
+                kinds[i] = ColumnKind.DOUBLE;
+            } else if (comparatorClass == IntValueComparator.class) {
+                kinds[i] = ColumnKind.INT;
+            } else if (comparatorClass == LongValueComparator.class) {
+                kinds[i] = ColumnKind.LONG;
+            } else if (comparatorClass == StringValueComparator.class) {
+                kinds[i] = ColumnKind.STRING;
+            } else {
+                return null;
+            }
+        }
+        return new NormalizedSortKeyEncoder(indices.clone(), kinds, sortAscending.clone(), sortMissingsToEnd);
+    }
+
+    /**
+     * @param row the row to encode
+     * @return the normalized key of the row
+     */
+    byte[] encode(final DataRow row) {
+        final KeyBuilder key = new KeyBuilder();
+        for (int i = 0; i < m_indices.length; i++) {
+            final int start = key.m_length;
+            if (m_kinds[i] == ColumnKind.ROW_KEY) {
+                key.writeString(row.getKey().getString());
+            } else {
+                final DataCell cell = row.getCell(m_indices[i]);
+                // missing values are smaller than all others (inverted for descending columns) unless sorted to the
+                // end, in which case they are larger than all others independent of the order
+                final boolean missingIsLarger = m_sortMissingsToEnd || !m_sortAscending[i];
+                if (cell.isMissing()) {
+                    key.writeByte(missingIsLarger ? 1 : 0);
+                    continue;
+                }
+                key.writeByte(missingIsLarger ? 0 : 1);
+                switch (m_kinds[i]) {
+                    case DOUBLE:
+                        final long bits = Double.doubleToLongBits(((DoubleValue)cell).getDoubleValue());
+                        // flips all bits of negative numbers and the sign bit of positive ones
+                        key.writeLong(bits ^ ((bits >> 63) | Long.MIN_VALUE));
+                        break;
+                    case INT:
+                        key.writeInt(((IntValue)cell).getIntValue() ^ Integer.MIN_VALUE);
+                        break;
+                    case LONG:
+                        key.writeLong(((LongValue)cell).getLongValue() ^ Long.MIN_VALUE);
+                        break;
+                    default:
+                        key.writeString(((StringValue)cell).getStringValue());
+                }
+                if (!m_sortAscending[i]) {
+                    // the flag byte is already chosen for the sort order
+                    key.invert(start + 1);
+                }
+                continue;
+            }
+            if (!m_sortAscending[i]) {
+                key.invert(start);
+            }
+        }
+        return key.toByteArray();
+    }
+
+    /**
+     * Compares two keys lexicographically, interpreting the bytes as unsigned values.
+     *
+     * @param key1 the first key
+     * @param key2 the second key
+     * @return a negative number, zero or a positive number if the first key is less than, equal to or greater than
+     *         the second key
+     */
+    static int compare(final byte[] key1, final byte[] key2) {
+        final int length = Math.min(key1.length, key2.length);
+        for (int i = 0; i < length; i++) {
+            final int diff = (key1[i] & 0xFF) - (key2[i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return key1.length - key2.length;
+    }
+
+    /** Growable byte array. */
+    private static final class KeyBuilder {
+
+        private byte[] m_bytes = new byte[32];
+
+        private int m_length;
+
+        private void ensureCapacity(final int additional) {
+            if (m_length + additional > m_bytes.length) {
+                m_bytes = Arrays.copyOf(m_bytes, Math.max(2 * m_bytes.length, m_length + additional));
+            }
+        }
+
+        void writeByte(final int b) {
+            ensureCapacity(1);
+            m_bytes[m_length++] = (byte)b;
+        }
+
+        void writeInt(final int v) {
+            ensureCapacity(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                m_bytes[m_length++] = (byte)(v >>> shift);
+            }
+        }
+
+        void writeLong(final long v) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                m_bytes[m_length++] = (byte)(v >>> shift);
+            }
+        }
+
+        /**
+         * Writes the chars of the string as 2 bytes each, the char 0 as {@code 00 00 01} and terminates with
+         * {@code 00 00 00}. The encoding is prefix-free and preserves the order of {@link String#compareTo(String)}.
+         */
+        void writeString(final String s) {
+            final int length = s.length();
+            ensureCapacity(2 * length + 3);
+            for (int i = 0; i < length; i++) {
+                final char c = s.charAt(i);
+                if (c == 0) {
+                    ensureCapacity(3);
+                    m_bytes[m_length++] = 0;
+                    m_bytes[m_length++] = 0;
+                    m_bytes[m_length++] = 1;
+                } else {
+                    m_bytes[m_length++] = (byte)(c >>> 8);
+                    m_bytes[m_length++] = (byte)c;
+                }
+            }
+            ensureCapacity(3);
+            m_bytes[m_length++] = 0;
+            m_bytes[m_length++] = 0;
+            m_bytes[m_length++] = 0;
+        }
+
+        /** Inverts all bytes from the given position to the end. */
+        void invert(final int from) {
+            for (int i = from; i < m_length; i++) {
+                m_bytes[i] = (byte)~m_bytes[i];
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(m_bytes, m_length);
+        }
+    }
+
+}
@@ -50,39 +50,76 @@
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import org.knime.core.data.DataCell;
-import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
-import org.knime.core.data.def.IntCell;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.append.AppendedColumnRow;
+import org.knime.core.data.container.BlobSupportDataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
-import org.knime.core.node.util.CheckUtils;
 
 /**
- * Implementation of the Fisher Yates shuffle, that guarantees that all n!
- * possible outcomes are possible and equally likely. The shuffling procedure
- * requires only linear runtime. For further details see "Fisher-Yates shuffle",
- * from Dictionary of Algorithms and Data Structures, Paul E. Black, ed., NIST.
+ * Shuffles a table such that all n! possible outcomes are equally likely. Each row is assigned a random 64 bit key
+ * drawn from a generator initialized with the seed, the output is the table ordered by these keys. Tables that fit
+ * into memory are shuffled in memory. Otherwise the rows (along with their keys) are scattered into temporary tables
+ * according to the leading bits of their keys, and each temporary table is shuffled in the same way, i.e. the table
+ * is never sorted on disk. The output only depends on the seed and the input, not on the available memory.
  *
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  * @since 3.6
  */
 public final class Shuffler {
 
-    private Shuffler() {
-        // static utility class
+    /** Tables with fewer rows are always shuffled in memory. */
+    private static final int MIN_ROWS_TO_SCATTER = 1024;
+
+    /** The maximum number of key bits used per scatter pass, i.e. at most 2^5 temporary tables are written at once. */
+    private static final int MAX_BITS_PER_PASS = 5;
+
+    private final ExecutionContext m_exec;
+
+    private final long m_seed;
+
+    private final long m_rowCount;
+
+    /** The spec of the temporary tables, i.e. the input spec with an additional column holding the keys. */
+    private final DataTableSpec m_tempSpec;
+
+    private final BufferedDataContainer m_result;
+
+    private final MemoryActionIndicator m_memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+
+    private long m_writtenRows;
+
+    private Shuffler(final BufferedDataTable table, final ExecutionContext exec, final long seed) {
+        m_exec = exec;
+        m_seed = seed;
+        m_rowCount = table.size();
+        final DataTableSpec spec = table.getDataTableSpec();
+        String keyColumn = "random_row_number";
+        int uniquifier = 1;
+        while (spec.containsName(keyColumn)) {
+            keyColumn = "random_row_number_#" + uniquifier++;
+        }
+        m_tempSpec = new DataTableSpec(spec, new DataTableSpec(
+            new DataColumnSpecCreator(keyColumn, LongCell.TYPE).createSpec()));
+        m_result = exec.createDataContainer(spec, true);
     }
 
     /**
      * Shuffles the <b>table</b> using <b>exec</b> for table creations and progress report.
-     * The <b>seed</b> is used to enable reproducibility.
+     * The <b>seed</b> is used to enable reproducibility. Note that the order for a given seed differs from the one
+     * of KNIME 3.7 and before.
      *
      * @param table the table to shuffle
      * @param exec execution context use for creating tables and reporting progress
@@ -92,95 +129,124 @@ private Shuffler() {
      *
      * @since 3.6
      */
-    public static BufferedDataTable shuffle(final BufferedDataTable table, final ExecutionContext exec, final long seed) throws CanceledExecutionException {
-        CheckUtils.checkArgument(table.size() <= Integer.MAX_VALUE,
-                "It's currently not possible to shuffle tables with more than Integer.MAX_VALUE rows.");
-
-        RandomNumberAppendFactory randomnumfac =
-                RandomNumberAppendFactory.create(seed, table);
-        ColumnRearranger colre =
-                new ColumnRearranger(table.getDataTableSpec());
-        colre.append(randomnumfac);
-        BufferedDataTable intermediate =
-                exec.createColumnRearrangeTable(table, colre, exec
-                        .createSubProgress(.2));
-        List<String> include = new ArrayList<>();
-        String randomcol = randomnumfac.getColumnSpecs()[0].getName();
-        include.add(randomcol);
-        BufferedDataTableSorter sorter = new BufferedDataTableSorter(intermediate, include, new boolean[]{true});
-        BufferedDataTable sorted = sorter.sort(exec.createSubExecutionContext(0.75));
-        colre = new ColumnRearranger(sorted.getDataTableSpec());
-        colre.remove(randomcol);
-        return exec.createColumnRearrangeTable(sorted, colre, exec
-                        .createSubProgress(.05));
+    public static BufferedDataTable shuffle(final BufferedDataTable table, final ExecutionContext exec,
+        final long seed) throws CanceledExecutionException {
+        final Shuffler shuffler = new Shuffler(table, exec, seed);
+        try {
+            shuffler.shuffle(table, false, 0);
+        } finally {
+            shuffler.m_result.close();
+        }
+        return shuffler.m_result.getTable();
     }
 
-
-    /*
-     * The CellFactory adds a shuffled number to each input DataRow.
+    /**
+     * Writes the rows of the table ordered by their keys to the result. The rows are read into memory unless memory
+     * gets low, in which case they are scattered into temporary tables by the next key bits first.
+     *
+     * @param table the input table or a temporary table
+     * @param isTemporary whether the table is a temporary table, whose rows contain their key in the last cell
+     * @param usedBits the number of leading key bits all rows of the table share
+     * @throws CanceledExecutionException if canceled
      */
-    private static final class RandomNumberAppendFactory
-        extends SingleCellFactory {
-
-        /** Shuffled row number array. */
-        private int[] m_shuffle;
-
-        /** Position in array. */
-        private int m_pos = 0;
-
-        /** Constructor. */
-        private RandomNumberAppendFactory(final Long seed,
-                final int rowCount, final DataColumnSpec appendSpec) {
-            super(appendSpec);
-            Random random;
-            if (seed != null) {
-                random = new Random(seed.longValue());
-            } else {
-                random = new Random();
+    private void shuffle(final BufferedDataTable table, final boolean isTemporary, final int usedBits)
+        throws CanceledExecutionException {
+        List<KeyedRow> rows = new ArrayList<>();
+        boolean fitsInMemory = true;
+        SplittableRandom random = new SplittableRandom(m_seed);
+        try (CloseableRowIterator iterator = table.iterator()) {
+            while (iterator.hasNext()) {
+                m_exec.checkCanceled();
+                final DataRow row = iterator.next();
+                rows.add(isTemporary ? new KeyedRow(getKey(row), removeKey(row))
+                    : new KeyedRow(random.nextLong(), row));
+                if (rows.size() >= MIN_ROWS_TO_SCATTER && usedBits < Long.SIZE
+                    && m_memIndicator.lowMemoryActionRequired()) {
+                    fitsInMemory = false;
+                    break;
+                }
             }
-            int nrRows = rowCount;
+        }
 
-            // initialize
-            m_shuffle = new int[nrRows];
-            for (int i = 0; i < nrRows; i++) {
-                m_shuffle[i] = i;
+        if (fitsInMemory) {
+            m_exec.setMessage("Shuffling " + rows.size() + " rows in memory");
+            rows.sort(null);
+            for (KeyedRow row : rows) {
+                m_exec.checkCanceled();
+                m_result.addRowToTable(row.m_row);
+                m_writtenRows++;
             }
-
-            // let's shuffle
-            for (int i = 0; i < m_shuffle.length; i++) {
-                int r = random.nextInt(i + 1);
-                int swap = m_shuffle[r];
-                m_shuffle[r] = m_shuffle[i];
-                m_shuffle[i] = swap;
+            if (m_rowCount > 0) {
+                m_exec.setProgress(m_writtenRows / (double)m_rowCount, "Shuffled " + m_writtenRows + " rows");
+            }
+            if (isTemporary) {
+                m_exec.clearTable(table);
             }
-       }
+        } else {
+            // use enough temporary tables that each (probably) fits into memory
+            final long partitions = (2 * table.size() + rows.size() - 1) / rows.size();
+            rows = null;
+            final int bits = Math.min(Math.min(MAX_BITS_PER_PASS, Long.SIZE - usedBits),
+                Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(partitions - 1)));
+            m_exec.setMessage("Writing " + (1 << bits) + " temporary tables");
+            final BufferedDataContainer[] containers = new BufferedDataContainer[1 << bits];
+            for (int i = 0; i < containers.length; i++) {
+                containers[i] = m_exec.createDataContainer(m_tempSpec, false, 0);
+                containers[i].setMaxPossibleValues(0);
+            }
+            random = new SplittableRandom(m_seed);
+            try (CloseableRowIterator iterator = table.iterator()) {
+                while (iterator.hasNext()) {
+                    m_exec.checkCanceled();
+                    final DataRow row = iterator.next();
+                    final long key = isTemporary ? getKey(row) : random.nextLong();
+                    final int partition = (int)((key << usedBits) >>> (Long.SIZE - bits));
+                    containers[partition].addRowToTable(isTemporary ? row : new AppendedColumnRow(row,
+                        new LongCell(key)));
+                }
+            } finally {
+                for (BufferedDataContainer container : containers) {
+                    container.close();
+                }
+            }
+            if (isTemporary) {
+                m_exec.clearTable(table);
+            }
+            for (BufferedDataContainer container : containers) {
+                shuffle(container.getTable(), true, usedBits + bits);
+            }
+        }
+    }
 
-        /** {@inheritDoc} */
-        @Override
-        public DataCell getCell(final DataRow row) {
-           assert (m_pos <= m_shuffle.length);
-           DataCell nextRandomNumberCell = new IntCell(m_shuffle[m_pos]);
-           m_pos++;
-           return nextRandomNumberCell;
+    private static long getKey(final DataRow row) {
+        return ((LongValue)row.getCell(row.getNumCells() - 1)).getLongValue();
+    }
+
+    /** @return the argument row without its last cell, which is the key */
+    private static DataRow removeKey(final DataRow row) {
+        final DataCell[] cells = new DataCell[row.getNumCells() - 1];
+        for (int i = 0; i < cells.length; i++) {
+            // keep blobs wrapped so that they are not read from disk
+            cells[i] = row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
         }
+        return new BlobSupportDataRow(row.getKey(), cells);
+    }
 
-        /** Factory method to create a new random number append factory. */
-        private static RandomNumberAppendFactory create(final Long seed,
-                final BufferedDataTable inData) {
-            final DataTableSpec spec = inData.getDataTableSpec();
-            final long tableSize = inData.size();
-            CheckUtils.checkArgument(tableSize < Integer.MAX_VALUE,
-                "It's currently not possible to shuffle tables with more than Integer.MAX_VALUE rows.");
-            final int rowCount = (int) tableSize;
-            String appendName = "random_row_number";
-            int uniquifier = 1;
-            while (spec.containsName(appendName)) {
-                appendName = "random_row_number_#" + uniquifier++;
-            }
-            DataColumnSpec s = new DataColumnSpecCreator(
-                    appendName, IntCell.TYPE).createSpec();
-            return new RandomNumberAppendFactory(seed, rowCount, s);
+    /** A row along with its random key, ordered by the keys (as unsigned values). */
+    private static final class KeyedRow implements Comparable<KeyedRow> {
+
+        private final long m_key;
+
+        private final DataRow m_row;
+
+        KeyedRow(final long key, final DataRow row) {
+            m_key = key;
+            m_row = row;
         }
 
+        @Override
+        public int compareTo(final KeyedRow that) {
+            return Long.compareUnsigned(m_key, that.m_key);
+        }
     }
 }
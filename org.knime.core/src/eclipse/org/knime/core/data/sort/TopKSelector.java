@@ -0,0 +1,180 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import org.knime.core.data.DataRow;
+
+/**
+ * Retains the first <i>k</i> rows of a stream of rows according to a row comparator (or normalized sort keys) using
+ * a bounded heap. The heap's head is the largest retained row, which is replaced whenever a smaller row is added.
+ * Rows that compare equal are ordered by their position in the input, so that the selection is stable.
+ *
+ * <p>
+ * Instances are not thread-safe; concurrent workers use one selector each and {@link #addAll(TopKSelector) merge}
+ * them afterwards.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class TopKSelector {
+
+    /** The largest number of rows that can be retained, limited by the maximum array size. */
+    static final int MAX_LIMIT = Integer.MAX_VALUE - 8;
+
+    private final int m_limit;
+
+    private final Comparator<DataRow> m_comparator;
+
+    private final NormalizedSortKeyEncoder m_encoder;
+
+    /** The retained rows, largest first. */
+    private final PriorityQueue<Entry> m_heap;
+
+    /**
+     * @param limit the number of rows to retain, at most {@link #MAX_LIMIT}
+     * @param comparator compares the rows if no encoder is given
+     * @param encoder the normalized key encoder or null if rows are compared using the comparator
+     */
+    TopKSelector(final int limit, final Comparator<DataRow> comparator, final NormalizedSortKeyEncoder encoder) {
+        if (limit < 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Invalid limit: " + limit);
+        }
+        m_limit = limit;
+        m_comparator = comparator;
+        m_encoder = encoder;
+        m_heap = new PriorityQueue<>(Math.max(1, Math.min(limit, 1024) + 1), this::compareDescending);
+    }
+
+    /**
+     * Offers a row to the selector.
+     *
+     * @param row the row
+     * @param index the position of the row in the input, used to break ties
+     */
+    void add(final DataRow row, final long index) {
+        if (m_limit == 0) {
+            return;
+        }
+        final Entry entry = new Entry(row, m_encoder != null ? m_encoder.encode(row) : null, index);
+        if (m_heap.size() < m_limit) {
+            m_heap.add(entry);
+        } else if (compare(entry, m_heap.peek()) < 0) {
+            // replace the largest retained row
+            m_heap.poll();
+            m_heap.add(entry);
+        }
+    }
+
+    /**
+     * Adds the rows retained by another selector (with the same limit and order) to this one.
+     *
+     * @param other the other selector, not modified
+     */
+    void addAll(final TopKSelector other) {
+        for (Entry entry : other.m_heap) {
+            if (m_heap.size() < m_limit) {
+                m_heap.add(entry);
+            } else if (compare(entry, m_heap.peek()) < 0) {
+                m_heap.poll();
+                m_heap.add(entry);
+            }
+        }
+    }
+
+    /** @return the number of rows currently retained */
+    int size() {
+        return m_heap.size();
+    }
+
+    /**
+     * @param parallel whether to sort in parallel
+     * @return the retained rows in ascending order
+     */
+    DataRow[] getSortedRows(final boolean parallel) {
+        final Entry[] entries = m_heap.toArray(new Entry[m_heap.size()]);
+        if (parallel) {
+            Arrays.parallelSort(entries, this::compare);
+        } else {
+            Arrays.sort(entries, this::compare);
+        }
+        final DataRow[] rows = new DataRow[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            rows[i] = entries[i].m_row;
+        }
+        return rows;
+    }
+
+    private int compare(final Entry e1, final Entry e2) {
+        final int c = m_encoder != null ? NormalizedSortKeyEncoder.compare(e1.m_key, e2.m_key)
+            : m_comparator.compare(e1.m_row, e2.m_row);
+        return c != 0 ? c : Long.compare(e1.m_index, e2.m_index);
+    }
+
+    private int compareDescending(final Entry e1, final Entry e2) {
+        return compare(e2, e1);
+    }
+
+    /** A retained row along with its sort key (if any) and input position. */
+    private static final class Entry {
+
+        private final DataRow m_row;
+
+        private final byte[] m_key;
+
+        private final long m_index;
+
+        Entry(final DataRow row, final byte[] key, final long index) {
+            m_row = row;
+            m_key = key;
+            m_index = index;
+        }
+    }
+}
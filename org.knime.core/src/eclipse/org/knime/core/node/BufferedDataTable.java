@@ -63,6 +63,9 @@
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.swing.JComponent;
 import javax.swing.SwingUtilities;
@@ -85,6 +88,7 @@
 import org.knime.core.data.container.DefaultTableStoreFormat;
 import org.knime.core.data.container.JoinedTable;
 import org.knime.core.data.container.RearrangeColumnsTable;
+import org.knime.core.data.container.RowRangeSpliterator;
 import org.knime.core.data.container.TableSpecReplacerTable;
 import org.knime.core.data.container.VoidTable;
 import org.knime.core.data.container.WrappedTable;
@@ -357,6 +361,42 @@ public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
         return m_delegate.iteratorBuilder();
     }
 
+    /**
+     * Returns a spliterator over the rows of this table that splits into independent row ranges, each read by its own
+     * iterator. Only tables whose iterators can start directly at the first row of a range are split, i.e. tables kept
+     * in memory or stored in files with a row offset index; other tables (e.g. compressed files without an index or
+     * tables with rearranged columns) are not split as that would require to read all preceding rows for every range.
+     * Use {@link #parallelRows()} in order to release the iterators of unfinished ranges.
+     *
+     * @return a new spliterator over all rows
+     * @since 3.8
+     */
+    @Override
+    public Spliterator<DataRow> spliterator() {
+        return createSpliterator();
+    }
+
+    private RowRangeSpliterator createSpliterator() {
+        final boolean isSplittable =
+            m_delegate instanceof ContainerTable && ((ContainerTable)m_delegate).getBuffer().canSeek();
+        return new RowRangeSpliterator(this::iteratorBuilder, size(), isSplittable);
+    }
+
+    /**
+     * Returns a parallel stream of the rows of this table, based on {@link #spliterator()}. Row ranges are processed
+     * concurrently in the {@link java.util.concurrent.ForkJoinPool} of the calling thread (the common pool by
+     * default), results can be combined in row order via {@link Stream#collect(java.util.function.Supplier,
+     * java.util.function.BiConsumer, java.util.function.BiConsumer)}. The stream should be closed after use (e.g. in
+     * a try-with-resources statement) in order to release unfinished iterators.
+     *
+     * @return a new parallel stream over all rows
+     * @since 3.8
+     */
+    public Stream<DataRow> parallelRows() {
+        final RowRangeSpliterator spliterator = createSpliterator();
+        return StreamSupport.stream(spliterator, true).onClose(spliterator::close);
+    }
+
     /**
      * Get an iterator instance that will return missing values when the table
      * is cleared as part of a node reset.
@@ -542,9 +582,9 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
                 s.addString(CFG_TABLE_CONTAINER_FORMAT_VERSION, format.getVersion());
             } else {
                 final DefaultTableStoreFormat defaultFormat = (DefaultTableStoreFormat)format;
-                if (!Arrays.asList(NONE, GZIP).contains(defaultFormat.getCompressionFormat())) {
+                if (!Arrays.asList(NONE, GZIP).contains(defaultFormat.getCompressionCodec())) {
                     s.addString(CFG_TABLE_TYPE, TABLE_TYPE_CONTAINER_COMPRESS);
-                    s.addString(CFG_TABLE_COMPRESSION_FORMAT, defaultFormat.getCompressionFormat().toString());
+                    s.addString(CFG_TABLE_COMPRESSION_FORMAT, defaultFormat.getCompressionCodec().getName());
                 } else {
                     s.addString(CFG_TABLE_TYPE, TABLE_TYPE_CONTAINER);
                 }
@@ -562,9 +602,9 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
                         s.addString(CFG_TABLE_CONTAINER_FORMAT_VERSION, appendTable.getTableStoreFormat().getVersion());
                     } else {
                         final DefaultTableStoreFormat defaultFormat = (DefaultTableStoreFormat)format;
-                        if (!Arrays.asList(NONE, GZIP).contains(defaultFormat.getCompressionFormat())) {
+                        if (!Arrays.asList(NONE, GZIP).contains(defaultFormat.getCompressionCodec())) {
                             s.addString(CFG_TABLE_TYPE, TABLE_TYPE_REARRANGE_COLUMN_COMPRESS);
-                            s.addString(CFG_TABLE_COMPRESSION_FORMAT, defaultFormat.getCompressionFormat().toString());
+                            s.addString(CFG_TABLE_COMPRESSION_FORMAT, defaultFormat.getCompressionCodec().getName());
                         } else {
                             s.addString(CFG_TABLE_TYPE, TABLE_TYPE_REARRANGE_COLUMN);
                         }
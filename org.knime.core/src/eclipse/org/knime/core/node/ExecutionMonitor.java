@@ -44,6 +44,8 @@
  */
 package org.knime.core.node;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 
 import org.knime.core.node.DefaultNodeProgressMonitor.SilentSubNodeProgressMonitor;
@@ -60,9 +62,16 @@
  */
 public class ExecutionMonitor {
 
+    /** Minimum time between two updates passed on by {@link #isProgressUpdateDue()}. */
+    private static final long PROGRESS_UPDATE_INTERVAL_NANOS =
+        TimeUnit.MILLISECONDS.toNanos(KNIMEConstants.MIN_GUI_REFRESH_INTERVAL);
+
     /** The progress monitor cancel and progress are delegated. */
     private final NodeProgressMonitor m_progress;
 
+    /** {@link System#nanoTime()} at which {@link #isProgressUpdateDue()} returns true again. */
+    private volatile long m_nextProgressUpdate = System.nanoTime();
+
     /**
      * Creates a new execution monitor with an empty default progress monitor.
      */
@@ -147,6 +156,66 @@ public void setProgress(final double progress, final Supplier<String> messageSup
         m_progress.setProgress(progress, messageSupplier);
     }
 
+    /**
+     * Rate-limited progress update for loops over many items (such as table rows): sets the progress to
+     * <code>count / total</code> and the message created by the given function from <code>count</code>, but only if
+     * {@link #isProgressUpdateDue()} or if <code>count</code> equals <code>total</code>. Otherwise nothing is done, in
+     * particular no message is created. If the function does not capture any variables (e.g.
+     * <code>i -&gt; "Row " + i</code>), calling this method for every item does not allocate any objects.
+     *
+     * @param count The number of items processed so far.
+     * @param total The total number of items or a value &lt;= 0 if unknown, in which case only the message is set.
+     * @param messageFunction Creates the message from <code>count</code>, may be <code>null</code> to only set the
+     *            progress.
+     * @since 3.8
+     */
+    public void setProgress(final long count, final long total, final LongFunction<String> messageFunction) {
+        if (count != total && !isProgressUpdateDue()) {
+            return;
+        }
+        final String message = messageFunction == null ? null : messageFunction.apply(count);
+        if (total <= 0) {
+            if (message != null) {
+                m_progress.setMessage(message);
+            }
+        } else if (message == null) {
+            m_progress.setProgress(Math.min(count / (double)total, 1.0));
+        } else {
+            m_progress.setProgress(Math.min(count / (double)total, 1.0), message);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a progress update is due, that is, at most once every
+     * {@link KNIMEConstants#MIN_GUI_REFRESH_INTERVAL} milliseconds (and on the first call). Loops that process many
+     * items can use it to skip computing progress values and messages that would never be shown anyway:
+     *
+     * <pre>
+     * for (DataRow row : table) {
+     *     exec.checkCanceled();
+     *     if (exec.isProgressUpdateDue()) {
+     *         exec.setProgress(rowIndex / (double)rowCount, "Row " + rowIndex + " (\"" + row.getKey() + "\")");
+     *     }
+     *     ...
+     * }
+     * </pre>
+     *
+     * Each call returning <code>true</code> starts a new interval, hence a result of <code>true</code> should always
+     * lead to an update.
+     *
+     * @return whether the caller should update the progress now
+     * @since 3.8
+     */
+    public boolean isProgressUpdateDue() {
+        final long now = System.nanoTime();
+        if (now - m_nextProgressUpdate < 0) {
+            return false;
+        }
+        // races between threads only cause additional updates
+        m_nextProgressUpdate = now + PROGRESS_UPDATE_INTERVAL_NANOS;
+        return true;
+    }
+
     /**
      * @see NodeProgressMonitor#setMessage(String)
      * @param message The message to be shown in the progress monitor.
@@ -74,6 +74,7 @@
 import org.knime.core.internal.ConfigurationAreaChecker;
 import org.knime.core.internal.KNIMEPath;
 import org.knime.core.util.ThreadPool;
+import org.knime.core.util.WorkStealingThreadPool;
 import org.osgi.framework.Bundle;
 
 /**
@@ -108,6 +109,25 @@ public final class KNIMEConstants {
     public static final String PROPERTY_MAX_THREAD_COUNT =
         "org.knime.core.maxThreads";
 
+    /**
+     * Java property to use a {@link org.knime.core.util.WorkStealingThreadPool} as {@link #GLOBAL_THREAD_POOL},
+     * which avoids contention when many jobs are submitted concurrently and supports priorities and statistics.
+     * Disabled by default.
+     * @since 3.8
+     */
+    public static final String PROPERTY_WORK_STEALING_THREAD_POOL = "knime.threadpool.workstealing";
+
+    /**
+     * Java property to limit the number of threads of nodes executed by the
+     * {@link org.knime.core.node.exec.ElasticThreadNodeExecutionJobManager} that may wait for I/O at the same time
+     * without occupying a thread of the {@link #GLOBAL_THREAD_POOL}. Further blocking calls keep their thread. The
+     * default is 256.
+     *
+     * @see org.knime.core.util.BlockingOperations
+     * @since 3.8
+     */
+    public static final String PROPERTY_MAX_BLOCKED_THREADS = "knime.elasticjobs.maxBlockedThreads";
+
     /** Java property name to specify the default temp directory for
      * KNIME temp files (such as data files). This can be changed in the
      * preference pages and is by default the same as the java.io.tmpdir */
@@ -193,9 +213,33 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_TABLE_CACHE = "knime.table.cache";
 
+    /**
+     * Java property to set the size (in MB) of the memory that tables cached in {@code LRU} mode (see
+     * {@link #PROPERTY_TABLE_CACHE}) may occupy before least-recently and least-frequently used tables are released for
+     * garbage collection. The memory footprint of tables is estimated from a sample of their rows. By default half of
+     * the maximum heap size is used.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_CACHE_SIZE = "knime.table.cache.size";
+
+    /**
+     * Java property to set the size (in MB) of the off-heap table cache. If set to a positive value, tables that are
+     * cached in memory (see {@link #PROPERTY_TABLE_CACHE}, only applies to {@code LRU}) are moved from the Java heap
+     * into direct memory in their serialized form once they have been written to disk. Tables in the off-heap cache
+     * are read without disk access and don't put pressure on the garbage collector; tables are dropped in
+     * least-recently-used order once the size limit is reached. The JVM's direct memory limit
+     * ({@code -XX:MaxDirectMemorySize}) needs to be at least as large. By default the off-heap cache is disabled.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_CACHE_OFF_HEAP_SIZE = "knime.table.cache.offheap.size";
+
     /**
      * Java property to enable/disable table stream compression. Compression results in smaller temp-file sizes but also
-     * (sometimes significant) longer runtime. By default {@code Gzip} is used.
+     * (sometimes significant) longer runtime. By default {@code Gzip} is used. Besides the built-in formats the name
+     * of any codec registered via the extension point {@code org.knime.core.CompressionCodec} is accepted, for
+     * instance {@code Deflate}.
      * <p>
      * <strong>Warning:</strong> Changing this property will result in KNIME not being able to read workflows written
      * previously (with a different compression property).
@@ -203,6 +247,25 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_TABLE_COMPRESSION = "knime.compress.io";
 
+    /**
+     * Java property to set the compression level used by the table stream compression (see
+     * {@link #PROPERTY_TABLE_COMPRESSION}), for instance {@code 1} to speed up {@code Gzip} compression. Valid levels
+     * depend on the compression format ({@code Gzip}: 1-9, {@code LZ4}: 1-17, not supported by other formats); by
+     * default the format's default level is used. Data can be read independent of the level used to write it.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_COMPRESSION_LEVEL = "knime.compress.io.level";
+
+    /**
+     * Java property to set the number of threads used to compress tables (see {@link #PROPERTY_TABLE_COMPRESSION}).
+     * Tables compressed with a built-in format are written in independent blocks of 1MB, which are indexed so that
+     * ranges of rows can be read without decompressing the preceding blocks. If set to a value larger than {@code 1},
+     * the blocks are compressed in parallel (at most four blocks per table at a time). By default the blocks are
+     * compressed sequentially while writing.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_COMPRESSION_THREADS = "knime.compress.io.threads";
+
     /**
      * @see #PROPERTY_TABLE_COMPRESSION
      * @deprecated replaced by {@link #PROPERTY_TABLE_COMPRESSION}
@@ -210,6 +273,23 @@ public final class KNIMEConstants {
     @Deprecated
     public static final String PROPERTY_TABLE_GZIP_COMPRESSION = PROPERTY_TABLE_COMPRESSION;
 
+    /**
+     * Java property to enable/disable memory mapped reading of uncompressed tables (see
+     * {@link #PROPERTY_TABLE_COMPRESSION}). Mapped files are shared by all iterators on a table and read through the
+     * operating system's page cache. By default enabled on all systems except Windows, where mapped files can't be
+     * deleted until the mapping is garbage collected.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_MEMORY_MAPPING = "knime.table.mmap";
+
+    /**
+     * Java property to set the default number of threads used by the table sorters (see
+     * {@link org.knime.core.data.sort.BufferedDataTableSorter#setThreadCount(int)}). With more than one thread
+     * temporary tables are sorted, written and merged in parallel. By default tables are sorted on the calling thread.
+     * @since 3.8
+     */
+    public static final String PROPERTY_SORT_THREADS = "knime.sort.threads";
+
     /** Java property to enable/disable row ID duplicate checks on tables.
      * Tables in KNIME are supposed to have unique IDs, whereby the uniqueness
      * is asserted using a duplicate checker. This property will disable this
@@ -219,6 +299,14 @@ public final class KNIMEConstants {
     public static final String PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK =
         "knime.disable.rowid.duplicatecheck";
 
+    /**
+     * Java property to check row IDs for duplicates using 128-bit hashes of the IDs instead of the IDs themselves (see
+     * {@link org.knime.core.util.HashDuplicateChecker}), which reduces the memory needed when creating large tables.
+     * Disabled by default.
+     * @since 3.8
+     */
+    public static final String PROPERTY_HASH_ROWID_DUPLICATE_CHECK = "knime.rowid.duplicatecheck.hashing";
+
     /** Java property to enable/disable workflow locks. As of KNIME v2.4
      * workflows will be locked when opened; this property will disable the
      * locking (allowing multiple instances to have the same workflow open).
@@ -308,6 +396,71 @@ public final class KNIMEConstants {
      * @since 2.8 */
     public static final String PROPERTY_DATABASE_CONCURRENCY = "knime.database.enable.concurrency";
 
+    /**
+     * Java property to set the maximum number of pooled connections per database URL and user. Statements executed
+     * via {@link org.knime.core.node.port.database.DatabaseConnectionSettings#execute(
+     * org.knime.core.node.workflow.CredentialsProvider, org.knime.core.node.port.database.ExecuteStatement)} then
+     * borrow a connection for exclusive use, so that up to this number of statements run in parallel. The default
+     * is 1, which disables pooling: all statements share one cached connection, see
+     * {@link #PROPERTY_DATABASE_CONCURRENCY}.
+     *
+     * @see org.knime.core.node.port.database.connection.ConnectionPool
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_POOL_MAX_SIZE = "knime.database.pool.maxSize";
+
+    /**
+     * Java property to set the number of pooled connections per database URL and user that are kept open even if
+     * they are idle, see {@link #PROPERTY_DATABASE_POOL_MAX_SIZE}. The default is 0.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_POOL_MIN_SIZE = "knime.database.pool.minSize";
+
+    /**
+     * Java property to set the number of seconds after which idle pooled connections are closed, see
+     * {@link #PROPERTY_DATABASE_POOL_MAX_SIZE}. The default is 300.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_POOL_IDLE_TIMEOUT = "knime.database.pool.idleTimeout";
+
+    /**
+     * Java property to set the number of seconds after which a pooled connection that has not been returned is
+     * reported as possibly leaked, see {@link #PROPERTY_DATABASE_POOL_MAX_SIZE}. The default is 600.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_POOL_LEAK_THRESHOLD = "knime.database.pool.leakThreshold";
+
+    /**
+     * Java property to set the number of connections the database writer uses in parallel to insert rows. The rows
+     * are then read on the node's thread and written in batches by separate writer threads, each with its own
+     * connection. Requires connection pooling (see {@link #PROPERTY_DATABASE_POOL_MAX_SIZE}), which also limits the
+     * number of writers. The default is 1, that is the rows are written one batch after the other.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_WRITER_THREADS = "knime.database.writer.threads";
+
+    /**
+     * Java property to set the number of seconds for which results of database queries are cached locally, so that
+     * repeatedly executing the same query (e.g. in a loop) does not access the database again. The default is 0,
+     * which disables the cache.
+     *
+     * @see org.knime.core.node.port.database.reader.QueryResultCache
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_CACHE_TTL = "knime.database.cache.ttl";
+
+    /**
+     * Java property to set the maximum size in MB of the query results stored on disk, see
+     * {@link #PROPERTY_DATABASE_CACHE_TTL}. The least recently used results are removed first. The default is 1024.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_CACHE_MAX_SIZE = "knime.database.cache.maxSize";
+
     /** @deprecated Use #PROPERTY_DATABASE_FETCHSIZE instead. */
     @Deprecated
     // obsolete as of v2.3
@@ -499,7 +652,8 @@ public static Optional<ImageIcon> getKNIMEIcon16X16() {
                     + "\"org.knime.core.maxThreads\" (\"" + maxThreadsString
                     + "\") as number: " + nfe.getMessage());
         }
-        GLOBAL_THREAD_POOL = new ThreadPool(maxThreads);
+        GLOBAL_THREAD_POOL = Boolean.getBoolean(PROPERTY_WORK_STEALING_THREAD_POOL)
+            ? new WorkStealingThreadPool(maxThreads) : new ThreadPool(maxThreads);
         boolean flag;
         try {
             assert false;
@@ -0,0 +1,103 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.exec;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.BlockingOperations;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Job manager that executes nodes in the {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool} like the
+ * {@link ThreadNodeExecutionJobManager} but lets nodes release their thread while they wait for I/O. Blocking
+ * operations that are wrapped by {@link BlockingOperations#call(BlockingOperations.BlockingCall)} (e.g. database
+ * queries, HTTP requests and URL connections opened by {@link org.knime.core.util.FileUtil}) don't count against the
+ * thread pool's limit, so that workflows with many parallel I/O-bound branches are limited by the number of available
+ * processors rather than by the number of waiting nodes. The CPU-bound part of the nodes is still limited by the
+ * thread pool.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public class ElasticThreadNodeExecutionJobManager extends ThreadNodeExecutionJobManager {
+
+    /** The default instance using the global thread pool. */
+    public static final ElasticThreadNodeExecutionJobManager INSTANCE = new ElasticThreadNodeExecutionJobManager();
+
+    /** Creates a new job manager using the global thread pool. */
+    public ElasticThreadNodeExecutionJobManager() {
+        super();
+    }
+
+    /**
+     * Creates a new job manager using the given thread pool.
+     *
+     * @param pool the thread pool, not null
+     */
+    public ElasticThreadNodeExecutionJobManager(final ThreadPool pool) {
+        super(pool);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    Runnable wrapJob(final LocalNodeExecutionJob job) {
+        return BlockingOperations.elastic(job);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID() {
+        return ElasticThreadNodeExecutionJobManagerFactory.INSTANCE.getID();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Elastic Threaded Job Manager";
+    }
+
+}
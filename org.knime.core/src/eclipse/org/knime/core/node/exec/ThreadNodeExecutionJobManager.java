@@ -48,6 +48,9 @@
 package org.knime.core.node.exec;
 
 import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.concurrent.Future;
 
 import org.knime.core.node.KNIMEConstants;
@@ -56,7 +59,10 @@
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeExecutionJob;
 import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.util.ThreadPool;
+import org.knime.core.util.WorkStealingThreadPool;
+import org.knime.core.util.WorkStealingThreadPool.Priority;
 
 /**
  *
@@ -69,6 +75,10 @@ public class ThreadNodeExecutionJobManager extends AbstractNodeExecutionJobManag
 
     private final ThreadPool m_pool;
 
+    /** Priorities of workflow projects, see {@link #setWorkflowPriority(WorkflowManager, Priority)}. */
+    private final Map<WorkflowManager, Priority> m_workflowPriorities =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
     public ThreadNodeExecutionJobManager() {
         this(KNIMEConstants.GLOBAL_THREAD_POOL);
     }
@@ -88,11 +98,45 @@ public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] dat
                     + " is not able to execute a metanode: " + nc.getNameWithID());
         }
         LocalNodeExecutionJob job = new LocalNodeExecutionJob((SingleNodeContainer)nc, data);
-        Future<?> future = m_pool.enqueue(job);
+        Runnable runnable = wrapJob(job);
+        Future<?> future;
+        if (m_pool instanceof WorkStealingThreadPool) {
+            WorkStealingThreadPool pool = (WorkStealingThreadPool)m_pool;
+            WorkflowManager parent = nc.getParent();
+            Priority priority = parent == null ? null : m_workflowPriorities.get(parent.getProjectWFM());
+            future = pool.enqueue(runnable, priority == null ? pool.getPriority() : priority);
+        } else {
+            future = m_pool.enqueue(runnable);
+        }
         job.setFuture(future);
         return job;
     }
 
+    /** Returns the runnable that is submitted to the thread pool in order to execute the job.
+     * @param job the job
+     * @return the job itself, subclasses may decorate it */
+    Runnable wrapJob(final LocalNodeExecutionJob job) {
+        return job;
+    }
+
+    /**
+     * Sets the priority of the node jobs of a workflow project (including its metanodes and components). Jobs of
+     * workflows with a higher priority are started first if no thread is available. Priorities are only supported if
+     * the thread pool of this job manager is a {@link WorkStealingThreadPool} (see
+     * {@link KNIMEConstants#PROPERTY_WORK_STEALING_THREAD_POOL}); otherwise they are ignored.
+     *
+     * @param project the workflow project
+     * @param priority the priority or null to use the pool's priority
+     * @since 3.8
+     */
+    public void setWorkflowPriority(final WorkflowManager project, final Priority priority) {
+        if (priority == null) {
+            m_workflowPriorities.remove(project);
+        } else {
+            m_workflowPriorities.put(project, priority);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public String getID() {
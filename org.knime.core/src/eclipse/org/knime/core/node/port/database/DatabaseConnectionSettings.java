@@ -66,6 +66,7 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.config.ConfigRO;
 import org.knime.core.node.config.ConfigWO;
+import org.knime.core.node.port.database.connection.BorrowedConnection;
 import org.knime.core.node.port.database.connection.CachedConnectionFactory;
 import org.knime.core.node.port.database.connection.CachedConnectionFactory.ConnectionKey;
 import org.knime.core.node.util.CheckUtils;
@@ -652,7 +653,9 @@ private boolean loadConnection(final ConfigRO settings,
 
     /**
      * Executes a block of SQL commands using a valid connection. The method makes sure that the connection
-     * passed into the {@link ExecuteStatement} is valid and synchronized if required.
+     * passed into the {@link ExecuteStatement} is valid and synchronized if required. If connection pooling is
+     * enabled (see {@link KNIMEConstants#PROPERTY_DATABASE_POOL_MAX_SIZE}) the statement runs on a connection that
+     * is used exclusively by the calling thread and returned to the pool afterwards.
      *
      * @param cp {@link CredentialsProvider} to use
      * @param stmt the {@link ExecuteStatement} implementation that can use the {@link Connection}
@@ -664,24 +667,33 @@ private boolean loadConnection(final ConfigRO settings,
     public <T> T execute(final CredentialsProvider cp, final ExecuteStatement<T> stmt) throws SQLException {
         try {
             for (int i = 1; i <= MAX_CONNECTION_TRIES; i++) {
-                final Connection conn = createConnection(cp);
-                final ConnectionKey databaseConnKey = CachedConnectionFactory.getConnectionKey(cp, this);
-                LOGGER.debug("Try to lock key for stmt execution: " + databaseConnKey);
-                synchronized (syncKey(databaseConnKey)) {
-                    try {
-                        LOGGER.debug("Check connection for key: " + databaseConnKey);
-                        if (conn.isClosed() || !getUtility().isValid(conn)) {
-                            LOGGER.debug("Invalid or closed connection found. Retry counter: " + i +
-                                ". Retry to get valid connection for key: " + databaseConnKey);
+                CheckUtils.checkSettingNotNull(m_driver, "No settings available to create database connection.");
+                CheckUtils.checkSettingNotNull(m_jdbcUrl, "No JDBC URL set.");
+                try (final BorrowedConnection borrowed =
+                    getUtility().getConnectionFactory().borrowConnection(cp, this)) {
+                    final Connection conn = borrowed.getConnection();
+                    if (borrowed.isExclusive()) {
+                        // pooled connections are validated by the pool and not shared with other threads
+                        return stmt.apply(conn);
+                    }
+                    final ConnectionKey databaseConnKey = CachedConnectionFactory.getConnectionKey(cp, this);
+                    LOGGER.debug("Try to lock key for stmt execution: " + databaseConnKey);
+                    synchronized (syncKey(databaseConnKey)) {
+                        try {
+                            LOGGER.debug("Check connection for key: " + databaseConnKey);
+                            if (conn.isClosed() || !getUtility().isValid(conn)) {
+                                LOGGER.debug("Invalid or closed connection found. Retry counter: " + i +
+                                    ". Retry to get valid connection for key: " + databaseConnKey);
+                                continue;
+                            }
+                        } catch (Exception ex) {
+                            LOGGER.debug("Exception: " + ex.getMessage()
+                                + " during validation of connection with key: " + databaseConnKey, ex);
+                            //continue if an exception is thrown during connection validation
                             continue;
                         }
-                    } catch (Exception ex) {
-                        LOGGER.debug("Exception: " + ex.getMessage() + " during validation of connection with key: "
-                            + databaseConnKey, ex);
-                        //continue if an exception is thrown during connection validation
-                        continue;
+                        return stmt.apply(conn);
                     }
-                    return stmt.apply(conn);
                 }
             }
         } catch (Exception ex) {
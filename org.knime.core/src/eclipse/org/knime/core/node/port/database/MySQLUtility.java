@@ -52,6 +52,7 @@
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.aggregation.function.AvgDistinctDBAggregationFunction;
 import org.knime.core.node.port.database.aggregation.function.BitAndDBAggregationFunction;
@@ -111,6 +112,18 @@ public String quoteIdentifier(final String identifier) {
             return quoteColumn(identifier);
         }
 
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * Returns -1, since MySQL only streams results with the default fetch size, see
+         * {@link #setFetchSize(Statement, int)}.
+         */
+        @Override
+        public int getDefaultFetchSize(final DataTableSpec spec) {
+            return -1;
+        }
+
         /**
          * {@inheritDoc}
          */
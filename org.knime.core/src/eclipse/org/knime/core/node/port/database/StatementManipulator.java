@@ -56,7 +56,14 @@
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.knime.core.data.BooleanValue;
 import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.blob.BinaryObjectDataValue;
+import org.knime.core.data.date.DateAndTimeValue;
 import org.knime.core.node.port.database.aggregation.DBAggregationFunction;
 import org.knime.core.node.port.database.binning.BinningStatementGenerator;
 import org.knime.core.node.port.database.binning.CaseBinningStatementGenerator;
@@ -129,6 +136,13 @@ protected StatementManipulator(final PivotStatementGenerator pivot, final Binnin
 
     private final Random m_rand = new Random();
 
+    /** Approximate number of bytes per round trip, see {@link #getDefaultFetchSize(DataTableSpec)}. */
+    private static final int DEFAULT_FETCH_BYTES = 1 << 22;
+
+    private static final int MIN_DEFAULT_FETCH_SIZE = 100;
+
+    private static final int MAX_DEFAULT_FETCH_SIZE = 10000;
+
     /**
      * Modifies the incoming SQL query so that the number of rows is limited. The default implementation uses the LIMIT
      * clause.
@@ -162,6 +176,51 @@ public String forMetadataOnly(final String sql) {
         return "SELECT * FROM (" + sql + ") " + getTempTableName() + " WHERE (1 = 0)";
     }
 
+    /**
+     * Returns a query for the smallest and the largest value of a column of the given query, which is used to split
+     * the query into partitions, see {@link #forPartition(String, String, boolean, boolean)}.
+     *
+     * @param sql any valid SQL query
+     * @param column the name of the partition column
+     * @return an SQL query that returns one row with the minimum and the maximum
+     * @since 3.8
+     */
+    public String getMinMaxStatement(final String sql, final String column) {
+        final String quotedColumn = quoteIdentifier(column);
+        return "SELECT MIN(" + quotedColumn + "), MAX(" + quotedColumn + ") FROM (" + sql + ") "
+            + getTempTableName();
+    }
+
+    /**
+     * Modifies the query so that it only returns the rows whose value in the given column lies within a range. The
+     * bounds are parameters of the returned query, the lower bound (if any) comes first. The lower bound is inclusive
+     * and the upper bound exclusive; rows with a missing value are part of the partition without lower bound.
+     *
+     * @param sql any valid SQL query
+     * @param column the name of the partition column
+     * @param lowerBound <code>true</code> if the partition has a lower bound
+     * @param upperBound <code>true</code> if the partition has an upper bound
+     * @return an SQL query with a parameter for each bound
+     * @since 3.8
+     */
+    public String forPartition(final String sql, final String column, final boolean lowerBound,
+        final boolean upperBound) {
+        if (!lowerBound && !upperBound) {
+            return sql;
+        }
+        final String quotedColumn = quoteIdentifier(column);
+        final StringBuilder buf = new StringBuilder("SELECT * FROM (");
+        buf.append(sql).append(") ").append(getTempTableName()).append(" WHERE ");
+        if (!lowerBound) {
+            buf.append(quotedColumn).append(" < ? OR ").append(quotedColumn).append(" IS NULL");
+        } else if (!upperBound) {
+            buf.append(quotedColumn).append(" >= ?");
+        } else {
+            buf.append(quotedColumn).append(" >= ? AND ").append(quotedColumn).append(" < ?");
+        }
+        return buf.toString();
+    }
+
     /**
      * @param tableName the name of the table to create
      * @param query the select statement
@@ -260,6 +319,38 @@ public void setFetchSize(final Statement statement, final int fetchSize) throws
         }
     }
 
+    /**
+     * Returns the fetch size for queries with the given result if none is configured (see
+     * {@link org.knime.core.node.KNIMEConstants#PROPERTY_DATABASE_FETCHSIZE}). The default implementation aims at
+     * transferring about {@value #DEFAULT_FETCH_BYTES} bytes per round trip, based on the estimated width of a row, but
+     * at least {@value #MIN_DEFAULT_FETCH_SIZE} and at most {@value #MAX_DEFAULT_FETCH_SIZE} rows. Narrow (e.g.
+     * numeric) results are thereby fetched in larger chunks than wide results.
+     *
+     * @param spec the spec of the query result
+     * @return the fetch size to pass to {@link #setFetchSize(Statement, int)}, a negative value to keep the driver's
+     *         default
+     * @since 3.8
+     */
+    public int getDefaultFetchSize(final DataTableSpec spec) {
+        long rowWidth = 0;
+        for (DataColumnSpec colSpec : spec) {
+            final DataType type = colSpec.getType();
+            if (type.isCompatible(BooleanValue.class)) {
+                rowWidth += 1;
+            } else if (type.isCompatible(IntValue.class)) {
+                rowWidth += Integer.BYTES;
+            } else if (type.isCompatible(DoubleValue.class) || type.isCompatible(DateAndTimeValue.class)) {
+                rowWidth += Long.BYTES;
+            } else if (type.isCompatible(BinaryObjectDataValue.class)) {
+                rowWidth += 1024;
+            } else {
+                rowWidth += 64;
+            }
+        }
+        final long fetchSize = DEFAULT_FETCH_BYTES / Math.max(1, rowWidth);
+        return (int)Math.max(MIN_DEFAULT_FETCH_SIZE, Math.min(MAX_DEFAULT_FETCH_SIZE, fetchSize));
+    }
+
     /**
      * Returns a random name for a temporary table.
      *
@@ -0,0 +1,118 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import java.sql.Connection;
+
+/**
+ * A connection obtained via {@link DBConnectionFactory#borrowConnection(
+ * org.knime.core.node.workflow.CredentialsProvider, org.knime.core.node.port.database.DatabaseConnectionSettings)},
+ * which must be returned by calling {@link #close()} once the caller is done with it (use try-with-resources).
+ * Connections borrowed from a {@link ConnectionPool} are used exclusively by the borrower, others may be shared with
+ * other callers (see {@link #isExclusive()}). The underlying connection itself must never be closed by the caller.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class BorrowedConnection implements AutoCloseable {
+
+    private final Connection m_connection;
+
+    /** The pool the connection is returned to, null if the connection is shared. */
+    private final ConnectionPool m_pool;
+
+    private boolean m_invalid;
+
+    private boolean m_closed;
+
+    /**
+     * @param connection the connection
+     * @param pool the pool to return the connection to or <code>null</code> if the connection is shared
+     */
+    BorrowedConnection(final Connection connection, final ConnectionPool pool) {
+        m_connection = connection;
+        m_pool = pool;
+    }
+
+    /**
+     * @return the connection, not to be closed
+     */
+    public Connection getConnection() {
+        return m_connection;
+    }
+
+    /**
+     * @return <code>true</code> if no one else uses the connection until it is returned, <code>false</code> if it is
+     *         shared and access needs to be synchronized if required (see
+     *         {@link org.knime.core.node.KNIMEConstants#PROPERTY_DATABASE_CONCURRENCY})
+     */
+    public boolean isExclusive() {
+        return m_pool != null;
+    }
+
+    /**
+     * Marks the connection as unusable, e.g. because it failed the validation. A pooled connection is then closed
+     * instead of being returned to the pool.
+     */
+    public void invalidate() {
+        m_invalid = true;
+    }
+
+    /**
+     * Returns the connection (if it is pooled). Calling this method more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (!m_closed) {
+            m_closed = true;
+            if (m_pool != null) {
+                m_pool.release(m_connection, m_invalid);
+            }
+        }
+    }
+}
@@ -56,19 +56,25 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
 
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.RegisteredDriversConnectionFactory;
+import org.knime.core.node.port.database.connection.ConnectionPool.ConnectionCreator;
 import org.knime.core.node.workflow.CredentialsProvider;
 import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.util.ThreadUtils;
@@ -87,6 +93,43 @@ public class CachedConnectionFactory implements DBConnectionFactory {
      * process. */
     private static final Map<ConnectionKey, ConnectionKey> CONNECTION_KEYS = new HashMap<ConnectionKey, ConnectionKey>();
     private static final ExecutorService CONNECTION_CREATOR_EXECUTOR = ThreadUtils.executorServiceWithContext(Executors.newCachedThreadPool());
+
+    /** See {@link KNIMEConstants#PROPERTY_DATABASE_POOL_MAX_SIZE}, pooling is disabled if 1. */
+    private static final int POOL_MAX_SIZE =
+        Math.max(1, Integer.getInteger(KNIMEConstants.PROPERTY_DATABASE_POOL_MAX_SIZE, 1));
+
+    private static final int POOL_MIN_SIZE = Integer.getInteger(KNIMEConstants.PROPERTY_DATABASE_POOL_MIN_SIZE, 0);
+
+    private static final long POOL_IDLE_TIMEOUT = Long.getLong(KNIMEConstants.PROPERTY_DATABASE_POOL_IDLE_TIMEOUT, 300);
+
+    private static final long POOL_LEAK_THRESHOLD =
+        Long.getLong(KNIMEConstants.PROPERTY_DATABASE_POOL_LEAK_THRESHOLD, 600);
+
+    /** Interval in seconds in which idle connections are closed and leaked connections are reported. */
+    private static final long POOL_MAINTENANCE_INTERVAL = 30;
+
+    /** The connection pools if pooling is enabled, based on the user and URL. */
+    private static final Map<ConnectionKey, ConnectionPool> POOLS = new ConcurrentHashMap<>();
+
+    static {
+        if (POOL_MAX_SIZE > 1) {
+            final ScheduledExecutorService maintenance = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "KNIME-DB-Connection-Pool-Maintenance");
+                thread.setDaemon(true);
+                return thread;
+            });
+            maintenance.scheduleWithFixedDelay(() -> {
+                for (ConnectionPool pool : POOLS.values()) {
+                    try {
+                        pool.maintain();
+                    } catch (Exception e) {
+                        LOGGER.warn("Error during maintenance of " + pool + ": " + e.getMessage(), e);
+                    }
+                }
+            }, POOL_MAINTENANCE_INTERVAL, POOL_MAINTENANCE_INTERVAL, TimeUnit.SECONDS);
+        }
+    }
+
     private DBDriverFactory m_driverFactory;
 
     /**
@@ -205,44 +248,119 @@ public Connection getConnection(final CredentialsProvider cp, final DatabaseConn
                 CONNECTION_MAP.remove(databaseConnKey);
             }
             LOGGER.debug("Create new connection for key: " + databaseConnKey);
-            final Driver d;
-            try {
-                d = getDriverFactory().getDriver(settings);
-            } catch (Exception ex1) {
-                throw new InvalidSettingsException(ex1);
-            }
-            if (!d.acceptsURL(jdbcUrl)) {
-                throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
+            conn = openConnection(settings, jdbcUrl, user, pass, kerberos);
+            LOGGER.debug("Add connection to map for key: " + databaseConnKey);
+            CONNECTION_MAP.put(databaseConnKey, conn);
+            return conn;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If pooling is enabled via {@link KNIMEConstants#PROPERTY_DATABASE_POOL_MAX_SIZE}, the connection is borrowed
+     * from the {@link ConnectionPool} of the user and URL for exclusive use; the calling thread waits if all
+     * connections of the pool are in use. Otherwise the cached connection is returned, which is shared.
+     */
+    @Override
+    public BorrowedConnection borrowConnection(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
+        if (POOL_MAX_SIZE <= 1) {
+            return DBConnectionFactory.super.borrowConnection(cp, settings);
+        }
+        return borrowPooledConnection(cp, settings, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If pooling is enabled via {@link KNIMEConstants#PROPERTY_DATABASE_POOL_MAX_SIZE}, an idle connection of the
+     * {@link ConnectionPool} of the user and URL is returned, or a new one if the pool is not exhausted.
+     */
+    @Override
+    public Optional<BorrowedConnection> tryBorrowConnection(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
+        if (POOL_MAX_SIZE <= 1) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(borrowPooledConnection(cp, settings, false));
+    }
+
+    private BorrowedConnection borrowPooledConnection(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings, final boolean wait)
+        throws InvalidSettingsException, SQLException, IOException {
+        final String jdbcUrl = settings.getJDBCUrl();
+        final String user = settings.getUserName(cp);
+        final String pass = settings.getPassword(cp);
+        final boolean kerberos = settings.useKerberos();
+        final ConnectionKey databaseConnKey = createConnectionKey(cp, settings);
+        final ConnectionPool pool = POOLS.computeIfAbsent(databaseConnKey, key -> new ConnectionPool(key.toString(),
+            POOL_MIN_SIZE, POOL_MAX_SIZE, POOL_IDLE_TIMEOUT, POOL_LEAK_THRESHOLD));
+        final ConnectionCreator creator = () -> openConnection(settings, jdbcUrl, user, pass, kerberos);
+        final Predicate<Connection> validator = conn -> isOpenAndValid(settings, conn, databaseConnKey);
+        return wait ? pool.borrow(creator, validator, Long.MAX_VALUE) : pool.tryBorrow(creator, validator);
+    }
+
+    /**
+     * @return the maximum number of connections of a pool, 1 if pooling is disabled (see
+     *         {@link KNIMEConstants#PROPERTY_DATABASE_POOL_MAX_SIZE})
+     * @since 3.8
+     */
+    public static int getMaxPoolSize() {
+        return POOL_MAX_SIZE;
+    }
+
+    /**
+     * @return the metrics of the connection pools by connection key, empty if pooling is disabled (see
+     *         {@link KNIMEConstants#PROPERTY_DATABASE_POOL_MAX_SIZE})
+     * @since 3.8
+     */
+    public static Map<ConnectionKey, ConnectionPool.Statistics> getPoolStatistics() {
+        final Map<ConnectionKey, ConnectionPool.Statistics> statistics = new HashMap<>();
+        POOLS.forEach((key, pool) -> statistics.put(key, pool.getStatistics()));
+        return statistics;
+    }
+
+    /** Opens a new connection on a separate thread, waiting at most for the database timeout. */
+    private Connection openConnection(final DatabaseConnectionSettings settings, final String jdbcUrl,
+        final String user, final String pass, final boolean kerberos)
+        throws InvalidSettingsException, SQLException, IOException {
+        final Driver d;
+        try {
+            d = getDriverFactory().getDriver(settings);
+        } catch (Exception ex1) {
+            throw new InvalidSettingsException(ex1);
+        }
+        if (!d.acceptsURL(jdbcUrl)) {
+            throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
+        }
+        // if a connection is not available
+        Callable<Connection> callable = new Callable<Connection>() {
+            /** {@inheritDoc} */
+            @Override
+            public Connection call() throws Exception {
+                LOGGER.debug("Opening database connection to \"" + jdbcUrl + "\"...");
+                return createConnection(settings, jdbcUrl, user, pass, kerberos, d);
             }
-            // if a connection is not available
-            Callable<Connection> callable = new Callable<Connection>() {
-                /** {@inheritDoc} */
-                @Override
-                public Connection call() throws Exception {
-                    LOGGER.debug("Opening database connection to \"" + jdbcUrl + "\"...");
-                    return createConnection(settings, jdbcUrl, user, pass, kerberos, d);
-                }
-            };
-            //TODO:this has to be more robust e.g. the thread should terminate when KNIME terminates and should be
-            //cancelable if the user presses cancel. If no credentials are present for Phoenix the thread keeps KNIME
-            //alive for ages
-            Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
-            try {
-                conn = task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
-                LOGGER.debug("Add connection to map for key: " + databaseConnKey);
-                CONNECTION_MAP.put(databaseConnKey, conn);
-                return conn;
-            } catch (ExecutionException ee) {
-                if (ee.getCause() instanceof SQLException) {
-                    throw (SQLException) ee.getCause();
-                } else {
-                    throw new SQLException(ee.getCause());
-                }
-            } catch (InterruptedException ex) {
-                throw new SQLException("Thread was interrupted while waiting for database to respond");
-            } catch (TimeoutException ex) {
-                throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
+        };
+        //TODO:this has to be more robust e.g. the thread should terminate when KNIME terminates and should be
+        //cancelable if the user presses cancel. If no credentials are present for Phoenix the thread keeps KNIME
+        //alive for ages
+        Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
+        try {
+            return task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof SQLException) {
+                throw (SQLException) ee.getCause();
+            } else {
+                throw new SQLException(ee.getCause());
             }
+        } catch (InterruptedException ex) {
+            throw new SQLException("Thread was interrupted while waiting for database to respond");
+        } catch (TimeoutException ex) {
+            throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
         }
     }
 
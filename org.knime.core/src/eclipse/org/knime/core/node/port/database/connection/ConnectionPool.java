@@ -0,0 +1,504 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A pool of connections to one database (URL and user), see {@link CachedConnectionFactory}. Connections are
+ * {@link #borrow(ConnectionCreator, Predicate, long) borrowed} for exclusive use and returned by closing the
+ * {@link BorrowedConnection}. Idle connections are validated before they are handed out again, closed if they have
+ * been idle for too long (unless the pool would shrink below its minimum size), and connections that are borrowed for
+ * too long are reported as possible leaks, see {@link #maintain()}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class ConnectionPool {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ConnectionPool.class);
+
+    /** Opens a new connection. */
+    @FunctionalInterface
+    interface ConnectionCreator {
+        /**
+         * @return a new connection, not <code>null</code>
+         * @throws InvalidSettingsException if the settings are invalid
+         * @throws SQLException if the connection cannot be opened
+         * @throws IOException if the database does not respond
+         */
+        Connection create() throws InvalidSettingsException, SQLException, IOException;
+    }
+
+    private final String m_name;
+
+    private final int m_minSize;
+
+    private final int m_maxSize;
+
+    private final long m_idleTimeoutNanos;
+
+    private final long m_leakThresholdNanos;
+
+    private final ReentrantLock m_lock = new ReentrantLock();
+
+    /** Signaled whenever a connection is returned or a slot becomes free. */
+    private final Condition m_released = m_lock.newCondition();
+
+    /** The idle connections, the most recently used one first. */
+    private final Deque<IdleConnection> m_idle = new ArrayDeque<>();
+
+    private final Map<Connection, Lease> m_borrowed = new IdentityHashMap<>();
+
+    /** Number of connections that are currently being opened or validated, they count towards the maximum size. */
+    private int m_pending;
+
+    private int m_waiting;
+
+    private long m_created;
+
+    private long m_destroyed;
+
+    private long m_borrowCount;
+
+    private long m_waitNanos;
+
+    private long m_leakCount;
+
+    /**
+     * @param name the name of the pool used in log and error messages, must not contain credentials
+     * @param minSize the number of connections that are not closed when idle
+     * @param maxSize the maximum number of connections, at least 1
+     * @param idleTimeout the time after which idle connections are closed, in seconds
+     * @param leakThreshold the time after which borrowed connections are reported as leaked, in seconds
+     */
+    ConnectionPool(final String name, final int minSize, final int maxSize, final long idleTimeout,
+        final long leakThreshold) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid maximum pool size: " + maxSize);
+        }
+        m_name = name;
+        m_minSize = Math.max(0, Math.min(minSize, maxSize));
+        m_maxSize = maxSize;
+        m_idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeout);
+        m_leakThresholdNanos = TimeUnit.SECONDS.toNanos(leakThreshold);
+    }
+
+    /**
+     * Borrows a connection for exclusive use. Idle connections are reused if they pass the validation, otherwise a
+     * new connection is opened if the pool is not exhausted. If it is, the calling thread waits until a connection is
+     * returned.
+     *
+     * @param creator opens new connections
+     * @param validator checks whether an idle connection can still be used
+     * @param timeoutNanos the maximum time to wait for a connection to be returned, {@link Long#MAX_VALUE} to wait
+     *            until one is returned
+     * @return the borrowed connection, to be closed after usage
+     * @throws InvalidSettingsException if a new connection cannot be opened due to invalid settings
+     * @throws SQLException if a new connection cannot be opened, or if no connection has been returned in time
+     * @throws IOException if the database does not respond when opening a new connection
+     */
+    BorrowedConnection borrow(final ConnectionCreator creator, final Predicate<Connection> validator,
+        final long timeoutNanos) throws InvalidSettingsException, SQLException, IOException {
+        return borrow(creator, validator, timeoutNanos, true);
+    }
+
+    /**
+     * Borrows a connection for exclusive use like {@link #borrow(ConnectionCreator, Predicate, long)}, but doesn't
+     * wait if all connections of the pool are in use.
+     *
+     * @param creator opens new connections
+     * @param validator checks whether an idle connection can still be used
+     * @return the borrowed connection, to be closed after usage, or <code>null</code> if the pool is exhausted
+     * @throws InvalidSettingsException if a new connection cannot be opened due to invalid settings
+     * @throws SQLException if a new connection cannot be opened
+     * @throws IOException if the database does not respond when opening a new connection
+     */
+    BorrowedConnection tryBorrow(final ConnectionCreator creator, final Predicate<Connection> validator)
+        throws InvalidSettingsException, SQLException, IOException {
+        return borrow(creator, validator, 0, false);
+    }
+
+    private BorrowedConnection borrow(final ConnectionCreator creator, final Predicate<Connection> validator,
+        final long timeoutNanos, final boolean wait) throws InvalidSettingsException, SQLException, IOException {
+        final long start = System.nanoTime();
+        while (true) {
+            Connection candidate = null;
+            m_lock.lock();
+            try {
+                while (candidate == null) {
+                    if (!m_idle.isEmpty()) {
+                        candidate = m_idle.pollFirst().m_connection;
+                        m_pending++;
+                    } else if (m_borrowed.size() + m_pending < m_maxSize) {
+                        m_pending++;
+                        break;
+                    } else if (wait) {
+                        awaitRelease(timeoutNanos - (System.nanoTime() - start));
+                    } else {
+                        return null;
+                    }
+                }
+            } finally {
+                m_lock.unlock();
+            }
+
+            if (candidate == null) {
+                return open(creator, start);
+            }
+            // validate outside the lock, this may require a round trip to the database
+            if (validator.test(candidate)) {
+                return lease(candidate, start);
+            }
+            LOGGER.debug("Discarding invalid connection of pool " + m_name);
+            discard(candidate);
+        }
+    }
+
+    private void awaitRelease(final long remaining) throws SQLException {
+        assert m_lock.isHeldByCurrentThread();
+        if (remaining <= 0) {
+            throw new SQLException("Timed out waiting for a free connection of pool " + m_name + " (" + m_maxSize
+                + " connections in use)");
+        }
+        m_waiting++;
+        try {
+            m_released.awaitNanos(remaining);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Thread was interrupted while waiting for a free database connection");
+        } finally {
+            m_waiting--;
+        }
+    }
+
+    private BorrowedConnection open(final ConnectionCreator creator, final long start)
+        throws InvalidSettingsException, SQLException, IOException {
+        Connection conn = null;
+        try {
+            conn = creator.create();
+            if (conn == null) {
+                throw new SQLException("Driver returned no connection for pool " + m_name);
+            }
+            LOGGER.debug("Opened new connection of pool " + m_name);
+        } finally {
+            if (conn == null) {
+                m_lock.lock();
+                try {
+                    m_pending--;
+                    m_released.signal();
+                } finally {
+                    m_lock.unlock();
+                }
+            }
+        }
+        m_lock.lock();
+        try {
+            m_created++;
+        } finally {
+            m_lock.unlock();
+        }
+        return lease(conn, start);
+    }
+
+    /** Hands out a pending connection. */
+    private BorrowedConnection lease(final Connection conn, final long start) {
+        m_lock.lock();
+        try {
+            final long now = System.nanoTime();
+            m_pending--;
+            m_borrowed.put(conn, new Lease(now));
+            m_borrowCount++;
+            m_waitNanos += now - start;
+        } finally {
+            m_lock.unlock();
+        }
+        return new BorrowedConnection(conn, this);
+    }
+
+    /**
+     * Returns a borrowed connection to the pool, called by {@link BorrowedConnection#close()}.
+     *
+     * @param conn the connection
+     * @param invalid whether the connection must not be used anymore
+     */
+    void release(final Connection conn, final boolean invalid) {
+        boolean keep = !invalid;
+        try {
+            keep = keep && !conn.isClosed();
+        } catch (SQLException e) {
+            keep = false;
+        }
+        m_lock.lock();
+        try {
+            final Lease lease = m_borrowed.remove(conn);
+            if (lease == null) {
+                // not borrowed from this pool (anymore)
+                return;
+            }
+            if (lease.m_reported) {
+                LOGGER.info("Connection of pool " + m_name + " reported as leaked has been returned after "
+                    + TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - lease.m_since) + "s");
+            }
+            if (keep) {
+                m_idle.addFirst(new IdleConnection(conn, System.nanoTime()));
+            } else {
+                m_destroyed++;
+            }
+            m_released.signal();
+        } finally {
+            m_lock.unlock();
+        }
+        if (!keep) {
+            closeSafely(conn);
+        }
+    }
+
+    /** Closes a pending connection that failed the validation. */
+    private void discard(final Connection conn) {
+        m_lock.lock();
+        try {
+            m_pending--;
+            m_destroyed++;
+            m_released.signal();
+        } finally {
+            m_lock.unlock();
+        }
+        closeSafely(conn);
+    }
+
+    /**
+     * Closes connections that have been idle for longer than the idle timeout, as long as the pool does not shrink
+     * below its minimum size, and reports connections that have been borrowed for longer than the leak threshold.
+     * Called periodically by the {@link CachedConnectionFactory}.
+     */
+    void maintain() {
+        final List<Connection> expired = new ArrayList<>();
+        m_lock.lock();
+        try {
+            final long now = System.nanoTime();
+            while (!m_idle.isEmpty() && m_idle.size() + m_borrowed.size() > m_minSize
+                && now - m_idle.peekLast().m_since > m_idleTimeoutNanos) {
+                expired.add(m_idle.pollLast().m_connection);
+                m_destroyed++;
+            }
+            for (Lease lease : m_borrowed.values()) {
+                if (!lease.m_reported && now - lease.m_since > m_leakThresholdNanos) {
+                    lease.m_reported = true;
+                    m_leakCount++;
+                    LOGGER.warn("Connection of pool " + m_name + " borrowed by thread \"" + lease.m_thread
+                        + "\" has not been returned for " + TimeUnit.NANOSECONDS.toSeconds(now - lease.m_since)
+                        + "s, it might have been leaked");
+                }
+            }
+        } finally {
+            m_lock.unlock();
+        }
+        if (!expired.isEmpty()) {
+            LOGGER.debug("Closing " + expired.size() + " idle connection(s) of pool " + m_name);
+            expired.forEach(ConnectionPool::closeSafely);
+        }
+    }
+
+    /**
+     * @return a snapshot of the pool's metrics
+     */
+    public Statistics getStatistics() {
+        m_lock.lock();
+        try {
+            return new Statistics(this);
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    private static void closeSafely(final Connection conn) {
+        try {
+            if (!conn.isClosed()) {
+                conn.close();
+            }
+        } catch (Exception ex) {
+            LOGGER.debug("Error closing connection:" + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ConnectionPool [" + m_name + ", " + getStatistics() + "]";
+    }
+
+    /** An idle connection along with the time it has been returned. */
+    private static final class IdleConnection {
+
+        private final Connection m_connection;
+
+        private final long m_since;
+
+        IdleConnection(final Connection connection, final long since) {
+            m_connection = connection;
+            m_since = since;
+        }
+    }
+
+    /** Information about a borrowed connection for the leak detection. */
+    private static final class Lease {
+
+        private final long m_since;
+
+        private final String m_thread = Thread.currentThread().getName();
+
+        private boolean m_reported;
+
+        Lease(final long since) {
+            m_since = since;
+        }
+    }
+
+    /**
+     * Snapshot of the metrics of a {@link ConnectionPool}.
+     *
+     * @since 3.8
+     */
+    public static final class Statistics {
+
+        private final int m_idle;
+
+        private final int m_borrowed;
+
+        private final int m_waiting;
+
+        private final long m_created;
+
+        private final long m_destroyed;
+
+        private final long m_borrowCount;
+
+        private final long m_waitNanos;
+
+        private final long m_leakCount;
+
+        private Statistics(final ConnectionPool pool) {
+            m_idle = pool.m_idle.size();
+            m_borrowed = pool.m_borrowed.size();
+            m_waiting = pool.m_waiting;
+            m_created = pool.m_created;
+            m_destroyed = pool.m_destroyed;
+            m_borrowCount = pool.m_borrowCount;
+            m_waitNanos = pool.m_waitNanos;
+            m_leakCount = pool.m_leakCount;
+        }
+
+        /** @return the number of idle connections */
+        public int getIdleConnections() {
+            return m_idle;
+        }
+
+        /** @return the number of borrowed connections */
+        public int getBorrowedConnections() {
+            return m_borrowed;
+        }
+
+        /** @return the number of threads waiting for a connection to be returned */
+        public int getWaitingThreads() {
+            return m_waiting;
+        }
+
+        /** @return the number of connections opened so far */
+        public long getCreatedConnections() {
+            return m_created;
+        }
+
+        /** @return the number of connections closed so far */
+        public long getDestroyedConnections() {
+            return m_destroyed;
+        }
+
+        /** @return the number of times a connection has been borrowed */
+        public long getBorrowCount() {
+            return m_borrowCount;
+        }
+
+        /** @return the total time spent borrowing connections (including opening them), in milliseconds */
+        public long getTotalWaitTimeMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(m_waitNanos);
+        }
+
+        /** @return the number of connections reported as possibly leaked */
+        public long getLeakCount() {
+            return m_leakCount;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "idle=" + m_idle + ", borrowed=" + m_borrowed + ", waiting=" + m_waiting + ", created="
+                + m_created + ", destroyed=" + m_destroyed + ", borrows=" + m_borrowCount + ", waitTime="
+                + getTotalWaitTimeMillis() + "ms, leaks=" + m_leakCount;
+        }
+    }
+}
@@ -51,6 +51,7 @@
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
 
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
@@ -74,6 +75,44 @@ public interface DBConnectionFactory {
     Connection getConnection(final CredentialsProvider cp,
         final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException;
 
+    /**
+     * Borrows a connection that is returned by closing the {@link BorrowedConnection}. Factories that pool connections
+     * hand out connections for exclusive use; the default implementation returns the (possibly shared) connection of
+     * {@link #getConnection(CredentialsProvider, DatabaseConnectionSettings)}.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @return the borrowed connection, to be closed after usage
+     * @throws InvalidSettingsException
+     * @throws SQLException
+     * @throws IOException
+     * @since 3.8
+     */
+    default BorrowedConnection borrowConnection(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
+        return new BorrowedConnection(getConnection(cp, settings), null);
+    }
+
+    /**
+     * Borrows a further connection for exclusive use, e.g. to write in parallel, if one is available without waiting.
+     * Callers already holding a connection should use this method rather than
+     * {@link #borrowConnection(CredentialsProvider, DatabaseConnectionSettings)}, since waiting for a connection while
+     * holding others can deadlock with other callers sharing the pool. The default implementation returns an empty
+     * optional, as it doesn't hand out connections for exclusive use.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @return the borrowed connection, to be closed after usage, or an empty optional if none is available
+     * @throws InvalidSettingsException
+     * @throws SQLException
+     * @throws IOException
+     * @since 3.8
+     */
+    default Optional<BorrowedConnection> tryBorrowConnection(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
+        return Optional.empty();
+    }
+
     /**
      * @return the {@link DBDriverFactory} the connection factory uses
      */
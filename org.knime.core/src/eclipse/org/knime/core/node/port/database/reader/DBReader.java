@@ -155,6 +155,28 @@ default BufferedDataTable createTable(final ExecutionContext exec, final Credent
         return exec.createBufferedDataTable(table, exec);
     }
 
+    /**
+     * Read data from database with several queries in parallel. The query is split into partitions by the value range
+     * of the given column, each partition is read on its own connection (if connection pooling is enabled, see
+     * {@link org.knime.core.node.KNIMEConstants#PROPERTY_DATABASE_POOL_MAX_SIZE}) and the partitions are concatenated.
+     * The partitions are concatenated in the order of their value ranges and the row ids are generated per partition,
+     * so that they don't depend on the order in which the partitions complete. Implementations that don't support
+     * partitioning read the table with a single query.
+     *
+     * @param exec used for progress info
+     * @param cp {@link CredentialsProvider} providing user/password
+     * @param partitionColumn the name of a numeric or date column of the query result to split the query by
+     * @param partitionCount the number of partitions, which are read in parallel
+     * @return buffered data table read from database
+     * @throws CanceledExecutionException if canceled in between
+     * @throws SQLException if the connection could not be opened or the partition column is not numeric or a date
+     * @since 3.8
+     */
+    default BufferedDataTable createPartitionedTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final String partitionColumn, final int partitionCount) throws CanceledExecutionException, SQLException {
+        return createTable(exec, cp, false);
+    }
+
     /**
      * Read data from database.
      * @param exec used for progress info
@@ -51,7 +51,17 @@
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.knime.core.data.DataCell;
@@ -77,9 +87,12 @@
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseHelper;
 import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.port.database.StatementManipulator;
 import org.knime.core.node.streamable.BufferedDataTableRowOutput;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.BlockingOperations;
+import org.knime.core.util.ThreadUtils;
 import org.knime.core.util.UniqueNameGenerator;
 
 /**
@@ -174,6 +187,14 @@ public DataTableSpec getDataTableSpec(final CredentialsProvider cp)
         if (m_spec != null) {
             return m_spec;
         }
+        final Optional<QueryResultCache.Key> cacheKey = QueryResultCache.createKey(getQueryConnection(), cp, "spec");
+        if (cacheKey.isPresent()) {
+            final Optional<DataTableSpec> cachedSpec = QueryResultCache.getInstance().getSpec(cacheKey.get());
+            if (cachedSpec.isPresent()) {
+                m_spec = cachedSpec.get();
+                return m_spec;
+            }
+        }
         // retrieve connection
 //        final Connection conn = initConnection(cp);
 
@@ -198,7 +219,7 @@ public DataTableSpec getDataTableSpec(final CredentialsProvider cp)
                     stmt.execute(oQueries[i]);
                 }
                 LOGGER.debug("Executing SQL statement as executeQuery: " + oQueries[selectIndex]);
-                result = stmt.executeQuery(oQueries[selectIndex]);
+                result = BlockingOperations.call(() -> stmt.executeQuery(oQueries[selectIndex]));
                 LOGGER.debug("Reading meta data from database ResultSet...");
                 return createTableSpec(result.getMetaData());
             } finally {
@@ -214,6 +235,9 @@ public DataTableSpec getDataTableSpec(final CredentialsProvider cp)
                 }
             }
         });
+        if (cacheKey.isPresent()) {
+            QueryResultCache.getInstance().putSpec(cacheKey.get(), m_spec);
+        }
         return m_spec;
     }
 
@@ -229,11 +253,31 @@ public DataTableSpec getDataTableSpec(final CredentialsProvider cp)
      * @return buffered data table read from database
      * @throws CanceledExecutionException if canceled in between
      * @throws SQLException if the connection could not be opened
+     * @see QueryResultCache
      * @since 2.12
      */
     @Override
     public BufferedDataTable createTable(final ExecutionContext exec, final CredentialsProvider cp,
         final boolean useDbRowId) throws CanceledExecutionException, SQLException {
+        final Optional<QueryResultCache.Key> cacheKey =
+            QueryResultCache.createKey(getQueryConnection(), cp, "table", useDbRowId);
+        if (!cacheKey.isPresent()) {
+            return readTable(exec, cp, useDbRowId);
+        }
+        final QueryResultCache cache = QueryResultCache.getInstance();
+        final Optional<BufferedDataTable> cachedTable = cache.getTable(cacheKey.get(), exec);
+        if (cachedTable.isPresent()) {
+            LOGGER.debug("Using cached result of query " + cacheKey.get());
+            m_spec = cachedTable.get().getDataTableSpec();
+            return cachedTable.get();
+        }
+        final BufferedDataTable table = readTable(exec, cp, useDbRowId);
+        cache.putTable(cacheKey.get(), table, exec.createSilentSubProgress(0));
+        return table;
+    }
+
+    private BufferedDataTable readTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final boolean useDbRowId) throws CanceledExecutionException, SQLException {
 //        final Connection conn = initConnection(cp);
 //        synchronized (getQueryConnection().syncConnection(conn)) {
         return getQueryConnection().execute(cp, conn -> {
@@ -256,6 +300,271 @@ public RowIterator iterator() {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The partitions are determined by the minimum and maximum of the partition column, whose range is split into
+     * <code>partitionCount</code> ranges of equal width. Rows with a missing value in the partition column are part of
+     * the first partition. Statements preceding the last (select) statement of the query are executed for every
+     * partition.
+     *
+     * @since 3.8
+     */
+    @Override
+    public BufferedDataTable createPartitionedTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final String partitionColumn, final int partitionCount) throws CanceledExecutionException, SQLException {
+        final DataTableSpec spec = getDataTableSpec(cp);
+        if (spec.findColumnIndex(partitionColumn) < 0) {
+            throw new SQLException("Partition column \"" + partitionColumn + "\" not found in query result");
+        }
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final StatementManipulator manipulator = dbConn.getUtility().getStatementManipulator();
+        final String[] oQueries = dbConn.getQuery().split(SQL_QUERY_SEPARATOR);
+        final String[] preQueries = Arrays.copyOf(oQueries, oQueries.length - 1);
+        String selectQuery = oQueries[oQueries.length - 1].trim();
+        if (selectQuery.endsWith(";")) {
+            selectQuery = selectQuery.substring(0, selectQuery.length() - 1);
+        }
+        final String minMaxQuery = manipulator.getMinMaxStatement(selectQuery, partitionColumn);
+
+        exec.setMessage("Determining partitions...");
+        final List<Object> bounds = dbConn.execute(cp, conn -> {
+            final Statement stmt = initStatement(cp, conn);
+            try {
+                for (String preQuery : preQueries) {
+                    LOGGER.debug("Executing SQL statement as execute: " + preQuery);
+                    stmt.execute(preQuery);
+                }
+                LOGGER.debug("Executing SQL statement as executeQuery: " + minMaxQuery);
+                try (ResultSet result = BlockingOperations.call(() -> stmt.executeQuery(minMaxQuery))) {
+                    if (!result.next()) {
+                        return Collections.emptyList();
+                    }
+                    return PartitionBounds.split(result.getObject(1), result.getObject(2), partitionCount);
+                } catch (IllegalArgumentException e) {
+                    throw new SQLException("Invalid partition column \"" + partitionColumn + "\": " + e.getMessage(),
+                        e);
+                }
+            } finally {
+                stmt.close();
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+        });
+
+        final int count = bounds.size() + 1;
+        LOGGER.debug("Reading query in " + count + " partition(s) of column \"" + partitionColumn + "\"");
+        final String query = selectQuery;
+        return readPartitions(exec, spec, count, (partition, container, subExec) -> {
+            final String partitionQuery =
+                manipulator.forPartition(query, partitionColumn, partition > 0, partition < count - 1);
+            final Object lowerBound = partition > 0 ? bounds.get(partition - 1) : null;
+            final Object upperBound = partition < count - 1 ? bounds.get(partition) : null;
+            readPartition(subExec, cp, spec, preQueries, partitionQuery, lowerBound, upperBound, partition,
+                container);
+        });
+    }
+
+    /**
+     * Reads the rows of one partition into a container, see {@link DBReaderImpl#readPartitions}.
+     */
+    @FunctionalInterface
+    interface PartitionReader {
+        /**
+         * Reads the rows of the partition. Called on a worker thread, the container must not be closed.
+         *
+         * @param partition the index of the partition
+         * @param container the container to add the rows to, use {@link DBReaderImpl#createPartitionRowKey} for their
+         *            keys
+         * @param exec the execution context of the partition, for progress and cancellation only
+         * @throws SQLException if the partition can't be read
+         */
+        void read(int partition, BufferedDataContainer container, ExecutionContext exec) throws SQLException;
+    }
+
+    /**
+     * Reads <code>count</code> partitions in parallel and concatenates them in the order of their index. The
+     * containers are created and closed on the calling thread as the table repository of the execution context isn't
+     * thread-safe, the readers only add rows. If a partition fails, the remaining readers are interrupted and waited
+     * for before their containers are discarded.
+     *
+     * @param exec the execution context
+     * @param spec the spec of the result
+     * @param count the number of partitions
+     * @param reader reads one partition
+     * @return the concatenated partitions
+     * @throws CanceledExecutionException if canceled
+     * @throws SQLException if a partition can't be read
+     */
+    static BufferedDataTable readPartitions(final ExecutionContext exec, final DataTableSpec spec, final int count,
+        final PartitionReader reader) throws CanceledExecutionException, SQLException {
+        final ExecutionContext[] subExecs = new ExecutionContext[count];
+        final BufferedDataContainer[] containers = new BufferedDataContainer[count];
+        for (int i = 0; i < count; i++) {
+            subExecs[i] = exec.createSubExecutionContext(1.0 / count);
+            containers[i] = subExecs[i].createDataContainer(spec);
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor =
+            ThreadUtils.executorServiceWithContext(Executors.newFixedThreadPool(count, r -> {
+                final Thread thread = new Thread(r, "KNIME-DB-Reader-Partition-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }));
+        final CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+        boolean success = false;
+        try {
+            for (int i = 0; i < count; i++) {
+                final int partition = i;
+                completionService.submit(() -> {
+                    reader.read(partition, containers[partition], subExecs[partition]);
+                    return null;
+                });
+            }
+            // fails on the first failing partition rather than waiting for the preceding ones
+            for (int i = 0; i < count; i++) {
+                getPartition(completionService);
+            }
+            success = true;
+        } finally {
+            if (success) {
+                executor.shutdown();
+            } else {
+                executor.shutdownNow();
+                awaitTermination(executor);
+                for (int i = 0; i < count; i++) {
+                    containers[i].close();
+                    subExecs[i].clearTable(containers[i].getTable());
+                }
+            }
+        }
+
+        final BufferedDataTable[] tables = new BufferedDataTable[count];
+        for (int i = 0; i < count; i++) {
+            containers[i].close();
+            tables[i] = containers[i].getTable();
+        }
+        if (count == 1) {
+            return tables[0];
+        }
+        exec.setMessage("Combining partitions...");
+        return exec.createConcatenateTable(exec, Optional.empty(), false, tables);
+    }
+
+    /**
+     * Returns the key of a row read as part of a partition. The keys are unique across partitions and don't depend on
+     * the order in which the partitions are read.
+     *
+     * @param partition the index of the partition
+     * @param index the index of the row within the partition
+     * @return the row key
+     */
+    static RowKey createPartitionRowKey(final int partition, final long index) {
+        return new RowKey("Row" + partition + "_" + index);
+    }
+
+    /** Reads one partition on its own connection into the given container, see {@link #createPartitionedTable}. */
+    private void readPartition(final ExecutionContext exec, final CredentialsProvider cp, final DataTableSpec spec,
+        final String[] preQueries, final String query, final Object lowerBound, final Object upperBound,
+        final int partition, final BufferedDataContainer container) throws SQLException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final BinaryObjectCellFactory blobFactory = new BinaryObjectCellFactory(exec);
+        dbConn.execute(cp, conn -> {
+            final boolean autoCommit = conn.getAutoCommit();
+            try {
+                if (preQueries.length > 0) {
+                    try (Statement stmt = initStatement(cp, conn)) {
+                        for (String preQuery : preQueries) {
+                            LOGGER.debug("Executing SQL statement as execute: " + preQuery);
+                            stmt.execute(preQuery);
+                        }
+                    }
+                }
+                try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                    dbConn.getUtility().getStatementManipulator().setFetchSize(stmt, getFetchSize(dbConn, spec));
+                    int parameterIndex = 1;
+                    if (lowerBound != null) {
+                        stmt.setObject(parameterIndex++, lowerBound);
+                    }
+                    if (upperBound != null) {
+                        stmt.setObject(parameterIndex, upperBound);
+                    }
+                    LOGGER.debug("Executing SQL statement as executeQuery: " + query);
+                    try (ResultSet result = BlockingOperations.call(() -> stmt.executeQuery())) {
+                        final RowIterator it = createDBRowIterator(spec, dbConn, blobFactory, false, result, 0);
+                        long rowCount = 0;
+                        while (it.hasNext()) {
+                            checkCanceled(exec);
+                            final DataRow row = it.next();
+                            container.addRowToTable(new DefaultRow(createPartitionRowKey(partition, rowCount), row));
+                            exec.setProgress(++rowCount, 0, r -> "Reading row " + r);
+                        }
+                        return null;
+                    }
+                }
+            } finally {
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+                DatabaseConnectionSettings.setAutoCommit(conn, autoCommit);
+            }
+        });
+    }
+
+    /** Also stops if the partition's reader is interrupted because another partition failed. */
+    private static void checkCanceled(final ExecutionContext exec) throws CanceledExecutionException {
+        exec.checkCanceled();
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CanceledExecutionException("Reading of partition stopped");
+        }
+    }
+
+    /** Waits for the next partition to complete, rethrowing its failure. */
+    private static void getPartition(final CompletionService<Void> completionService)
+        throws CanceledExecutionException, SQLException {
+        try {
+            completionService.take().get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while reading from database");
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof SQLException && cause.getCause() instanceof CanceledExecutionException) {
+                // execute(...) wraps all exceptions of the statement
+                cause = cause.getCause();
+            }
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof SQLException) {
+                throw (SQLException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new SQLException(cause);
+        }
+    }
+
+    /** Waits for the (interrupted) readers to stop before their containers are discarded, ignoring interrupts. */
+    private static void awaitTermination(final ExecutorService executor) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException ie) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
 
 
     /**
@@ -285,11 +594,10 @@ private DBRowIterator createRowIteratorConnection(final Connection conn, final E
 
         exec.setMessage("Start reading rows from database...");
         // remember auto-commit flag
+        final boolean autoCommit = conn.getAutoCommit();
         final Statement stmt = initStatement(cp, conn);
-        int fetchsize =
-            (DatabaseConnectionSettings.FETCH_SIZE != null) ? DatabaseConnectionSettings.FETCH_SIZE : -1;
         final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
-        dbConn.getUtility().getStatementManipulator().setFetchSize(stmt, fetchsize);
+        dbConn.getUtility().getStatementManipulator().setFetchSize(stmt, getFetchSize(dbConn, m_spec));
         final String[] oQueries = dbConn.getQuery().split(SQL_QUERY_SEPARATOR);
         // execute all except the last query
         for (int i = 0; i < oQueries.length - 1; i++) {
@@ -298,12 +606,27 @@ private DBRowIterator createRowIteratorConnection(final Connection conn, final E
         }
         final String selectQuery = oQueries[oQueries.length - 1];
         LOGGER.debug("Executing SQL statement as executeQuery: " + selectQuery);
-        final ResultSet result = stmt.executeQuery(selectQuery);
+        final ResultSet result = BlockingOperations.call(() -> stmt.executeQuery(selectQuery));
         LOGGER.debug("Reading meta data from database ResultSet...");
         m_spec = createTableSpec(result.getMetaData());
         LOGGER.debug("Parsing database ResultSet...");
         final RowIterator iterator = createDBRowIterator(m_spec, dbConn, m_blobFactory, useDbRowId, result);
-        return new RowIteratorConnection(conn, stmt, m_spec, iterator);
+        return new RowIteratorConnection(conn, stmt, m_spec, iterator, autoCommit);
+    }
+
+    /**
+     * Returns the fetch size configured via {@link DatabaseConnectionSettings#FETCH_SIZE} or, if none is set, the
+     * default of the database for results with the given spec.
+     *
+     * @param dbConn the database connection settings
+     * @param spec the spec of the result, <code>null</code> if not yet known
+     * @return the fetch size, a negative value to keep the driver's default
+     */
+    private static int getFetchSize(final DatabaseQueryConnectionSettings dbConn, final DataTableSpec spec) {
+        if (DatabaseConnectionSettings.FETCH_SIZE != null) {
+            return DatabaseConnectionSettings.FETCH_SIZE;
+        }
+        return spec == null ? -1 : dbConn.getUtility().getStatementManipulator().getDefaultFetchSize(spec);
     }
 
     /** Called from the database port to read the first n-number of rows.
@@ -330,9 +653,7 @@ DataTable createTable(final boolean useDbRowId, final int cachedNoRows, final Cr
             try {
                 final String[] oQueries = dbConn.getQuery().split(SQL_QUERY_SEPARATOR);
                 if (cachedNoRows < 0) {
-                    int fetchsize = (DatabaseConnectionSettings.FETCH_SIZE != null)
-                        ? DatabaseConnectionSettings.FETCH_SIZE : -1;
-                    dbConn.getUtility().getStatementManipulator().setFetchSize(stmt, fetchsize);
+                    dbConn.getUtility().getStatementManipulator().setFetchSize(stmt, getFetchSize(dbConn, m_spec));
                 } else {
                     final int hashAlias = System.identityHashCode(this);
                     final int selectIdx = oQueries.length - 1;
@@ -357,7 +678,7 @@ DataTable createTable(final boolean useDbRowId, final int cachedNoRows, final Cr
                 }
                 final String lastQuery = oQueries[oQueries.length - 1];
                 LOGGER.debug("Executing SQL statement as executeQuery: " + lastQuery);
-                final ResultSet result = stmt.executeQuery(lastQuery);
+                final ResultSet result = BlockingOperations.call(() -> stmt.executeQuery(lastQuery));
                 LOGGER.debug("Reading meta data from database ResultSet...");
                 m_spec = createTableSpec(result.getMetaData());
                 LOGGER.debug("Parsing database ResultSet...");
@@ -459,7 +780,7 @@ public BufferedDataTableRowOutput loopTable(final ExecutionContext exec, final C
                         inCells[i] = row.getCell(colIdx);
                         fillStatement(stmt, dbIdx, colSpec, inCells[i], timezone, null);
                     }
-                    try (final ResultSet result = stmt.executeQuery();) {
+                    try (final ResultSet result = BlockingOperations.call(() -> stmt.executeQuery());) {
 
                         /* In the first iteration, create the out DataTableSpec and BufferedDataTableRowOutput */
                         if(output == null) {
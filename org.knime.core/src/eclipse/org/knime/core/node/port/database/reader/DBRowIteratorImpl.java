@@ -67,6 +67,7 @@
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.knime.core.data.BooleanValue;
@@ -86,7 +87,7 @@
 import org.knime.core.data.date.DateAndTimeCell;
 import org.knime.core.data.date.DateAndTimeValue;
 import org.knime.core.data.def.BooleanCell;
-import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DefaultCellIterator;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.LongCell;
@@ -126,6 +127,12 @@ public class DBRowIteratorImpl extends RowIterator {
 
     protected final BinaryObjectCellFactory m_blobFactory;
 
+    /** How to read each column, created when the first row is read. */
+    private CellReader[] m_readers;
+
+    /** The SQL type of each column, for error messages. */
+    private int[] m_dbTypes;
+
     /**
      * @param spec {@link DataTableSpec}
      * @param conn {@link DatabaseConnectionSettings}
@@ -189,139 +196,206 @@ public boolean hasNext() {
      */
     @Override
     public DataRow next() {
-        DataCell[] cells = new DataCell[m_spec.getNumColumns()];
+        if (m_readers == null) {
+            createReaders();
+        }
+        final DataCell[] cells = new DataCell[m_readers.length];
         for (int i = 0; i < cells.length; i++) {
-            DataType type = m_spec.getColumnSpec(i).getType();
-            int dbType = Types.NULL;
-            final DataCell cell;
             try {
-                dbType = m_result.getMetaData().getColumnType(i + 1);
-                if (type.isCompatible(BooleanValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as boolean
-                        case Types.BIT:
-                        case Types.BOOLEAN:
-                            cell = readBoolean(i);
-                            break;
-                        default: cell = readBoolean(i);
-                    }
-                } else if (type.isCompatible(IntValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as integer
-                        case Types.TINYINT:
-                            cell = readByte(i);
-                            break;
-                        case Types.SMALLINT:
-                            cell = readShort(i);
-                            break;
-                        case Types.INTEGER:
-                            cell = readInt(i);
-                            break;
-                        default: cell = readInt(i);
-                    }
-                } else if (type.isCompatible(LongValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as long
-                        case Types.BIGINT:
-                            cell = readLong(i);
-                            break;
-                        default: cell = readLong(i);
-                    }
-                } else if (type.isCompatible(DoubleValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as double
-                        case Types.REAL:
-                            cell = readFloat(i);
-                            break;
-                        default: cell = readDouble(i);
-                    }
-                } else if (type.isCompatible(DateAndTimeValue.class)) {
-                    switch (dbType) {
-                        case Types.DATE:
-                            cell = readDate(i); break;
-                        case Types.TIME:
-                            cell = readTime(i); break;
-                        case Types.TIMESTAMP:
-                            cell = readTimestamp(i); break;
-                        default: cell = readString(i);
-                    }
-                } else if (type.isCompatible(BinaryObjectDataValue.class)) {
-                    switch (dbType) {
-                        case Types.BLOB:
-                            DataCell c = null;
-                            try {
-                                c = readBlob(i);
-                            } catch (SQLException ex) {
-                                // probably not supported (e.g. SQLite), therefore try another method
-                                c = readBytesAsBLOB(i);
-                            }
-                            cell = c;
-                            break;
-                        case Types.LONGVARCHAR:
-                        case Types.LONGNVARCHAR:
-                            cell = readAsciiStream(i); break;
-                        case Types.BINARY:
-                        case Types.LONGVARBINARY:
-                        case Types.VARBINARY:
-                            cell = readBinaryStream(i); break;
-                        default: cell = readString(i);
-                    }
-                } else {
-                    switch (dbType) {
-                        case Types.CLOB:
-                            cell = readClob(i); break;
-                        case Types.ARRAY:
-                            cell = readArray(i); break;
-                        case Types.CHAR:
-                        case Types.VARCHAR:
-                        case Types.LONGVARCHAR:
-                            cell = readString(i); break;
-                        case Types.VARBINARY:
-                            cell = readBytesAsString(i); break;
-                        case Types.REF:
-                            cell = readRef(i); break;
-                        case Types.NCHAR:
-                        case Types.NVARCHAR:
-                        case Types.LONGNVARCHAR:
-                            cell = readNString(i); break;
-                        case Types.NCLOB:
-                            cell = readNClob(i); break;
-                        case Types.DATALINK:
-                            cell = readURL(i); break;
-                        case Types.STRUCT:
-                        case Types.JAVA_OBJECT:
-                            cell = readObject(i); break;
-                        default:
-                            cell = readObject(i); break;
-
-                    }
-                }
-                // finally set the new cell into the array of cells
-                cells[i] = cell;
+                final DataCell cell = m_readers[i].read(i);
+                cells[i] = cell == null ? DataType.getMissingCell() : cell;
             } catch (SQLException sqle) {
-                handlerException("SQL Exception reading Object of type \"" + dbType + "\": ", sqle);
+                handlerException("SQL Exception reading Object of type \"" + m_dbTypes[i] + "\": ", sqle);
                 cells[i] = new MissingCell(sqle.getMessage());
             } catch (IOException ioe) {
-                handlerException("I/O Exception reading Object of type \"" + dbType + "\": ", ioe);
+                handlerException("I/O Exception reading Object of type \"" + m_dbTypes[i] + "\": ", ioe);
                 cells[i] = new MissingCell(ioe.getMessage());
             }
         }
-        long rowId;
-        try {
-            rowId = m_result.getRow();
-            // Bug 2729: ResultSet#getRow return 0 if there is no row id
-            if (rowId <= 0 || !m_useDbRowId ) {
-                // use row counter
-                rowId = m_rowCounter;
-            } else if (m_rowIdsStartWithZero) {
-                rowId--; // first row in SQL always is 1, KNIME starts with 0
+        long rowId = m_rowCounter;
+        if (m_useDbRowId) {
+            try {
+                final long dbRowId = m_result.getRow();
+                // Bug 2729: ResultSet#getRow return 0 if there is no row id
+                if (dbRowId > 0) {
+                    // first row in SQL always is 1, KNIME starts with 0
+                    rowId = m_rowIdsStartWithZero ? dbRowId - 1 : dbRowId;
+                }
+            } catch (SQLException sqle) {
+                // ignored: use m_rowCounter
             }
-        } catch (SQLException sqle) {
-             // ignored: use m_rowCounter
-            rowId = m_rowCounter;
         }
         m_rowCounter++;
-        return new DefaultRow(RowKey.createRowKey(rowId), cells);
+        return new ResultRow(rowId, cells);
+    }
+
+    /** Reads the value of one column of the current row, see {@link DBRowIteratorImpl#createReader(DataType, int)}. */
+    @FunctionalInterface
+    private interface CellReader {
+        DataCell read(int i) throws SQLException, IOException;
+    }
+
+    /**
+     * Determines once for all rows how each column is read, based on the column type and the type in the database,
+     * instead of deciding it for every cell.
+     */
+    private void createReaders() {
+        final int columnCount = m_spec.getNumColumns();
+        final CellReader[] readers = new CellReader[columnCount];
+        m_dbTypes = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            try {
+                m_dbTypes[i] = m_result.getMetaData().getColumnType(i + 1);
+                readers[i] = createReader(m_spec.getColumnSpec(i).getType(), m_dbTypes[i]);
+            } catch (SQLException sqle) {
+                // report the failure for every cell, as if it occurred while reading it
+                m_dbTypes[i] = Types.NULL;
+                readers[i] = index -> {
+                    throw sqle;
+                };
+            }
+        }
+        m_readers = readers;
+    }
+
+    private CellReader createReader(final DataType type, final int dbType) {
+        if (type.isCompatible(BooleanValue.class)) {
+            // all types that can be interpreted as boolean
+            return this::readBoolean;
+        } else if (type.isCompatible(IntValue.class)) {
+            switch (dbType) {
+                // all types that can be interpreted as integer
+                case Types.TINYINT:
+                    return this::readByte;
+                case Types.SMALLINT:
+                    return this::readShort;
+                default:
+                    return this::readInt;
+            }
+        } else if (type.isCompatible(LongValue.class)) {
+            // all types that can be interpreted as long
+            return this::readLong;
+        } else if (type.isCompatible(DoubleValue.class)) {
+            switch (dbType) {
+                // all types that can be interpreted as double
+                case Types.REAL:
+                    return this::readFloat;
+                default:
+                    return this::readDouble;
+            }
+        } else if (type.isCompatible(DateAndTimeValue.class)) {
+            switch (dbType) {
+                case Types.DATE:
+                    return this::readDate;
+                case Types.TIME:
+                    return this::readTime;
+                case Types.TIMESTAMP:
+                    return this::readTimestamp;
+                default:
+                    return this::readString;
+            }
+        } else if (type.isCompatible(BinaryObjectDataValue.class)) {
+            switch (dbType) {
+                case Types.BLOB:
+                    return i -> {
+                        try {
+                            return readBlob(i);
+                        } catch (SQLException ex) {
+                            // probably not supported (e.g. SQLite), therefore try another method
+                            return readBytesAsBLOB(i);
+                        }
+                    };
+                case Types.LONGVARCHAR:
+                case Types.LONGNVARCHAR:
+                    return this::readAsciiStream;
+                case Types.BINARY:
+                case Types.LONGVARBINARY:
+                case Types.VARBINARY:
+                    return this::readBinaryStream;
+                default:
+                    return this::readString;
+            }
+        } else {
+            switch (dbType) {
+                case Types.CLOB:
+                    return this::readClob;
+                case Types.ARRAY:
+                    return this::readArray;
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                    return this::readString;
+                case Types.VARBINARY:
+                    return this::readBytesAsString;
+                case Types.REF:
+                    return this::readRef;
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                case Types.LONGNVARCHAR:
+                    return this::readNString;
+                case Types.NCLOB:
+                    return this::readNClob;
+                case Types.DATALINK:
+                    return this::readURL;
+                case Types.STRUCT:
+                case Types.JAVA_OBJECT:
+                default:
+                    return this::readObject;
+            }
+        }
+    }
+
+    /**
+     * Row of the result set. Its row key is only created when requested, which is not the case if the rows are
+     * assigned new keys (e.g. by the partitioned read of {@link DBReaderImpl}), and the cells are not copied.
+     */
+    private static final class ResultRow implements DataRow {
+
+        private final long m_rowId;
+
+        private final DataCell[] m_cells;
+
+        private RowKey m_key;
+
+        ResultRow(final long rowId, final DataCell[] cells) {
+            m_rowId = rowId;
+            m_cells = cells;
+        }
+
+        @Override
+        public RowKey getKey() {
+            if (m_key == null) {
+                m_key = RowKey.createRowKey(m_rowId);
+            }
+            return m_key;
+        }
+
+        @Override
+        public int getNumCells() {
+            return m_cells.length;
+        }
+
+        @Override
+        public DataCell getCell(final int index) {
+            return m_cells[index];
+        }
+
+        @Override
+        public Iterator<DataCell> iterator() {
+            return new DefaultCellIterator(this);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder buffer = new StringBuilder(getKey().toString()).append(": (");
+            for (int i = 0; i < m_cells.length; i++) {
+                if (i > 0) {
+                    buffer.append(", ");
+                }
+                buffer.append(m_cells[i]);
+            }
+            return buffer.append(")").toString();
+        }
     }
 
     protected DataCell readClob(final int i)
@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Splits the value range of a partition column into ranges of equal width, see
+ * {@link DBReaderImpl#createPartitionedTable(org.knime.core.node.ExecutionContext,
+ * org.knime.core.node.workflow.CredentialsProvider, String, int)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PartitionBounds {
+
+    private PartitionBounds() {
+    }
+
+    /**
+     * Computes the bounds between adjacent partitions. Partition <i>i</i> contains the values from bound <i>i-1</i>
+     * (inclusive) to bound <i>i</i> (exclusive); the first partition has no lower and the last no upper bound.
+     *
+     * @param min the smallest value of the partition column, a {@link Number} or {@link Date}
+     * @param max the largest value of the partition column, of the same type as <code>min</code>
+     * @param partitionCount the maximum number of partitions
+     * @return the strictly ascending bounds, at most <code>partitionCount - 1</code>; empty if the range cannot be
+     *         split
+     * @throws IllegalArgumentException if the values are neither numbers nor dates
+     */
+    static List<Object> split(final Object min, final Object max, final int partitionCount) {
+        if (min == null || max == null || partitionCount < 2) {
+            return Collections.emptyList();
+        }
+        if (isIntegral(min) && isIntegral(max)) {
+            return split(((Number)min).longValue(), ((Number)max).longValue(), partitionCount, Long::valueOf);
+        } else if (min instanceof Number && max instanceof Number) {
+            return split(((Number)min).doubleValue(), ((Number)max).doubleValue(), partitionCount);
+        } else if (min instanceof Date && max instanceof Date) {
+            return split(((Date)min).getTime(), ((Date)max).getTime(), partitionCount, dateFactory((Date)min));
+        }
+        throw new IllegalArgumentException("Values of type " + min.getClass().getSimpleName()
+            + " cannot be partitioned, the partition column must be numeric or a date");
+    }
+
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+            || (value instanceof BigInteger && ((BigInteger)value).bitLength() < Long.SIZE)
+            || (value instanceof BigDecimal && isIntegral((BigDecimal)value));
+    }
+
+    private static boolean isIntegral(final BigDecimal value) {
+        try {
+            value.longValueExact();
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /** @return a factory for bounds of the same type as the given date, so that drivers bind them appropriately */
+    private static LongFunction<Object> dateFactory(final Date date) {
+        if (date instanceof java.sql.Date) {
+            return java.sql.Date::new;
+        } else if (date instanceof Time) {
+            return Time::new;
+        }
+        return Timestamp::new;
+    }
+
+    private static List<Object> split(final long min, final long max, final int partitionCount,
+        final LongFunction<Object> factory) {
+        final List<Object> bounds = new ArrayList<>(partitionCount - 1);
+        // computed in double precision since max - min might overflow
+        final double width = ((double)max - (double)min) / partitionCount;
+        long previous = min;
+        for (int i = 1; i < partitionCount; i++) {
+            final long bound = min + (long)Math.floor(width * i);
+            if (bound > previous && bound <= max) {
+                bounds.add(factory.apply(bound));
+                previous = bound;
+            }
+        }
+        return bounds;
+    }
+
+    private static List<Object> split(final double min, final double max, final int partitionCount) {
+        final double width = (max - min) / partitionCount;
+        if (Double.isNaN(width) || Double.isInfinite(width)) {
+            return Collections.emptyList();
+        }
+        final List<Object> bounds = new ArrayList<>(partitionCount - 1);
+        double previous = min;
+        for (int i = 1; i < partitionCount; i++) {
+            final double bound = min + width * i;
+            if (bound > previous && bound <= max) {
+                bounds.add(bound);
+                previous = bound;
+            }
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,501 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Local cache of query results, so that the same query executed repeatedly (e.g. in loops or on every configure)
+ * does not hit the database each time. Entries are identified by the database URL, user, normalized SQL and further
+ * parameters of the query, see {@link #createKey(DatabaseQueryConnectionSettings, CredentialsProvider, Object...)}.
+ * Specs are kept in memory, tables are stored as zipped KNIME tables in a temporary directory.
+ *
+ * <p>
+ * The cache is disabled by default and enabled by setting the time to live of its entries via
+ * {@link KNIMEConstants#PROPERTY_DATABASE_CACHE_TTL}. Entries are evicted after that time and, least recently used
+ * first, once the stored tables exceed {@link KNIMEConstants#PROPERTY_DATABASE_CACHE_MAX_SIZE}. Changes in the
+ * database are not detected, i.e. a cached result may be outdated by up to the time to live.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class QueryResultCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(QueryResultCache.class);
+
+    /** See {@link KNIMEConstants#PROPERTY_DATABASE_CACHE_TTL}, the cache is disabled if 0. */
+    private static final long TTL = Math.max(0, Long.getLong(KNIMEConstants.PROPERTY_DATABASE_CACHE_TTL, 0));
+
+    /** See {@link KNIMEConstants#PROPERTY_DATABASE_CACHE_MAX_SIZE}. */
+    private static final long MAX_SIZE = Long.getLong(KNIMEConstants.PROPERTY_DATABASE_CACHE_MAX_SIZE, 1024);
+
+    private static final QueryResultCache INSTANCE = new QueryResultCache(TTL * 1000, MAX_SIZE << 20, null);
+
+    private final long m_ttlMillis;
+
+    private final long m_maxBytes;
+
+    /** The directory of the cached tables, created on first use if not given. */
+    private File m_dir;
+
+    /** The entries in access order, i.e. the least recently used one first. */
+    private final Map<Key, Entry> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long m_bytes;
+
+    private long m_hits;
+
+    private long m_misses;
+
+    private long m_evictions;
+
+    /**
+     * @param ttlMillis the time to live of the entries in milliseconds
+     * @param maxBytes the maximum size of the stored tables in bytes
+     * @param dir the directory to store tables in, <code>null</code> to create a temporary one on first use
+     */
+    QueryResultCache(final long ttlMillis, final long maxBytes, final File dir) {
+        m_ttlMillis = ttlMillis;
+        m_maxBytes = maxBytes;
+        m_dir = dir;
+    }
+
+    /**
+     * @return the cache shared by all database readers
+     */
+    static QueryResultCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the key of the given query, if it can be cached. The query is not cached if the cache is disabled or if
+     * it consists of several statements, since skipping the statements preceding the select statement may change the
+     * result of later queries.
+     *
+     * @param settings the query and the database connection
+     * @param cp {@link CredentialsProvider} providing the user name
+     * @param parameters further parameters the result depends on
+     * @return the key of the query or an empty optional if the query must not be cached
+     */
+    static Optional<Key> createKey(final DatabaseQueryConnectionSettings settings, final CredentialsProvider cp,
+        final Object... parameters) {
+        final String query = settings.getQuery();
+        if (TTL <= 0 || query == null || query.contains(DBReader.SQL_QUERY_SEPARATOR)) {
+            return Optional.empty();
+        }
+        final String user = settings.getUserName(cp) + "/" + NodeContext.getWorkflowUser().orElse(null);
+        return Optional.of(new Key(settings.getJDBCUrl(), user, normalize(query), parameters));
+    }
+
+    /**
+     * Normalizes the given SQL statement by removing leading and trailing whitespace as well as a trailing semicolon
+     * and by replacing all other sequences of whitespace outside of quotes by a single space.
+     *
+     * @param sql the SQL statement
+     * @return the normalized statement
+     */
+    static String normalize(final String sql) {
+        String trimmed = sql.trim();
+        if (trimmed.endsWith(";")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+        }
+        final StringBuilder buf = new StringBuilder(trimmed.length());
+        char quote = 0;
+        boolean whitespace = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            final char c = trimmed.charAt(i);
+            if (quote == 0 && Character.isWhitespace(c)) {
+                whitespace = true;
+                continue;
+            }
+            if (whitespace) {
+                buf.append(' ');
+                whitespace = false;
+            }
+            if (quote == 0 && (c == '\'' || c == '"' || c == '`')) {
+                quote = c;
+            } else if (c == quote) {
+                quote = 0;
+            }
+            buf.append(c);
+        }
+        return buf.toString();
+    }
+
+    /**
+     * @param key the key of the query
+     * @return the cached spec of the query result, empty if not cached or expired
+     */
+    synchronized Optional<DataTableSpec> getSpec(final Key key) {
+        final Entry entry = lookup(key);
+        if (entry == null || entry.m_spec == null) {
+            m_misses++;
+            return Optional.empty();
+        }
+        m_hits++;
+        return Optional.of(entry.m_spec);
+    }
+
+    /**
+     * @param key the key of the query
+     * @param spec the spec of the query result
+     */
+    synchronized void putSpec(final Key key, final DataTableSpec spec) {
+        put(key, new Entry(spec, null, 0));
+    }
+
+    /**
+     * Reads the cached table of the given query into a new table.
+     *
+     * @param key the key of the query
+     * @param exec the context to create the table with
+     * @return the table or an empty optional if not cached or expired
+     * @throws CanceledExecutionException if canceled while reading
+     */
+    Optional<BufferedDataTable> getTable(final Key key, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final Entry entry;
+        synchronized (this) {
+            entry = lookup(key);
+            if (entry == null || entry.m_file == null) {
+                m_misses++;
+                return Optional.empty();
+            }
+            // the file is read lazily, so it must not be deleted before the table is copied
+            entry.m_readers++;
+        }
+        try {
+            final ContainerTable table = DataContainer.readFromZip(entry.m_file);
+            try {
+                final BufferedDataTable result = exec.createBufferedDataTable(table, exec);
+                synchronized (this) {
+                    m_hits++;
+                }
+                return Optional.of(result);
+            } finally {
+                table.clear();
+            }
+        } catch (IOException ex) {
+            LOGGER.debug("Could not read cached query result from " + entry.m_file + ": " + ex.getMessage(), ex);
+            synchronized (this) {
+                m_misses++;
+            }
+            return Optional.empty();
+        } finally {
+            synchronized (this) {
+                entry.m_readers--;
+                if (entry.m_removed && entry.m_readers == 0) {
+                    delete(entry.m_file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the given table as result of the query. Tables larger than the maximum size of the cache are not stored.
+     *
+     * @param key the key of the query
+     * @param table the result of the query
+     * @param exec for progress and cancellation
+     * @throws CanceledExecutionException if canceled while writing
+     */
+    void putTable(final Key key, final BufferedDataTable table, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        File file = null;
+        try {
+            file = File.createTempFile("query", ".zip", getDirectory());
+            DataContainer.writeToZip(table, file, exec);
+            final long size = file.length();
+            if (size <= m_maxBytes) {
+                synchronized (this) {
+                    put(key, new Entry(table.getDataTableSpec(), file, size));
+                }
+                file = null;
+            }
+        } catch (IOException ex) {
+            LOGGER.debug("Could not cache query result: " + ex.getMessage(), ex);
+        } finally {
+            if (file != null) {
+                delete(file);
+            }
+        }
+    }
+
+    private synchronized File getDirectory() throws IOException {
+        if (m_dir == null) {
+            m_dir = FileUtil.createTempDir("knime_db_cache", new File(KNIMEConstants.getKNIMETempDir()));
+        }
+        return m_dir;
+    }
+
+    /** Returns the valid entry of the given key, expired entries are evicted. */
+    private Entry lookup(final Key key) {
+        evict();
+        return m_entries.get(key);
+    }
+
+    private void put(final Key key, final Entry entry) {
+        final Entry old = m_entries.put(key, entry);
+        if (old != null) {
+            remove(old);
+        }
+        m_bytes += entry.m_size;
+        evict();
+    }
+
+    /** Evicts all expired entries and, least recently used first, entries exceeding the maximum size. */
+    private void evict() {
+        final long now = System.currentTimeMillis();
+        for (Iterator<Entry> it = m_entries.values().iterator(); it.hasNext();) {
+            final Entry entry = it.next();
+            if (now - entry.m_created >= m_ttlMillis || m_bytes > m_maxBytes) {
+                it.remove();
+                remove(entry);
+                m_evictions++;
+            }
+        }
+    }
+
+    private void remove(final Entry entry) {
+        m_bytes -= entry.m_size;
+        entry.m_removed = true;
+        if (entry.m_file != null && entry.m_readers == 0) {
+            delete(entry.m_file);
+        }
+    }
+
+    private static void delete(final File file) {
+        if (!file.delete() && file.exists()) {
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public static void clear() {
+        INSTANCE.clearEntries();
+    }
+
+    synchronized void clearEntries() {
+        m_entries.values().forEach(this::remove);
+        m_entries.clear();
+    }
+
+    /**
+     * @return the current statistics of the cache shared by all database readers
+     */
+    public static Statistics getStatistics() {
+        return INSTANCE.getCacheStatistics();
+    }
+
+    synchronized Statistics getCacheStatistics() {
+        return new Statistics(this);
+    }
+
+    /** The key of a cached query result. */
+    static final class Key {
+
+        private final String m_url;
+
+        private final String m_user;
+
+        private final String m_sql;
+
+        private final List<Object> m_parameters;
+
+        /**
+         * @param url the database URL
+         * @param user the database and workflow user
+         * @param sql the normalized SQL statement
+         * @param parameters further parameters the result depends on
+         */
+        Key(final String url, final String user, final String sql, final Object... parameters) {
+            m_url = url;
+            m_user = user;
+            m_sql = sql;
+            m_parameters = Arrays.asList(parameters);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(m_url, m_user, m_sql, m_parameters);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key)obj;
+            return Objects.equals(m_url, other.m_url) && Objects.equals(m_user, other.m_user)
+                && Objects.equals(m_sql, other.m_sql) && m_parameters.equals(other.m_parameters);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return m_url + ": " + m_sql + " " + m_parameters;
+        }
+    }
+
+    private static final class Entry {
+
+        private final DataTableSpec m_spec;
+
+        private final File m_file;
+
+        private final long m_size;
+
+        private final long m_created = System.currentTimeMillis();
+
+        /** The number of threads reading the file, which is deleted once it's removed and no longer read. */
+        private int m_readers;
+
+        private boolean m_removed;
+
+        Entry(final DataTableSpec spec, final File file, final long size) {
+            m_spec = spec;
+            m_file = file;
+            m_size = size;
+        }
+    }
+
+    /**
+     * Snapshot of the statistics of a {@link QueryResultCache}.
+     *
+     * @since 3.8
+     */
+    public static final class Statistics {
+
+        private final int m_entries;
+
+        private final long m_bytes;
+
+        private final long m_hits;
+
+        private final long m_misses;
+
+        private final long m_evictions;
+
+        private Statistics(final QueryResultCache cache) {
+            m_entries = cache.m_entries.size();
+            m_bytes = cache.m_bytes;
+            m_hits = cache.m_hits;
+            m_misses = cache.m_misses;
+            m_evictions = cache.m_evictions;
+        }
+
+        /** @return the number of cached query results */
+        public int getEntries() {
+            return m_entries;
+        }
+
+        /** @return the size of the stored tables in bytes */
+        public long getBytes() {
+            return m_bytes;
+        }
+
+        /** @return the number of queries answered from the cache */
+        public long getHits() {
+            return m_hits;
+        }
+
+        /** @return the number of queries not found in the cache */
+        public long getMisses() {
+            return m_misses;
+        }
+
+        /** @return the number of entries removed because they expired or exceeded the maximum size */
+        public long getEvictions() {
+            return m_evictions;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "entries: " + m_entries + ", bytes: " + m_bytes + ", hits: " + m_hits + ", misses: " + m_misses
+                + ", evictions: " + m_evictions;
+        }
+    }
+}
@@ -83,11 +83,25 @@ public class RowIteratorConnection implements DBRowIterator {
     */
     public RowIteratorConnection(final Connection conn, final Statement stmt, final DataTableSpec spec,
         final RowIterator iterator) throws SQLException {
+        this(conn, stmt, spec, iterator, conn.getAutoCommit());
+    }
+
+    /**
+     * @param conn the connection to close the statement on
+     * @param stmt the statement the iterator reads from
+     * @param spec the spec of the rows
+     * @param iterator the row iterator
+     * @param autoCommit the auto-commit flag to restore on {@link #close()}, e.g. if setting the fetch size of the
+     *            statement has changed it
+     * @since 3.8
+     */
+    public RowIteratorConnection(final Connection conn, final Statement stmt, final DataTableSpec spec,
+        final RowIterator iterator, final boolean autoCommit) {
         m_conn2 = conn;
         m_stmt = stmt;
         m_spec2 = spec;
         m_iterator = iterator;
-        m_autoCommit = conn.getAutoCommit();
+        m_autoCommit = autoCommit;
     }
 
     /**
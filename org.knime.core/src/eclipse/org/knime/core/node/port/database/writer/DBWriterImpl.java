@@ -44,6 +44,7 @@
  */
 package org.knime.core.node.port.database.writer;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -51,9 +52,21 @@
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.knime.core.data.BooleanValue;
 import org.knime.core.data.DataCell;
@@ -68,12 +81,18 @@
 import org.knime.core.data.blob.BinaryObjectDataValue;
 import org.knime.core.data.date.DateAndTimeValue;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseHelper;
+import org.knime.core.node.port.database.connection.BorrowedConnection;
+import org.knime.core.node.port.database.connection.CachedConnectionFactory;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.ThreadUtils;
 
 /**
  * Creates a connection to write to database.
@@ -87,6 +106,10 @@ public class DBWriterImpl extends DatabaseHelper implements DBWriter {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(DBWriterImpl.class);
 
+    /** See {@link KNIMEConstants#PROPERTY_DATABASE_WRITER_THREADS}. */
+    private static final int WRITER_THREADS =
+        Math.max(1, Integer.getInteger(KNIMEConstants.PROPERTY_DATABASE_WRITER_THREADS, 1));
+
     /**
      * @param conn {@link DatabaseConnectionSettings}
      */
@@ -105,211 +128,44 @@ public String writeData(final String table, final RowInput input, final long row
         final int batchSize, final boolean insertNullForMissingCols, final boolean failOnError) throws Exception {
         final DatabaseConnectionSettings conSettings = getDatabaseConnectionSettings();
 //        final Connection conn = conSettings.createConnection(cp);
+        final int writerCount = Math.min(WRITER_THREADS, CachedConnectionFactory.getMaxPoolSize());
+        if (writerCount > 1) {
+            exec.setMessage("Waiting for free database connections...");
+            final DBConnectionFactory factory = conSettings.getUtility().getConnectionFactory();
+            final List<BorrowedConnection> connections = new ArrayList<>(writerCount);
+            try {
+                connections.add(factory.borrowConnection(cp, conSettings));
+                // connections are not pooled if not exclusive, then write with the shared connection
+                if (connections.get(0).isExclusive()) {
+                    // don't wait for further connections while holding one, which could deadlock with other writers
+                    while (connections.size() < writerCount) {
+                        final Optional<BorrowedConnection> connection = factory.tryBorrowConnection(cp, conSettings);
+                        if (!connection.isPresent()) {
+                            break;
+                        }
+                        connections.add(connection.get());
+                    }
+                    if (connections.size() > 1) {
+                        return writeDataParallel(table, input, rowCount, appendData, exec, sqlTypes, batchSize,
+                            insertNullForMissingCols, failOnError,
+                            connections.stream().map(BorrowedConnection::getConnection).collect(Collectors.toList()));
+                    }
+                }
+            } finally {
+                connections.forEach(BorrowedConnection::close);
+            }
+        }
         return conSettings.execute(cp, conn -> {
         exec.setMessage("Waiting for free database connection...");
-        final StringBuilder columnNamesForInsertStatement = new StringBuilder("(");
 //        synchronized (conSettings.syncConnection(conn)) {
             exec.setMessage("Start writing rows in database...");
             DataTableSpec spec = input.getDataTableSpec();
+            final InsertTarget target =
+                prepareTable(conn, table, spec, appendData, sqlTypes, insertNullForMissingCols);
             // mapping from spec columns to database columns
-            final int[] mapping;
-            // append data to existing table
-            if (appendData) {
-                if (conSettings.getUtility().tableExists(conn, table)) {
-                    String query =
-                        conSettings.getUtility().getStatementManipulator().forMetadataOnly("SELECT * FROM " + table);
-                    try (ResultSet rs = conn.createStatement().executeQuery(query)) {
-                        ResultSetMetaData rsmd = rs.getMetaData();
-                        final Map<String, Integer> columnNames =
-                                new LinkedHashMap<String, Integer>();
-                        for (int i = 0; i < spec.getNumColumns(); i++) {
-                            String colName = replaceColumnName(spec.getColumnSpec(i).getName());
-                            columnNames.put(colName.toLowerCase(), i);
-                        }
-
-                        // sanity check to lock if all input columns are in db
-                        ArrayList<String> columnNotInSpec = new ArrayList<String>(
-                                columnNames.keySet());
-                        for (int i = 0; i < rsmd.getColumnCount(); i++) {
-                            String dbColName = replaceColumnName(rsmd.getColumnName(i + 1));
-                            if (columnNames.containsKey(dbColName.toLowerCase())) {
-                                columnNotInSpec.remove(dbColName.toLowerCase());
-                                columnNamesForInsertStatement.append(dbColName).append(',');
-                            } else if (insertNullForMissingCols) {
-                                //append the column name of a missing column only if the insert null for missing
-                                //column option is enabled
-                                columnNamesForInsertStatement.append(dbColName).append(',');
-                            }
-                        }
-                        if (rsmd.getColumnCount() > 0) {
-                            columnNamesForInsertStatement.deleteCharAt(columnNamesForInsertStatement.length() - 1);
-                        }
-                        columnNamesForInsertStatement.append(')');
-
-                        if (columnNotInSpec.size() > 0) {
-                            throw new RuntimeException("No. of columns in input"
-                                    + " table > in database; not existing columns: "
-                                    + columnNotInSpec.toString());
-                        }
-                        mapping = new int[rsmd.getColumnCount()];
-                        for (int i = 0; i < mapping.length; i++) {
-                            String name = replaceColumnName(rsmd.getColumnName(i + 1)).toLowerCase();
-                            if (!columnNames.containsKey(name)) {
-                                mapping[i] = -1;
-                                continue;
-                            }
-                            mapping[i] = columnNames.get(name);
-                            DataColumnSpec cspec = spec.getColumnSpec(mapping[i]);
-                            int type = rsmd.getColumnType(i + 1);
-                            switch (type) {
-                                // check all boolean compatible types
-                                case Types.BIT:
-                                case Types.BOOLEAN:
-                                    // types must be compatible to BooleanValue
-                                    if (!cspec.getType().isCompatible(BooleanValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                    // check all int compatible types
-                                case Types.TINYINT:
-                                case Types.SMALLINT:
-                                case Types.INTEGER:
-                                    // types must be compatible to IntValue
-                                    if (!cspec.getType().isCompatible(IntValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                case Types.BIGINT:
-                                    // types must also be compatible to LongValue
-                                    if (!cspec.getType().isCompatible(LongValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                    // check all double compatible types
-                                case Types.FLOAT:
-                                case Types.DOUBLE:
-                                case Types.NUMERIC:
-                                case Types.DECIMAL:
-                                case Types.REAL:
-                                    // types must also be compatible to DoubleValue
-                                    if (!cspec.getType().isCompatible(DoubleValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                    // check for date-and-time compatible types
-                                case Types.DATE:
-                                case Types.TIME:
-                                case Types.TIMESTAMP:
-                                    // types must also be compatible to DataValue
-                                    if (!cspec.getType().isCompatible(DateAndTimeValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                    // check for blob compatible types
-                                case Types.BLOB:
-                                case Types.BINARY:
-                                case Types.LONGVARBINARY:
-                                    // types must also be compatible to DataValue
-                                    if (!cspec.getType().isCompatible(BinaryObjectDataValue.class)) {
-                                        throw new RuntimeException("Column \"" + name
-                                            + "\" of type \"" + cspec.getType()
-                                            + "\" from input does not match type "
-                                            + "\"" + rsmd.getColumnTypeName(i + 1)
-                                            + "\" in database at position " + i);
-                                    }
-                                    break;
-                                    // all other cases are defined as StringValue types
-                            }
-                        }
-                    }
-                } else {
-                    LOGGER.info("Table \"" + table
-                        + "\" does not exist in database, "
-                        + "will create new table.");
-                    // and create new table
-                    final String query =
-                            "CREATE TABLE " + table + " "
-                                    + createTableStmt(spec, sqlTypes, columnNamesForInsertStatement);
-                    LOGGER.debug("Executing SQL statement as execute: " + query);
-                    try (Statement statement = conn.createStatement()) {
-                        statement.execute(query);
-                    }
-                    if (!conn.getAutoCommit()) {
-                        conn.commit();
-                    }
-                    mapping = new int[spec.getNumColumns()];
-                    for (int k = 0; k < mapping.length; k++) {
-                        mapping[k] = k;
-                    }
-                }
-            } else {
-                LOGGER.debug("Append not enabled. Table " + table + " will be dropped if exists.");
-                mapping = new int[spec.getNumColumns()];
-                for (int k = 0; k < mapping.length; k++) {
-                    mapping[k] = k;
-                }
-                Statement statement = null;
-                try {
-                    statement = conn.createStatement();
-                    // remove existing table (if any)
-                    final String query = "DROP TABLE " + table;
-                    LOGGER.debug("Executing SQL statement as execute: " + query);
-                    statement.execute(query);
-                } catch (Throwable t) {
-                    if (statement == null) {
-                        throw new SQLException("Could not create SQL statement,"
-                            + " reason: " + t.getMessage(), t);
-                    }
-                    LOGGER.info("Exception droping table \"" + table + "\": " + t.getMessage()
-                        + ". Will create new table.");
-                } finally {
-                    if (!conn.getAutoCommit()) {
-                        conn.commit();
-                    }
-                }
-                // and create new table
-                final String query =
-                    "CREATE TABLE " + table + " " + createTableStmt(spec, sqlTypes, columnNamesForInsertStatement);
-                LOGGER.debug("Executing SQL statement as execute: " + query);
-                statement.execute(query);
-                statement.close();
-                if (!conn.getAutoCommit()) {
-                    conn.commit();
-                }
-            }
-
-            // this is a (temporary) workaround for bug #5802: if there is a DataValue column in the input table
-            // we need to use the SQL type for creating the insert statements.
-            Map<Integer, Integer> columnTypes = null;
-            for (DataColumnSpec cs : spec) {
-                if (cs.getType().getPreferredValueClass() == DataValue.class) {
-                    columnTypes = getColumnTypes(conn, table);
-                    break;
-                }
-            }
-
-            final String insertStamtement =
-                    createInsertStatment(table, columnNamesForInsertStatement.toString(), mapping, insertNullForMissingCols);
+            final int[] mapping = target.m_mapping;
+            final Map<Integer, Integer> columnTypes = target.m_columnTypes;
+            final String insertStamtement = target.m_insertStatement;
 
             // problems writing more than 13 columns. the prepare statement
             // ensures that we can set the columns directly row-by-row, the
@@ -439,6 +295,586 @@ public String writeData(final String table, final RowInput input, final long row
         });
     }
 
+    /**
+     * Drops and creates or checks the table to write into.
+     *
+     * @return the mapping from the database columns to the input columns and the insert statement
+     */
+    private InsertTarget prepareTable(final Connection conn, final String table, final DataTableSpec spec,
+        final boolean appendData, final Map<String, String> sqlTypes, final boolean insertNullForMissingCols)
+        throws Exception {
+        final DatabaseConnectionSettings conSettings = getDatabaseConnectionSettings();
+        final StringBuilder columnNamesForInsertStatement = new StringBuilder("(");
+        // mapping from spec columns to database columns
+        final int[] mapping;
+        // append data to existing table
+        if (appendData) {
+            if (conSettings.getUtility().tableExists(conn, table)) {
+                String query =
+                    conSettings.getUtility().getStatementManipulator().forMetadataOnly("SELECT * FROM " + table);
+                try (ResultSet rs = conn.createStatement().executeQuery(query)) {
+                    ResultSetMetaData rsmd = rs.getMetaData();
+                    final Map<String, Integer> columnNames =
+                            new LinkedHashMap<String, Integer>();
+                    for (int i = 0; i < spec.getNumColumns(); i++) {
+                        String colName = replaceColumnName(spec.getColumnSpec(i).getName());
+                        columnNames.put(colName.toLowerCase(), i);
+                    }
+
+                    // sanity check to lock if all input columns are in db
+                    ArrayList<String> columnNotInSpec = new ArrayList<String>(
+                            columnNames.keySet());
+                    for (int i = 0; i < rsmd.getColumnCount(); i++) {
+                        String dbColName = replaceColumnName(rsmd.getColumnName(i + 1));
+                        if (columnNames.containsKey(dbColName.toLowerCase())) {
+                            columnNotInSpec.remove(dbColName.toLowerCase());
+                            columnNamesForInsertStatement.append(dbColName).append(',');
+                        } else if (insertNullForMissingCols) {
+                            //append the column name of a missing column only if the insert null for missing
+                            //column option is enabled
+                            columnNamesForInsertStatement.append(dbColName).append(',');
+                        }
+                    }
+                    if (rsmd.getColumnCount() > 0) {
+                        columnNamesForInsertStatement.deleteCharAt(columnNamesForInsertStatement.length() - 1);
+                    }
+                    columnNamesForInsertStatement.append(')');
+
+                    if (columnNotInSpec.size() > 0) {
+                        throw new RuntimeException("No. of columns in input"
+                                + " table > in database; not existing columns: "
+                                + columnNotInSpec.toString());
+                    }
+                    mapping = new int[rsmd.getColumnCount()];
+                    for (int i = 0; i < mapping.length; i++) {
+                        String name = replaceColumnName(rsmd.getColumnName(i + 1)).toLowerCase();
+                        if (!columnNames.containsKey(name)) {
+                            mapping[i] = -1;
+                            continue;
+                        }
+                        mapping[i] = columnNames.get(name);
+                        DataColumnSpec cspec = spec.getColumnSpec(mapping[i]);
+                        int type = rsmd.getColumnType(i + 1);
+                        switch (type) {
+                            // check all boolean compatible types
+                            case Types.BIT:
+                            case Types.BOOLEAN:
+                                // types must be compatible to BooleanValue
+                                if (!cspec.getType().isCompatible(BooleanValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                                // check all int compatible types
+                            case Types.TINYINT:
+                            case Types.SMALLINT:
+                            case Types.INTEGER:
+                                // types must be compatible to IntValue
+                                if (!cspec.getType().isCompatible(IntValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                            case Types.BIGINT:
+                                // types must also be compatible to LongValue
+                                if (!cspec.getType().isCompatible(LongValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                                // check all double compatible types
+                            case Types.FLOAT:
+                            case Types.DOUBLE:
+                            case Types.NUMERIC:
+                            case Types.DECIMAL:
+                            case Types.REAL:
+                                // types must also be compatible to DoubleValue
+                                if (!cspec.getType().isCompatible(DoubleValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                                // check for date-and-time compatible types
+                            case Types.DATE:
+                            case Types.TIME:
+                            case Types.TIMESTAMP:
+                                // types must also be compatible to DataValue
+                                if (!cspec.getType().isCompatible(DateAndTimeValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                                // check for blob compatible types
+                            case Types.BLOB:
+                            case Types.BINARY:
+                            case Types.LONGVARBINARY:
+                                // types must also be compatible to DataValue
+                                if (!cspec.getType().isCompatible(BinaryObjectDataValue.class)) {
+                                    throw new RuntimeException("Column \"" + name
+                                        + "\" of type \"" + cspec.getType()
+                                        + "\" from input does not match type "
+                                        + "\"" + rsmd.getColumnTypeName(i + 1)
+                                        + "\" in database at position " + i);
+                                }
+                                break;
+                                // all other cases are defined as StringValue types
+                        }
+                    }
+                }
+            } else {
+                LOGGER.info("Table \"" + table
+                    + "\" does not exist in database, "
+                    + "will create new table.");
+                // and create new table
+                final String query =
+                        "CREATE TABLE " + table + " "
+                                + createTableStmt(spec, sqlTypes, columnNamesForInsertStatement);
+                LOGGER.debug("Executing SQL statement as execute: " + query);
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute(query);
+                }
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+                mapping = new int[spec.getNumColumns()];
+                for (int k = 0; k < mapping.length; k++) {
+                    mapping[k] = k;
+                }
+            }
+        } else {
+            LOGGER.debug("Append not enabled. Table " + table + " will be dropped if exists.");
+            mapping = new int[spec.getNumColumns()];
+            for (int k = 0; k < mapping.length; k++) {
+                mapping[k] = k;
+            }
+            Statement statement = null;
+            try {
+                statement = conn.createStatement();
+                // remove existing table (if any)
+                final String query = "DROP TABLE " + table;
+                LOGGER.debug("Executing SQL statement as execute: " + query);
+                statement.execute(query);
+            } catch (Throwable t) {
+                if (statement == null) {
+                    throw new SQLException("Could not create SQL statement,"
+                        + " reason: " + t.getMessage(), t);
+                }
+                LOGGER.info("Exception droping table \"" + table + "\": " + t.getMessage()
+                    + ". Will create new table.");
+            } finally {
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+            // and create new table
+            final String query =
+                "CREATE TABLE " + table + " " + createTableStmt(spec, sqlTypes, columnNamesForInsertStatement);
+            LOGGER.debug("Executing SQL statement as execute: " + query);
+            statement.execute(query);
+            statement.close();
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        }
+
+        // this is a (temporary) workaround for bug #5802: if there is a DataValue column in the input table
+        // we need to use the SQL type for creating the insert statements.
+        Map<Integer, Integer> columnTypes = null;
+        for (DataColumnSpec cs : spec) {
+            if (cs.getType().getPreferredValueClass() == DataValue.class) {
+                columnTypes = getColumnTypes(conn, table);
+                break;
+            }
+        }
+
+        final String insertStatement =
+                createInsertStatment(table, columnNamesForInsertStatement.toString(), mapping, insertNullForMissingCols);
+        return new InsertTarget(mapping, columnTypes, insertStatement);
+    }
+
+    /**
+     * Writes the rows with several connections in parallel. The table is dropped, created or checked with the first
+     * connection, which is completed (and committed) before any writer prepares its statement. The calling thread then
+     * reads the input and hands batches of rows to one {@link BatchWriter} per connection, which fills and executes
+     * the insert statement. At most two batches per writer are pending, so that reading does not run (much) ahead of
+     * the database.
+     *
+     * @param connections the connections to write with, exclusively used by this writer
+     */
+    String writeDataParallel(final String table, final RowInput input, final long rowCount,
+        final boolean appendData, final ExecutionMonitor exec, final Map<String, String> sqlTypes, final int batchSize,
+        final boolean insertNullForMissingCols, final boolean failOnError, final List<Connection> connections)
+        throws Exception {
+        exec.setMessage("Start writing rows in database...");
+        final DataTableSpec spec = input.getDataTableSpec();
+        final InsertTarget target =
+            prepareTable(connections.get(0), table, spec, appendData, sqlTypes, insertNullForMissingCols);
+        // commit the DDL and end the transactions the other connections may have started before the table was
+        // created (or dropped), so that no writer works on an outdated view of the table
+        for (Connection conn : connections) {
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        }
+        LOGGER.debug("Executing SQL statement as prepareStatement on " + connections.size() + " connections: "
+            + target.m_insertStatement);
+        final WriteErrors errors = new WriteErrors(exec);
+        final List<BatchWriter> writers = new ArrayList<>(connections.size());
+        final BlockingQueue<RowBatch> queue = new ArrayBlockingQueue<>(2 * connections.size());
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor =
+            ThreadUtils.executorServiceWithContext(Executors.newFixedThreadPool(connections.size(), r -> {
+                final Thread thread = new Thread(r, "KNIME-DB-Writer-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }));
+        final List<Future<?>> futures = new ArrayList<>(connections.size());
+        boolean success = false;
+        try {
+            for (Connection connection : connections) {
+                writers.add(new BatchWriter(connection, spec, target, batchSize, insertNullForMissingCols,
+                    failOnError, errors));
+            }
+            for (BatchWriter writer : writers) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        writer.run(queue);
+                    } catch (Exception | Error e) {
+                        errors.abort();
+                        throw e;
+                    }
+                    return null;
+                }));
+            }
+            final int rowsPerBatch = Math.max(1, batchSize);
+            long cnt = 0;
+            List<DataRow> rows = new ArrayList<>(rowsPerBatch);
+            DataRow row;
+            while ((row = input.poll()) != null) {
+                exec.checkCanceled();
+                cnt++;
+                exec.setProgress(cnt, rowCount, c -> "Row #" + c);
+                rows.add(row);
+                if (rows.size() == rowsPerBatch) {
+                    enqueue(queue, new RowBatch(cnt - rows.size() + 1, rows), futures, errors, exec);
+                    rows = new ArrayList<>(rowsPerBatch);
+                }
+            }
+            if (!rows.isEmpty()) {
+                enqueue(queue, new RowBatch(cnt - rows.size() + 1, rows), futures, errors, exec);
+            }
+            for (int i = 0; i < writers.size(); i++) {
+                enqueue(queue, RowBatch.END, futures, errors, exec);
+            }
+            for (Future<?> future : futures) {
+                getResult(future);
+            }
+            for (BatchWriter writer : writers) {
+                writer.commit();
+            }
+            success = true;
+            final long allErrors = errors.getCount();
+            if (allErrors == 0) {
+                return null;
+            } else {
+                return "Errors \"" + allErrors + "\" writing " + cnt + " rows.";
+            }
+        } finally {
+            if (!success) {
+                // stop the remaining writers and wait for them before touching their connections
+                errors.abort();
+                executor.shutdown();
+                while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                    LOGGER.debug("Waiting for database writers to finish");
+                }
+                if (errors.isRollback()) {
+                    writers.forEach(BatchWriter::rollback);
+                }
+            }
+            executor.shutdown();
+            writers.forEach(BatchWriter::close);
+        }
+    }
+
+    /**
+     * Adds a batch to the queue, waiting while it is full. Throws the failure of a writer, if any, or a
+     * {@link CanceledExecutionException} if canceled.
+     */
+    private static void enqueue(final BlockingQueue<RowBatch> queue, final RowBatch batch,
+        final List<Future<?>> futures, final WriteErrors errors, final ExecutionMonitor exec) throws Exception {
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            exec.checkCanceled();
+            if (errors.isAborted()) {
+                // a writer failed, wait until its failure can be reported
+                for (Future<?> future : futures) {
+                    if (future.isDone()) {
+                        getResult(future);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void getResult(final Future<?> future) throws Exception {
+        try {
+            future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while writing to database");
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw ee;
+        }
+    }
+
+    /** The table to insert into, see {@link DBWriterImpl#prepareTable}. */
+    private static final class InsertTarget {
+
+        /** For each database column the index of the input column, -1 if not in the input. */
+        private final int[] m_mapping;
+
+        /** SQL types of the database columns, only if needed to fill the statement. */
+        private final Map<Integer, Integer> m_columnTypes;
+
+        private final String m_insertStatement;
+
+        InsertTarget(final int[] mapping, final Map<Integer, Integer> columnTypes, final String insertStatement) {
+            m_mapping = mapping;
+            m_columnTypes = columnTypes;
+            m_insertStatement = insertStatement;
+        }
+    }
+
+    /** Consecutive input rows that are written in one batch. */
+    private static final class RowBatch {
+
+        /** Tells a writer that there are no more rows. */
+        static final RowBatch END = new RowBatch(-1, Collections.emptyList());
+
+        /** Number of the first row, starting at 1. */
+        private final long m_firstRow;
+
+        private final List<DataRow> m_rows;
+
+        RowBatch(final long firstRow, final List<DataRow> rows) {
+            m_firstRow = firstRow;
+            m_rows = rows;
+        }
+    }
+
+    /** Errors of the writers, which are counted and the first ones logged, as in the sequential case. */
+    private static final class WriteErrors {
+
+        private final ExecutionMonitor m_exec;
+
+        private long m_count;
+
+        private long m_logged;
+
+        private volatile boolean m_aborted;
+
+        private volatile boolean m_rollback;
+
+        WriteErrors(final ExecutionMonitor exec) {
+            m_exec = exec;
+        }
+
+        synchronized void report(final String errorMsg, final Throwable t) {
+            m_count++;
+            if (m_logged > -1) {
+                m_exec.setMessage(errorMsg);
+                if (m_logged++ < 10) {
+                    LOGGER.warn(errorMsg);
+                } else {
+                    m_logged = -1;
+                    LOGGER.warn(errorMsg + " - more errors...", t);
+                }
+            }
+        }
+
+        synchronized long getCount() {
+            return m_count;
+        }
+
+        /** Stops all writers and rolls back all changes. */
+        void fail() {
+            m_rollback = true;
+            m_aborted = true;
+        }
+
+        /** Stops all writers. */
+        void abort() {
+            m_aborted = true;
+        }
+
+        boolean isAborted() {
+            return m_aborted;
+        }
+
+        boolean isRollback() {
+            return m_rollback;
+        }
+    }
+
+    /** Writes batches of rows with one connection, which is committed when all writers are done. */
+    private final class BatchWriter {
+
+        private final Connection m_conn;
+
+        private final DataTableSpec m_spec;
+
+        private final InsertTarget m_target;
+
+        private final int m_batchSize;
+
+        private final boolean m_insertNullForMissingCols;
+
+        private final boolean m_failOnError;
+
+        private final WriteErrors m_errors;
+
+        private final TimeZone m_timezone;
+
+        private final boolean m_autoCommit;
+
+        private final PreparedStatement m_stmt;
+
+        BatchWriter(final Connection conn, final DataTableSpec spec, final InsertTarget target, final int batchSize,
+            final boolean insertNullForMissingCols, final boolean failOnError, final WriteErrors errors)
+            throws SQLException {
+            m_conn = conn;
+            m_spec = spec;
+            m_target = target;
+            m_batchSize = batchSize;
+            m_insertNullForMissingCols = insertNullForMissingCols;
+            m_failOnError = failOnError;
+            m_errors = errors;
+            m_timezone = getDatabaseConnectionSettings().getTimeZone();
+            // remember auto-commit flag
+            m_autoCommit = conn.getAutoCommit();
+            m_stmt = conn.prepareStatement(target.m_insertStatement);
+            DatabaseConnectionSettings.setAutoCommit(conn, false);
+        }
+
+        void run(final BlockingQueue<RowBatch> queue) throws Exception {
+            while (!m_errors.isAborted()) {
+                final RowBatch batch = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (batch == RowBatch.END) {
+                    return;
+                } else if (batch != null) {
+                    write(batch);
+                }
+            }
+        }
+
+        private void write(final RowBatch batch) throws Exception {
+            for (DataRow row : batch.m_rows) {
+                fill(row);
+                // if batch mode
+                if (m_batchSize > 1) {
+                    // a new row will be added
+                    m_stmt.addBatch();
+                }
+            }
+            try {
+                // write batch
+                if (m_batchSize > 1) {
+                    m_stmt.executeBatch();
+                } else { // or write single row
+                    m_stmt.execute();
+                }
+            } catch (Throwable t) {
+                final String errorMsg;
+                if (m_batchSize > 1) {
+                    errorMsg = "Error while adding rows #" + batch.m_firstRow + " - #"
+                        + (batch.m_firstRow + batch.m_rows.size() - 1) + ", reason: " + t.getMessage();
+                } else {
+                    errorMsg = "Error while adding row #" + batch.m_firstRow + " (" + batch.m_rows.get(0).getKey()
+                        + "), reason: " + t.getMessage();
+                }
+                if (m_failOnError) {
+                    // all changes of all writers are rolled back
+                    m_errors.fail();
+                    throw new Exception(errorMsg, t);
+                }
+                // Postgres will refuse any more commands in this transaction after errors
+                // Therefore we commit the changes that were possible. We commit everything at the end
+                // anyway.
+                if (!m_conn.getAutoCommit()) {
+                    m_conn.commit();
+                }
+                m_errors.report(errorMsg, t);
+            } finally {
+                // clear batch if in batch mode
+                if (m_batchSize > 1) {
+                    m_stmt.clearBatch();
+                }
+            }
+        }
+
+        private void fill(final DataRow row) throws SQLException {
+            final int[] mapping = m_target.m_mapping;
+            int dbIdx = 1;
+            for (int i = 0; i < mapping.length; i++) {
+                if (mapping[i] < 0) {
+                    if (m_insertNullForMissingCols) {
+                        //insert only null if the insert null for missing col option is enabled
+                        m_stmt.setNull(dbIdx++, Types.NULL);
+                    }
+                } else {
+                    final DataColumnSpec cspec = m_spec.getColumnSpec(mapping[i]);
+                    final DataCell cell = row.getCell(mapping[i]);
+                    fillStatement(m_stmt, dbIdx++, cspec, cell, m_timezone, m_target.m_columnTypes);
+                }
+            }
+        }
+
+        void commit() throws SQLException {
+            if (!m_conn.getAutoCommit()) {
+                m_conn.commit();
+            }
+        }
+
+        void rollback() {
+            try {
+                m_conn.rollback();
+                LOGGER.debug("Rollback complete transaction with auto commit=" + m_autoCommit);
+            } catch (Throwable ex) {
+                LOGGER.info("Failed rollback after db exception with auto commit=" + m_autoCommit
+                    + ". Rollback error: " + ex.getMessage(), ex);
+            }
+        }
+
+        void close() {
+            try {
+                DatabaseConnectionSettings.setAutoCommit(m_conn, m_autoCommit);
+                m_stmt.close();
+            } catch (SQLException e) {
+                LOGGER.debug("Error closing statement: " + e.getMessage(), e);
+            }
+        }
+    }
+
     /** Create connection to update table in database.
      * @param data The data to write.
      * @param setColumns columns part of the SET clause
@@ -0,0 +1,153 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Utility methods for operations that block the current thread for a potentially long time without using the CPU, such
+ * as database queries or requests to remote servers.
+ *
+ * <p>Nodes are executed in threads of the {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}, whose size is
+ * usually in the order of the number of available processors. If nodes are executed by the
+ * {@link org.knime.core.node.exec.ElasticThreadNodeExecutionJobManager}, calls wrapped by {@link #call(BlockingCall)}
+ * don't count against this limit, i.e. the thread pool can start other jobs while the node waits for I/O (see
+ * {@link ThreadPool#runInvisible(java.util.concurrent.Callable)}). The number of threads that may wait at the same
+ * time is limited by {@link KNIMEConstants#PROPERTY_MAX_BLOCKED_THREADS}. In all other threads the call is simply
+ * executed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class BlockingOperations {
+
+    /**
+     * A blocking operation.
+     *
+     * @param <T> the result type
+     * @param <E> the exception type thrown by the operation
+     */
+    @FunctionalInterface
+    public interface BlockingCall<T, E extends Exception> {
+        /**
+         * Performs the operation.
+         *
+         * @return the result
+         * @throws E if the operation fails
+         */
+        T call() throws E;
+    }
+
+    /** Whether the current thread executes a job of the elastic job manager. */
+    private static final ThreadLocal<Boolean> ELASTIC = new ThreadLocal<>();
+
+    /** Whether the current thread is within a blocking call that doesn't count against the thread pool limit. */
+    private static final ThreadLocal<Boolean> BLOCKED = new ThreadLocal<>();
+
+    private static final Semaphore BLOCKED_THREADS =
+        new Semaphore(Math.max(0, Integer.getInteger(KNIMEConstants.PROPERTY_MAX_BLOCKED_THREADS, 256)));
+
+    private BlockingOperations() {
+    }
+
+    /**
+     * Performs a blocking operation in the current thread. If the thread executes a node job of the
+     * {@link org.knime.core.node.exec.ElasticThreadNodeExecutionJobManager} the thread pool may start another job
+     * while the operation is running.
+     *
+     * @param call the operation
+     * @return the result of the operation
+     * @throws E if the operation fails
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E extends Exception> T call(final BlockingCall<T, E> call) throws E {
+        final ThreadPool pool = ThreadPool.currentPool();
+        if ((pool == null) || !Boolean.TRUE.equals(ELASTIC.get()) || Boolean.TRUE.equals(BLOCKED.get())
+            || !BLOCKED_THREADS.tryAcquire()) {
+            return call.call();
+        }
+        BLOCKED.set(Boolean.TRUE);
+        try {
+            return pool.runInvisible(call::call);
+        } catch (ExecutionException ex) {
+            // the callable's exception is wrapped by the pool; it's either unchecked or of type E
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw (E)cause;
+        } finally {
+            BLOCKED.remove();
+            BLOCKED_THREADS.release();
+        }
+    }
+
+    /**
+     * Returns a runnable that enables {@link #call(BlockingCall)} to release the thread for the duration of blocking
+     * operations while running the argument.
+     *
+     * @param runnable the node job
+     * @return the wrapped runnable
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public static Runnable elastic(final Runnable runnable) {
+        return () -> {
+            final Boolean previous = ELASTIC.get();
+            ELASTIC.set(Boolean.TRUE);
+            try {
+                runnable.run();
+            } finally {
+                ELASTIC.set(previous);
+            }
+        };
+    }
+
+}
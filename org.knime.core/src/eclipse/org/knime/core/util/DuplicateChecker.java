@@ -74,7 +74,7 @@
  *
  * @author Thorsten Meinl, University of Konstanz
  */
-public class DuplicateChecker {
+public class DuplicateChecker implements IDuplicateChecker {
     private static class Chunk {
         private final File m_file;
 
@@ -248,6 +248,7 @@ public DuplicateChecker(final int maxChunkSize, final int maxStreams) {
      * @throws DuplicateKeyException if a duplicate within the current chunk has been detected
      * @throws IOException if an I/O error occurs while writing the chunk to disk
      */
+    @Override
     public synchronized void addKey(final String s) throws DuplicateKeyException, IOException {
         if (DISABLE_DUPLICATE_CHECK) {
             return;
@@ -269,6 +270,7 @@ public synchronized void addKey(final String s) throws DuplicateKeyException, IO
      * @throws DuplicateKeyException if a duplicate key has been detected
      * @throws IOException if an I/O error occurs
      */
+    @Override
     public synchronized void checkForDuplicates() throws DuplicateKeyException, IOException {
         if (m_storedChunks.size() == 0) {
             // less than MAX_CHUNK_SIZE keys, no need to write
@@ -286,6 +288,7 @@ public synchronized void checkForDuplicates() throws DuplicateKeyException, IOEx
      * @throws IOException if an I/O error occurs while writing the chunk to disk
      * @noreference This method is not intended to be referenced by clients.
      */
+    @Override
     public synchronized void flushIfNecessary() throws IOException {
         if (m_currentChunk.size() >= MAX_CHUNK_SIZE) {
             writeChunk();
@@ -295,6 +298,7 @@ public synchronized void flushIfNecessary() throws IOException {
     /**
      * Clears the duplicate checker.
      */
+    @Override
     public synchronized void clear() {
         for (Chunk c : m_storedChunks) {
             c.dispose();
@@ -1311,7 +1311,7 @@ public static InputStream openStreamWithTimeout(final URL url, final int timeout
         URLConnection conn = url.openConnection();
         conn.setConnectTimeout(timeout);
         conn.setReadTimeout(timeout);
-        return conn.getInputStream();
+        return BlockingOperations.call(conn::getInputStream);
     }
 
     /** Opens a buffered input stream for the location (file path or URL).
@@ -0,0 +1,491 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Duplicate checker that keeps 128-bit fingerprints (hashes) of the keys in an open-addressing table of primitive
+ * longs rather than the key strings themselves, using 16 bytes per key plus the table's free slots. If the table
+ * exceeds the memory budget, its fingerprints are spilled to disk, partitioned by their leading bits; the partitions
+ * are checked one by one in {@link #checkForDuplicates()}, each being split further if it doesn't fit the budget.
+ *
+ * <p>
+ * Equal fingerprints are not taken as proof of a duplicate: the keys are appended to a log (held in memory for a few
+ * keys, on disk otherwise) and, whenever a fingerprint is seen twice, the keys with that fingerprint are compared
+ * exactly. Duplicates among the keys held in memory are detected when they are added, all others when
+ * {@link #checkForDuplicates()} is called.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class HashDuplicateChecker implements IDuplicateChecker {
+
+    /**
+     * The default memory budget for the fingerprint table: an eighth of the maximum heap size, at most 256MB.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = Math.min(256L << 20, Runtime.getRuntime().maxMemory() / 8);
+
+    /** Number of leading fingerprint bits determining the partition on each level. */
+    private static final int PARTITION_BITS = 6;
+
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+
+    /** Initial number of slots in the table, a power of two. */
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    /** Bytes used by one slot in the table (two longs). */
+    private static final int BYTES_PER_SLOT = 16;
+
+    /** Size of the key log held in memory before it's moved to a file. */
+    private static final int MAX_KEY_LOG_MEMORY = 1 << 20;
+
+    /** Keys longer than this may not be writable via {@link DataOutputStream#writeUTF(String)}. */
+    private static final int MAX_UTF_LENGTH = 0xFFFF / 3;
+
+    private static final boolean DISABLE_DUPLICATE_CHECK =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK);
+
+    /** Temp directories of all instances, deleted on shutdown (see bug 2966 in {@link DuplicateChecker}). */
+    private static final Collection<File> ALL_TEMP_DIRS = new ArrayList<>();
+
+    static {
+        ShutdownHelper.getInstance().appendShutdownHook(() -> {
+            synchronized (ALL_TEMP_DIRS) {
+                ALL_TEMP_DIRS.forEach(FileUtil::deleteRecursively);
+                ALL_TEMP_DIRS.clear();
+            }
+        });
+    }
+
+    private final long m_memoryBudget;
+
+    /** The fingerprints, two longs per slot; a slot holding two zeros is empty. */
+    private long[] m_table = new long[2 * INITIAL_CAPACITY];
+
+    /** Number of fingerprints in {@link #m_table}. */
+    private int m_size;
+
+    /** Fingerprint computed by the last call of {@link #fingerprint(String)}. */
+    private long m_fingerprintHigh;
+
+    private long m_fingerprintLow;
+
+    private ByteArrayOutputStream m_keyLogBuffer;
+
+    private DataOutputStream m_keyLog;
+
+    private long m_keyCount;
+
+    /** Number of fingerprints per spilled partition, null if nothing has been spilled. */
+    private long[] m_partitionCounts;
+
+    private File m_tempDir;
+
+    /**
+     * Creates a new duplicate checker with the {@link #DEFAULT_MEMORY_BUDGET default memory budget}.
+     */
+    public HashDuplicateChecker() {
+        this(DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates a new duplicate checker.
+     *
+     * @param memoryBudget the maximum number of bytes used by the fingerprint table
+     */
+    public HashDuplicateChecker(final long memoryBudget) {
+        if (memoryBudget < 2L * INITIAL_CAPACITY * BYTES_PER_SLOT) {
+            throw new IllegalArgumentException("Memory budget too small: " + memoryBudget);
+        }
+        m_memoryBudget = memoryBudget;
+    }
+
+    @Override
+    public synchronized void addKey(final String s) throws DuplicateKeyException, IOException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        fingerprint(s);
+        final long high = m_fingerprintHigh;
+        final long low = m_fingerprintLow;
+        logKey(s);
+        if (!insert(m_table, high, low)) {
+            // duplicate or (very unlikely) colliding fingerprints
+            verify(high, low);
+            return;
+        }
+        m_size++;
+        final int capacity = m_table.length / 2;
+        if (2L * m_size > capacity) {
+            final long newCapacity = 2L * capacity;
+            if (newCapacity * BYTES_PER_SLOT <= m_memoryBudget && newCapacity <= Integer.MAX_VALUE / 2) {
+                m_table = rehash(m_table, (int)newCapacity);
+            } else {
+                spill();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void checkForDuplicates() throws DuplicateKeyException, IOException {
+        if (m_partitionCounts == null) {
+            // all keys were in memory and hence checked when they were added
+            return;
+        }
+        spill();
+        m_table = null;
+        for (int p = 0; p < PARTITION_COUNT; p++) {
+            checkPartition(getPartitionFile("", p), m_partitionCounts[p], 1, Integer.toString(p));
+        }
+    }
+
+    /**
+     * Writes the fingerprints held in memory to disk if their number is greater than or equal to
+     * {@value DuplicateChecker#MAX_CHUNK_SIZE}.
+     *
+     * @throws IOException if an I/O error occurs while writing the fingerprints to disk
+     */
+    @Override
+    public synchronized void flushIfNecessary() throws IOException {
+        if (m_size >= DuplicateChecker.MAX_CHUNK_SIZE) {
+            spill();
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        if (m_keyLog != null) {
+            try {
+                m_keyLog.close();
+            } catch (IOException ex) {
+                // ignore, file is deleted anyway
+            }
+        }
+        m_keyLog = null;
+        m_keyLogBuffer = null;
+        m_keyCount = 0;
+        m_partitionCounts = null;
+        m_table = new long[2 * INITIAL_CAPACITY];
+        m_size = 0;
+        if (m_tempDir != null) {
+            FileUtil.deleteRecursively(m_tempDir);
+            synchronized (ALL_TEMP_DIRS) {
+                ALL_TEMP_DIRS.remove(m_tempDir);
+            }
+            m_tempDir = null;
+        }
+    }
+
+    /**
+     * Computes the 128-bit fingerprint of the argument into {@link #m_fingerprintHigh} and {@link #m_fingerprintLow},
+     * never both zero.
+     */
+    private void fingerprint(final String s) {
+        long h1 = 0x9E3779B97F4A7C15L;
+        long h2 = 0xC2B2AE3D27D4EB4FL;
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            h1 = (h1 ^ c) * 0x87C37B91114253D5L;
+            h2 = Long.rotateLeft(h2 ^ c, 29) * 0x4CF5AD432745937FL;
+        }
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = mix(h1);
+        h2 = mix(h2);
+        h1 += h2;
+        h2 += h1;
+        m_fingerprintHigh = h1;
+        m_fingerprintLow = h1 == 0 && h2 == 0 ? 1 : h2;
+    }
+
+    /** The finalization step of MurmurHash3. */
+    private static long mix(final long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Inserts the fingerprint into the table using linear probing.
+     *
+     * @return false if the table already contains the fingerprint
+     */
+    private static boolean insert(final long[] table, final long high, final long low) {
+        final int mask = table.length / 2 - 1;
+        int slot = (int)low & mask;
+        while (true) {
+            final int i = 2 * slot;
+            if (table[i] == 0 && table[i + 1] == 0) {
+                table[i] = high;
+                table[i + 1] = low;
+                return true;
+            }
+            if (table[i] == high && table[i + 1] == low) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static long[] rehash(final long[] table, final int capacity) {
+        final long[] newTable = new long[2 * capacity];
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != 0 || table[i + 1] != 0) {
+                insert(newTable, table[i], table[i + 1]);
+            }
+        }
+        return newTable;
+    }
+
+    /** Number of slots needed to hold the given number of fingerprints at a load factor of at most 1/2. */
+    private static long capacityFor(final long count) {
+        return Math.max(INITIAL_CAPACITY, Long.highestOneBit(Math.max(1, 2 * count - 1)) << 1);
+    }
+
+    private static int partitionOf(final long high, final int level) {
+        return (int)(high >>> (Long.SIZE - level * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+    }
+
+    private void logKey(final String s) throws IOException {
+        if (m_keyLog == null) {
+            m_keyLogBuffer = new ByteArrayOutputStream();
+            m_keyLog = new DataOutputStream(m_keyLogBuffer);
+        }
+        if (s.length() <= MAX_UTF_LENGTH) {
+            m_keyLog.writeBoolean(false);
+            m_keyLog.writeUTF(s);
+        } else {
+            m_keyLog.writeBoolean(true);
+            m_keyLog.writeInt(s.length());
+            m_keyLog.writeChars(s);
+        }
+        m_keyCount++;
+        if (m_keyLogBuffer != null && m_keyLogBuffer.size() > MAX_KEY_LOG_MEMORY) {
+            moveKeyLogToFile();
+        }
+    }
+
+    private void moveKeyLogToFile() throws IOException {
+        if (m_keyLogBuffer == null) {
+            return;
+        }
+        final DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(new File(getTempDir(), "keys.bin"))));
+        m_keyLogBuffer.writeTo(out);
+        m_keyLog = out;
+        m_keyLogBuffer = null;
+    }
+
+    /**
+     * Compares the keys having the given fingerprint.
+     *
+     * @throws DuplicateKeyException if two of these keys are equal
+     */
+    private void verify(final long high, final long low) throws DuplicateKeyException, IOException {
+        m_keyLog.flush();
+        final Set<String> keys = new HashSet<>();
+        try (DataInputStream in = new DataInputStream(m_keyLogBuffer != null
+            ? new ByteArrayInputStream(m_keyLogBuffer.toByteArray())
+            : new BufferedInputStream(new FileInputStream(new File(getTempDir(), "keys.bin"))))) {
+            for (long k = 0; k < m_keyCount; k++) {
+                final String key = readKey(in);
+                fingerprint(key);
+                if (m_fingerprintHigh == high && m_fingerprintLow == low && !keys.add(key)) {
+                    throw new DuplicateKeyException(key);
+                }
+            }
+        }
+    }
+
+    private static String readKey(final DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return in.readUTF();
+        }
+        final char[] chars = new char[in.readInt()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = in.readChar();
+        }
+        return new String(chars);
+    }
+
+    /** Appends the fingerprints in memory to the partition files and clears the table. */
+    private void spill() throws IOException {
+        if (m_size == 0) {
+            return;
+        }
+        moveKeyLogToFile();
+        if (m_partitionCounts == null) {
+            m_partitionCounts = new long[PARTITION_COUNT];
+        }
+        final DataOutputStream[] outs = new DataOutputStream[PARTITION_COUNT];
+        try {
+            for (int p = 0; p < PARTITION_COUNT; p++) {
+                outs[p] = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(getPartitionFile("", p), true)));
+            }
+            for (int i = 0; i < m_table.length; i += 2) {
+                if (m_table[i] != 0 || m_table[i + 1] != 0) {
+                    final int p = partitionOf(m_table[i], 1);
+                    outs[p].writeLong(m_table[i]);
+                    outs[p].writeLong(m_table[i + 1]);
+                    m_partitionCounts[p]++;
+                }
+            }
+        } finally {
+            closeAll(outs);
+        }
+        // release the memory
+        m_table = new long[2 * INITIAL_CAPACITY];
+        m_size = 0;
+    }
+
+    /**
+     * Checks the fingerprints in the given partition file for duplicates, splitting it into sub-partitions if its
+     * fingerprints don't fit into the memory budget. The file is deleted afterwards.
+     */
+    private void checkPartition(final File file, final long count, final int level, final String name)
+        throws DuplicateKeyException, IOException {
+        try {
+            if (count <= 1) {
+                return;
+            }
+            final long capacity = capacityFor(count);
+            if (capacity * BYTES_PER_SLOT <= m_memoryBudget || (level + 1) * PARTITION_BITS > Long.SIZE) {
+                final long[] table = new long[(int)(2 * capacity)];
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                    for (long i = 0; i < count; i++) {
+                        final long high = in.readLong();
+                        final long low = in.readLong();
+                        if (!insert(table, high, low)) {
+                            verify(high, low);
+                        }
+                    }
+                }
+                return;
+            }
+            // split by the next fingerprint bits
+            final long[] counts = new long[PARTITION_COUNT];
+            final DataOutputStream[] outs = new DataOutputStream[PARTITION_COUNT];
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                for (int p = 0; p < PARTITION_COUNT; p++) {
+                    outs[p] = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(getPartitionFile(name + "_", p))));
+                }
+                for (long i = 0; i < count; i++) {
+                    final long high = in.readLong();
+                    final long low = in.readLong();
+                    final int p = partitionOf(high, level + 1);
+                    outs[p].writeLong(high);
+                    outs[p].writeLong(low);
+                    counts[p]++;
+                }
+            } finally {
+                closeAll(outs);
+            }
+            for (int p = 0; p < PARTITION_COUNT; p++) {
+                checkPartition(getPartitionFile(name + "_", p), counts[p], level + 1, name + "_" + p);
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static void closeAll(final DataOutputStream[] outs) throws IOException {
+        IOException exception = null;
+        for (DataOutputStream out : outs) {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException ex) {
+                    exception = ex;
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private File getPartitionFile(final String prefix, final int partition) throws IOException {
+        return new File(getTempDir(), "partition_" + prefix + partition + ".bin");
+    }
+
+    private File getTempDir() throws IOException {
+        if (m_tempDir == null) {
+            m_tempDir = FileUtil.createTempDir("KNIME_DuplicateChecker", null, false);
+            synchronized (ALL_TEMP_DIRS) {
+                ALL_TEMP_DIRS.add(m_tempDir);
+            }
+        }
+        return m_tempDir;
+    }
+
+}
@@ -141,7 +141,10 @@ public String getHeaderField(final int n) {
 
     @Override
     public void connect() throws IOException {
-        m_delegate.connect();
+        BlockingOperations.call(() -> {
+            m_delegate.connect();
+            return null;
+        });
     }
 
     @Override
@@ -186,7 +189,7 @@ public String getRequestMethod() {
 
     @Override
     public int getResponseCode() throws IOException {
-        return m_delegate.getResponseCode();
+        return BlockingOperations.call(m_delegate::getResponseCode);
     }
 
     @Override
@@ -292,7 +295,7 @@ public Object getContent(final Class[] classes) throws IOException {
 
     @Override
     public InputStream getInputStream() throws IOException {
-        return m_delegate.getInputStream();
+        return BlockingOperations.call(m_delegate::getInputStream);
     }
 
     @Override
@@ -798,7 +798,7 @@ public static ThreadPool currentPool() {
         if (Thread.currentThread() instanceof Worker) {
             return ((Worker)Thread.currentThread()).m_startedFrom;
         } else {
-            return null;
+            return WorkStealingThreadPool.currentWorkerPool();
         }
     }
 
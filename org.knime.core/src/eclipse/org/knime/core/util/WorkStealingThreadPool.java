@@ -0,0 +1,879 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 15, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.core.util;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A {@link ThreadPool} whose tasks are run by a work-stealing {@link ForkJoinPool}, without any monitors on the
+ * submission and completion paths. Tasks that can't be started immediately are kept in lock-free queues (one per
+ * {@link Priority}); the quotas of the pool and its sub pools are maintained in atomic counters. Tasks submitted from
+ * a worker thread are pushed to that worker's local queue, from where idle workers steal them.
+ *
+ * <p>
+ * The semantics are the ones of the {@link ThreadPool}: the number of running tasks of a pool and all its sub pools
+ * never exceeds its maximum thread count, and threads that wait for other tasks of the pool (via
+ * {@link #runInvisible(Callable)}, {@link Future#get()} or {@link #waitForTermination()}) are not counted. In
+ * addition, each pool has a priority; queued tasks of pools with a higher priority are started first. The pool
+ * exposes counters for its queue length, the time tasks waited in the queue and the time they ran.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public class WorkStealingThreadPool extends ThreadPool {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkStealingThreadPool.class);
+
+    /** The priority of the tasks of a pool. */
+    public enum Priority {
+        /** Started after all other waiting tasks. */
+        LOW,
+        /** The default. */
+        NORMAL,
+        /** Started before all other waiting tasks. */
+        HIGH;
+    }
+
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+    /** The maximum parallelism of a {@link ForkJoinPool}. */
+    private static final int MAX_PARALLELISM = 0x7fff;
+
+    /** Runs a callable in a fork-join worker, allowing the fork-join pool to compensate for the blocked thread. */
+    private static final class Blocker<T> implements ForkJoinPool.ManagedBlocker {
+
+        private final Callable<T> m_callable;
+
+        private T m_result;
+
+        private Exception m_exception;
+
+        private boolean m_done;
+
+        Blocker(final Callable<T> callable) {
+            m_callable = callable;
+        }
+
+        @Override
+        public boolean block() {
+            try {
+                m_result = m_callable.call();
+            } catch (Exception ex) {
+                m_exception = ex;
+            }
+            m_done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return m_done;
+        }
+    }
+
+    /** Worker threads of the fork-join pool, knowing the task they're running. */
+    private static final class Worker extends ForkJoinWorkerThread {
+
+        private Task<?> m_currentTask;
+
+        Worker(final ForkJoinPool pool) {
+            super(pool);
+            setName("KNIME-WS-Worker-" + WORKER_COUNTER.getAndIncrement());
+            setPriority(Thread.MIN_PRIORITY + 2);
+            setDaemon(true);
+        }
+    }
+
+    /** State shared by a root pool and all its sub pools. */
+    private static final class Shared {
+
+        /** Runs the tasks; replaced by a pool with a higher parallelism if the root's maximum is increased. */
+        private final AtomicReference<ForkJoinPool> m_forkJoinPool = new AtomicReference<>();
+
+        /** Queued tasks, indexed by priority ordinal. */
+        private final ConcurrentLinkedQueue<Task<?>>[] m_queues;
+
+        private final Set<Task<?>> m_runningTasks = ConcurrentHashMap.newKeySet();
+
+        /** Number of requested drain passes, non-zero while a thread is draining. */
+        private final AtomicInteger m_drainRequests = new AtomicInteger();
+
+        private final WorkStealingThreadPool m_root;
+
+        @SuppressWarnings("unchecked")
+        Shared(final WorkStealingThreadPool root, final int maxThreads) {
+            m_root = root;
+            m_queues = new ConcurrentLinkedQueue[Priority.values().length];
+            for (int i = 0; i < m_queues.length; i++) {
+                m_queues[i] = new ConcurrentLinkedQueue<>();
+            }
+            ensureParallelism(maxThreads);
+        }
+
+        /**
+         * Makes sure the fork-join pool's parallelism is at least the given value. The quotas limit the number of
+         * running tasks; the fork-join pool provides a thread for each of them and compensates threads that wait
+         * for other tasks (see {@link #runBlocking(Callable)}).
+         */
+        void ensureParallelism(final int maxThreads) {
+            final int parallelism = Math.min(MAX_PARALLELISM, Math.max(1, maxThreads));
+            while (true) {
+                final ForkJoinPool current = m_forkJoinPool.get();
+                if (current != null && current.getParallelism() >= parallelism) {
+                    return;
+                }
+                final ForkJoinPool newPool = new ForkJoinPool(parallelism, Worker::new, null, true);
+                if (m_forkJoinPool.compareAndSet(current, newPool)) {
+                    if (current != null) {
+                        // already submitted tasks still run
+                        current.shutdown();
+                    }
+                    return;
+                }
+                newPool.shutdown();
+            }
+        }
+
+        /**
+         * Starts as many queued tasks as the quotas allow, highest priority first. Only one thread drains at a time;
+         * requests by other threads in the meantime cause another pass.
+         */
+        void drain() {
+            if (m_drainRequests.getAndIncrement() != 0) {
+                return;
+            }
+            int requests = 1;
+            do {
+                for (int i = m_queues.length - 1; i >= 0 && m_root.hasCapacity(); i--) {
+                    for (Iterator<Task<?>> it = m_queues[i].iterator(); it.hasNext() && m_root.hasCapacity();) {
+                        final Task<?> task = it.next();
+                        if (task.isCancelled()) {
+                            // usually already dequeued by cancel
+                            it.remove();
+                            task.dequeueCanceled();
+                        } else if (task.m_pool.tryAcquire()) {
+                            it.remove();
+                            if (task.m_dequeued.compareAndSet(false, true)) {
+                                task.m_pool.changeQueued(-1);
+                                start(task);
+                            } else {
+                                // canceled concurrently
+                                task.m_pool.release();
+                            }
+                        }
+                    }
+                }
+                requests = m_drainRequests.addAndGet(-requests);
+            } while (requests != 0);
+        }
+
+        void start(final Task<?> task) {
+            m_runningTasks.add(task);
+            final ForkJoinPool forkJoinPool = m_forkJoinPool.get();
+            final Thread current = Thread.currentThread();
+            if (current instanceof Worker && ((Worker)current).getPool() == forkJoinPool) {
+                // local queue of this worker, others may steal it
+                ForkJoinTask.adapt(task).fork();
+            } else {
+                forkJoinPool.execute(task);
+            }
+        }
+    }
+
+    /** A task of a pool. */
+    private static final class Task<T> extends FutureTask<T> {
+
+        private final WorkStealingThreadPool m_pool;
+
+        private final Priority m_priority;
+
+        private final long m_enqueueNanos = System.nanoTime();
+
+        private final CountDownLatch m_startWaiter = new CountDownLatch(1);
+
+        private final ClassLoader m_contextClassloader = Thread.currentThread().getContextClassLoader();
+
+        /** Set once the pending job counts have been decremented. */
+        private final AtomicBoolean m_finished = new AtomicBoolean();
+
+        /** Set by the thread removing the task from the queue (or if it has never been queued). */
+        private final AtomicBoolean m_dequeued = new AtomicBoolean();
+
+        private volatile Thread m_runner;
+
+        Task(final Callable<T> callable, final WorkStealingThreadPool pool, final Priority priority) {
+            super(ThreadUtils.callableWithContext(callable, false));
+            m_pool = pool;
+            m_priority = priority;
+        }
+
+        Task(final Runnable runnable, final WorkStealingThreadPool pool, final Priority priority) {
+            super(ThreadUtils.runnableWithContext(runnable, false), null);
+            m_pool = pool;
+            m_priority = priority;
+        }
+
+        @Override
+        public void run() {
+            final Thread thread = Thread.currentThread();
+            final Worker worker = thread instanceof Worker ? (Worker)thread : null;
+            final Task<?> previousTask = worker != null ? worker.m_currentTask : null;
+            final ClassLoader previousContextClassloader = thread.getContextClassLoader();
+            final long startNanos = System.nanoTime();
+            m_pool.taskStarted(startNanos - m_enqueueNanos);
+            m_runner = thread;
+            m_startWaiter.countDown();
+            if (worker != null) {
+                worker.m_currentTask = this;
+            }
+            thread.setContextClassLoader(m_contextClassloader);
+            try {
+                super.run();
+                logException();
+            } finally {
+                thread.setContextClassLoader(previousContextClassloader);
+                if (worker != null) {
+                    worker.m_currentTask = previousTask;
+                }
+                m_runner = null;
+                // don't pass an interrupt (e.g. from cancel) on to the next task
+                Thread.interrupted();
+                m_pool.taskFinished(this, System.nanoTime() - startNanos);
+            }
+        }
+
+        private void logException() {
+            if (!isDone() || isCancelled()) {
+                return;
+            }
+            try {
+                super.get();
+            } catch (InterruptedException ex) {
+                LOGGER.debug("Thread was interrupted");
+            } catch (ExecutionException ex) {
+                if (!(ex.getCause() instanceof CanceledExecutionException)) {
+                    // canceled execution exception is fine and will not be reported
+                    LOGGER.error("An exception occurred while executing a runnable.", ex.getCause());
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean b = super.cancel(mayInterruptIfRunning);
+            if (b) {
+                m_startWaiter.countDown();
+                if (dequeueCanceled()) {
+                    m_pool.m_shared.m_queues[m_priority.ordinal()].remove(this);
+                }
+            }
+            return b;
+        }
+
+        @Override
+        public T get() throws InterruptedException, ExecutionException {
+            final WorkStealingThreadPool pool = currentWorkerPool();
+            if (pool == null) {
+                return super.get();
+            }
+            pool.changeInvisible(1);
+            try {
+                return runBlocking(() -> super.get());
+            } catch (InterruptedException | ExecutionException | RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new ExecutionException(ex);
+            } finally {
+                pool.changeInvisible(-1);
+            }
+        }
+
+        @Override
+        public T get(final long timeout, final TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+            final WorkStealingThreadPool pool = currentWorkerPool();
+            if (pool == null) {
+                return super.get(timeout, unit);
+            }
+            pool.changeInvisible(1);
+            try {
+                return runBlocking(() -> super.get(timeout, unit));
+            } catch (InterruptedException | ExecutionException | TimeoutException | RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new ExecutionException(ex);
+            } finally {
+                pool.changeInvisible(-1);
+            }
+        }
+
+        /**
+         * Accounts for the removal of this canceled task from the queue unless another thread did so or it has
+         * been started.
+         *
+         * @return whether this thread dequeued the task
+         */
+        boolean dequeueCanceled() {
+            if (!m_dequeued.compareAndSet(false, true)) {
+                return false;
+            }
+            m_pool.changeQueued(-1);
+            finish();
+            return true;
+        }
+
+        /** Decrements the pending job counts, once. */
+        void finish() {
+            if (m_finished.compareAndSet(false, true)) {
+                m_pool.decrementPendingJobs();
+            }
+        }
+    }
+
+    private final Shared m_shared;
+
+    private final WorkStealingThreadPool m_parent;
+
+    private final AtomicInteger m_maxThreads = new AtomicInteger();
+
+    /** Running tasks of this pool and its sub pools, including the invisible ones. */
+    private final AtomicInteger m_running = new AtomicInteger();
+
+    private final AtomicInteger m_invisibleThreads = new AtomicInteger();
+
+    private final AtomicInteger m_pendingJobs = new AtomicInteger();
+
+    private final AtomicInteger m_queuedJobs = new AtomicInteger();
+
+    private final LongAdder m_startedTasks = new LongAdder();
+
+    private final LongAdder m_waitNanos = new LongAdder();
+
+    private final LongAdder m_busyNanos = new LongAdder();
+
+    private volatile Priority m_priority;
+
+    /**
+     * Creates a new pool with a maximum number of threads.
+     *
+     * @param maxThreads the maximum number of threads
+     */
+    public WorkStealingThreadPool(final int maxThreads) {
+        super(maxThreads);
+        m_maxThreads.set(maxThreads);
+        m_parent = null;
+        m_shared = new Shared(this, maxThreads);
+    }
+
+    private WorkStealingThreadPool(final int maxThreads, final WorkStealingThreadPool parent) {
+        super(maxThreads);
+        m_maxThreads.set(maxThreads);
+        m_parent = parent;
+        m_shared = parent.m_shared;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPool createSubPool() {
+        return new WorkStealingThreadPool(m_maxThreads.get(), this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPool createSubPool(final int maxThreads) {
+        return new WorkStealingThreadPool(maxThreads, this);
+    }
+
+    /**
+     * Returns the priority of the tasks of this pool: the one set via {@link #setPriority(Priority)}, otherwise the
+     * parent pool's priority or {@link Priority#NORMAL} for root pools.
+     *
+     * @return the priority, not null
+     */
+    public Priority getPriority() {
+        final Priority priority = m_priority;
+        if (priority != null) {
+            return priority;
+        }
+        return m_parent != null ? m_parent.getPriority() : Priority.NORMAL;
+    }
+
+    /**
+     * Sets the priority of the tasks submitted to this pool and its sub pools (unless they have their own priority).
+     * Already queued tasks are not affected.
+     *
+     * @param priority the new priority or null to use the parent's priority
+     */
+    public void setPriority(final Priority priority) {
+        m_priority = priority;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Future<T> enqueue(final Callable<T> task) {
+        return enqueue(task, getPriority());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> enqueue(final Runnable r) {
+        return enqueue(r, getPriority());
+    }
+
+    /**
+     * Submits a value-returning task with the given priority (rather than the pool's priority), see
+     * {@link #enqueue(Callable)}.
+     *
+     * @param task the task to submit
+     * @param priority the priority of the task
+     * @param <T> any result type
+     * @return a Future representing pending completion of the task
+     */
+    public <T> Future<T> enqueue(final Callable<T> task, final Priority priority) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task must not be null");
+        }
+        return enqueueTask(new Task<T>(task, this, priority));
+    }
+
+    /**
+     * Submits a Runnable task with the given priority (rather than the pool's priority), see
+     * {@link #enqueue(Runnable)}.
+     *
+     * @param r the task to submit
+     * @param priority the priority of the task
+     * @return a Future representing pending completion of the task
+     */
+    public Future<?> enqueue(final Runnable r, final Priority priority) {
+        return enqueueTask(new Task<Object>(r, this, priority));
+    }
+
+    private <T> Task<T> enqueueTask(final Task<T> task) {
+        incrementPendingJobs();
+        if (tryAcquire()) {
+            task.m_dequeued.set(true);
+            m_shared.start(task);
+        } else {
+            changeQueued(1);
+            m_shared.m_queues[task.m_priority.ordinal()].add(task);
+            // a thread may have finished in the meantime
+            m_shared.drain();
+        }
+        return task;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Future<T> trySubmit(final Callable<T> t) {
+        return trySubmitTask(new Task<T>(t, this, getPriority()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> trySubmit(final Runnable r) {
+        return trySubmitTask(new Task<Object>(r, this, getPriority()));
+    }
+
+    private <T> Task<T> trySubmitTask(final Task<T> task) {
+        if (!tryAcquire()) {
+            return null;
+        }
+        incrementPendingJobs();
+        task.m_dequeued.set(true);
+        m_shared.start(task);
+        return task;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Future<T> submit(final Callable<T> task) throws InterruptedException {
+        final Task<T> ftask = (Task<T>)enqueue(task);
+        ftask.m_startWaiter.await();
+        return ftask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> submit(final Runnable task) throws InterruptedException {
+        final Task<?> ftask = (Task<?>)enqueue(task);
+        ftask.m_startWaiter.await();
+        return ftask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T runInvisible(final Callable<T> r) throws ExecutionException {
+        final WorkStealingThreadPool taskPool = currentWorkerPool();
+        if (taskPool == null) {
+            throw new IllegalThreadStateException("The current thread is not taken out of a thread pool");
+        }
+        if (!isAncestorOrSelf(taskPool)) {
+            return taskPool.runInvisible(r);
+        }
+        changeInvisible(1);
+        try {
+            return runBlocking(r);
+        } catch (Exception ex) {
+            throw new ExecutionException(ex);
+        } finally {
+            changeInvisible(-1);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void waitForTermination() throws InterruptedException {
+        final WorkStealingThreadPool currentPool = currentWorkerPool();
+        if (currentPool != null) {
+            currentPool.changeInvisible(1);
+        }
+        try {
+            runBlocking(() -> {
+                synchronized (m_pendingJobs) {
+                    while (m_pendingJobs.get() != 0) {
+                        m_pendingJobs.wait();
+                    }
+                }
+                return null;
+            });
+        } catch (InterruptedException | RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            if (currentPool != null) {
+                currentPool.changeInvisible(-1);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxThreads() {
+        return m_maxThreads.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMaxThreads(final int newValue) {
+        if (newValue < 0) {
+            throw new IllegalArgumentException("Thread count must be >= 0");
+        }
+        if (m_parent == null) {
+            m_shared.ensureParallelism(newValue);
+        }
+        m_maxThreads.set(newValue);
+        m_shared.drain();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRunningThreads() {
+        return m_running.get() - m_invisibleThreads.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        for (ConcurrentLinkedQueue<Task<?>> queue : m_shared.m_queues) {
+            for (Task<?> task : queue) {
+                if (task.m_pool == this) {
+                    task.cancel(true);
+                }
+            }
+        }
+        setMaxThreads(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void interruptAll() {
+        for (Task<?> task : m_shared.m_runningTasks) {
+            final Thread runner = task.m_runner;
+            if (runner != null && isAncestorOrSelf(task.m_pool)) {
+                runner.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tasks of this pool and its sub pools that wait for a thread.
+     *
+     * @return the queue length
+     */
+    public int getQueueLength() {
+        return m_queuedJobs.get();
+    }
+
+    /**
+     * Returns the number of tasks of this pool and its sub pools that have been started so far.
+     *
+     * @return the number of started tasks
+     */
+    public long getStartedTaskCount() {
+        return m_startedTasks.sum();
+    }
+
+    /**
+     * Returns the total time the started tasks of this pool and its sub pools waited for a thread.
+     *
+     * @param unit the unit of the returned value
+     * @return the total wait time
+     */
+    public long getTotalWaitTime(final TimeUnit unit) {
+        return unit.convert(m_waitNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the total time the finished tasks of this pool and its sub pools ran.
+     *
+     * @param unit the unit of the returned value
+     * @return the total busy time
+     */
+    public long getTotalBusyTime(final TimeUnit unit) {
+        return unit.convert(m_busyNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the fraction of the threads of this pool that is currently in use, i.e. the number of running (visible)
+     * threads divided by the maximum number of threads.
+     *
+     * @return the utilization, 0 if the maximum number of threads is 0
+     */
+    public double getUtilization() {
+        final int maxThreads = m_maxThreads.get();
+        return maxThreads == 0 ? 0 : getRunningThreads() / (double)maxThreads;
+    }
+
+    /**
+     * Returns the size of the future queue (needed by the unit test).
+     *
+     * @return the queue size
+     */
+    @Override
+    int getQueueSize() {
+        int size = 0;
+        for (ConcurrentLinkedQueue<Task<?>> queue : m_shared.m_queues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    /**
+     * Calls the argument; in a worker thread as a {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)
+     * managed block} so that the fork-join pool can provide another thread for the task that may start meanwhile.
+     */
+    private static <T> T runBlocking(final Callable<T> callable) throws Exception {
+        if (!(Thread.currentThread() instanceof Worker)) {
+            return callable.call();
+        }
+        final Blocker<T> blocker = new Blocker<>(callable);
+        ForkJoinPool.managedBlock(blocker);
+        if (blocker.m_exception != null) {
+            throw blocker.m_exception;
+        }
+        return blocker.m_result;
+    }
+
+    /**
+     * Returns the pool of the task running in the current thread if it's a worker of a work-stealing pool.
+     *
+     * @return the pool or null
+     */
+    static WorkStealingThreadPool currentWorkerPool() {
+        final Thread thread = Thread.currentThread();
+        if (thread instanceof Worker) {
+            final Task<?> task = ((Worker)thread).m_currentTask;
+            return task != null ? task.m_pool : null;
+        }
+        return null;
+    }
+
+    private boolean isAncestorOrSelf(final WorkStealingThreadPool pool) {
+        for (WorkStealingThreadPool p = pool; p != null; p = p.m_parent) {
+            if (p == this) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return whether another (visible) task may run in this pool */
+    private boolean hasCapacity() {
+        return m_running.get() - m_invisibleThreads.get() < m_maxThreads.get();
+    }
+
+    /** Takes a thread from this pool and all its ancestors. */
+    private boolean tryAcquire() {
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            if (!p.tryAcquireOwn()) {
+                for (WorkStealingThreadPool q = this; q != p; q = q.m_parent) {
+                    q.m_running.decrementAndGet();
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns a thread acquired via {@link #tryAcquire()} that isn't used. */
+    private void release() {
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_running.decrementAndGet();
+        }
+    }
+
+    private boolean tryAcquireOwn() {
+        while (true) {
+            final int running = m_running.get();
+            if (running - m_invisibleThreads.get() >= m_maxThreads.get()) {
+                return false;
+            }
+            if (m_running.compareAndSet(running, running + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void changeInvisible(final int delta) {
+        m_invisibleThreads.addAndGet(delta);
+        if (delta > 0) {
+            m_shared.drain();
+        }
+    }
+
+    private void changeQueued(final int delta) {
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_queuedJobs.addAndGet(delta);
+        }
+    }
+
+    private void incrementPendingJobs() {
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_pendingJobs.incrementAndGet();
+        }
+    }
+
+    private void decrementPendingJobs() {
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            if (p.m_pendingJobs.decrementAndGet() == 0) {
+                synchronized (p.m_pendingJobs) {
+                    p.m_pendingJobs.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void taskStarted(final long waitNanos) {
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_startedTasks.increment();
+            p.m_waitNanos.add(waitNanos);
+        }
+    }
+
+    private void taskFinished(final Task<?> task, final long busyNanos) {
+        m_shared.m_runningTasks.remove(task);
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_running.decrementAndGet();
+            p.m_busyNanos.add(busyNanos);
+        }
+        task.finish();
+        m_shared.drain();
+    }
+
+}